@@ -0,0 +1,14 @@
+-- AI 피드백 배치 재평가 체크포인트 (PostgreSQL)
+-- AiFeedbackService.evaluateBatch가 청크마다 마지막 answer_id와 누적 건수를 기록한다.
+-- 같은 run_id로 다시 실행하면 last_answer_id 이후부터 이어서 처리한다.
+
+CREATE TABLE IF NOT EXISTS ai_feedback_batch_checkpoint (
+    run_id          VARCHAR(100) PRIMARY KEY,
+    last_answer_id  BIGINT,
+    processed_count BIGINT    NOT NULL DEFAULT 0,
+    succeeded_count BIGINT    NOT NULL DEFAULT 0,
+    failed_count    BIGINT    NOT NULL DEFAULT 0,
+    completed_yn    BOOLEAN   NOT NULL DEFAULT FALSE,
+    created_at      TIMESTAMP NOT NULL,
+    updated_at      TIMESTAMP
+);
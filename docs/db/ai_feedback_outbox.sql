@@ -0,0 +1,24 @@
+-- AI 피드백 생성 작업 아웃박스 (PostgreSQL)
+-- 답변 제출 트랜잭션에서 함께 INSERT되고, AiFeedbackOutboxDispatcher가 폴링해 처리한다.
+-- 답변당 한 행만 유지하며(uk_ai_feedback_outbox_answer) 재시도는 같은 행을 재예약한다.
+-- 선점: UPDATE ... SET outbox_status_cd = 'IN_PROGRESS' WHERE outbox_id = ? AND outbox_status_cd = 'PENDING'
+--       영향 행 수가 1인 인스턴스만 처리하고, locked_at이 임대 시간(lease-timeout)을 넘기면 PENDING으로 복구한다.
+-- 상태: PENDING → IN_PROGRESS → DONE | PENDING(재시도, next_attempt_at 지연) | DEAD(재시도 소진)
+-- 식별자는 pooled-lo 시퀀스(allocationSize 50)를 쓴다. 기존 IDENTITY 테이블 전환은 entity_id_sequences.sql 참고.
+
+CREATE SEQUENCE IF NOT EXISTS ai_feedback_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS ai_feedback_outbox (
+    outbox_id        BIGINT       PRIMARY KEY,
+    answer_id        BIGINT       NOT NULL,
+    outbox_status_cd VARCHAR(20)  NOT NULL,
+    attempt_count    INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP    NOT NULL,
+    locked_at        TIMESTAMP,
+    last_error       VARCHAR(500),
+    created_at       TIMESTAMP    NOT NULL,
+    updated_at       TIMESTAMP,
+    CONSTRAINT uk_ai_feedback_outbox_answer UNIQUE (answer_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_status_next_attempt ON ai_feedback_outbox (outbox_status_cd, next_attempt_at);
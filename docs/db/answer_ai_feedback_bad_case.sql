@@ -0,0 +1,6 @@
+-- 부적절한 답변(bad case) 판정 여부 컬럼 (PostgreSQL)
+-- Answer.aiFeedbackBadCase가 answer_ai_feedback_bad_case를 사용한다.
+-- true인 답변은 answer_ai_feedback에 판정 안내 문구를 저장하고, 피드백 조회/스트림에서 실패 응답으로 돌려준다.
+-- 기존 행은 false(정상 피드백)로 채운다.
+
+ALTER TABLE answer ADD COLUMN IF NOT EXISTS answer_ai_feedback_bad_case BOOLEAN NOT NULL DEFAULT FALSE;
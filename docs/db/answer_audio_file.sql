@@ -0,0 +1,18 @@
+-- 음성 답변 원본 파일 연결 (PostgreSQL)
+-- 업로드 확인(confirmUpload) 시 answer_audio_file_id로 변환 대기(TRANSCRIBING) 답변을 찾아 STT 파이프라인에 넣는다.
+-- STT 선점: UPDATE ... SET answer_transcribe_locked_at = now
+--           WHERE answer_id = ? AND answer_status_cd = 'TRANSCRIBING'
+--           AND (answer_transcribe_locked_at IS NULL OR answer_transcribe_locked_at < 임대 만료 기준)
+--           영향 행 수가 1인 인스턴스만 STT를 호출한다 (stale-after가 임대 시간).
+-- 변환 텍스트는 길이 제한이 없으므로 answer_content를 TEXT로 넓힌다.
+
+ALTER TABLE answer
+    ADD COLUMN IF NOT EXISTS answer_audio_file_id BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_audio_file_id ON answer (answer_audio_file_id);
+
+ALTER TABLE answer
+    ADD COLUMN IF NOT EXISTS answer_transcribe_locked_at TIMESTAMP;
+
+ALTER TABLE answer
+    ALTER COLUMN answer_content TYPE TEXT;
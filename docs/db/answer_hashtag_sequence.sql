@@ -0,0 +1,26 @@
+-- ANSWER_HASHTAG 식별자를 IDENTITY → SEQUENCE(pooled, allocationSize 50)로 전환 (PostgreSQL)
+-- IDENTITY 컬럼은 INSERT마다 생성 키를 돌려받아야 해서 Hibernate가 JDBC 배치를 끈다.
+-- 시퀀스로 바꾸면 hibernate.jdbc.batch_size / order_inserts 설정으로 답변 제출 시 키워드 행이 한 번에 배치 INSERT 된다.
+-- INCREMENT BY 값은 AnswerHashtag의 @SequenceGenerator allocationSize와 반드시 같아야 한다.
+-- optimizer는 pooled-lo(hibernate.id.optimizer.pooled.preferred)라 시퀀스 값이 블록의 시작 id가 된다.
+--
+-- 적용 방식: entity_id_sequences.sql과 같은 롤링 배포 + 안전 간격 1,000,000 (쓰기 중단 없음)
+--   1단계: 신버전 배포 전에 한 번만 실행한다. 구버전이 IDENTITY로 MAX + 1부터 INSERT해도 겹치지 않도록
+--          시퀀스는 MAX + 1,000,000에서 시작한다. setval 결과(시작값)를 기록해 둔다.
+--   2단계: 신버전을 롤링 배포한다.
+--   3단계: 모든 구버전 인스턴스가 교체된 뒤, identity_last_value가 시작값보다 작은지 확인하고 DROP IDENTITY를 실행한다.
+--          구버전이 남아 있을 때 DROP하면 구버전 INSERT가 PK NULL로 실패한다.
+-- 배포 중 1,000,000건 이상 INSERT될 수 있으면 쓰기를 멈춘 점검 시간에 세 단계를 연달아 실행한다.
+
+-- ===== 1단계: 시퀀스 생성 (신버전 배포 전) =====
+CREATE SEQUENCE IF NOT EXISTS answer_hashtag_seq INCREMENT BY 50;
+SELECT setval('answer_hashtag_seq', COALESCE((SELECT MAX(answer_hashtag_id) FROM answer_hashtag), 0) + 1000000, false);
+
+-- ===== 3단계: 모든 인스턴스 교체 후 =====
+
+-- 검증: 구버전이 IDENTITY로 마지막에 발급한 값 (1단계 시작값보다 작아야 한다)
+SELECT last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('answer_hashtag', 'answer_hashtag_id');
+
+-- 기존 IDENTITY 기본값 제거 (GENERATED ... AS IDENTITY 로 생성된 경우)
+ALTER TABLE answer_hashtag ALTER COLUMN answer_hashtag_id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,5 @@
+-- AI 피드백 레이더 차트 지표 코멘트 저장 (PostgreSQL)
+-- 완료된 답변의 피드백 조회 시 LLM을 다시 호출하지 않고 ANSWER_METRIC에서 지표명/점수/코멘트를 그대로 돌려준다.
+
+ALTER TABLE answer_metric
+    ADD COLUMN IF NOT EXISTS answer_metric_comment VARCHAR(1000);
@@ -0,0 +1,6 @@
+-- 답변 낙관적 락 버전 컬럼 (PostgreSQL)
+-- Answer.version(@Version)이 answer_version을 사용한다. 수정 시 WHERE answer_version = ?로 비교하고 1 증가시킨다.
+-- LLM 호출 전에 읽은 스냅샷 버전과 반영 시점 버전이 다르면 AnswerConcurrentModificationException(A007)으로 처리한다.
+-- 기존 행은 0부터 시작한다.
+
+ALTER TABLE answer ADD COLUMN IF NOT EXISTS answer_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- OAuth state / 교환 코드 저장 테이블 (auth.ephemeral-store.engine=jdbc)
+-- 다중 인스턴스 배포에서 JdbcEphemeralTokenStore가 사용한다.
+-- 만료 행은 애플리케이션이 auth.ephemeral-store.purge-interval 주기로 삭제한다.
+
+CREATE TABLE IF NOT EXISTS auth_ephemeral_token (
+    namespace   VARCHAR(50)  NOT NULL,
+    token_key   VARCHAR(100) NOT NULL,
+    token_value TEXT         NOT NULL,
+    expires_at  TIMESTAMP    NOT NULL,
+    PRIMARY KEY (namespace, token_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_auth_ephemeral_token_expires_at
+    ON auth_ephemeral_token (expires_at);
@@ -0,0 +1,121 @@
+-- 전체 엔티티 식별자를 IDENTITY → SEQUENCE(pooled-lo, allocationSize 50)로 전환 (PostgreSQL)
+-- ANSWER_HASHTAG는 answer_hashtag_sequence.sql에서 같은 절차로 먼저 전환했다.
+-- IDENTITY는 INSERT마다 생성 키를 돌려받아야 해서 Hibernate가 JDBC 배치를 끈다.
+-- 시퀀스 전환 후에는 hibernate.jdbc.batch_size / order_inserts / order_updates 설정으로 saveAll이 배치로 나간다.
+-- 시퀀스 이름은 "<테이블명>_seq", INCREMENT BY는 각 엔티티 @SequenceGenerator allocationSize(50)와 같아야 한다.
+--
+-- 적용 방식: 롤링 배포 + 안전 간격 1,000,000 (쓰기 중단 없음)
+--   구버전 인스턴스는 교체될 때까지 IDENTITY로 계속 INSERT하며, 그 값은 MAX + 1부터 올라간다.
+--   pooled-lo는 시퀀스 값을 블록의 시작 id로 쓰므로 시퀀스를 MAX + 1에서 시작하면 구버전과 같은 키를 발급한다.
+--   그래서 시퀀스는 MAX + 1,000,000에서 시작한다. 배포가 끝날 때까지 구버전이 테이블당 1,000,000건 미만으로
+--   INSERT하면 두 범위는 겹치지 않는다. 이보다 많이 들어올 수 있으면 쓰기를 멈춘 점검 시간에 세 단계를 연달아 실행한다.
+--
+--   1단계: 신버전 배포 전에 한 번만 실행한다. IDENTITY는 그대로 둔다. setval 결과(시퀀스 시작값)를 기록해 둔다.
+--          배포 후 다시 실행하면 시퀀스가 되감겨 이미 발급한 id와 겹친다.
+--   2단계: 신버전을 롤링 배포한다. 구버전은 IDENTITY, 신버전은 시퀀스 구간을 쓴다.
+--   3단계: 모든 구버전 인스턴스가 교체된 뒤 실행한다. 검증 쿼리의 identity_last_value가
+--          1단계에서 기록한 시작값보다 작은지 확인하고 DROP IDENTITY를 실행한다.
+--          구버전이 남아 있을 때 DROP하면 구버전 INSERT가 PK NULL로 실패한다.
+
+-- ===== 1단계: 시퀀스 생성 (신버전 배포 전) =====
+
+-- USER_ACCOUNT
+CREATE SEQUENCE IF NOT EXISTS user_account_seq INCREMENT BY 50;
+SELECT setval('user_account_seq', COALESCE((SELECT MAX(account_id) FROM user_account), 0) + 1000000, false);
+
+-- USER_OAUTH
+CREATE SEQUENCE IF NOT EXISTS user_oauth_seq INCREMENT BY 50;
+SELECT setval('user_oauth_seq', COALESCE((SELECT MAX(oauth_id) FROM user_oauth), 0) + 1000000, false);
+
+-- USER_OAUTH_RTR_FAMILY
+CREATE SEQUENCE IF NOT EXISTS user_oauth_rtr_family_seq INCREMENT BY 50;
+SELECT setval('user_oauth_rtr_family_seq', COALESCE((SELECT MAX(family_id) FROM user_oauth_rtr_family), 0) + 1000000, false);
+
+-- USER_OAUTH_REFRESH
+CREATE SEQUENCE IF NOT EXISTS user_oauth_refresh_seq INCREMENT BY 50;
+SELECT setval('user_oauth_refresh_seq', COALESCE((SELECT MAX(token_id) FROM user_oauth_refresh), 0) + 1000000, false);
+
+-- FILE
+CREATE SEQUENCE IF NOT EXISTS file_seq INCREMENT BY 50;
+SELECT setval('file_seq', COALESCE((SELECT MAX(file_id) FROM file), 0) + 1000000, false);
+
+-- QUESTION
+CREATE SEQUENCE IF NOT EXISTS question_seq INCREMENT BY 50;
+SELECT setval('question_seq', COALESCE((SELECT MAX(question_id) FROM question), 0) + 1000000, false);
+
+-- HASHTAG
+CREATE SEQUENCE IF NOT EXISTS hashtag_seq INCREMENT BY 50;
+SELECT setval('hashtag_seq', COALESCE((SELECT MAX(tag_id) FROM hashtag), 0) + 1000000, false);
+
+-- QUESTION_HASHTAG
+CREATE SEQUENCE IF NOT EXISTS question_hashtag_seq INCREMENT BY 50;
+SELECT setval('question_hashtag_seq', COALESCE((SELECT MAX(question_hashtag_id) FROM question_hashtag), 0) + 1000000, false);
+
+-- ANSWER
+CREATE SEQUENCE IF NOT EXISTS answer_seq INCREMENT BY 50;
+SELECT setval('answer_seq', COALESCE((SELECT MAX(answer_id) FROM answer), 0) + 1000000, false);
+
+-- METRIC
+CREATE SEQUENCE IF NOT EXISTS metric_seq INCREMENT BY 50;
+SELECT setval('metric_seq', COALESCE((SELECT MAX(metric_id) FROM metric), 0) + 1000000, false);
+
+-- ANSWER_METRIC
+CREATE SEQUENCE IF NOT EXISTS answer_metric_seq INCREMENT BY 50;
+SELECT setval('answer_metric_seq', COALESCE((SELECT MAX(answer_metric_id) FROM answer_metric), 0) + 1000000, false);
+
+-- AI_FEEDBACK_OUTBOX
+CREATE SEQUENCE IF NOT EXISTS ai_feedback_outbox_seq INCREMENT BY 50;
+SELECT setval('ai_feedback_outbox_seq', COALESCE((SELECT MAX(outbox_id) FROM ai_feedback_outbox), 0) + 1000000, false);
+
+-- ===== 3단계: 모든 인스턴스 교체 후 =====
+
+-- 검증: 구버전이 IDENTITY로 마지막에 발급한 값 (1단계 시작값보다 작아야 한다)
+SELECT 'user_account' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('user_account', 'account_id')
+UNION ALL
+SELECT 'user_oauth' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('user_oauth', 'oauth_id')
+UNION ALL
+SELECT 'user_oauth_rtr_family' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('user_oauth_rtr_family', 'family_id')
+UNION ALL
+SELECT 'user_oauth_refresh' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('user_oauth_refresh', 'token_id')
+UNION ALL
+SELECT 'file' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('file', 'file_id')
+UNION ALL
+SELECT 'question' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('question', 'question_id')
+UNION ALL
+SELECT 'hashtag' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('hashtag', 'tag_id')
+UNION ALL
+SELECT 'question_hashtag' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('question_hashtag', 'question_hashtag_id')
+UNION ALL
+SELECT 'answer' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('answer', 'answer_id')
+UNION ALL
+SELECT 'metric' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('metric', 'metric_id')
+UNION ALL
+SELECT 'answer_metric' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('answer_metric', 'answer_metric_id')
+UNION ALL
+SELECT 'ai_feedback_outbox' AS table_name, last_value AS identity_last_value FROM pg_sequences
+WHERE schemaname || '.' || sequencename = pg_get_serial_sequence('ai_feedback_outbox', 'outbox_id');
+
+-- 기존 IDENTITY 기본값 제거
+ALTER TABLE user_account ALTER COLUMN account_id DROP IDENTITY IF EXISTS;
+ALTER TABLE user_oauth ALTER COLUMN oauth_id DROP IDENTITY IF EXISTS;
+ALTER TABLE user_oauth_rtr_family ALTER COLUMN family_id DROP IDENTITY IF EXISTS;
+ALTER TABLE user_oauth_refresh ALTER COLUMN token_id DROP IDENTITY IF EXISTS;
+ALTER TABLE file ALTER COLUMN file_id DROP IDENTITY IF EXISTS;
+ALTER TABLE question ALTER COLUMN question_id DROP IDENTITY IF EXISTS;
+ALTER TABLE hashtag ALTER COLUMN tag_id DROP IDENTITY IF EXISTS;
+ALTER TABLE question_hashtag ALTER COLUMN question_hashtag_id DROP IDENTITY IF EXISTS;
+ALTER TABLE answer ALTER COLUMN answer_id DROP IDENTITY IF EXISTS;
+ALTER TABLE metric ALTER COLUMN metric_id DROP IDENTITY IF EXISTS;
+ALTER TABLE answer_metric ALTER COLUMN answer_metric_id DROP IDENTITY IF EXISTS;
+ALTER TABLE ai_feedback_outbox ALTER COLUMN outbox_id DROP IDENTITY IF EXISTS;
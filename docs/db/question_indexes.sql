@@ -0,0 +1,30 @@
+-- 질문 목록 커서 페이지네이션용 부분 인덱스 (PostgreSQL)
+-- QuestionRepositoryCustomImpl.findActiveByFilters가 생성하는 쿼리 형태에 맞춘다.
+--   WHERE deleted_at IS NULL AND use_yn = true [AND question_type_cd = ?] [AND question_ctg = ?] [AND question_id < ?]
+--   ORDER BY question_id DESC LIMIT ?
+-- 활성 행만 담으므로 삭제/비활성 질문이 늘어나도 인덱스 크기와 스캔 범위가 커지지 않는다.
+
+-- 필터 없음
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_question_active_id
+    ON question (question_id DESC)
+    WHERE deleted_at IS NULL AND use_yn = true;
+
+-- type + category
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_question_active_type_ctg_id
+    ON question (question_type_cd, question_ctg, question_id DESC)
+    WHERE deleted_at IS NULL AND use_yn = true;
+
+-- category 단독
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_question_active_ctg_id
+    ON question (question_ctg, question_id DESC)
+    WHERE deleted_at IS NULL AND use_yn = true;
+
+-- type 단독
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_question_active_type_id
+    ON question (question_type_cd, question_id DESC)
+    WHERE deleted_at IS NULL AND use_yn = true;
+
+-- 이 파일이 질문 목록 인덱스의 유일한 정의이며, 엔티티(Question)에는 인덱스를 선언하지 않는다.
+-- 이전에 엔티티 선언으로 만들어진 비부분 인덱스가 남아 있다면 위 인덱스 생성 후 제거한다.
+DROP INDEX CONCURRENTLY IF EXISTS idx_question_type_ctg_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_question_ctg_id;
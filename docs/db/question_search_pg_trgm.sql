@@ -0,0 +1,11 @@
+-- 질문 검색 pg_trgm 백엔드용 인덱스 (question.search.engine=pg-trgm)
+-- ILIKE '%검색어%'를 trigram GIN 인덱스로 처리한다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_question_content_trgm
+    ON question USING gin (question_content gin_trgm_ops)
+    WHERE deleted_at IS NULL AND use_yn = true;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_hashtag_tag_nm_trgm
+    ON hashtag USING gin (tag_nm gin_trgm_ops);
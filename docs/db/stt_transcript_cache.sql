@@ -0,0 +1,14 @@
+-- STT 변환 결과 캐시 DB 계층 (SttTranscriptCache)
+-- 같은 내용의 음성(file_hash, SHA-256)을 다시 변환하지 않도록 인스턴스 간에 결과를 공유한다.
+-- 만료 행은 애플리케이션이 ai.stt.cache.purge-interval-ms 주기로 삭제한다.
+
+CREATE TABLE IF NOT EXISTS stt_transcript_cache (
+    content_hash VARCHAR(64) NOT NULL,
+    transcript   TEXT        NOT NULL,
+    created_at   TIMESTAMP   NOT NULL,
+    expires_at   TIMESTAMP   NOT NULL,
+    PRIMARY KEY (content_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stt_transcript_cache_expires_at
+    ON stt_transcript_cache (expires_at);
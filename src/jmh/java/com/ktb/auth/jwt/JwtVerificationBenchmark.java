@@ -0,0 +1,85 @@
+package com.ktb.auth.jwt;
+
+import com.ktb.auth.exception.token.InvalidAccessTokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Access Token 검증 경로 벤치마크
+ * <ul>
+ *     <li>parserPerCall: 호출마다 JwtParser를 생성하던 기존 방식</li>
+ *     <li>coldVerify: 재사용 파서로 서명 검증 + 클레임 파싱 (캐시 미스)</li>
+ *     <li>warmCacheHit: 다이제스트 캐시 히트</li>
+ *     <li>forgedTokenRejection: 서명이 변조된 토큰 거부</li>
+ * </ul>
+ * 실행: ./gradlew jmh -PjmhInclude=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-verification-minimum-256-bits";
+
+    private JwtProvider jwtProvider;
+    private SecretKey secretKey;
+    private String token;
+    private String forgedToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+
+        jwtProvider = new JwtProvider(properties, new AccessTokenClaimsCache(properties, new SimpleMeterRegistry()));
+        jwtProvider.init();
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        token = jwtProvider.createAccessToken(1L, List.of("ROLE_USER"));
+        forgedToken = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        jwtProvider.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims coldVerify() {
+        return jwtProvider.validateAccessToken(token);
+    }
+
+    @Benchmark
+    public AccessTokenClaims warmCacheHit() {
+        return jwtProvider.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public boolean forgedTokenRejection() {
+        try {
+            jwtProvider.verifyAccessToken(forgedToken);
+            return false;
+        } catch (InvalidAccessTokenException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ktb.file.service.impl;
+
+import com.ktb.common.config.S3Config;
+import com.ktb.file.config.FilePresignProperties;
+import com.ktb.file.service.impl.S3UrlSigner.PutTarget;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Presigned PUT URL 서명 처리량 벤치마크 (네트워크 없음, SigV4 서명 비용만 측정)
+ * <ul>
+ *     <li>presignPerCore: 스레드 하나의 초당 서명 수 = 코어당 처리량</li>
+ *     <li>batchSequential: batchSize개를 요청 스레드에서 차례로 서명</li>
+ *     <li>batchParallel: batchSize개를 가상 스레드로 나눠 서명 (동시 서명 수 = 코어 수)</li>
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=PresignThroughputBenchmark
+ * </pre>
+ * batchParallel이 batchSequential보다 빨라지는 지점이 file.presign.parallel-threshold의 근거다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PresignThroughputBenchmark {
+
+    @Param({"4", "8", "20"})
+    private int batchSize;
+
+    private S3Presigner presigner;
+    private S3UrlSigner sequentialSigner;
+    private S3UrlSigner parallelSigner;
+    private List<PutTarget> targets;
+
+    @Setup
+    public void setUp() {
+        S3Config s3Config = new S3Config();
+        s3Config.setRegion("ap-northeast-2");
+        s3Config.getS3().setBucketName("benchmark-bucket");
+        s3Config.getCredentials().setAccessKey("AKIABENCHMARKACCESSKEY");
+        s3Config.getCredentials().setSecretKey("benchmark-secret-key");
+        presigner = s3Config.s3Presigner();
+
+        FilePresignProperties sequential = new FilePresignProperties();
+        sequential.setParallelThreshold(Integer.MAX_VALUE);
+        sequentialSigner = new S3UrlSigner(presigner, s3Config, sequential);
+
+        FilePresignProperties parallel = new FilePresignProperties();
+        parallel.setParallelThreshold(0);
+        parallelSigner = new S3UrlSigner(presigner, s3Config, parallel);
+
+        targets = IntStream.range(0, batchSize)
+                .mapToObj(i -> new PutTarget("uploads/audio/" + UUID.randomUUID() + ".mp3", "audio/mpeg"))
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.Throughput)
+    public String presignPerCore() {
+        PutTarget target = targets.getFirst();
+        return sequentialSigner.presignPut(target.s3Key(), target.contentType());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public List<String> batchSequential() {
+        return sequentialSigner.presignPutAll(targets);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public List<String> batchParallel() {
+        return parallelSigner.presignPutAll(targets);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ktb.hashtag.matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 즉각 피드백 키워드 체크 벤치마크
+ * 기존 방식(답변 소문자 변환 + 키워드별 contains)과 컴파일된 Aho–Corasick 매처를 비교한다.
+ * 500자 답변, 키워드 5~50개.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordMatcherBenchmark {
+
+    private static final String[] VOCABULARY = {
+            "트랜잭션", "격리수준", "인덱스", "프로세스", "스레드", "컨텍스트스위칭", "데드락", "뮤텍스",
+            "세마포어", "캐시", "페이지", "가상메모리", "정규화", "조인", "커밋", "롤백", "락", "mvcc",
+            "tcp", "udp", "http", "dns", "acid", "b-tree", "hash", "rest", "jvm", "gc", "heap", "stack"
+    };
+    private static final String[] PARTICLES = {"은", "는", "이", "가", "을", "를", "의", "에서", "으로", ""};
+    private static final int ANSWER_LENGTH = 500;
+
+    @Param({"5", "20", "50"})
+    private int keywordCount;
+
+    private List<String> keywords;
+    private KeywordMatcher matcher;
+    private String answer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        keywords = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            String base = VOCABULARY[i % VOCABULARY.length];
+            keywords.add(i < VOCABULARY.length ? base : base + i);
+        }
+        matcher = KeywordMatcher.compile(keywords);
+
+        StringBuilder builder = new StringBuilder(ANSWER_LENGTH + 16);
+        while (builder.length() < ANSWER_LENGTH) {
+            builder.append(VOCABULARY[random.nextInt(VOCABULARY.length)])
+                    .append(PARTICLES[random.nextInt(PARTICLES.length)])
+                    .append(' ');
+        }
+        answer = builder.substring(0, ANSWER_LENGTH);
+    }
+
+    @Benchmark
+    public void containsLoop(Blackhole blackhole) {
+        String normalized = answer.toLowerCase();
+        for (String keyword : keywords) {
+            blackhole.consume(normalized.contains(keyword));
+        }
+    }
+
+    @Benchmark
+    public void ahoCorasick(Blackhole blackhole) {
+        blackhole.consume(matcher.findAll(answer));
+    }
+
+    @Benchmark
+    public void ahoCorasickIncludingCompile(Blackhole blackhole) {
+        blackhole.consume(KeywordMatcher.compile(keywords).findAll(answer));
+    }
+}
@@ -0,0 +1,256 @@
+package com.ktb.question.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 질문 대량 등록 처리량 벤치마크 (질문 + 질문 키워드)
+ * Hibernate가 식별자 전략별로 실제로 내보내는 JDBC 호출 형태를 그대로 재현해 비교한다.
+ * <ul>
+ *     <li>identityPerRow: IDENTITY 컬럼 - 행마다 INSERT 후 생성 키를 돌려받는다 (배치 불가)</li>
+ *     <li>pooledLoSequenceBatch: pooled-lo 시퀀스 - 50건마다 시퀀스를 한 번 조회하고 INSERT를 배치로 보낸다</li>
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=QuestionBulkImportBenchmark \
+ *     -Djmh.jdbc.url=jdbc:postgresql://localhost:5432/qfeed_bench -Djmh.jdbc.user=postgres -Djmh.jdbc.password=postgres
+ * </pre>
+ * 결과 단위는 초당 import 호출 수이며, 한 번의 호출이 questionCount건의 질문을 한 트랜잭션으로 등록한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QuestionBulkImportBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int KEYWORDS_PER_QUESTION = 3;
+    private static final int HASHTAG_COUNT = 100;
+
+    @Param({"100", "1000"})
+    private int questionCount;
+
+    private Connection connection;
+    private boolean postgres;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("jmh.jdbc.url", "jdbc:h2:mem:question_import_bench;DB_CLOSE_DELAY=-1");
+        String user = System.getProperty("jmh.jdbc.user", "sa");
+        String password = System.getProperty("jmh.jdbc.password", "");
+        connection = DriverManager.getConnection(url, user, password);
+        connection.setAutoCommit(false);
+        postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+
+        createSchema();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM bench_identity_question_hashtag");
+            statement.execute("DELETE FROM bench_identity_question");
+            statement.execute("DELETE FROM bench_seq_question_hashtag");
+            statement.execute("DELETE FROM bench_seq_question");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long lastId = 0;
+        try (PreparedStatement questionInsert = connection.prepareStatement("""
+                INSERT INTO bench_identity_question (question_content, question_type_cd, question_ctg, created_at, use_yn)
+                VALUES (?, ?, ?, ?, true)
+                """, Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement hashtagInsert = connection.prepareStatement("""
+                     INSERT INTO bench_identity_question_hashtag (question_id, tag_id, created_at)
+                     VALUES (?, ?, ?)
+                     """, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < questionCount; i++) {
+                bindQuestion(questionInsert, i, now);
+                questionInsert.executeUpdate();
+                long questionId = generatedKey(questionInsert);
+
+                for (int k = 0; k < KEYWORDS_PER_QUESTION; k++) {
+                    hashtagInsert.setLong(1, questionId);
+                    hashtagInsert.setLong(2, tagIdFor(i, k));
+                    hashtagInsert.setTimestamp(3, now);
+                    hashtagInsert.executeUpdate();
+                    lastId = generatedKey(hashtagInsert);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledLoSequenceBatch() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        PooledLoIds questionIds = new PooledLoIds("bench_question_seq");
+        PooledLoIds questionHashtagIds = new PooledLoIds("bench_question_hashtag_seq");
+        long lastId = 0;
+        try (PreparedStatement questionInsert = connection.prepareStatement("""
+                INSERT INTO bench_seq_question (question_id, question_content, question_type_cd, question_ctg, created_at, use_yn)
+                VALUES (?, ?, ?, ?, ?, true)
+                """);
+             PreparedStatement hashtagInsert = connection.prepareStatement("""
+                     INSERT INTO bench_seq_question_hashtag (question_hashtag_id, question_id, tag_id, created_at)
+                     VALUES (?, ?, ?, ?)
+                     """)) {
+            // order_inserts: 질문을 모두 배치로 보낸 뒤 질문 키워드를 배치로 보낸다
+            long[] questionIdsInOrder = new long[questionCount];
+            for (int i = 0; i < questionCount; i++) {
+                long questionId = questionIds.next();
+                questionIdsInOrder[i] = questionId;
+                questionInsert.setLong(1, questionId);
+                bindQuestion(questionInsert, i, now, 2);
+                questionInsert.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    questionInsert.executeBatch();
+                }
+            }
+            questionInsert.executeBatch();
+
+            int pending = 0;
+            for (int i = 0; i < questionCount; i++) {
+                for (int k = 0; k < KEYWORDS_PER_QUESTION; k++) {
+                    lastId = questionHashtagIds.next();
+                    hashtagInsert.setLong(1, lastId);
+                    hashtagInsert.setLong(2, questionIdsInOrder[i]);
+                    hashtagInsert.setLong(3, tagIdFor(i, k));
+                    hashtagInsert.setTimestamp(4, now);
+                    hashtagInsert.addBatch();
+                    if (++pending % ALLOCATION_SIZE == 0) {
+                        hashtagInsert.executeBatch();
+                    }
+                }
+            }
+            hashtagInsert.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private void bindQuestion(PreparedStatement statement, int index, Timestamp now) throws SQLException {
+        bindQuestion(statement, index, now, 1);
+    }
+
+    private void bindQuestion(PreparedStatement statement, int index, Timestamp now, int offset) throws SQLException {
+        statement.setString(offset, "대량 등록 질문 " + index);
+        statement.setString(offset + 1, "CS");
+        statement.setString(offset + 2, "DB");
+        statement.setTimestamp(offset + 3, now);
+    }
+
+    private long tagIdFor(int questionIndex, int keywordIndex) {
+        return (questionIndex * KEYWORDS_PER_QUESTION + keywordIndex) % HASHTAG_COUNT + 1;
+    }
+
+    private long generatedKey(PreparedStatement statement) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+
+    private long nextSequenceValue(String sequenceName) throws SQLException {
+        String sql = postgres
+                ? "SELECT nextval('" + sequenceName + "')"
+                : "SELECT NEXT VALUE FOR " + sequenceName;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_identity_question (
+                        question_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        question_content VARCHAR(200) NOT NULL,
+                        question_type_cd VARCHAR(50) NOT NULL,
+                        question_ctg VARCHAR(50) NOT NULL,
+                        created_at TIMESTAMP NOT NULL,
+                        use_yn BOOLEAN NOT NULL
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_identity_question_hashtag (
+                        question_hashtag_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        question_id BIGINT NOT NULL,
+                        tag_id BIGINT NOT NULL,
+                        created_at TIMESTAMP NOT NULL
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_seq_question (
+                        question_id BIGINT PRIMARY KEY,
+                        question_content VARCHAR(200) NOT NULL,
+                        question_type_cd VARCHAR(50) NOT NULL,
+                        question_ctg VARCHAR(50) NOT NULL,
+                        created_at TIMESTAMP NOT NULL,
+                        use_yn BOOLEAN NOT NULL
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_seq_question_hashtag (
+                        question_hashtag_id BIGINT PRIMARY KEY,
+                        question_id BIGINT NOT NULL,
+                        tag_id BIGINT NOT NULL,
+                        created_at TIMESTAMP NOT NULL
+                    )
+                    """);
+            statement.execute("CREATE SEQUENCE IF NOT EXISTS bench_question_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("CREATE SEQUENCE IF NOT EXISTS bench_question_hashtag_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+    }
+
+    /**
+     * Hibernate pooled-lo 옵티마이저와 같은 방식: 시퀀스 값을 블록의 시작으로 보고 ALLOCATION_SIZE개를 메모리에서 발급한다.
+     */
+    private final class PooledLoIds {
+
+        private final String sequenceName;
+        private long next;
+        private long upperBound;
+
+        private PooledLoIds(String sequenceName) {
+            this.sequenceName = sequenceName;
+        }
+
+        private long next() throws SQLException {
+            if (next >= upperBound) {
+                next = nextSequenceValue(sequenceName);
+                upperBound = next + ALLOCATION_SIZE;
+            }
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.ktb.question.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 질문 목록 커서 페이지 지연 시간 벤치마크 (100만 건)
+ * 기존 catch-all 쿼리((:type IS NULL OR ...))와 동적 조건 쿼리를 필터 조합 × 커서 깊이별로 비교한다.
+ * 필터를 지정하지 않은 경우(ALL)는 catch-all 쿼리에 null이 바인딩되고, 동적 쿼리에서는 조건이 빠진다.
+ *
+ * <p>기본은 H2 인메모리 DB이며, 실제 실행 계획을 보려면 PostgreSQL을 지정한다.
+ * <pre>
+ * ./gradlew jmh -PjmhInclude=QuestionCursorPaginationBenchmark \
+ *     -Djmh.jdbc.url=jdbc:postgresql://localhost:5432/qfeed_bench -Djmh.jdbc.user=postgres -Djmh.jdbc.password=postgres
+ * </pre>
+ * QUESTION 테이블이 비어 있으면 시드 데이터를 채우고 docs/db/question_indexes.sql과 같은 형태의 인덱스를 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionCursorPaginationBenchmark {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final String[] TYPES = {"CS", "SYSTEM_DESIGN", "PORTFOLIO"};
+    private static final String[] CATEGORIES = {"OS", "NETWORK", "DB", "COMPUTER_ARCHITECTURE", "ALGORITHM", "DATA_STRUCTURE"};
+
+    private static final String CATCH_ALL_QUERY = """
+            SELECT question_id, question_content, question_type_cd, question_ctg FROM question
+            WHERE deleted_at IS NULL AND use_yn = true
+            AND (CAST(? AS VARCHAR(50)) IS NULL OR question_type_cd = ?)
+            AND (CAST(? AS VARCHAR(50)) IS NULL OR question_ctg = ?)
+            AND (CAST(? AS BIGINT) IS NULL OR question_id < ?)
+            ORDER BY question_id DESC
+            LIMIT ?
+            """;
+
+    private static final String DYNAMIC_QUERY_PREFIX = """
+            SELECT question_id, question_content, question_type_cd, question_ctg FROM question
+            WHERE deleted_at IS NULL AND use_yn = true
+            """;
+
+    private static final String NO_FILTER = "ALL";
+
+    /**
+     * 질문 유형 필터 (ALL = 미지정)
+     */
+    @Param({"CS", NO_FILTER})
+    private String type;
+
+    /**
+     * 질문 카테고리 필터 (ALL = 미지정)
+     */
+    @Param({"DB", NO_FILTER})
+    private String category;
+
+    /**
+     * 커서 깊이 (전체 ID 범위 대비 비율, 1.0 = 첫 페이지)
+     */
+    @Param({"1.0", "0.5", "0.01"})
+    private double cursorDepth;
+
+    private Connection connection;
+    private long cursor;
+    private String typeFilter;
+    private String categoryFilter;
+    private String dynamicQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("jmh.jdbc.url", "jdbc:h2:mem:question_bench;DB_CLOSE_DELAY=-1");
+        String user = System.getProperty("jmh.jdbc.user", "sa");
+        String password = System.getProperty("jmh.jdbc.password", "");
+        connection = DriverManager.getConnection(url, user, password);
+
+        createSchema();
+        seedIfEmpty();
+        cursor = Math.max(1L, (long) (ROW_COUNT * cursorDepth));
+        typeFilter = NO_FILTER.equals(type) ? null : type;
+        categoryFilter = NO_FILTER.equals(category) ? null : category;
+        dynamicQuery = buildDynamicQuery(typeFilter, categoryFilter);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> catchAllQuery() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(CATCH_ALL_QUERY)) {
+            statement.setString(1, typeFilter);
+            statement.setString(2, typeFilter);
+            statement.setString(3, categoryFilter);
+            statement.setString(4, categoryFilter);
+            statement.setLong(5, cursor);
+            statement.setLong(6, cursor);
+            statement.setInt(7, PAGE_SIZE + 1);
+            return readIds(statement);
+        }
+    }
+
+    @Benchmark
+    public List<Long> dynamicQuery() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(dynamicQuery)) {
+            int index = 1;
+            if (typeFilter != null) {
+                statement.setString(index++, typeFilter);
+            }
+            if (categoryFilter != null) {
+                statement.setString(index++, categoryFilter);
+            }
+            statement.setLong(index++, cursor);
+            statement.setInt(index, PAGE_SIZE + 1);
+            return readIds(statement);
+        }
+    }
+
+    /**
+     * QuestionRepositoryCustomImpl과 같이 지정된 필터만 조건으로 붙인다
+     */
+    private static String buildDynamicQuery(String typeFilter, String categoryFilter) {
+        StringBuilder sql = new StringBuilder(DYNAMIC_QUERY_PREFIX);
+        if (typeFilter != null) {
+            sql.append(" AND question_type_cd = ?");
+        }
+        if (categoryFilter != null) {
+            sql.append(" AND question_ctg = ?");
+        }
+        sql.append(" AND question_id < ? ORDER BY question_id DESC LIMIT ?");
+        return sql.toString();
+    }
+
+    private List<Long> readIds(PreparedStatement statement) throws SQLException {
+        List<Long> ids = new ArrayList<>(PAGE_SIZE + 1);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS question (
+                        question_id BIGINT PRIMARY KEY,
+                        question_content VARCHAR(200) NOT NULL,
+                        question_type_cd VARCHAR(50) NOT NULL,
+                        question_ctg VARCHAR(50) NOT NULL,
+                        created_at TIMESTAMP NOT NULL,
+                        updated_at TIMESTAMP,
+                        deleted_at TIMESTAMP,
+                        use_yn BOOLEAN NOT NULL
+                    )
+                    """);
+        }
+    }
+
+    private void seedIfEmpty() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM question")) {
+            resultSet.next();
+            if (resultSet.getLong(1) >= ROW_COUNT) {
+                return;
+            }
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO question (question_id, question_content, question_type_cd, question_ctg,
+                                      created_at, deleted_at, use_yn)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (long id = 1; id <= ROW_COUNT; id++) {
+                boolean deleted = id % 10 == 0;
+                insert.setLong(1, id);
+                insert.setString(2, "벤치마크 질문 " + id);
+                insert.setString(3, TYPES[(int) (id % TYPES.length)]);
+                insert.setString(4, CATEGORIES[(int) ((id / TYPES.length) % CATEGORIES.length)]);
+                insert.setTimestamp(5, now);
+                insert.setTimestamp(6, deleted ? now : null);
+                insert.setBoolean(7, !deleted);
+                insert.addBatch();
+                if (id % INSERT_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        createIndexes();
+    }
+
+    private void createIndexes() throws SQLException {
+        boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+        String activeOnly = postgres ? " WHERE deleted_at IS NULL AND use_yn = true" : "";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_question_active_type_ctg_id"
+                    + " ON question (question_type_cd, question_ctg, question_id DESC)" + activeOnly);
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_question_active_ctg_id"
+                    + " ON question (question_ctg, question_id DESC)" + activeOnly);
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_question_active_type_id"
+                    + " ON question (question_type_cd, question_id DESC)" + activeOnly);
+            if (postgres) {
+                // H2는 기본키 인덱스로 충분하고, PostgreSQL은 활성 행만 담은 부분 인덱스로 필터 없는 조회를 처리
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_question_active_id"
+                        + " ON question (question_id DESC)" + activeOnly);
+            }
+            if (postgres) {
+                statement.execute("ANALYZE question");
+            }
+        }
+    }
+}
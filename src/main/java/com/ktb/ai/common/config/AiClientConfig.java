@@ -1,6 +1,8 @@
 package com.ktb.ai.common.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.ai.common.resilience.AiResilienceGuard;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.http.HttpClient;
 import java.time.Duration;
 import org.springframework.context.annotation.Bean;
@@ -28,6 +30,16 @@ public class AiClientConfig {
                 .build();
     }
 
+    @Bean
+    public AiResilienceGuard aiFeedbackGuard(AiResilienceProperties properties, MeterRegistry meterRegistry) {
+        return new AiResilienceGuard("ai-feedback", properties.getFeedback(), meterRegistry);
+    }
+
+    @Bean
+    public AiResilienceGuard sttGuard(AiResilienceProperties properties, MeterRegistry meterRegistry) {
+        return new AiResilienceGuard("stt", properties.getStt(), meterRegistry);
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         return new ObjectMapper();
@@ -0,0 +1,64 @@
+package com.ktb.ai.common.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 호출 보호 설정 (벌크헤드, 서킷 브레이커, AIMD 동시성 한도)
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.resilience")
+@Getter
+@Setter
+public class AiResilienceProperties {
+
+    private Downstream feedback = new Downstream();
+
+    private Downstream stt = new Downstream();
+
+    @Getter
+    @Setter
+    public static class Downstream {
+
+        /**
+         * 벌크헤드: 동시에 진행 가능한 최대 호출 수 (AIMD 한도의 상한)
+         */
+        private int maxConcurrentCalls = 32;
+
+        /**
+         * 벌크헤드 자리를 기다리는 최대 시간 (0이면 즉시 거절)
+         */
+        private Duration maxWait = Duration.ZERO;
+
+        /**
+         * AIMD 초기/최소 동시성 한도
+         */
+        private int initialLimit = 8;
+
+        private int minLimit = 1;
+
+        /**
+         * 과부하 신호(429/502/503/타임아웃) 수신 시 한도에 곱하는 비율
+         */
+        private double backoffRatio = 0.5;
+
+        /**
+         * 서킷 브레이커: 최근 N건 중 실패율이 임계값 이상이면 OPEN
+         */
+        private int slidingWindowSize = 20;
+
+        private int minimumCalls = 10;
+
+        private int failureRateThreshold = 50;
+
+        /**
+         * OPEN 유지 시간 (이후 HALF_OPEN에서 시험 호출)
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        private int halfOpenCalls = 3;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ktb.ai.common.exception;
+
+import com.ktb.common.domain.ErrorCode;
+import com.ktb.common.exception.BusinessException;
+
+/**
+ * AI 서버 호출 전에 요청을 거절한 경우 (벌크헤드/동시성 한도 초과, 서킷 OPEN)
+ */
+public class AiServiceOverloadedException extends BusinessException {
+
+    public AiServiceOverloadedException(String downstream, String reason) {
+        super(ErrorCode.AI_SERVICE_OVERLOADED,
+                String.format("%s - downstream: %s, reason: %s",
+                        ErrorCode.AI_SERVICE_OVERLOADED.getMessage(), downstream, reason));
+    }
+}
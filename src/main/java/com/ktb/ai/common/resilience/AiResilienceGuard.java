@@ -0,0 +1,187 @@
+package com.ktb.ai.common.resilience;
+
+import com.ktb.ai.common.config.AiResilienceProperties;
+import com.ktb.ai.common.exception.AiServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 서버(다운스트림) 단위 호출 보호
+ *
+ * <p>호출 순서: 벌크헤드(최대 동시 호출) → AIMD 동시성 한도 → 서킷 브레이커.
+ * 어느 단계에서든 거절되면 원격 호출 없이 {@link AiServiceOverloadedException}을 즉시 던져,
+ * AI 서버가 느려지거나 과부하일 때 요청 스레드가 쌓이지 않고 빠르게 부하를 떨어낸다.
+ *
+ * <p>호출 결과는 overloadSignal로 분류한다.
+ * 과부하 신호(429/502/503/타임아웃 등)는 서킷 실패로 기록하고 한도를 줄이며,
+ * 그 외 예외(입력값 오류 등)는 서버가 정상 응답한 것으로 보고 서킷에는 성공으로 기록하되 한도는 늘리지 않는다.
+ *
+ * <p>메트릭 (tag: downstream)
+ * <ul>
+ *     <li>ai.client.concurrency.limit / ai.client.inflight: 현재 AIMD 한도 / 진행 중 호출 수</li>
+ *     <li>ai.client.circuit.state: 0=CLOSED, 1=OPEN, 2=HALF_OPEN</li>
+ *     <li>ai.client.rejected{reason=bulkhead|limit|circuit_open}: 거절 건수</li>
+ * </ul>
+ */
+@Slf4j
+public class AiResilienceGuard {
+
+    private static final String REASON_BULKHEAD = "bulkhead";
+    private static final String REASON_LIMIT = "limit";
+    private static final String REASON_CIRCUIT_OPEN = "circuit_open";
+
+    private final String downstream;
+    private final Semaphore bulkhead;
+    private final long maxWaitMillis;
+    private final AimdConcurrencyLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+
+    private final Counter bulkheadRejected;
+    private final Counter limitRejected;
+    private final Counter circuitRejected;
+
+    public AiResilienceGuard(String downstream, AiResilienceProperties.Downstream properties,
+                             MeterRegistry meterRegistry) {
+        this.downstream = downstream;
+        this.bulkhead = new Semaphore(properties.getMaxConcurrentCalls());
+        this.maxWaitMillis = properties.getMaxWait().toMillis();
+        this.limiter = new AimdConcurrencyLimiter(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxConcurrentCalls(),
+                properties.getBackoffRatio()
+        );
+        this.circuitBreaker = new CircuitBreaker(
+                properties.getSlidingWindowSize(),
+                properties.getMinimumCalls(),
+                properties.getFailureRateThreshold(),
+                properties.getOpenDuration(),
+                properties.getHalfOpenCalls()
+        );
+
+        Gauge.builder("ai.client.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .tag("downstream", downstream)
+                .register(meterRegistry);
+        Gauge.builder("ai.client.inflight", limiter, AimdConcurrencyLimiter::getInFlight)
+                .tag("downstream", downstream)
+                .register(meterRegistry);
+        Gauge.builder("ai.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("downstream", downstream)
+                .register(meterRegistry);
+        this.bulkheadRejected = rejectedCounter(meterRegistry, REASON_BULKHEAD);
+        this.limitRejected = rejectedCounter(meterRegistry, REASON_LIMIT);
+        this.circuitRejected = rejectedCounter(meterRegistry, REASON_CIRCUIT_OPEN);
+    }
+
+    /**
+     * 보호된 호출 실행
+     *
+     * @param call           원격 호출
+     * @param overloadSignal 과부하(서킷 실패)로 볼 예외 판별
+     */
+    public <T> T execute(Supplier<T> call, Predicate<RuntimeException> overloadSignal) {
+        if (!acquireBulkhead()) {
+            throw reject(bulkheadRejected, REASON_BULKHEAD);
+        }
+        try {
+            if (!limiter.tryAcquire()) {
+                throw reject(limitRejected, REASON_LIMIT);
+            }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                limiter.onIgnored();
+                throw reject(circuitRejected, REASON_CIRCUIT_OPEN);
+            }
+            return invoke(call, overloadSignal);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 지금 거절 없이 받을 수 있는 호출 수 추정치 (서킷 OPEN이면 0)
+     * 작업을 선점하기 전에 가져올 양을 맞추는 용도이며, 실제 허용 여부는 execute에서 다시 판단한다.
+     */
+    public int availableCalls() {
+        return Math.min(
+                Math.min(bulkhead.availablePermits(), limiter.available()),
+                circuitBreaker.availablePermissions()
+        );
+    }
+
+    private <T> T invoke(Supplier<T> call, Predicate<RuntimeException> overloadSignal) {
+        Outcome outcome = Outcome.ABORTED;
+        try {
+            T result = call.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = overloadSignal.test(e) ? Outcome.OVERLOAD : Outcome.IGNORED;
+            throw e;
+        } finally {
+            settle(outcome);
+        }
+    }
+
+    /**
+     * 호출이 어떻게 끝나든 한도 슬롯과 서킷 허가를 반납한다.
+     * Error 등 분류하지 못한 종료는 서킷에는 실패로 기록하되 한도는 조정하지 않는다.
+     */
+    private void settle(Outcome outcome) {
+        switch (outcome) {
+            case SUCCESS -> {
+                circuitBreaker.onSuccess();
+                limiter.onSuccess();
+            }
+            case OVERLOAD -> {
+                circuitBreaker.onFailure();
+                limiter.onOverload();
+            }
+            case IGNORED -> {
+                circuitBreaker.onSuccess();
+                limiter.onIgnored();
+            }
+            case ABORTED -> {
+                circuitBreaker.onFailure();
+                limiter.onIgnored();
+            }
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return maxWaitMillis <= 0
+                    ? bulkhead.tryAcquire()
+                    : bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private AiServiceOverloadedException reject(Counter counter, String reason) {
+        counter.increment();
+        log.warn("AI call rejected - downstream: {}, reason: {}, limit: {}, inFlight: {}, circuit: {}",
+                downstream, reason, limiter.getLimit(), limiter.getInFlight(), circuitBreaker.getState());
+        return new AiServiceOverloadedException(downstream, reason);
+    }
+
+    private Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("ai.client.rejected")
+                .tag("downstream", downstream)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        OVERLOAD,
+        IGNORED,
+        ABORTED
+    }
+}
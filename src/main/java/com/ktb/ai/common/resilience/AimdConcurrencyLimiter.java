@@ -0,0 +1,62 @@
+package com.ktb.ai.common.resilience;
+
+/**
+ * AIMD(가산 증가 / 곱셈 감소) 동시성 한도
+ *
+ * <p>성공 시 한도를 1/limit씩 늘려 한도만큼의 호출이 성공할 때마다 약 1씩 증가시키고,
+ * 과부하 신호를 받으면 backoffRatio를 곱해 즉시 줄인다.
+ * 한도는 [minLimit, maxLimit] 범위를 벗어나지 않는다.
+ */
+class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+
+    AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        // 한도의 절반 이상을 쓰고 있을 때만 늘린다 (유휴 상태에서 한도가 무한정 커지는 것 방지)
+        if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        inFlight--;
+    }
+
+    synchronized void onOverload() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        inFlight--;
+    }
+
+    synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    synchronized int available() {
+        return Math.max(0, (int) limit - inFlight);
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ktb.ai.common.resilience;
+
+import java.time.Duration;
+
+/**
+ * 호출 수 기반 슬라이딩 윈도우 서킷 브레이커
+ *
+ * <p>CLOSED: 최근 slidingWindowSize건 중 minimumCalls 이상이 기록되고 실패율이 임계값 이상이면 OPEN
+ * <br>OPEN: openDuration 동안 모든 호출을 거절한 뒤 HALF_OPEN
+ * <br>HALF_OPEN: halfOpenCalls건만 통과시키고, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(int slidingWindowSize, int minimumCalls, int failureRateThreshold,
+                   Duration openDuration, int halfOpenCalls) {
+        this.window = new boolean[slidingWindowSize];
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            open();
+        }
+    }
+
+    /**
+     * 지금 허용될 호출 수 (상태는 바꾸지 않는다)
+     * CLOSED는 제한 없음, OPEN은 대기 시간 동안 0, HALF_OPEN은 남은 시험 호출 수
+     */
+    synchronized int availablePermissions() {
+        return switch (state) {
+            case CLOSED -> Integer.MAX_VALUE;
+            case OPEN -> System.nanoTime() - openedAtNanos < openDurationNanos ? 0 : halfOpenCalls;
+            case HALF_OPEN -> halfOpenPermits;
+        };
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        resetWindow();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+    }
+}
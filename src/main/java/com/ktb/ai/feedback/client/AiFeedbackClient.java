@@ -2,9 +2,14 @@ package com.ktb.ai.feedback.client;
 
 import static com.ktb.common.domain.ErrorCode.AI_FEEDBACK_SERVICE_ERROR;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.ai.common.resilience.AiResilienceGuard;
+import com.ktb.ai.feedback.dto.request.AiFeedbackBatchItem;
+import com.ktb.ai.feedback.dto.request.AiFeedbackBatchRequest;
 import com.ktb.ai.feedback.dto.request.AiFeedbackRequest;
+import com.ktb.ai.feedback.dto.response.AiFeedbackBatchResult;
 import com.ktb.ai.feedback.dto.response.AiFeedbackResponse;
 import com.ktb.common.dto.ApiResponse;
 import org.springframework.core.ParameterizedTypeReference;
@@ -18,14 +23,23 @@ import com.ktb.ai.feedback.exception.AiFeedbackLlmServiceUnavailableException;
 import com.ktb.ai.feedback.exception.AiFeedbackRateLimitException;
 import com.ktb.ai.feedback.exception.AiFeedbackServiceException;
 import com.ktb.ai.feedback.exception.AiFeedbackServiceTemporarilyUnavailableException;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 
 @Slf4j
@@ -37,9 +51,19 @@ public class AiFeedbackClient {
     private static final String MESSAGE_EMPTY_ANSWER = "EMPTY_ANSWER";
     private static final String MESSAGE_ANSWER_TOO_SHORT = "ANSWER_TOO_SHORT";
     private static final String MESSAGE_ANSWER_TOO_LONG = "ANSWER_TOO_LONG";
+    private static final String MESSAGE_FEEDBACK_SUCCESS = "generate_feedback_success";
+    private static final String MESSAGE_BAD_CASE = "bad_case_detected";
+
+    private static final String STREAM_EVENT_TOKEN = "token";
+    private static final String STREAM_EVENT_RESULT = "result";
+    private static final String STREAM_EVENT_ERROR = "error";
+    private static final TypeReference<ApiResponse<AiFeedbackResponse>> FEEDBACK_RESPONSE_TYPE =
+            new TypeReference<>() {
+            };
 
     private final RestClient aiRestClient;
     private final ObjectMapper objectMapper;
+    private final AiResilienceGuard aiFeedbackGuard;
 
     @Value("${ai.feedback.base-url}")
     private String baseUrl;
@@ -47,7 +71,27 @@ public class AiFeedbackClient {
     @Value("${ai.feedback.endpoint}")
     private String endpoint;
 
+    @Value("${ai.feedback.batch.endpoint:}")
+    private String batchEndpoint;
+
+    @Value("${ai.feedback.stream.endpoint:}")
+    private String streamEndpoint;
+
     public ApiResponse<AiFeedbackResponse> evaluate(AiFeedbackRequest request) {
+        return aiFeedbackGuard.execute(() -> doEvaluate(request), AiFeedbackClient::isOverloadSignal);
+    }
+
+    /**
+     * 서킷 실패 / 동시성 한도 감소로 볼 응답: 429, 502, 503, 연결 실패/타임아웃
+     */
+    private static boolean isOverloadSignal(RuntimeException e) {
+        return e instanceof AiFeedbackRateLimitException
+                || e instanceof AiFeedbackLlmServiceUnavailableException
+                || e instanceof AiFeedbackServiceTemporarilyUnavailableException
+                || e.getCause() instanceof ResourceAccessException;
+    }
+
+    private ApiResponse<AiFeedbackResponse> doEvaluate(AiFeedbackRequest request) {
         String url = baseUrl + endpoint;
 
         log.info("Requesting AI feedback - URL: {}, userId: {}, questionId: {}",
@@ -60,42 +104,8 @@ public class AiFeedbackClient {
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(request)
                     .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> {
-                        int statusCode = res.getStatusCode().value();
-                        String responseBody = new String(res.getBody().readAllBytes());
-
-                        log.error("AI Feedback 4xx error - status: {}, body: {}", statusCode, responseBody);
-
-                        if (statusCode == 400) {
-                            handle400Error(responseBody);
-                        } else if (statusCode == 409) {
-                            throw new AiFeedbackAlreadyInProgressException();
-                        } else if (statusCode == 429) {
-                            throw new AiFeedbackRateLimitException();
-                        } else {
-                            throw new AiFeedbackServiceException(
-                                String.format("%s - status: %s", AI_FEEDBACK_SERVICE_ERROR.getMessage(), statusCode)
-                            );
-                        }
-                    })
-                    .onStatus(HttpStatusCode::is5xxServerError, (req, res) -> {
-                        int statusCode = res.getStatusCode().value();
-                        String responseBody = new String(res.getBody().readAllBytes());
-
-                        log.error("AI Feedback 5xx error - status: {}, body: {}", statusCode, responseBody);
-
-                        if (statusCode == 500) {
-                            throw new AiFeedbackInternalServerException();
-                        } else if (statusCode == 502) {
-                            throw new AiFeedbackLlmServiceUnavailableException();
-                        } else if (statusCode == 503) {
-                            throw new AiFeedbackServiceTemporarilyUnavailableException();
-                        } else {
-                            throw new AiFeedbackServiceException(
-                                String.format("%s - status: %s", AI_FEEDBACK_SERVICE_ERROR.getMessage(), statusCode)
-                            );
-                        }
-                    })
+                    .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> handleClientError(res))
+                    .onStatus(HttpStatusCode::is5xxServerError, (req, res) -> handleServerError(res))
                     .body(new ParameterizedTypeReference<>() {
                     });
 
@@ -103,7 +113,7 @@ public class AiFeedbackClient {
                 throw new AiFeedbackServiceException("AI 피드백 응답이 null입니다");
             }
 
-            if (!"generate_feedback_success".equals(response.message()) && !"bad_case_detected".equals(response.message())) {
+            if (!isKnownMessage(response)) {
                 log.error("AI feedback request failed - unknown message: {}", response.message());
                 throw new AiFeedbackServiceException(
                         "AI 피드백 생성 실패: 알 수 없는 응답 - " + response.message()
@@ -121,6 +131,221 @@ public class AiFeedbackClient {
         }
     }
 
+    /**
+     * 스트리밍(SSE) 엔드포인트 설정 여부
+     */
+    public boolean supportsStreaming() {
+        return streamEndpoint != null && !streamEndpoint.isBlank();
+    }
+
+    /**
+     * 스트리밍 평가 (ai.feedback.stream.endpoint, text/event-stream)
+     * token 이벤트의 data는 생성된 텍스트 조각으로 도착하는 대로 onToken에 전달하고,
+     * 마지막 result 이벤트의 data(평가 API와 같은 응답 형태)를 최종 결과로 반환한다.
+     */
+    public ApiResponse<AiFeedbackResponse> evaluateStream(AiFeedbackRequest request, Consumer<String> onToken) {
+        return aiFeedbackGuard.execute(() -> doEvaluateStream(request, onToken), AiFeedbackClient::isOverloadSignal);
+    }
+
+    private ApiResponse<AiFeedbackResponse> doEvaluateStream(AiFeedbackRequest request, Consumer<String> onToken) {
+        String url = baseUrl + streamEndpoint;
+
+        log.info("Requesting AI feedback stream - URL: {}, userId: {}, questionId: {}",
+                url, request.userId(), request.questionId());
+
+        try {
+            ApiResponse<AiFeedbackResponse> response = aiRestClient.post()
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .body(request)
+                    .exchange((req, res) -> {
+                        if (res.getStatusCode().is4xxClientError()) {
+                            handleClientError(res);
+                        }
+                        if (res.getStatusCode().is5xxServerError()) {
+                            handleServerError(res);
+                        }
+                        return readEventStream(res, onToken);
+                    });
+
+            if (response == null) {
+                throw new AiFeedbackServiceException("AI 피드백 스트림이 결과 없이 종료되었습니다");
+            }
+
+            if (!isKnownMessage(response)) {
+                log.error("AI feedback stream failed - unknown message: {}", response.message());
+                throw new AiFeedbackServiceException(
+                        "AI 피드백 생성 실패: 알 수 없는 응답 - " + response.message()
+                );
+            }
+
+            log.info("AI feedback stream completed - userId: {}, questionId: {}, message: {}",
+                    request.userId(), request.questionId(), response.message());
+
+            return response;
+
+        } catch (RestClientException | UncheckedIOException e) {
+            log.error("AI feedback stream call failed - URL: {}, error: {}", url, e.getMessage(), e);
+            throw new AiFeedbackServiceException("AI 피드백 서버 호출 실패", e);
+        }
+    }
+
+    /**
+     * SSE 본문을 줄 단위로 읽어 이벤트(event/data 필드, 빈 줄로 구분)를 처리한다.
+     * result 이벤트를 받으면 나머지를 읽지 않고 반환한다.
+     */
+    private ApiResponse<AiFeedbackResponse> readEventStream(ClientHttpResponse res, Consumer<String> onToken)
+            throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(res.getBody(), StandardCharsets.UTF_8))) {
+            String event = null;
+            StringBuilder data = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    ApiResponse<AiFeedbackResponse> result = dispatchEvent(event, data, onToken);
+                    if (result != null) {
+                        return result;
+                    }
+                    event = null;
+                    data.setLength(0);
+                } else if (line.startsWith("event:")) {
+                    event = fieldValue(line, "event:");
+                } else if (line.startsWith("data:")) {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(fieldValue(line, "data:"));
+                }
+            }
+            return dispatchEvent(event, data, onToken);
+        }
+    }
+
+    private ApiResponse<AiFeedbackResponse> dispatchEvent(String event, StringBuilder data, Consumer<String> onToken)
+            throws IOException {
+        if (data.isEmpty()) {
+            return null;
+        }
+
+        if (STREAM_EVENT_RESULT.equals(event)) {
+            return objectMapper.readValue(data.toString(), FEEDBACK_RESPONSE_TYPE);
+        }
+        if (STREAM_EVENT_ERROR.equals(event)) {
+            log.error("AI feedback stream error event - data: {}", data);
+            JsonNode jsonNode = objectMapper.readTree(data.toString());
+            String message = jsonNode.has("message") ? jsonNode.get("message").asText() : data.toString();
+            throw new AiFeedbackServiceException(
+                    String.format("%s - message: %s", AI_FEEDBACK_SERVICE_ERROR.getMessage(), message)
+            );
+        }
+        if (event == null || STREAM_EVENT_TOKEN.equals(event)) {
+            onToken.accept(data.toString());
+        }
+        return null;
+    }
+
+    private static String fieldValue(String line, String prefix) {
+        String value = line.substring(prefix.length());
+        return value.startsWith(" ") ? value.substring(1) : value;
+    }
+
+    /**
+     * 배치 전용 엔드포인트 설정 여부
+     */
+    public boolean supportsBatch() {
+        return batchEndpoint != null && !batchEndpoint.isBlank();
+    }
+
+    /**
+     * 배치 평가 (ai.feedback.batch.endpoint 한 번 호출로 여러 건 평가)
+     * 응답 data는 요청과 같은 순서의 개별 결과 목록이며, 알 수 없는 메시지는 해당 건만 실패로 처리한다.
+     */
+    public List<AiFeedbackBatchResult> evaluateBatch(List<AiFeedbackBatchItem> items) {
+        return aiFeedbackGuard.execute(() -> doEvaluateBatch(items), AiFeedbackClient::isOverloadSignal);
+    }
+
+    private List<AiFeedbackBatchResult> doEvaluateBatch(List<AiFeedbackBatchItem> items) {
+        String url = baseUrl + batchEndpoint;
+        List<AiFeedbackRequest> requests = items.stream().map(AiFeedbackBatchItem::request).toList();
+
+        log.info("Requesting AI feedback batch - URL: {}, size: {}", url, requests.size());
+
+        try {
+            ApiResponse<List<ApiResponse<AiFeedbackResponse>>> response = aiRestClient.post()
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new AiFeedbackBatchRequest(requests))
+                    .retrieve()
+                    .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> handleClientError(res))
+                    .onStatus(HttpStatusCode::is5xxServerError, (req, res) -> handleServerError(res))
+                    .body(new ParameterizedTypeReference<>() {
+                    });
+
+            if (response == null || response.data() == null || response.data().size() != items.size()) {
+                throw new AiFeedbackServiceException("AI 피드백 배치 응답 건수가 요청과 다릅니다");
+            }
+
+            List<AiFeedbackBatchResult> results = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                Long answerId = items.get(i).answerId();
+                ApiResponse<AiFeedbackResponse> itemResponse = response.data().get(i);
+                results.add(itemResponse != null && isKnownMessage(itemResponse)
+                        ? AiFeedbackBatchResult.success(answerId, itemResponse)
+                        : AiFeedbackBatchResult.failure(answerId, "AI 피드백 생성 실패: 알 수 없는 응답 - "
+                                + (itemResponse == null ? null : itemResponse.message())));
+            }
+            return results;
+
+        } catch (RestClientException e) {
+            log.error("AI feedback batch API call failed - URL: {}, error: {}", url, e.getMessage(), e);
+            throw new AiFeedbackServiceException("AI 피드백 서버 호출 실패", e);
+        }
+    }
+
+    private boolean isKnownMessage(ApiResponse<AiFeedbackResponse> response) {
+        return MESSAGE_FEEDBACK_SUCCESS.equals(response.message()) || MESSAGE_BAD_CASE.equals(response.message());
+    }
+
+    private void handleClientError(ClientHttpResponse res) throws IOException {
+        int statusCode = res.getStatusCode().value();
+        String responseBody = new String(res.getBody().readAllBytes());
+
+        log.error("AI Feedback 4xx error - status: {}, body: {}", statusCode, responseBody);
+
+        if (statusCode == 400) {
+            handle400Error(responseBody);
+        } else if (statusCode == 409) {
+            throw new AiFeedbackAlreadyInProgressException();
+        } else if (statusCode == 429) {
+            throw new AiFeedbackRateLimitException();
+        } else {
+            throw new AiFeedbackServiceException(
+                String.format("%s - status: %s", AI_FEEDBACK_SERVICE_ERROR.getMessage(), statusCode)
+            );
+        }
+    }
+
+    private void handleServerError(ClientHttpResponse res) throws IOException {
+        int statusCode = res.getStatusCode().value();
+        String responseBody = new String(res.getBody().readAllBytes());
+
+        log.error("AI Feedback 5xx error - status: {}, body: {}", statusCode, responseBody);
+
+        if (statusCode == 500) {
+            throw new AiFeedbackInternalServerException();
+        } else if (statusCode == 502) {
+            throw new AiFeedbackLlmServiceUnavailableException();
+        } else if (statusCode == 503) {
+            throw new AiFeedbackServiceTemporarilyUnavailableException();
+        } else {
+            throw new AiFeedbackServiceException(
+                String.format("%s - status: %s", AI_FEEDBACK_SERVICE_ERROR.getMessage(), statusCode)
+            );
+        }
+    }
+
     private void handle400Error(String responseBody) {
         try {
             JsonNode jsonNode = objectMapper.readTree(responseBody);
@@ -0,0 +1,39 @@
+package com.ktb.ai.feedback.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 피드백 배치 평가 설정
+ * 배치 전용 엔드포인트는 ai.feedback.batch.endpoint (AiFeedbackClient)로 지정한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.feedback.batch")
+@Getter
+@Setter
+public class AiFeedbackBatchProperties {
+
+    /**
+     * 청크 크기 (청크 단위로 체크포인트를 기록한다)
+     */
+    private int chunkSize = 200;
+
+    /**
+     * 개별 호출 모드에서 동시에 진행할 최대 호출 수 (가상 스레드)
+     * ai.resilience.feedback.max-concurrent-calls보다 작게 두어야 벌크헤드에서 거절되지 않는다.
+     */
+    private int maxParallelism = 8;
+
+    /**
+     * 과부하(429, 호출 보호 거절) 시 재시도 횟수
+     */
+    private int maxOverloadRetries = 3;
+
+    /**
+     * 과부하 재시도 기본 대기 시간 (시도 횟수만큼 선형 증가)
+     */
+    private Duration overloadBackoff = Duration.ofSeconds(2);
+}
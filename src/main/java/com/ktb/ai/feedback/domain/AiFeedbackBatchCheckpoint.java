@@ -0,0 +1,61 @@
+package com.ktb.ai.feedback.domain;
+
+import com.ktb.common.domain.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * AI 피드백 배치 평가 진행 상황
+ * 청크가 끝날 때마다 마지막 answerId를 기록하여, 중단된 실행을 같은 runId로 다시 시작하면 그 다음부터 처리한다.
+ */
+@Entity
+@Table(name = "AI_FEEDBACK_BATCH_CHECKPOINT")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class AiFeedbackBatchCheckpoint extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "run_id", length = 100)
+    private String runId;
+
+    @Column(name = "last_answer_id")
+    private Long lastAnswerId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "succeeded_count", nullable = false)
+    private long succeededCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "completed_yn", nullable = false)
+    private boolean completed;
+
+    private AiFeedbackBatchCheckpoint(String runId) {
+        this.runId = runId;
+    }
+
+    public static AiFeedbackBatchCheckpoint start(String runId) {
+        return new AiFeedbackBatchCheckpoint(runId);
+    }
+
+    public void advance(Long lastAnswerId, long succeeded, long failed) {
+        this.lastAnswerId = lastAnswerId;
+        this.succeededCount += succeeded;
+        this.failedCount += failed;
+        this.processedCount += succeeded + failed;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ktb.ai.feedback.dto.request;
+
+/**
+ * 배치 평가 대상 한 건
+ *
+ * @param answerId 체크포인트 기준 키 (배치 입력은 answerId 오름차순이어야 한다)
+ * @param request  AI 서버 요청
+ */
+public record AiFeedbackBatchItem(
+        Long answerId,
+        AiFeedbackRequest request
+) {
+}
@@ -0,0 +1,14 @@
+package com.ktb.ai.feedback.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * AI 서버 배치 평가 요청 (ai.feedback.batch.endpoint)
+ */
+public record AiFeedbackBatchRequest(
+
+        @JsonProperty("requests")
+        List<AiFeedbackRequest> requests
+) {
+}
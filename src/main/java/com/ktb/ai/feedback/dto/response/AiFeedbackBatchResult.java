@@ -0,0 +1,26 @@
+package com.ktb.ai.feedback.dto.response;
+
+import com.ktb.common.dto.ApiResponse;
+
+/**
+ * 배치 평가 결과 한 건
+ * 성공 시 response, 실패 시 errorMessage가 채워진다.
+ */
+public record AiFeedbackBatchResult(
+        Long answerId,
+        ApiResponse<AiFeedbackResponse> response,
+        String errorMessage
+) {
+
+    public static AiFeedbackBatchResult success(Long answerId, ApiResponse<AiFeedbackResponse> response) {
+        return new AiFeedbackBatchResult(answerId, response, null);
+    }
+
+    public static AiFeedbackBatchResult failure(Long answerId, String errorMessage) {
+        return new AiFeedbackBatchResult(answerId, null, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return response != null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ktb.ai.feedback.dto.response;
+
+/**
+ * 배치 평가 실행 요약 (재개한 실행은 이전 실행분을 포함한 누적값)
+ */
+public record AiFeedbackBatchSummary(
+        String runId,
+        long processed,
+        long succeeded,
+        long failed,
+        Long lastAnswerId
+) {
+}
@@ -0,0 +1,7 @@
+package com.ktb.ai.feedback.repository;
+
+import com.ktb.ai.feedback.domain.AiFeedbackBatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AiFeedbackBatchCheckpointRepository extends JpaRepository<AiFeedbackBatchCheckpoint, String> {
+}
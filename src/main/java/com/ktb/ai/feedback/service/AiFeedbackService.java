@@ -1,10 +1,15 @@
 package com.ktb.ai.feedback.service;
 
+import com.ktb.ai.feedback.dto.request.AiFeedbackBatchItem;
+import com.ktb.ai.feedback.dto.response.AiFeedbackBatchResult;
+import com.ktb.ai.feedback.dto.response.AiFeedbackBatchSummary;
 import com.ktb.ai.feedback.dto.response.AiFeedbackResponse;
 import com.ktb.answer.domain.AnswerType;
 import com.ktb.common.dto.ApiResponse;
 import com.ktb.question.domain.QuestionCategory;
 import com.ktb.question.domain.QuestionType;
+import java.util.Iterator;
+import java.util.function.Consumer;
 
 public interface AiFeedbackService {
 
@@ -31,4 +36,40 @@ public interface AiFeedbackService {
             String answerContent
     );
 
+    /**
+     * AI 피드백 스트리밍 평가
+     * 스트리밍 엔드포인트(ai.feedback.stream.endpoint)가 설정되어 있으면 생성 중인 텍스트 조각을 onToken으로 전달하고,
+     * 없으면 조각 없이 evaluateSync와 같이 동작한다.
+     *
+     * @param onToken 생성 텍스트 조각 수신 (AI 서버 호출 스레드에서 호출됨)
+     * @return 최종 AI 피드백 응답
+     * @throws com.ktb.ai.feedback.exception.AiFeedbackServiceException FastAPI 서버 호출 실패 시
+     */
+    ApiResponse<AiFeedbackResponse> evaluateStream(
+            Long userId,
+            Long questionId,
+            QuestionType type,
+            QuestionCategory category,
+            AnswerType answerType,
+            String questionContent,
+            String answerContent,
+            Consumer<String> onToken
+    );
+
+    /**
+     * AI 피드백 배치 평가 (프롬프트/지표 변경 시 재평가용)
+     * 입력을 청크로 나누어 배치 엔드포인트가 있으면 청크당 한 번, 없으면 가상 스레드로 제한된 병렬 호출한다.
+     * 결과는 완료되는 대로 resultConsumer로 전달되며(호출은 직렬화됨), 청크가 끝날 때마다 체크포인트를 기록한다.
+     * 같은 runId로 다시 실행하면 마지막 체크포인트 이후부터 이어서 처리한다.
+     *
+     * @param runId          실행 식별자 (체크포인트 키)
+     * @param items          평가 대상 (answerId 오름차순)
+     * @param resultConsumer 결과 수신 (예외를 던지면 실행이 중단되고 해당 청크는 재개 시 다시 처리된다)
+     * @return 실행 요약 (재개분 포함 누적)
+     */
+    AiFeedbackBatchSummary evaluateBatch(
+            String runId,
+            Iterator<AiFeedbackBatchItem> items,
+            Consumer<AiFeedbackBatchResult> resultConsumer
+    );
 }
@@ -1,13 +1,33 @@
 package com.ktb.ai.feedback.service.impl;
 
+import com.ktb.ai.common.exception.AiServiceOverloadedException;
 import com.ktb.ai.feedback.client.AiFeedbackClient;
+import com.ktb.ai.feedback.config.AiFeedbackBatchProperties;
+import com.ktb.ai.feedback.domain.AiFeedbackBatchCheckpoint;
+import com.ktb.ai.feedback.dto.request.AiFeedbackBatchItem;
 import com.ktb.ai.feedback.dto.request.AiFeedbackRequest;
+import com.ktb.ai.feedback.dto.response.AiFeedbackBatchResult;
+import com.ktb.ai.feedback.dto.response.AiFeedbackBatchSummary;
 import com.ktb.ai.feedback.dto.response.AiFeedbackResponse;
+import com.ktb.ai.feedback.exception.AiFeedbackRateLimitException;
+import com.ktb.ai.feedback.exception.AiFeedbackServiceException;
+import com.ktb.ai.feedback.repository.AiFeedbackBatchCheckpointRepository;
 import com.ktb.ai.feedback.service.AiFeedbackService;
 import com.ktb.answer.domain.AnswerType;
 import com.ktb.common.dto.ApiResponse;
 import com.ktb.question.domain.QuestionCategory;
 import com.ktb.question.domain.QuestionType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +38,8 @@ import org.springframework.stereotype.Service;
 public class AiFeedbackServiceImpl implements AiFeedbackService {
 
     private final AiFeedbackClient aiFeedbackClient;
+    private final AiFeedbackBatchProperties batchProperties;
+    private final AiFeedbackBatchCheckpointRepository checkpointRepository;
 
     @Override
     public ApiResponse<AiFeedbackResponse> evaluateSync(
@@ -32,8 +54,52 @@ public class AiFeedbackServiceImpl implements AiFeedbackService {
         log.debug("Evaluating AI feedback - userId: {}, questionId: {}, type: {}, category: {}",
                 userId, questionId, type, category);
 
+        AiFeedbackRequest request = toRequest(
+                userId, questionId, type, category, answerType, questionContent, answerContent);
+
+        ApiResponse<AiFeedbackResponse> response = aiFeedbackClient.evaluate(request);
+
+        log.info("AI feedback evaluation completed - userId: {}, questionId: {}", userId, questionId);
+
+        return response;
+    }
+
+    @Override
+    public ApiResponse<AiFeedbackResponse> evaluateStream(
+            Long userId,
+            Long questionId,
+            QuestionType type,
+            QuestionCategory category,
+            AnswerType answerType,
+            String questionContent,
+            String answerContent,
+            Consumer<String> onToken
+    ) {
+        AiFeedbackRequest request = toRequest(
+                userId, questionId, type, category, answerType, questionContent, answerContent);
+
+        if (!aiFeedbackClient.supportsStreaming()) {
+            return aiFeedbackClient.evaluate(request);
+        }
+
+        ApiResponse<AiFeedbackResponse> response = aiFeedbackClient.evaluateStream(request, onToken);
+
+        log.info("AI feedback stream evaluation completed - userId: {}, questionId: {}", userId, questionId);
+
+        return response;
+    }
+
+    private AiFeedbackRequest toRequest(
+            Long userId,
+            Long questionId,
+            QuestionType type,
+            QuestionCategory category,
+            AnswerType answerType,
+            String questionContent,
+            String answerContent
+    ) {
         String categoryName = category != null ? category.name() : null;
-        AiFeedbackRequest request = new AiFeedbackRequest(
+        return new AiFeedbackRequest(
                 userId,
                 questionId,
                 type.name(),
@@ -42,12 +108,196 @@ public class AiFeedbackServiceImpl implements AiFeedbackService {
                 questionContent,
                 answerContent
         );
+    }
 
-        ApiResponse<AiFeedbackResponse> response = aiFeedbackClient.evaluate(request);
+    @Override
+    public AiFeedbackBatchSummary evaluateBatch(
+            String runId,
+            Iterator<AiFeedbackBatchItem> items,
+            Consumer<AiFeedbackBatchResult> resultConsumer
+    ) {
+        AiFeedbackBatchCheckpoint checkpoint = checkpointRepository.findById(runId)
+                .orElseGet(() -> AiFeedbackBatchCheckpoint.start(runId));
+        if (checkpoint.isCompleted()) {
+            log.info("AI feedback batch already completed - runId: {}", runId);
+            return toSummary(checkpoint);
+        }
 
-        log.info("AI feedback evaluation completed - userId: {}, questionId: {}", userId, questionId);
+        Long resumeAfter = checkpoint.getLastAnswerId();
+        log.info("AI feedback batch started - runId: {}, resumeAfter: {}, mode: {}",
+                runId, resumeAfter, aiFeedbackClient.supportsBatch() ? "batch-endpoint" : "parallel");
 
-        return response;
+        BatchRun run = new BatchRun(resultConsumer);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<AiFeedbackBatchItem> chunk = new ArrayList<>(batchProperties.getChunkSize());
+            Long previousAnswerId = resumeAfter;
+
+            while (items.hasNext()) {
+                AiFeedbackBatchItem item = items.next();
+                if (resumeAfter != null && item.answerId() <= resumeAfter) {
+                    continue;
+                }
+                if (previousAnswerId != null && item.answerId() <= previousAnswerId) {
+                    throw new IllegalArgumentException("배치 입력은 answerId 오름차순이어야 합니다: " + item.answerId());
+                }
+                previousAnswerId = item.answerId();
+
+                chunk.add(item);
+                if (chunk.size() == batchProperties.getChunkSize()) {
+                    checkpoint = processChunk(chunk, executor, run, checkpoint);
+                    chunk = new ArrayList<>(batchProperties.getChunkSize());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                checkpoint = processChunk(chunk, executor, run, checkpoint);
+            }
+        }
+
+        checkpoint.complete();
+        checkpoint = checkpointRepository.save(checkpoint);
+
+        log.info("AI feedback batch completed - runId: {}, processed: {}, succeeded: {}, failed: {}",
+                runId, checkpoint.getProcessedCount(), checkpoint.getSucceededCount(), checkpoint.getFailedCount());
+        return toSummary(checkpoint);
+    }
+
+    /**
+     * 청크 하나를 끝까지 처리한 뒤 체크포인트 기록
+     */
+    private AiFeedbackBatchCheckpoint processChunk(List<AiFeedbackBatchItem> chunk, ExecutorService executor,
+                                                   BatchRun run, AiFeedbackBatchCheckpoint checkpoint) {
+        long succeededBefore = run.succeeded.get();
+        long failedBefore = run.failed.get();
+
+        if (aiFeedbackClient.supportsBatch()) {
+            evaluateWithBatchEndpoint(chunk, run);
+        } else {
+            evaluateInParallel(chunk, executor, run);
+        }
+
+        checkpoint.advance(
+                chunk.getLast().answerId(),
+                run.succeeded.get() - succeededBefore,
+                run.failed.get() - failedBefore
+        );
+        AiFeedbackBatchCheckpoint saved = checkpointRepository.save(checkpoint);
+
+        log.info("AI feedback batch checkpoint - runId: {}, lastAnswerId: {}, processed: {}",
+                saved.getRunId(), saved.getLastAnswerId(), saved.getProcessedCount());
+        return saved;
+    }
+
+    private void evaluateWithBatchEndpoint(List<AiFeedbackBatchItem> chunk, BatchRun run) {
+        List<AiFeedbackBatchResult> results;
+        try {
+            results = withOverloadRetry(() -> aiFeedbackClient.evaluateBatch(chunk));
+        } catch (RuntimeException e) {
+            log.warn("AI feedback batch chunk failed - size: {}, error: {}", chunk.size(), e.getMessage());
+            results = chunk.stream()
+                    .map(item -> AiFeedbackBatchResult.failure(item.answerId(), e.getMessage()))
+                    .toList();
+        }
+        results.forEach(run::deliver);
     }
 
+    /**
+     * 세마포어로 동시 호출 수를 제한하며 가상 스레드에서 개별 호출
+     * 제출하는 쪽이 세마포어를 기다리므로 입력을 앞질러 읽지 않는다.
+     */
+    private void evaluateInParallel(List<AiFeedbackBatchItem> chunk, ExecutorService executor, BatchRun run) {
+        Semaphore permits = new Semaphore(batchProperties.getMaxParallelism());
+        List<Future<?>> futures = new ArrayList<>(chunk.size());
+
+        try {
+            for (AiFeedbackBatchItem item : chunk) {
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        run.deliver(evaluateItem(item));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new AiFeedbackServiceException("AI 피드백 배치 평가가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AiFeedbackServiceException("AI 피드백 배치 평가 실패", e.getCause());
+        }
+    }
+
+    private AiFeedbackBatchResult evaluateItem(AiFeedbackBatchItem item) {
+        try {
+            return AiFeedbackBatchResult.success(
+                    item.answerId(),
+                    withOverloadRetry(() -> aiFeedbackClient.evaluate(item.request()))
+            );
+        } catch (RuntimeException e) {
+            log.warn("AI feedback batch item failed - answerId: {}, error: {}", item.answerId(), e.getMessage());
+            return AiFeedbackBatchResult.failure(item.answerId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 과부하(429, 호출 보호 거절)는 잠시 기다렸다가 재시도하고, 그 외 실패는 그대로 던진다
+     */
+    private <T> T withOverloadRetry(Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (AiServiceOverloadedException | AiFeedbackRateLimitException e) {
+                if (attempt > batchProperties.getMaxOverloadRetries()) {
+                    throw e;
+                }
+                sleep(batchProperties.getOverloadBackoff().toMillis() * attempt);
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiFeedbackServiceException("AI 피드백 배치 평가가 중단되었습니다", e);
+        }
+    }
+
+    private AiFeedbackBatchSummary toSummary(AiFeedbackBatchCheckpoint checkpoint) {
+        return new AiFeedbackBatchSummary(
+                checkpoint.getRunId(),
+                checkpoint.getProcessedCount(),
+                checkpoint.getSucceededCount(),
+                checkpoint.getFailedCount(),
+                checkpoint.getLastAnswerId()
+        );
+    }
+
+    /**
+     * 실행 중 결과 전달 및 집계 (resultConsumer 호출은 직렬화)
+     */
+    private static final class BatchRun {
+
+        private final Consumer<AiFeedbackBatchResult> resultConsumer;
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private BatchRun(Consumer<AiFeedbackBatchResult> resultConsumer) {
+            this.resultConsumer = resultConsumer;
+        }
+
+        private synchronized void deliver(AiFeedbackBatchResult result) {
+            resultConsumer.accept(result);
+            (result.isSuccess() ? succeeded : failed).incrementAndGet();
+        }
+    }
 }
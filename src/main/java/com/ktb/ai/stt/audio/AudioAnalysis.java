@@ -0,0 +1,15 @@
+package com.ktb.ai.stt.audio;
+
+import java.util.List;
+
+/**
+ * 음성 분석 결과
+ *
+ * @param durationSeconds  전체 길이 (초)
+ * @param silenceMidpoints 무음 구간 중앙 지점 (초, 오름차순). 압축 포맷은 디코딩하지 않으므로 비어 있다.
+ */
+public record AudioAnalysis(
+        double durationSeconds,
+        List<Double> silenceMidpoints
+) {
+}
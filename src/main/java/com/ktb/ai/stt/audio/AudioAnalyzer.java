@@ -0,0 +1,174 @@
+package com.ktb.ai.stt.audio;
+
+import com.ktb.ai.stt.config.SttChunkingProperties;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 분할 계획을 위한 음성 분석
+ *
+ * <p>음성을 내려받으며 한 번만 훑는다 (전체를 메모리에 올리지 않음).
+ * WAV는 PCM 에너지로 무음 구간을 찾고, MP3/M4A는 헤더로 길이만 구한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AudioAnalyzer {
+
+    private static final int WINDOW_MILLIS = 20;
+    private static final int PCM_SAMPLE_BITS = 16;
+    private static final double PCM_FULL_SCALE = 32768.0;
+
+    private final RestClient aiRestClient;
+    private final SttChunkingProperties properties;
+
+    /**
+     * 음성 URL을 내려받아 분석
+     *
+     * @param audioUrl 음성 파일 URL
+     * @return 분석 결과, 지원하지 않는 포맷이거나 읽을 수 없으면 empty (STT 서버에 그대로 맡긴다)
+     */
+    public Optional<AudioAnalysis> analyze(String audioUrl) {
+        try {
+            String extension = extensionOf(audioUrl);
+            return aiRestClient.get()
+                    .uri(URI.create(audioUrl))
+                    .exchange((request, response) -> {
+                        if (!response.getStatusCode().is2xxSuccessful()) {
+                            log.warn("Audio download failed - audioUrl: {}, status: {}",
+                                    audioUrl, response.getStatusCode().value());
+                            return Optional.<AudioAnalysis>empty();
+                        }
+                        try (InputStream body = response.getBody()) {
+                            return Optional.of(analyze(body, extension));
+                        }
+                    });
+        } catch (RestClientException | IllegalArgumentException e) {
+            log.warn("Audio analysis skipped - audioUrl: {}, error: {}", audioUrl, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 음성 스트림 분석
+     *
+     * @param in        음성 바이트 스트림
+     * @param extension 파일 확장자 (wav, mp3, m4a)
+     * @throws IOException 지원하지 않거나 손상된 음성
+     */
+    AudioAnalysis analyze(InputStream in, String extension) throws IOException {
+        return switch (extension) {
+            case "wav" -> analyzePcm(in);
+            case "mp3" -> new AudioAnalysis(CompressedAudioProbe.mp3DurationSeconds(in), List.of());
+            case "m4a" -> new AudioAnalysis(CompressedAudioProbe.mp4DurationSeconds(in), List.of());
+            default -> throw new IOException("분석할 수 없는 음성 포맷입니다: " + extension);
+        };
+    }
+
+    /**
+     * 20ms 창 단위 RMS가 기준 이하인 구간이 최소 길이 이상 이어지면 무음으로 보고 그 중앙을 기록
+     */
+    private AudioAnalysis analyzePcm(InputStream in) throws IOException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(in));
+             AudioInputStream pcm = toPcm16(source)) {
+            AudioFormat format = pcm.getFormat();
+            int channels = format.getChannels();
+            int frameSize = format.getFrameSize();
+            float frameRate = format.getFrameRate();
+            ByteOrder order = format.isBigEndian() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+
+            int windowFrames = Math.max(1, Math.round(frameRate * WINDOW_MILLIS / 1000f));
+            byte[] window = new byte[windowFrames * frameSize];
+            double thresholdRms = PCM_FULL_SCALE * Math.pow(10, properties.getSilenceThresholdDb() / 20);
+            double minSilenceSeconds = properties.getMinSilence().toMillis() / 1000.0;
+
+            List<Double> silenceMidpoints = new ArrayList<>();
+            long totalFrames = 0;
+            double silenceStart = -1;
+            int read;
+            while ((read = pcm.readNBytes(window, 0, window.length)) > 0) {
+                int frames = read / frameSize;
+                if (frames == 0) {
+                    break;
+                }
+                double windowStart = totalFrames / frameRate;
+                if (rms(window, frames * channels, order) < thresholdRms) {
+                    if (silenceStart < 0) {
+                        silenceStart = windowStart;
+                    }
+                } else if (silenceStart >= 0) {
+                    addSilence(silenceMidpoints, silenceStart, windowStart, minSilenceSeconds);
+                    silenceStart = -1;
+                }
+                totalFrames += frames;
+            }
+
+            double duration = totalFrames / frameRate;
+            if (silenceStart >= 0) {
+                addSilence(silenceMidpoints, silenceStart, duration, minSilenceSeconds);
+            }
+            return new AudioAnalysis(duration, silenceMidpoints);
+        } catch (UnsupportedAudioFileException e) {
+            throw new IOException("WAV 헤더를 읽을 수 없습니다", e);
+        }
+    }
+
+    private static AudioInputStream toPcm16(AudioInputStream source) {
+        AudioFormat format = source.getFormat();
+        if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED && format.getSampleSizeInBits() == PCM_SAMPLE_BITS) {
+            return source;
+        }
+        AudioFormat target = new AudioFormat(
+                AudioFormat.Encoding.PCM_SIGNED,
+                format.getSampleRate(),
+                PCM_SAMPLE_BITS,
+                format.getChannels(),
+                format.getChannels() * 2,
+                format.getSampleRate(),
+                false
+        );
+        return AudioSystem.getAudioInputStream(target, source);
+    }
+
+    private static double rms(byte[] window, int samples, ByteOrder order) {
+        ByteBuffer buffer = ByteBuffer.wrap(window, 0, samples * 2).order(order);
+        double sumSquares = 0;
+        for (int i = 0; i < samples; i++) {
+            short sample = buffer.getShort();
+            sumSquares += (double) sample * sample;
+        }
+        return Math.sqrt(sumSquares / samples);
+    }
+
+    private static void addSilence(List<Double> midpoints, double start, double end, double minSeconds) {
+        if (end - start >= minSeconds) {
+            midpoints.add((start + end) / 2);
+        }
+    }
+
+    private static String extensionOf(String audioUrl) {
+        String path = URI.create(audioUrl).getPath();
+        if (path == null) {
+            return "";
+        }
+        int dot = path.lastIndexOf('.');
+        return dot < 0 ? "" : path.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
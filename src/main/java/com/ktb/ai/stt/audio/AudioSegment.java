@@ -0,0 +1,15 @@
+package com.ktb.ai.stt.audio;
+
+/**
+ * 변환 구간 (앞뒤 구간과 겹침 포함)
+ *
+ * @param index        구간 순서 (0부터)
+ * @param startSeconds 시작 (초)
+ * @param endSeconds   끝 (초)
+ */
+public record AudioSegment(
+        int index,
+        double startSeconds,
+        double endSeconds
+) {
+}
@@ -0,0 +1,65 @@
+package com.ktb.ai.stt.audio;
+
+import com.ktb.ai.stt.config.SttChunkingProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 음성을 변환 구간으로 나누는 계획
+ *
+ * <p>목표 길이 지점에서 가장 가까운 무음 중앙을 경계로 삼고, 찾지 못하면 목표 지점에서 자른다.
+ * 각 구간은 경계 양쪽으로 overlap만큼 겹친다.
+ */
+public final class AudioSegmentPlanner {
+
+    private AudioSegmentPlanner() {
+    }
+
+    public static List<AudioSegment> plan(AudioAnalysis analysis, SttChunkingProperties properties) {
+        double duration = analysis.durationSeconds();
+        double target = seconds(properties.getTargetSegment());
+        double max = seconds(properties.getMaxSegment());
+        double window = seconds(properties.getSilenceSearchWindow());
+        double overlap = seconds(properties.getOverlap());
+
+        List<Double> boundaries = new ArrayList<>();
+        boundaries.add(0.0);
+        double start = 0;
+        while (duration - start > max) {
+            double ideal = start + target;
+            double cut = nearestSilence(analysis.silenceMidpoints(), Math.max(start, ideal - window), start + max, ideal);
+            boundaries.add(cut);
+            start = cut;
+        }
+        boundaries.add(duration);
+
+        List<AudioSegment> segments = new ArrayList<>(boundaries.size() - 1);
+        for (int i = 0; i + 1 < boundaries.size(); i++) {
+            double segmentStart = i == 0 ? 0 : Math.max(0, boundaries.get(i) - overlap);
+            double segmentEnd = i + 2 == boundaries.size() ? duration : Math.min(duration, boundaries.get(i + 1) + overlap);
+            segments.add(new AudioSegment(i, segmentStart, segmentEnd));
+        }
+        return segments;
+    }
+
+    private static double nearestSilence(List<Double> silences, double from, double to, double ideal) {
+        double best = ideal;
+        double bestDistance = Double.MAX_VALUE;
+        for (double silence : silences) {
+            if (silence <= from || silence > to) {
+                continue;
+            }
+            double distance = Math.abs(silence - ideal);
+            if (distance < bestDistance) {
+                best = silence;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
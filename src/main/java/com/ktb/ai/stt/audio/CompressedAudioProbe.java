@@ -0,0 +1,180 @@
+package com.ktb.ai.stt.audio;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 압축 음성(MP3, M4A)의 길이를 헤더만 읽어 계산
+ * JDK에는 MP3/AAC 디코더가 없으므로 무음 위치는 알 수 없고 길이만 구한다.
+ */
+final class CompressedAudioProbe {
+
+    private static final int[] MPEG1_LAYER3_BITRATES_KBPS =
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320};
+    private static final int[] MPEG2_LAYER3_BITRATES_KBPS =
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160};
+    private static final int[] MPEG1_SAMPLE_RATES = {44100, 48000, 32000};
+
+    private static final int ID3V2_HEADER_LENGTH = 10;
+    private static final int MP4_BOX_HEADER_LENGTH = 8;
+
+    private CompressedAudioProbe() {
+    }
+
+    /**
+     * MP3: 모든 프레임 헤더를 따라가며 샘플 수를 합산 (CBR/VBR 모두 정확, 프레임 본문은 건너뜀)
+     */
+    static double mp3DurationSeconds(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] header = new byte[4];
+        if (!readFully(data, header, 0, 4)) {
+            throw new IOException("빈 MP3 파일입니다");
+        }
+
+        if (header[0] == 'I' && header[1] == 'D' && header[2] == '3') {
+            byte[] rest = new byte[ID3V2_HEADER_LENGTH - 4];
+            data.readFully(rest);
+            int tagSize = (rest[2] & 0x7F) << 21 | (rest[3] & 0x7F) << 14 | (rest[4] & 0x7F) << 7 | (rest[5] & 0x7F);
+            data.skipNBytes(tagSize);
+            if (!readFully(data, header, 0, 4)) {
+                throw new IOException("MP3 프레임이 없습니다");
+            }
+        }
+
+        double seconds = 0;
+        long frames = 0;
+        while (true) {
+            Mp3Frame frame = Mp3Frame.parse(header);
+            if (frame == null) {
+                // 동기화가 깨졌거나 ID3v1 태그: 한 바이트씩 밀며 다음 프레임을 찾는다
+                System.arraycopy(header, 1, header, 0, 3);
+                if (!readFully(data, header, 3, 1)) {
+                    break;
+                }
+                continue;
+            }
+
+            seconds += (double) frame.samples() / frame.sampleRate();
+            frames++;
+            long remaining = frame.length() - 4L;
+            try {
+                data.skipNBytes(remaining);
+            } catch (EOFException e) {
+                break;
+            }
+            if (!readFully(data, header, 0, 4)) {
+                break;
+            }
+        }
+
+        if (frames == 0) {
+            throw new IOException("MP3 프레임을 찾을 수 없습니다");
+        }
+        return seconds;
+    }
+
+    /**
+     * M4A(MP4): moov/mvhd 박스의 duration / timescale (mdat은 읽지 않고 건너뜀)
+     */
+    static double mp4DurationSeconds(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        while (true) {
+            long size;
+            String type;
+            try {
+                size = Integer.toUnsignedLong(data.readInt());
+                type = readType(data);
+            } catch (EOFException e) {
+                throw new IOException("mvhd 박스를 찾을 수 없습니다");
+            }
+            long headerLength = MP4_BOX_HEADER_LENGTH;
+            if (size == 1) {
+                size = data.readLong();
+                headerLength += 8;
+            } else if (size == 0) {
+                size = Long.MAX_VALUE;
+            }
+
+            if ("moov".equals(type)) {
+                // moov 안에서 다시 박스를 순회해 mvhd를 찾는다
+                continue;
+            }
+            if ("mvhd".equals(type)) {
+                return readMvhdDuration(data);
+            }
+            if (size < headerLength) {
+                throw new IOException("손상된 MP4 박스입니다: " + type);
+            }
+            data.skipNBytes(size - headerLength);
+        }
+    }
+
+    private static double readMvhdDuration(DataInputStream data) throws IOException {
+        int version = data.readUnsignedByte();
+        data.skipNBytes(3); // flags
+        long timescale;
+        long duration;
+        if (version == 1) {
+            data.skipNBytes(16); // creation_time, modification_time
+            timescale = Integer.toUnsignedLong(data.readInt());
+            duration = data.readLong();
+        } else {
+            data.skipNBytes(8);
+            timescale = Integer.toUnsignedLong(data.readInt());
+            duration = Integer.toUnsignedLong(data.readInt());
+        }
+        if (timescale == 0) {
+            throw new IOException("mvhd timescale이 0입니다");
+        }
+        return (double) duration / timescale;
+    }
+
+    private static String readType(DataInputStream data) throws IOException {
+        byte[] type = new byte[4];
+        data.readFully(type);
+        return new String(type, StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean readFully(InputStream in, byte[] buffer, int offset, int length) throws IOException {
+        return in.readNBytes(buffer, offset, length) == length;
+    }
+
+    /**
+     * MPEG Audio Layer III 프레임 헤더
+     */
+    private record Mp3Frame(int samples, int sampleRate, int length) {
+
+        private static Mp3Frame parse(byte[] header) {
+            int b1 = header[1] & 0xFF;
+            int b2 = header[2] & 0xFF;
+            if ((header[0] & 0xFF) != 0xFF || (b1 & 0xE0) != 0xE0) {
+                return null;
+            }
+
+            int versionBits = (b1 >> 3) & 0x03;  // 00: 2.5, 10: 2, 11: 1
+            int layerBits = (b1 >> 1) & 0x03;    // 01: Layer III
+            int bitrateIndex = (b2 >> 4) & 0x0F;
+            int sampleRateIndex = (b2 >> 2) & 0x03;
+            int padding = (b2 >> 1) & 0x01;
+            if (versionBits == 0x01 || layerBits != 0x01
+                    || bitrateIndex == 0 || bitrateIndex == 0x0F || sampleRateIndex == 0x03) {
+                return null;
+            }
+
+            boolean mpeg1 = versionBits == 0x03;
+            int divisor = switch (versionBits) {
+                case 0x03 -> 1;
+                case 0x02 -> 2;
+                default -> 4;
+            };
+            int sampleRate = MPEG1_SAMPLE_RATES[sampleRateIndex] / divisor;
+            int bitrate = (mpeg1 ? MPEG1_LAYER3_BITRATES_KBPS : MPEG2_LAYER3_BITRATES_KBPS)[bitrateIndex] * 1000;
+            int samples = mpeg1 ? 1152 : 576;
+            int length = samples / 8 * bitrate / sampleRate + padding;
+            return new Mp3Frame(samples, sampleRate, length);
+        }
+    }
+}
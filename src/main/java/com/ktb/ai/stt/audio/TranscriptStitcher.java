@@ -0,0 +1,99 @@
+package com.ktb.ai.stt.audio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 구간별 변환 텍스트를 순서대로 이어 붙이며 겹친 부분을 한 번만 남긴다
+ *
+ * <p>앞 구간 끝쪽 단어와 다음 구간 앞쪽 단어에서 가장 긴 연속 일치 구간을 찾아 한 번만 남긴다.
+ * 경계의 단어는 한쪽에서 잘려 인식될 수 있으므로 완전 일치(접미사 = 접두사)를 요구하지 않고,
+ * 앞 구간의 마지막 단어 / 다음 구간의 첫 단어는 잘린 형태도 일치로 보고 더 긴 쪽을 남긴다.
+ */
+public final class TranscriptStitcher {
+
+    private TranscriptStitcher() {
+    }
+
+    /**
+     * @param transcripts    구간 순서대로의 변환 텍스트
+     * @param windowWords    경계 양쪽에서 비교할 단어 수
+     * @param minMatchWords  겹침으로 인정할 최소 연속 일치 단어 수 (미만이면 그대로 이어 붙임)
+     */
+    public static String stitch(List<String> transcripts, int windowWords, int minMatchWords) {
+        List<String> merged = new ArrayList<>();
+        for (String transcript : transcripts) {
+            List<String> next = tokenize(transcript);
+            if (merged.isEmpty() || next.isEmpty()) {
+                merged.addAll(next);
+                continue;
+            }
+
+            int tailStart = Math.max(0, merged.size() - windowWords);
+            String[] tail = normalize(merged.subList(tailStart, merged.size()));
+            String[] head = normalize(next.subList(0, Math.min(next.size(), windowWords)));
+
+            int bestLength = 0;
+            int bestTailEnd = 0;
+            int bestHeadEnd = 0;
+            int[] previous = new int[head.length + 1];
+            for (int i = 0; i < tail.length; i++) {
+                int[] current = new int[head.length + 1];
+                for (int j = 0; j < head.length; j++) {
+                    if (matches(tail, i, head, j)) {
+                        current[j + 1] = previous[j] + 1;
+                        if (current[j + 1] > bestLength) {
+                            bestLength = current[j + 1];
+                            bestTailEnd = i + 1;
+                            bestHeadEnd = j + 1;
+                        }
+                    }
+                }
+                previous = current;
+            }
+
+            if (bestLength >= minMatchWords) {
+                int overlapStart = tailStart + bestTailEnd - bestLength;
+                int headStart = bestHeadEnd - bestLength;
+                for (int k = 0; k < bestLength; k++) {
+                    String candidate = next.get(headStart + k);
+                    if (candidate.length() > merged.get(overlapStart + k).length()) {
+                        merged.set(overlapStart + k, candidate);
+                    }
+                }
+                merged.subList(overlapStart + bestLength, merged.size()).clear();
+                merged.addAll(next.subList(bestHeadEnd, next.size()));
+            } else {
+                merged.addAll(next);
+            }
+        }
+        return String.join(" ", merged);
+    }
+
+    private static boolean matches(String[] tail, int i, String[] head, int j) {
+        if (tail[i].isEmpty() || head[j].isEmpty()) {
+            return false;
+        }
+        if (tail[i].equals(head[j])) {
+            return true;
+        }
+        // 경계에서 잘린 단어: 앞 구간 끝은 앞부분만, 다음 구간 시작은 뒷부분만 인식된다
+        return (i == tail.length - 1 && head[j].startsWith(tail[i]))
+                || (j == 0 && tail[i].endsWith(head[j]));
+    }
+
+    private static List<String> tokenize(String transcript) {
+        if (transcript == null || transcript.isBlank()) {
+            return List.of();
+        }
+        return Arrays.asList(transcript.strip().split("\\s+"));
+    }
+
+    private static String[] normalize(List<String> words) {
+        return words.stream()
+                .map(word -> word.replaceAll("\\p{P}", "").toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,192 @@
+package com.ktb.ai.stt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.ai.stt.config.SttCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * STT 변환 결과 캐시 (파일 내용 해시 기준)
+ *
+ * <p>재시도/재제출로 같은 음성이 다시 들어오면 STT를 호출하지 않고 저장된 텍스트를 돌려준다.
+ * 인메모리(Caffeine) → DB(stt_transcript_cache, TTL) 순으로 조회하고, DB 적중은 인메모리로 올린다.
+ * 같은 해시의 변환이 진행 중이면 새로 호출하지 않고 그 결과를 함께 기다린다.
+ *
+ * <p>캐시는 최선 노력이다. DB 계층 오류는 기록만 하고 변환을 막지 않는다.
+ * 테이블 DDL: docs/db/stt_transcript_cache.sql
+ */
+@Component
+@Slf4j
+public class SttTranscriptCache {
+
+    static final String CACHE_NAME = "stt.transcript";
+    static final String METRIC_DB_LOOKUP = "stt.transcript.cache.db";
+
+    private static final String SELECT = """
+            SELECT transcript FROM stt_transcript_cache
+            WHERE content_hash = :hash AND expires_at > :now
+            """;
+
+    private static final String UPDATE = """
+            UPDATE stt_transcript_cache
+            SET transcript = :transcript, created_at = :now, expires_at = :expiresAt
+            WHERE content_hash = :hash
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO stt_transcript_cache (content_hash, transcript, created_at, expires_at)
+            VALUES (:hash, :transcript, :now, :expiresAt)
+            """;
+
+    private static final String DELETE_EXPIRED = "DELETE FROM stt_transcript_cache WHERE expires_at <= :now";
+
+    private final SttCacheProperties properties;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Cache<String, String> memory;
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Counter dbHits;
+    private final Counter dbMisses;
+
+    public SttTranscriptCache(
+            SttCacheProperties properties,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getMemoryTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, CACHE_NAME);
+        this.dbHits = Counter.builder(METRIC_DB_LOOKUP).tag("result", "hit").register(meterRegistry);
+        this.dbMisses = Counter.builder(METRIC_DB_LOOKUP).tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 변환 결과를 반환하고, 없으면 loader로 변환해 저장
+     *
+     * @param contentHash 음성 파일 SHA-256 (file_hash)
+     * @param loader      STT 변환 (빈 결과는 저장하지 않음)
+     */
+    public String getOrLoad(String contentHash, Supplier<String> loader) {
+        if (!properties.isEnabled() || contentHash == null) {
+            return loader.get();
+        }
+
+        String cached = lookup(contentHash);
+        if (cached != null) {
+            log.debug("STT transcript cache hit - hash: {}", contentHash);
+            return cached;
+        }
+
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> leader = inFlight.putIfAbsent(contentHash, flight);
+        if (leader != null) {
+            return await(leader);
+        }
+
+        try {
+            String transcript = loader.get();
+            if (transcript != null && !transcript.isBlank()) {
+                store(contentHash, transcript);
+            }
+            flight.complete(transcript);
+            return transcript;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(contentHash, flight);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.stt.cache.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int purged = jdbcTemplate.update(DELETE_EXPIRED,
+                    new MapSqlParameterSource("now", Timestamp.valueOf(LocalDateTime.now())));
+            if (purged > 0) {
+                log.debug("만료된 STT 변환 캐시 정리: {}건", purged);
+            }
+        } catch (DataAccessException e) {
+            log.warn("STT transcript cache purge failed - error: {}", e.getMessage());
+        }
+    }
+
+    private String lookup(String contentHash) {
+        String cached = memory.getIfPresent(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            List<String> rows = jdbcTemplate.queryForList(SELECT, new MapSqlParameterSource()
+                    .addValue("hash", contentHash)
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now())), String.class);
+            if (rows.isEmpty()) {
+                dbMisses.increment();
+                return null;
+            }
+            dbHits.increment();
+            memory.put(contentHash, rows.getFirst());
+            return rows.getFirst();
+        } catch (DataAccessException e) {
+            log.warn("STT transcript cache lookup failed - hash: {}, error: {}", contentHash, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String contentHash, String transcript) {
+        memory.put(contentHash, transcript);
+
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("hash", contentHash)
+                .addValue("transcript", transcript)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("expiresAt", Timestamp.valueOf(now.plus(properties.getDbTtl())));
+        try {
+            if (jdbcTemplate.update(UPDATE, params) == 0) {
+                jdbcTemplate.update(INSERT, params);
+            }
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 같은 음성을 먼저 저장한 경우
+            log.debug("STT transcript already cached - hash: {}", contentHash);
+        } catch (DataAccessException e) {
+            log.warn("STT transcript cache store failed - hash: {}, error: {}", contentHash, e.getMessage());
+        }
+    }
+
+    private static String await(CompletableFuture<String> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
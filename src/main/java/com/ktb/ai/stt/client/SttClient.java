@@ -1,5 +1,7 @@
 package com.ktb.ai.stt.client;
 
+import com.ktb.ai.common.exception.AiServiceOverloadedException;
+import com.ktb.ai.common.resilience.AiResilienceGuard;
 import com.ktb.ai.stt.dto.request.SttRequest;
 import com.ktb.ai.stt.dto.response.SttResponse;
 import com.ktb.ai.stt.exception.*;
@@ -12,6 +14,8 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 
 @Slf4j
@@ -26,6 +30,7 @@ public class SttClient {
     private static final int STATUS_RATE_LIMIT_EXCEEDED = 429;
 
     private final RestClient aiRestClient;
+    private final AiResilienceGuard sttGuard;
 
     @Value("${ai.stt.base-url}")
     private String baseUrl;
@@ -44,8 +49,23 @@ public class SttClient {
      * @throws AudioNotFoundException        오디오 파일 없음
      * @throws AudioUnprocessableException   오디오 처리 불가
      * @throws SttTimeoutException           변환 시간 초과
+     * @throws AiServiceOverloadedException  STT 서버 과부하로 호출 전에 거절된 경우
      */
     public String convert(SttRequest request) {
+        return sttGuard.execute(() -> doConvert(request), SttClient::isOverloadSignal);
+    }
+
+    /**
+     * 서킷 실패 / 동시성 한도 감소로 볼 응답: 408, 429, 5xx, 연결 실패/타임아웃
+     */
+    private static boolean isOverloadSignal(RuntimeException e) {
+        return e instanceof SttTimeoutException
+                || e instanceof SttRateLimitException
+                || e.getCause() instanceof HttpServerErrorException
+                || e.getCause() instanceof ResourceAccessException;
+    }
+
+    private String doConvert(SttRequest request) {
         String url = baseUrl + endpoint;
 
         log.info("Requesting STT conversion - URL: {}, userId: {}, sessionId: {}, audioUrl: {}",
@@ -98,7 +118,7 @@ public class SttClient {
             case STATUS_AUDIO_UNPROCESSABLE:
                 throw new AudioUnprocessableException("오디오 파일이 손상되었거나 인식할 수 없습니다");
             case STATUS_RATE_LIMIT_EXCEEDED:
-                throw new SttServiceException("STT 요청 한도를 초과했습니다");
+                throw new SttRateLimitException("STT 요청 한도를 초과했습니다");
             default:
                 throw new SttServiceException("STT 클라이언트 오류: " + statusCode);
         }
@@ -0,0 +1,38 @@
+package com.ktb.ai.stt.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * STT 변환 결과 캐시 설정 (파일 내용 해시 기준)
+ * DB 계층 만료 행 정리 주기는 ai.stt.cache.purge-interval-ms로 지정한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.stt.cache")
+@Getter
+@Setter
+public class SttCacheProperties {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 인메모리 계층 최대 항목 수
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * 인메모리 계층 만료 시간 (쓰기 기준)
+     */
+    private Duration memoryTtl = Duration.ofHours(1);
+
+    /**
+     * DB 계층 만료 시간 (인스턴스 재시작/다중 인스턴스 간 공유)
+     */
+    private Duration dbTtl = Duration.ofDays(30);
+}
@@ -0,0 +1,79 @@
+package com.ktb.ai.stt.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 긴 음성 분할 변환 설정
+ * STT 서버의 1회 처리 한도(5분)를 넘는 음성을 구간으로 나눠 병렬 변환한다.
+ *
+ * STT 서버 계약: 요청 본문의 start_seconds, end_seconds(초, 실수)가 있으면
+ * audio_url 음성 중 [start_seconds, end_seconds) 구간만 변환해야 한다.
+ * 구간을 지원하지 않는 서버는 매 구간마다 전체 텍스트를 돌려주므로 기본값은 꺼 둔다.
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.stt.chunking")
+@Getter
+@Setter
+public class SttChunkingProperties {
+
+    /**
+     * 분할 변환 사용 여부 (false면 항상 한 번에 요청)
+     * STT 서버가 구간 요청(start_seconds, end_seconds)을 지원할 때만 켠다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 이 크기 이하의 파일은 분석 없이 한 번에 요청한다
+     */
+    private long directMaxBytes = 2 * 1024 * 1024L;
+
+    /**
+     * 구간 목표 길이
+     */
+    private Duration targetSegment = Duration.ofMinutes(2);
+
+    /**
+     * 구간 최대 길이 (겹침 포함해도 STT 서버 한도보다 짧아야 한다)
+     */
+    private Duration maxSegment = Duration.ofMinutes(3);
+
+    /**
+     * 목표 지점 앞쪽으로 무음 경계를 찾을 범위
+     */
+    private Duration silenceSearchWindow = Duration.ofSeconds(30);
+
+    /**
+     * 경계 양쪽으로 겹쳐 보낼 길이 (경계에 걸린 단어 보존)
+     */
+    private Duration overlap = Duration.ofSeconds(2);
+
+    /**
+     * 무음으로 볼 RMS 레벨 (dBFS)
+     */
+    private double silenceThresholdDb = -40.0;
+
+    /**
+     * 무음으로 볼 최소 길이
+     */
+    private Duration minSilence = Duration.ofMillis(300);
+
+    /**
+     * 한 음성에 대해 동시에 변환할 최대 구간 수 (가상 스레드)
+     * ai.resilience.stt.max-concurrent-calls보다 작게 두어야 벌크헤드에서 거절되지 않는다.
+     */
+    private int maxParallelSegments = 4;
+
+    /**
+     * 겹침 제거 시 비교할 경계 양쪽 단어 수
+     */
+    private int stitchWindowWords = 40;
+
+    /**
+     * 겹침으로 인정할 최소 연속 일치 단어 수
+     */
+    private int stitchMinMatchWords = 2;
+}
@@ -1,5 +1,6 @@
 package com.ktb.ai.stt.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
@@ -22,6 +23,27 @@ public record SttRequest(
                 example = "https://qfeed-files.s3.amazonaws.com/uploads/audio/uuid.mp3",
                 requiredMode = Schema.RequiredMode.REQUIRED)
         @NotBlank(message = "오디오 URL은 필수입니다")
-        String audioUrl
+        String audioUrl,
+
+        @JsonProperty("start_seconds")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "변환할 구간 시작 (초, 생략 시 처음부터)", example = "118.5")
+        Double startSeconds,
+
+        @JsonProperty("end_seconds")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "변환할 구간 끝 (초, 생략 시 끝까지)", example = "241.2")
+        Double endSeconds
 ) {
+
+    public SttRequest(Long userId, Long sessionId, String audioUrl) {
+        this(userId, sessionId, audioUrl, null, null);
+    }
+
+    /**
+     * 같은 음성의 일부 구간만 변환하는 요청
+     */
+    public SttRequest forRange(double start, double end) {
+        return new SttRequest(userId, sessionId, audioUrl, start, end);
+    }
 }
@@ -0,0 +1,12 @@
+package com.ktb.ai.stt.exception;
+
+/**
+ * STT 서버 요청 한도 초과 (429)
+ * 응답 코드는 기존과 같이 STT_SERVICE_ERROR를 사용하고, 과부하 신호 구분용으로만 분리한다.
+ */
+public class SttRateLimitException extends SttServiceException {
+
+    public SttRateLimitException(String message) {
+        super(message);
+    }
+}
@@ -22,4 +22,17 @@ public interface SttService {
      * @throws com.ktb.ai.stt.exception.SttTimeoutException           변환 시간 초과
      */
     String convertToText(Long userId, Long sessionId, String audioUrl);
+
+    /**
+     * 음성 파일 → 텍스트 변환 (업로드 확인된 파일의 크기/내용 해시를 알고 있는 경우)
+     *
+     * <p>STT 서버 1회 처리 한도를 넘는 긴 음성은 무음 경계에서 겹치게 나눠 병렬 변환한 뒤 이어 붙인다.
+     * 크기가 ai.stt.chunking.direct-max-bytes 이하이면 분석 없이 한 번에 요청한다.
+     * 같은 내용 해시의 변환 결과가 캐시에 있으면 STT를 호출하지 않는다.
+     *
+     * @param sizeBytes   파일 크기 (바이트)
+     * @param contentHash 파일 내용 SHA-256 (file_hash), 모르면 null (캐시 미사용)
+     * @see #convertToText(Long, Long, String)
+     */
+    String convertToText(Long userId, Long sessionId, String audioUrl, long sizeBytes, String contentHash);
 }
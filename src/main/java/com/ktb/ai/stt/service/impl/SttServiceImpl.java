@@ -1,8 +1,24 @@
 package com.ktb.ai.stt.service.impl;
 
+import com.ktb.ai.stt.audio.AudioAnalyzer;
+import com.ktb.ai.stt.audio.AudioSegment;
+import com.ktb.ai.stt.audio.AudioSegmentPlanner;
+import com.ktb.ai.stt.audio.TranscriptStitcher;
+import com.ktb.ai.stt.cache.SttTranscriptCache;
 import com.ktb.ai.stt.client.SttClient;
+import com.ktb.ai.stt.config.SttChunkingProperties;
 import com.ktb.ai.stt.dto.request.SttRequest;
+import com.ktb.ai.stt.exception.SttServiceException;
 import com.ktb.ai.stt.service.SttService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,20 +28,122 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SttServiceImpl implements SttService {
 
+    static final String METRIC_TRANSCRIPTION = "stt.transcription.duration";
+    private static final String MODE_SINGLE = "single";
+    private static final String MODE_CHUNKED = "chunked";
+    private static final long UNKNOWN_SIZE = -1L;
+
     private final SttClient sttClient;
+    private final SttTranscriptCache transcriptCache;
+    private final AudioAnalyzer audioAnalyzer;
+    private final SttChunkingProperties chunkingProperties;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public String convertToText(Long userId, Long sessionId, String audioUrl) {
+        return convertToText(userId, sessionId, audioUrl, UNKNOWN_SIZE, null);
+    }
+
+    @Override
+    public String convertToText(Long userId, Long sessionId, String audioUrl, long sizeBytes, String contentHash) {
+        return transcriptCache.getOrLoad(contentHash, () -> convert(userId, sessionId, audioUrl, sizeBytes));
+    }
+
+    private String convert(Long userId, Long sessionId, String audioUrl, long sizeBytes) {
         log.debug("Converting audio to text - userId: {}, sessionId: {}, audioUrl: {}",
                 userId, sessionId, audioUrl);
 
         SttRequest request = new SttRequest(userId, sessionId, audioUrl);
+        List<AudioSegment> segments = planSegments(audioUrl, sizeBytes);
+        boolean chunked = segments.size() > 1;
 
-        String convertedText = sttClient.convert(request);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String convertedText;
+        try {
+            convertedText = chunked ? convertSegments(request, segments) : sttClient.convert(request);
+        } finally {
+            sample.stop(Timer.builder(METRIC_TRANSCRIPTION)
+                    .tag("mode", chunked ? MODE_CHUNKED : MODE_SINGLE)
+                    .register(meterRegistry));
+        }
 
-        log.info("STT conversion completed - userId: {}, sessionId: {}, textLength: {}",
-                userId, sessionId, convertedText.length());
+        log.info("STT conversion completed - userId: {}, sessionId: {}, segments: {}, textLength: {}",
+                userId, sessionId, Math.max(1, segments.size()), convertedText.length());
 
         return convertedText;
     }
+
+    /**
+     * 작은 파일은 내려받지 않고 한 번에 보낸다. 분석할 수 없는 음성도 STT 서버에 그대로 맡긴다.
+     */
+    private List<AudioSegment> planSegments(String audioUrl, long sizeBytes) {
+        if (!chunkingProperties.isEnabled()
+                || (sizeBytes != UNKNOWN_SIZE && sizeBytes <= chunkingProperties.getDirectMaxBytes())) {
+            return List.of();
+        }
+        return audioAnalyzer.analyze(audioUrl)
+                .map(analysis -> AudioSegmentPlanner.plan(analysis, chunkingProperties))
+                .orElse(List.of());
+    }
+
+    /**
+     * 세마포어로 동시 호출 수를 제한하며 구간별로 가상 스레드에서 변환한 뒤 순서대로 이어 붙인다
+     */
+    private String convertSegments(SttRequest request, List<AudioSegment> segments) {
+        Semaphore permits = new Semaphore(chunkingProperties.getMaxParallelSegments());
+        List<Future<String>> futures = new ArrayList<>(segments.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (AudioSegment segment : segments) {
+                    permits.acquire();
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return sttClient.convert(request.forRange(segment.startSeconds(), segment.endSeconds()));
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+
+                List<String> transcripts = new ArrayList<>(segments.size());
+                for (Future<String> future : futures) {
+                    transcripts.add(future.get());
+                }
+                if (isRangeIgnored(transcripts)) {
+                    // 구간을 무시한 서버는 매번 전체 텍스트를 돌려주므로 이어 붙이면 같은 내용이 구간 수만큼 반복된다
+                    log.error("STT server ignored segment range, using single transcript - audioUrl: {}, segments: {}",
+                            request.audioUrl(), segments.size());
+                    return transcripts.getFirst();
+                }
+                return TranscriptStitcher.stitch(
+                        transcripts,
+                        chunkingProperties.getStitchWindowWords(),
+                        chunkingProperties.getStitchMinMatchWords()
+                );
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new SttServiceException("STT 분할 변환이 중단되었습니다", e);
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new SttServiceException("STT 분할 변환 실패", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 서로 다른 구간의 변환 결과가 모두 같으면 STT 서버가 start_seconds/end_seconds를 무시한 것으로 본다
+     */
+    private boolean isRangeIgnored(List<String> transcripts) {
+        String first = transcripts.getFirst();
+        if (first == null || first.isBlank()) {
+            return false;
+        }
+        return transcripts.stream()
+                .allMatch(transcript -> transcript != null && transcript.strip().equals(first.strip()));
+    }
 }
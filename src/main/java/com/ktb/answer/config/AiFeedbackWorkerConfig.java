@@ -0,0 +1,24 @@
+package com.ktb.answer.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class AiFeedbackWorkerConfig {
+
+    /**
+     * AI 피드백 워커 실행기
+     * LLM 호출은 대부분 I/O 대기이므로 가상 스레드를 사용하고,
+     * 동시 실행 수는 디스패처의 세마포어(maxConcurrency)로 제한한다.
+     */
+    @Bean(name = "aiFeedbackWorkerExecutor", destroyMethod = "close")
+    public ExecutorService aiFeedbackWorkerExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("ai-feedback-worker-", 0).factory()
+        );
+    }
+}
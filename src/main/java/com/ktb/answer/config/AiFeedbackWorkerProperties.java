@@ -0,0 +1,87 @@
+package com.ktb.answer.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 피드백 비동기 워커 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.feedback.worker")
+@Getter
+@Setter
+public class AiFeedbackWorkerProperties {
+
+    /**
+     * 워커 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 동시에 진행 가능한 LLM 호출 수 (가상 스레드 수 상한)
+     * ai.resilience.feedback.initial-limit 이하로 둔다. 디스패처는 호출 보호의 여유만큼만 선점한다.
+     */
+    private int maxConcurrency = 8;
+
+    /**
+     * 한 번의 폴링에서 가져올 아웃박스 최대 건수
+     */
+    private int batchSize = 32;
+
+    /**
+     * 아웃박스 폴링 주기
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 최대 시도 횟수 (초과 시 FAILED)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 재시도 기본 대기 시간 (지수 백오프 기준값)
+     */
+    private Duration baseBackoff = Duration.ofSeconds(5);
+
+    /**
+     * 재시도 최대 대기 시간
+     */
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    /**
+     * 호출 보호 거절(벌크헤드/동시성 한도/서킷 OPEN) 시 재예약 대기 시간 (시도 횟수는 늘리지 않음)
+     */
+    private Duration overloadBackoff = Duration.ofSeconds(5);
+
+    /**
+     * IN_PROGRESS 임대 시간 (초과 시 워커 중단으로 간주하고 재처리)
+     * AI 클라이언트 read timeout(300초)보다 길어야 한다.
+     */
+    private Duration leaseTimeout = Duration.ofMinutes(10);
+
+    /**
+     * 처리 중 응답의 Retry-After (초)
+     */
+    private int retryAfterSeconds = 5;
+
+    /**
+     * 스트림이 워커 결과를 기다리는 동안 저장된 상태(상태 컬럼만)를 다시 확인하는 주기
+     * 다른 인스턴스의 워커가 처리하는 경우에만 사용한다. 같은 인스턴스의 워커가 처리 중이면 조회하지 않고 완료를 기다린다.
+     */
+    private Duration resultPollInterval = Duration.ofSeconds(3);
+
+    /**
+     * 스트림이 워커 결과를 기다리는 최대 시간 (초과 시 PROCESSING 응답)
+     * ai.feedback.stream.timeout(330초)보다 짧아야 결과 이벤트를 보낼 수 있다.
+     */
+    private Duration resultWaitTimeout = Duration.ofSeconds(300);
+
+    public Duration backoffFor(int attempt) {
+        int exponent = Math.max(0, Math.min(attempt - 1, 20));
+        Duration backoff = baseBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
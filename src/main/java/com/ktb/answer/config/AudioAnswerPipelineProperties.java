@@ -0,0 +1,88 @@
+package com.ktb.answer.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음성 답변 파이프라인 설정 (STT → 즉각 피드백 → AI 피드백 아웃박스)
+ */
+@Component
+@ConfigurationProperties(prefix = "answer.audio-pipeline")
+@Getter
+@Setter
+public class AudioAnswerPipelineProperties {
+
+    /**
+     * 파이프라인 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * STT 단계 (AI 서버 호출, I/O 대기 위주)
+     */
+    private Stage transcribe = new Stage(200, 8);
+
+    /**
+     * 즉각 피드백 단계 (키워드 체크 + 답변 저장 + 아웃박스 등록)
+     */
+    private Stage immediate = new Stage(500, 4);
+
+    /**
+     * 다음 단계 큐가 가득 찼을 때 기다릴 최대 시간 (초과 시 스위퍼가 다시 처리)
+     */
+    private Duration handoffTimeout = Duration.ofSeconds(30);
+
+    /**
+     * STT 선점 임대 시간
+     * 선점 후 이만큼 지나도록 변환되지 않았거나, 선점되지 않은 채 이만큼 머문 답변은 유실된 것으로 보고 다시 넣는다.
+     * STT read timeout(300초)보다 길어야 한다.
+     */
+    private Duration staleAfter = Duration.ofMinutes(10);
+
+    /**
+     * 과부하·일시 오류로 STT를 호출하지 못했을 때 다시 선점할 수 있게 되기까지의 시간
+     * 선점 임대를 이만큼만 남기고 단축한다. 실제 재시도는 다음 스위퍼 주기에 이루어진다.
+     */
+    private Duration transientRetryDelay = Duration.ofSeconds(30);
+
+    /**
+     * TRANSCRIBING에 이만큼 머문 답변은 FAILED 처리 (업로드가 끝내 확인되지 않은 경우 포함)
+     */
+    private Duration maxTranscribingAge = Duration.ofHours(1);
+
+    /**
+     * 스위퍼 주기 (ms)
+     */
+    private long sweepIntervalMs = 60_000L;
+
+    /**
+     * 스위퍼 1회 최대 처리 건수
+     */
+    private int sweepBatchSize = 100;
+
+    @Getter
+    @Setter
+    public static class Stage {
+
+        /**
+         * 대기 큐 크기
+         */
+        private int queueCapacity;
+
+        /**
+         * 동시 처리 수 (워커 가상 스레드 수)
+         */
+        private int concurrency;
+
+        public Stage() {
+        }
+
+        public Stage(int queueCapacity, int concurrency) {
+            this.queueCapacity = queueCapacity;
+            this.concurrency = concurrency;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktb.answer.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FeedbackStreamConfig {
+
+    /**
+     * AI 피드백 SSE 스트림 실행기
+     * 스트림은 대부분 AI 서버 응답을 기다리므로 가상 스레드를 사용하고,
+     * 동시 스트림 수는 FeedbackStreamServiceImpl의 세마포어(maxOpenStreams)로 제한한다.
+     */
+    @Bean(name = "feedbackStreamExecutor", destroyMethod = "close")
+    public ExecutorService feedbackStreamExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("feedback-stream-", 0).factory()
+        );
+    }
+}
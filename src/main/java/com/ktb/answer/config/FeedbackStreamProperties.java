@@ -0,0 +1,27 @@
+package com.ktb.answer.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 피드백 SSE 스트리밍 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.feedback.stream")
+@Getter
+@Setter
+public class FeedbackStreamProperties {
+
+    /**
+     * SSE 연결 유지 시간 (AI 클라이언트 read timeout(300초)보다 길게)
+     */
+    private Duration timeout = Duration.ofSeconds(330);
+
+    /**
+     * 인스턴스당 동시에 열어 둘 수 있는 스트림 수 (초과 시 503)
+     */
+    private int maxOpenStreams = 5000;
+}
@@ -13,6 +13,7 @@ import com.ktb.answer.dto.response.FeedbackResponse;
 import com.ktb.answer.dto.response.SessionAnswerSubmitResponse;
 import com.ktb.answer.service.AiFeedbackOrchestrator;
 import com.ktb.answer.service.AnswerApplicationService;
+import com.ktb.answer.service.FeedbackStreamService;
 import com.ktb.auth.security.adapter.SecurityUserAccount;
 import com.ktb.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +25,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +36,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Answer API", description = "답변 관리 API")
 @RestController
@@ -44,11 +47,13 @@ public class AnswerController {
 
     private final AnswerApplicationService answerApplicationService;
     private final AiFeedbackOrchestrator aiFeedbackOrchestrator;
+    private final FeedbackStreamService feedbackStreamService;
 
     private static final String MESSAGE_ANSWER_LIST_RETRIEVED = "learning_records_retrieval_success";
     private static final String MESSAGE_ANSWER_DETAIL_RETRIEVED = "record_retrieval_success";
     private static final String MESSAGE_ANSWER_SUBMITTED = "answer_submitted_success";
     private static final String MESSAGE_FEEDBACK_RETRIEVED = "feedback_retrieval_success";
+    private static final String MESSAGE_FEEDBACK_PROCESSING = "feedback_processing";
 
     @Operation(summary = "답변 목록 조회", description = "사용자의 학습 기록 목록을 조회합니다 (본인만)")
     @ApiResponses({
@@ -116,7 +121,8 @@ public class AnswerController {
             @Valid @ModelAttribute AnswerSubmitRequest request
     ) {
         Long accountId = principal.getAccountId();
-        AnswerSubmitCommand command = new AnswerSubmitCommand(request.questionId(), request.answerText(), request.answerType());
+        AnswerSubmitCommand command = new AnswerSubmitCommand(
+                request.questionId(), request.answerText(), request.answerType(), request.audioFileId());
 
         AnswerSubmitResult submitResult = answerApplicationService.submit(accountId, command);
 
@@ -170,12 +176,39 @@ public class AnswerController {
             @PathVariable Long answerId
     ) {
         Long accountId = principal.getAccountId();
-        FeedbackResponse feedbackResponse = aiFeedbackOrchestrator.getFeedbackSync(answerId, accountId);
+        FeedbackResponse feedbackResponse = aiFeedbackOrchestrator.getFeedback(answerId, accountId);
 
-        log.info("GET /api/interviews/answers/{}/feedback - accountId: {}", answerId, accountId);
+        log.info("GET /api/interviews/answers/{}/feedback - accountId: {}, status: {}",
+                answerId, accountId, feedbackResponse.status());
+
+        if (feedbackResponse.isProcessing()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(feedbackResponse.retryAfter()))
+                    .body(new ApiResponse<>(MESSAGE_FEEDBACK_PROCESSING, feedbackResponse));
+        }
 
         return ResponseEntity.ok(
                 new ApiResponse<>(MESSAGE_FEEDBACK_RETRIEVED, feedbackResponse)
         );
     }
+
+    @Operation(summary = "AI 피드백 스트리밍",
+            description = "AI 피드백 생성 과정을 SSE로 전달합니다. "
+                    + "이벤트: status(처리 상태), token(생성 중인 텍스트 조각), result(최종 피드백), error")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "스트림 시작"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "동시 스트림 수 초과")
+    })
+    @GetMapping(value = "/interviews/answers/{answerId}/feedback/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFeedback(
+            @AuthenticationPrincipal SecurityUserAccount principal,
+            @Parameter(description = "답변 ID", example = "1")
+            @PathVariable Long answerId
+    ) {
+        Long accountId = principal.getAccountId();
+
+        log.info("GET /api/interviews/answers/{}/feedback/stream - accountId: {}", answerId, accountId);
+
+        return feedbackStreamService.open(answerId, accountId);
+    }
 }
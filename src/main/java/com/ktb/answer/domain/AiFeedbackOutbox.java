@@ -0,0 +1,131 @@
+package com.ktb.answer.domain;
+
+import com.ktb.common.domain.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * AI 피드백 생성 작업 아웃박스
+ * 답변 제출 트랜잭션 안에서 함께 기록되고, 워커가 폴링하여 처리한다.
+ * 답변당 하나의 행을 유지하며 재시도 시 같은 행을 재예약한다.
+ */
+@Entity
+@Table(
+        name = "AI_FEEDBACK_OUTBOX",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_ai_feedback_outbox_answer", columnNames = "answer_id")
+        },
+        indexes = {
+                @Index(name = "idx_outbox_status_next_attempt", columnList = "outbox_status_cd, next_attempt_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class AiFeedbackOutbox extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_feedback_outbox_seq_gen")
+    @SequenceGenerator(name = "ai_feedback_outbox_seq_gen", sequenceName = "ai_feedback_outbox_seq", allocationSize = 50)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "answer_id", nullable = false)
+    private Long answerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outbox_status_cd", nullable = false, length = 20)
+    private AiFeedbackOutboxStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private AiFeedbackOutbox(Long answerId, LocalDateTime nextAttemptAt) {
+        this.answerId = answerId;
+        this.status = AiFeedbackOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static AiFeedbackOutbox create(Long answerId) {
+        return new AiFeedbackOutbox(answerId, LocalDateTime.now());
+    }
+
+    public boolean isPending() {
+        return this.status == AiFeedbackOutboxStatus.PENDING
+                || this.status == AiFeedbackOutboxStatus.IN_PROGRESS;
+    }
+
+    public void markDone() {
+        this.status = AiFeedbackOutboxStatus.DONE;
+        this.lockedAt = null;
+        this.lastError = null;
+    }
+
+    public void scheduleRetry(Duration backoff, String error) {
+        this.status = AiFeedbackOutboxStatus.PENDING;
+        this.lockedAt = null;
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 호출 보호가 AI 서버 호출 전에 거절한 경우 재예약
+     * 실제 시도가 아니므로 선점 시 늘린 시도 횟수를 되돌린다.
+     */
+    public void defer(Duration delay, String reason) {
+        this.status = AiFeedbackOutboxStatus.PENDING;
+        this.lockedAt = null;
+        this.attemptCount = Math.max(0, this.attemptCount - 1);
+        this.nextAttemptAt = LocalDateTime.now().plus(delay);
+        this.lastError = truncate(reason);
+    }
+
+    public void markDead(String error) {
+        this.status = AiFeedbackOutboxStatus.DEAD;
+        this.lockedAt = null;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 사용자 재시도 요청 시 즉시 처리되도록 재예약
+     */
+    public void rescheduleNow() {
+        this.status = AiFeedbackOutboxStatus.PENDING;
+        this.lockedAt = null;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ktb.answer.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AiFeedbackOutboxStatus {
+
+    PENDING("처리 대기"),
+
+    IN_PROGRESS("처리 중"),
+
+    DONE("처리 완료"),
+
+    DEAD("재시도 소진");
+
+    private final String description;
+}
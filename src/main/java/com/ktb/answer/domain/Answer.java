@@ -5,6 +5,7 @@ import com.ktb.answer.exception.AnswerRequiredTypeException;
 import com.ktb.answer.exception.InvalidAnswerStatusTransitionException;
 import com.ktb.auth.domain.UserAccount;
 import com.ktb.common.domain.BaseSoftDeleteEntity;
+import com.ktb.metric.domain.AnswerMetric;
 import com.ktb.question.domain.Question;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -17,7 +18,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -33,16 +41,18 @@ import lombok.ToString;
                 @Index(name = "idx_created_at", columnList = "created_at"),
                 @Index(name = "idx_deleted_at", columnList = "deleted_at"),
                 @Index(name = "idx_account_created", columnList = "account_id, created_at, deleted_at"),
-                @Index(name = "idx_status", columnList = "answer_status_cd")
+                @Index(name = "idx_status", columnList = "answer_status_cd"),
+                @Index(name = "idx_audio_file_id", columnList = "answer_audio_file_id")
         }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@ToString(exclude = {"question", "account"})
+@ToString(exclude = {"question", "account", "metrics"})
 public class Answer extends BaseSoftDeleteEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_seq_gen")
+    @SequenceGenerator(name = "answer_seq_gen", sequenceName = "answer_seq", allocationSize = 50)
     @Column(name = "answer_id")
     private Long id;
 
@@ -54,7 +64,7 @@ public class Answer extends BaseSoftDeleteEntity {
     @JoinColumn(name = "account_id", nullable = false)
     private UserAccount account;
 
-    @Column(name = "answer_content", nullable = false, length = 500)
+    @Column(name = "answer_content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
     @Enumerated(EnumType.STRING)
@@ -68,14 +78,45 @@ public class Answer extends BaseSoftDeleteEntity {
     @Column(name = "answer_ai_feedback", columnDefinition = "TEXT")
     private String aiFeedback;
 
+    /**
+     * AI 서버가 부적절한 답변(bad case)으로 판정했는지 여부
+     * true이면 aiFeedback에는 판정 안내 문구가 저장되고, 조회 시에도 실패 응답으로 돌려준다.
+     */
+    @Column(name = "answer_ai_feedback_bad_case", nullable = false)
+    private boolean aiFeedbackBadCase;
+
+    /**
+     * 음성 답변 원본 파일 ID (텍스트 답변이면 null)
+     */
+    @Column(name = "answer_audio_file_id")
+    private Long audioFileId;
+
+    /**
+     * STT 처리 선점 시각 (임대 시간이 지나면 다른 인스턴스가 다시 선점할 수 있다)
+     */
+    @Column(name = "answer_transcribe_locked_at")
+    private LocalDateTime transcribeLockedAt;
+
+    @Version
+    @Column(name = "answer_version", nullable = false)
+    private Long version;
+
+    /**
+     * AI 피드백 레이더 차트 지표 (조회 전용, 저장은 AnswerMetricRepository로 일괄 처리)
+     */
+    @OneToMany(mappedBy = "answer")
+    @OrderBy("id ASC")
+    private List<AnswerMetric> metrics = new ArrayList<>();
+
     @Builder
     private Answer(Question question, UserAccount account, String content,
-                   AnswerType type) {
+                   AnswerType type, Long audioFileId) {
         validateType(type);
         this.question = question;
         this.account = account;
         this.content = content;
         this.type = type;
+        this.audioFileId = audioFileId;
         this.status = AnswerStatus.SUBMITTED;
     }
 
@@ -88,6 +129,34 @@ public class Answer extends BaseSoftDeleteEntity {
                 .build();
     }
 
+    /**
+     * 음성 답변 생성 (TRANSCRIBING)
+     * 본문은 음성 변환이 끝나면 applyTranscript로 채운다.
+     */
+    public static Answer createAudio(Question question, UserAccount account, AnswerType type, Long audioFileId) {
+        Answer answer = Answer.builder()
+                .question(question)
+                .account(account)
+                .content("")
+                .type(type)
+                .audioFileId(audioFileId)
+                .build();
+        answer.transitionTo(AnswerStatus.TRANSCRIBING);
+        return answer;
+    }
+
+    /**
+     * 음성 변환 결과 반영 (TRANSCRIBING → IMMEDIATE_FEEDBACK_READY)
+     */
+    public void applyTranscript(String transcript) {
+        transitionTo(AnswerStatus.IMMEDIATE_FEEDBACK_READY);
+        this.content = transcript;
+    }
+
+    public boolean isAudio() {
+        return audioFileId != null;
+    }
+
     public void updateContent(String content) {
         this.content = content;
     }
@@ -99,9 +168,21 @@ public class Answer extends BaseSoftDeleteEntity {
         this.status = nextStatus;
     }
 
+    /**
+     * AI 피드백 반영 (AI_FEEDBACK_PROCESSING → COMPLETED)
+     */
     public void setAiFeedback(String feedback) {
+        transitionTo(AnswerStatus.COMPLETED);
         this.aiFeedback = feedback;
-        this.status = AnswerStatus.COMPLETED;
+    }
+
+    /**
+     * 부적절한 답변 판정 반영 (AI_FEEDBACK_PROCESSING → COMPLETED)
+     */
+    public void markBadCase(String failureMessage) {
+        transitionTo(AnswerStatus.COMPLETED);
+        this.aiFeedback = failureMessage;
+        this.aiFeedbackBadCase = true;
     }
 
     private void validateType(AnswerType type) {
@@ -0,0 +1,39 @@
+package com.ktb.answer.dto;
+
+import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerType;
+import com.ktb.question.domain.Question;
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.domain.QuestionType;
+
+/**
+ * AI 피드백 요청에 필요한 값의 스냅샷
+ * 트랜잭션 밖에서 LLM을 호출할 수 있도록 엔티티 대신 값만 보관한다.
+ */
+public record AiFeedbackRequestSnapshot(
+        Long answerId,
+        Long answerVersion,
+        Long accountId,
+        Long questionId,
+        QuestionType questionType,
+        QuestionCategory questionCategory,
+        AnswerType answerType,
+        String questionContent,
+        String answerContent
+) {
+
+    public static AiFeedbackRequestSnapshot from(Answer answer) {
+        Question question = answer.getQuestion();
+        return new AiFeedbackRequestSnapshot(
+                answer.getId(),
+                answer.getVersion(),
+                answer.getAccount().getId(),
+                question.getId(),
+                question.getType(),
+                question.getCategory(),
+                answer.getType(),
+                question.getContent(),
+                answer.getContent()
+        );
+    }
+}
@@ -10,8 +10,17 @@ import org.springframework.web.multipart.MultipartFile;
 public record AnswerSubmitCommand(
         @NotBlank Long questionId,
         @Size(max = MAX_ANSWER_TEXT_LENGTH) String answerText,
-        AnswerType answerType
+        AnswerType answerType,
+        Long audioFileId
 ) {
 
+    public AnswerSubmitCommand(Long questionId, String answerText, AnswerType answerType) {
+        this(questionId, answerText, answerType, null);
+    }
+
+    public boolean isAudio() {
+        return audioFileId != null;
+    }
+
     public static final int MAX_ANSWER_TEXT_LENGTH = 1_500;
 }
@@ -27,7 +27,7 @@ public record ImmediateFeedbackResult(List<KeywordCheckResult> keywords) {
         }
 
         List<KeywordCheck> results = keywords.stream()
-            .map(keyword -> new KeywordCheck(keyword.keyword(), keyword.included()))
+            .map(keyword -> new KeywordCheck(keyword.keyword(), keyword.included(), keyword.matchOffsets()))
             .collect(Collectors.toList());
 
         return new ImmediateFeedback(results);
@@ -1,8 +1,24 @@
 package com.ktb.answer.dto;
 
+import java.util.List;
+
+/**
+ * 키워드 포함 여부 결과
+ *
+ * @param matchOffsets 답변 원문 기준 키워드 시작 오프셋 목록 (미포함 시 빈 목록)
+ */
 public record KeywordCheckResult(
         Long keywordId,
         String keyword,
-        boolean included
+        boolean included,
+        List<Integer> matchOffsets
 ) {
+
+    public KeywordCheckResult(Long keywordId, String keyword, boolean included) {
+        this(keywordId, keyword, included, List.of());
+    }
+
+    public KeywordCheckResult {
+        matchOffsets = matchOffsets == null ? List.of() : List.copyOf(matchOffsets);
+    }
 }
@@ -2,7 +2,7 @@ package com.ktb.answer.dto.request;
 
 import com.ktb.answer.domain.AnswerType;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,9 +18,12 @@ public record AnswerSubmitRequest(
                 example = "프로세스는 실행 중인 프로그램의 인스턴스이며...",
                 maxLength = MAX_ANSWER_TEXT_LENGTH)
         @Size(max = MAX_ANSWER_TEXT_LENGTH, message = "답변 텍스트는 {max}자를 초과할 수 없습니다")
-        @NotBlank(message = "답변 내용은 필수입니다")
         String answerText,
 
+        @Schema(description = "음성 답변 파일 ID (Presigned URL로 업로드한 AUDIO 파일, 지정 시 음성 변환 결과가 답변 본문이 됨)",
+                example = "123")
+        Long audioFileId,
+
         @Schema(description = "답변 타입 (기본값: PRACTICE_INTERVIEW)",
                 example = "PRACTICE_INTERVIEW",
                 allowableValues = {"PRACTICE_INTERVIEW", "REAL_INTERVIEW", "PORTFOLIO_INTERVIEW"})
@@ -28,4 +31,9 @@ public record AnswerSubmitRequest(
 ) {
 
     public static final int MAX_ANSWER_TEXT_LENGTH = 1_500;
+
+    @AssertTrue(message = "답변 내용은 필수입니다")
+    public boolean isContentProvided() {
+        return audioFileId != null || (answerText != null && !answerText.isBlank());
+    }
 }
@@ -31,7 +31,10 @@ public record AnswerSubmitResponse(
             String keyword,
 
             @Schema(description = "답변에 포함 여부", example = "true")
-            boolean included
+            boolean included,
+
+            @Schema(description = "답변 내 키워드 시작 위치 목록 (하이라이트용)", example = "[12, 87]")
+            List<Integer> matchOffsets
     ) {
     }
 
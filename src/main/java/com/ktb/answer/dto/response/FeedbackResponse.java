@@ -47,11 +47,15 @@ public record FeedbackResponse(
     private static final int DEFAULT_RETRY_AFTER_SECONDS = 5;
 
     public static FeedbackResponse processing() {
+        return processing(DEFAULT_RETRY_AFTER_SECONDS);
+    }
+
+    public static FeedbackResponse processing(int retryAfterSeconds) {
         return new FeedbackResponse(
                 STATUS_PROCESSING,
                 null,
                 null,
-                DEFAULT_RETRY_AFTER_SECONDS
+                retryAfterSeconds
         );
     }
 
@@ -72,4 +76,17 @@ public record FeedbackResponse(
                 null
         );
     }
+
+    public static FeedbackResponse failedPermanently(String reason) {
+        return new FeedbackResponse(
+                STATUS_FAILED,
+                reason,
+                null,
+                null
+        );
+    }
+
+    public boolean isProcessing() {
+        return STATUS_PROCESSING.equals(status);
+    }
 }
@@ -0,0 +1,11 @@
+package com.ktb.answer.event;
+
+/**
+ * 음성 답변 제출 이벤트 (제출 트랜잭션 커밋 후 처리)
+ *
+ * @param answerId TRANSCRIBING 상태로 저장된 답변 ID
+ */
+public record AudioAnswerSubmittedEvent(
+        Long answerId
+) {
+}
@@ -0,0 +1,13 @@
+package com.ktb.answer.exception;
+
+import com.ktb.common.domain.ErrorCode;
+import com.ktb.common.exception.BusinessException;
+
+public class AnswerConcurrentModificationException extends BusinessException {
+
+    public AnswerConcurrentModificationException(Long answerId) {
+        super(ErrorCode.ANSWER_CONCURRENT_MODIFICATION,
+              String.format("%s: answerId=%d",
+                      ErrorCode.ANSWER_CONCURRENT_MODIFICATION.getMessage(), answerId));
+    }
+}
@@ -0,0 +1,266 @@
+package com.ktb.answer.pipeline;
+
+import com.ktb.ai.stt.exception.AudioNotFoundException;
+import com.ktb.ai.stt.exception.AudioTooLargeException;
+import com.ktb.ai.stt.exception.AudioTooLongException;
+import com.ktb.ai.stt.exception.AudioUnprocessableException;
+import com.ktb.ai.stt.service.SttService;
+import com.ktb.answer.config.AudioAnswerPipelineProperties;
+import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerStatus;
+import com.ktb.answer.event.AudioAnswerSubmittedEvent;
+import com.ktb.answer.exception.InvalidAnswerStatusTransitionException;
+import com.ktb.answer.repository.AnswerRepository;
+import com.ktb.answer.service.AnswerApplicationService;
+import com.ktb.common.exception.BusinessException;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileUploadStatus;
+import com.ktb.file.event.AudioUploadConfirmedEvent;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.file.service.FileContentHashService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 음성 답변 파이프라인
+ * 1) transcribe: 음성 파일 내용 해시(없을 때만) → STT 결과 캐시 조회 또는 STT 서버 호출 (TRANSCRIBING)
+ * 2) immediate: 변환 텍스트로 키워드 즉각 피드백 + 답변 저장 (→ IMMEDIATE_FEEDBACK_READY) + AI 피드백 아웃박스 등록
+ * 3) ai_feedback: 아웃박스 워커(AiFeedbackOutboxDispatcher)가 처리 (→ AI_FEEDBACK_PROCESSING → COMPLETED)
+ *
+ * 답변 제출과 업로드 확인 중 늦게 커밋된 쪽이 파이프라인을 시작한다.
+ * 큐는 메모리에만 있으므로 유실(재시작, 큐 초과, 과부하로 보류)된 답변은 스위퍼가 상태를 보고 다시 넣는다.
+ * 같은 답변이 여러 인스턴스에 들어가도 STT는 선점(answer_transcribe_locked_at)에 성공한 한 곳만 호출한다.
+ */
+@Slf4j
+@Component
+public class AudioAnswerPipeline {
+
+    static final String STAGE_TRANSCRIBE = "transcribe";
+    static final String STAGE_IMMEDIATE = "immediate";
+
+    private final AnswerRepository answerRepository;
+    private final FileRepository fileRepository;
+    private final SttService sttService;
+    private final FileContentHashService fileContentHashService;
+    private final AnswerApplicationService answerApplicationService;
+    private final AudioAnswerPipelineProperties properties;
+    private final TransactionTemplate readTransaction;
+    private final PipelineStage<Long> transcribeStage;
+    private final PipelineStage<Transcript> immediateStage;
+
+    // 이 인스턴스의 파이프라인에 들어가 있는 답변 (중복 투입 방지)
+    private final Set<Long> tracked = ConcurrentHashMap.newKeySet();
+
+    public AudioAnswerPipeline(
+            AnswerRepository answerRepository,
+            FileRepository fileRepository,
+            SttService sttService,
+            FileContentHashService fileContentHashService,
+            AnswerApplicationService answerApplicationService,
+            AudioAnswerPipelineProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.answerRepository = answerRepository;
+        this.fileRepository = fileRepository;
+        this.sttService = sttService;
+        this.fileContentHashService = fileContentHashService;
+        this.answerApplicationService = answerApplicationService;
+        this.properties = properties;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.transcribeStage = new PipelineStage<>(
+                STAGE_TRANSCRIBE,
+                properties.getTranscribe().getQueueCapacity(),
+                properties.getTranscribe().getConcurrency(),
+                this::transcribe,
+                meterRegistry
+        );
+        this.immediateStage = new PipelineStage<>(
+                STAGE_IMMEDIATE,
+                properties.getImmediate().getQueueCapacity(),
+                properties.getImmediate().getConcurrency(),
+                this::applyTranscript,
+                meterRegistry
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAudioAnswerSubmitted(AudioAnswerSubmittedEvent event) {
+        submit(event.answerId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAudioUploadConfirmed(AudioUploadConfirmedEvent event) {
+        answerRepository.findIdsByAudioFileIdAndStatus(event.fileId(), AnswerStatus.TRANSCRIBING)
+                .forEach(this::submit);
+    }
+
+    /**
+     * 답변을 STT 단계 큐에 넣는다. 큐가 가득 차면 거절하고 스위퍼에 맡긴다.
+     *
+     * @return 투입 여부 (이미 진행 중이거나 큐가 가득 찬 경우 false)
+     */
+    public boolean submit(Long answerId) {
+        if (!properties.isEnabled() || !tracked.add(answerId)) {
+            return false;
+        }
+        if (!transcribeStage.offer(answerId)) {
+            tracked.remove(answerId);
+            log.warn("Audio pipeline queue full, deferred to sweeper - answerId: {}", answerId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 유실 복구: 오래 머문 TRANSCRIBING 답변을 다시 넣고, 한도를 넘긴 답변은 FAILED 처리
+     */
+    @Scheduled(fixedDelayString = "${answer.audio-pipeline.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        answerRepository.findExpiredTranscribingIds(
+                AnswerStatus.TRANSCRIBING,
+                now.minus(properties.getMaxTranscribingAge()),
+                now.minus(properties.getStaleAfter()),
+                PageRequest.of(0, properties.getSweepBatchSize())
+        ).forEach(answerId -> answerApplicationService.failTranscription(answerId, "transcription expired"));
+
+        int capacity = Math.min(transcribeStage.remainingCapacity(), properties.getSweepBatchSize());
+        if (capacity <= 0) {
+            return;
+        }
+
+        int resubmitted = 0;
+        for (Long answerId : answerRepository.findStaleTranscribingIds(
+                AnswerStatus.TRANSCRIBING,
+                now.minus(properties.getStaleAfter()),
+                PageRequest.of(0, capacity))) {
+            if (submit(answerId)) {
+                resubmitted++;
+            }
+        }
+        if (resubmitted > 0) {
+            log.info("Audio pipeline resubmitted stale answers: {}", resubmitted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transcribeStage.close();
+        immediateStage.close();
+    }
+
+    /**
+     * 1단계: 업로드가 확인된 음성 파일을 STT로 변환해 다음 단계로 넘긴다.
+     * 조건부 UPDATE로 선점한 인스턴스만 STT를 호출하고, 선점은 stale-after 동안 유지된다.
+     * 내용 해시는 업로드 확인 요청이 아니라 여기서(트랜잭션 밖) 계산해 STT 결과 캐시 키로 쓴다.
+     * 오디오 자체의 문제(없음/손상/길이·크기 초과)만 FAILED 처리하고, 과부하·일시 오류는 임대를 단축해 스위퍼가 곧 재시도한다.
+     */
+    private void transcribe(Long answerId) {
+        boolean handedOff = false;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (answerRepository.claimTranscription(
+                    answerId, AnswerStatus.TRANSCRIBING, now, now.minus(properties.getStaleAfter())) == 0) {
+                log.debug("Transcription already claimed - answerId: {}", answerId);
+                return;
+            }
+
+            TranscriptionTarget target = readTransaction.execute(status -> loadTarget(answerId));
+            if (target == null) {
+                // 업로드 확인 시점에 다시 선점할 수 있도록 해제
+                answerRepository.releaseTranscription(answerId);
+                return;
+            }
+
+            String contentHash = target.contentHash() != null
+                    ? target.contentHash()
+                    : fileContentHashService.ensureContentHash(target.fileId());
+            String transcript = sttService.convertToText(
+                    target.accountId(), null, target.audioUrl(), target.audioSizeBytes(), contentHash);
+
+            handedOff = immediateStage.put(new Transcript(answerId, transcript), properties.getHandoffTimeout());
+            if (!handedOff) {
+                log.warn("Immediate feedback queue full, deferred to sweeper - answerId: {}", answerId);
+            }
+        } catch (AudioNotFoundException | AudioUnprocessableException
+                 | AudioTooLongException | AudioTooLargeException e) {
+            answerApplicationService.failTranscription(answerId, e.getMessage());
+        } catch (BusinessException e) {
+            // 임대를 transient-retry-delay만 남기고 단축해 다음 스위퍼 주기에 다시 선점되게 한다
+            answerRepository.shortenTranscriptionLease(answerId, LocalDateTime.now()
+                    .minus(properties.getStaleAfter())
+                    .plus(properties.getTransientRetryDelay()));
+            log.warn("Transcription deferred - answerId: {}, reason: {}", answerId, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!handedOff) {
+                tracked.remove(answerId);
+            }
+        }
+    }
+
+    /**
+     * 2단계: 변환 텍스트 저장 + 즉각 피드백 + AI 피드백 아웃박스 등록 (한 트랜잭션)
+     * 저장할 수 없는 변환 결과는 재시도해도 같으므로 FAILED 처리한다.
+     */
+    private void applyTranscript(Transcript transcript) {
+        try {
+            answerApplicationService.applyTranscript(transcript.answerId(), transcript.text());
+        } catch (InvalidAnswerStatusTransitionException e) {
+            // 다른 인스턴스가 먼저 반영한 경우
+            log.debug("Transcript already applied - answerId: {}", transcript.answerId());
+        } catch (DataIntegrityViolationException e) {
+            log.error("Transcript could not be saved - answerId: {}", transcript.answerId(), e);
+            answerApplicationService.failTranscription(transcript.answerId(), "transcript could not be saved");
+        } finally {
+            tracked.remove(transcript.answerId());
+        }
+    }
+
+    private TranscriptionTarget loadTarget(Long answerId) {
+        Answer answer = answerRepository.findById(answerId).orElse(null);
+        if (answer == null || answer.getStatus() != AnswerStatus.TRANSCRIBING || !answer.isAudio()) {
+            return null;
+        }
+
+        File audioFile = fileRepository.findById(answer.getAudioFileId()).orElse(null);
+        if (audioFile == null || audioFile.getUploadStatus() != FileUploadStatus.UPLOADED) {
+            // 업로드 확인 전: confirmUpload 시점에 다시 들어온다
+            return null;
+        }
+
+        return new TranscriptionTarget(
+                answer.getAccount().getId(),
+                audioFile.getId(),
+                audioFile.getUrl(),
+                audioFile.getSize(),
+                audioFile.getHash()
+        );
+    }
+
+    private record TranscriptionTarget(
+            Long accountId, Long fileId, String audioUrl, long audioSizeBytes, String contentHash) {
+    }
+
+    private record Transcript(Long answerId, String text) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.ktb.answer.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파이프라인 단계: 크기가 제한된 큐 + 고정 수의 가상 스레드 워커
+ * 단계마다 큐 깊이, 처리 중 건수, 큐 대기 시간과 처리 시간 히스토그램을 stage 태그로 기록한다.
+ * 처리 중 예외는 단계가 삼키므로 상태 전이/재시도는 handler가 책임진다.
+ */
+@Slf4j
+public class PipelineStage<T> implements AutoCloseable {
+
+    public static final String METRIC_QUEUE_DEPTH = "answer.pipeline.queue.depth";
+    public static final String METRIC_INFLIGHT = "answer.pipeline.inflight";
+    public static final String METRIC_CONCURRENCY_LIMIT = "answer.pipeline.concurrency.limit";
+    public static final String METRIC_QUEUE_WAIT = "answer.pipeline.queue.wait";
+    public static final String METRIC_STAGE_DURATION = "answer.pipeline.stage.duration";
+    public static final String METRIC_REJECTED = "answer.pipeline.rejected";
+    public static final String TAG_STAGE = "stage";
+    public static final String TAG_OUTCOME = "outcome";
+
+    private final String name;
+    private final BlockingQueue<Queued<T>> queue;
+    private final Consumer<T> handler;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rejectedCounter;
+    private final List<Thread> workers;
+
+    private volatile boolean running = true;
+
+    public PipelineStage(String name, int queueCapacity, int concurrency, Consumer<T> handler,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.handler = handler;
+
+        Gauge.builder(METRIC_QUEUE_DEPTH, queue, BlockingQueue::size)
+                .tag(TAG_STAGE, name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_INFLIGHT, inFlight, AtomicInteger::get)
+                .tag(TAG_STAGE, name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_CONCURRENCY_LIMIT, () -> concurrency)
+                .tag(TAG_STAGE, name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder(METRIC_QUEUE_WAIT)
+                .tag(TAG_STAGE, name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.successTimer = durationTimer(meterRegistry, name, "success");
+        this.failureTimer = durationTimer(meterRegistry, name, "failure");
+        this.rejectedCounter = Counter.builder(METRIC_REJECTED)
+                .tag(TAG_STAGE, name)
+                .register(meterRegistry);
+
+        this.workers = IntStream.range(0, concurrency)
+                .mapToObj(i -> Thread.ofVirtual()
+                        .name("pipeline-" + name + "-" + i)
+                        .start(this::work))
+                .toList();
+    }
+
+    /**
+     * 단계 처리 시간 타이머 (파이프라인 밖에서 처리되는 단계도 같은 이름으로 기록하기 위해 공개)
+     */
+    public static Timer durationTimer(MeterRegistry meterRegistry, String stage, String outcome) {
+        return Timer.builder(METRIC_STAGE_DURATION)
+                .tag(TAG_STAGE, stage)
+                .tag(TAG_OUTCOME, outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 파이프라인 진입용: 큐가 가득 차 있으면 기다리지 않고 false
+     */
+    public boolean offer(T item) {
+        if (!running || !queue.offer(new Queued<>(item, System.nanoTime()))) {
+            rejectedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 단계 간 전달용: 큐에 자리가 날 때까지 최대 timeout 동안 기다린다 (역압)
+     */
+    public boolean put(T item, Duration timeout) throws InterruptedException {
+        if (!running || !queue.offer(new Queued<>(item, System.nanoTime()), timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            rejectedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    private void work() {
+        while (running) {
+            Queued<T> queued;
+            try {
+                queued = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - queued.enqueuedAt(), TimeUnit.NANOSECONDS);
+            inFlight.incrementAndGet();
+            try {
+                handler.accept(queued.item());
+                successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                log.error("Pipeline stage failed - stage: {}, item: {}", name, queued.item(), e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 워커를 중단한다. 큐에 남은 항목은 버려지며, 상태 기반 복구(스위퍼)가 다시 넣는다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    private record Queued<T>(T item, long enqueuedAt) {
+    }
+}
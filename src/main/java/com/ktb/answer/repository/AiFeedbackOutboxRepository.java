@@ -0,0 +1,79 @@
+package com.ktb.answer.repository;
+
+import com.ktb.answer.domain.AiFeedbackOutbox;
+import com.ktb.answer.domain.AiFeedbackOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface AiFeedbackOutboxRepository extends JpaRepository<AiFeedbackOutbox, Long> {
+
+    Optional<AiFeedbackOutbox> findByAnswerId(Long answerId);
+
+    /**
+     * 처리 가능한 아웃박스 조회 (PENDING + 재시도 시각 도래)
+     * 정렬: next_attempt_at ASC, outbox_id ASC
+     */
+    @Query("""
+            SELECT o FROM AiFeedbackOutbox o
+            WHERE o.status = :status
+            AND o.nextAttemptAt <= :now
+            ORDER BY o.nextAttemptAt ASC, o.id ASC
+            """)
+    List<AiFeedbackOutbox> findDispatchable(
+            @Param("status") AiFeedbackOutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 처리 대기 중인 아웃박스 수 (파이프라인 ai_feedback 단계 큐 깊이)
+     */
+    long countByStatusAndNextAttemptAtLessThanEqual(AiFeedbackOutboxStatus status, LocalDateTime now);
+
+    /**
+     * 아웃박스 선점 (조건부 UPDATE)
+     * 여러 인스턴스가 동시에 폴링해도 PENDING → IN_PROGRESS 전이는 한 곳에서만 성공한다.
+     *
+     * @return 선점 성공 시 1, 이미 다른 워커가 선점한 경우 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE AiFeedbackOutbox o
+            SET o.status = :claimed, o.lockedAt = :now, o.attemptCount = o.attemptCount + 1
+            WHERE o.id = :id
+            AND o.status = :pending
+            """)
+    int claim(
+            @Param("id") Long id,
+            @Param("pending") AiFeedbackOutboxStatus pending,
+            @Param("claimed") AiFeedbackOutboxStatus claimed,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 임대 시간이 지난 IN_PROGRESS 아웃박스를 PENDING으로 복구 (워커 비정상 종료 대비)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE AiFeedbackOutbox o
+            SET o.status = :pending, o.lockedAt = NULL
+            WHERE o.status = :claimed
+            AND o.lockedAt < :staleBefore
+            """)
+    int releaseStale(
+            @Param("pending") AiFeedbackOutboxStatus pending,
+            @Param("claimed") AiFeedbackOutboxStatus claimed,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+}
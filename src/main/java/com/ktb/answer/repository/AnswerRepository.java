@@ -1,15 +1,19 @@
 package com.ktb.answer.repository;
 
 import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerStatus;
 import com.ktb.answer.domain.AnswerType;
 import com.ktb.question.domain.QuestionCategory;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
@@ -53,6 +57,128 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
             """)
     Answer findByIdWithQuestion(@Param("answerId") Long answerId);
 
+    /**
+     * 답변 + 질문 + 저장된 피드백 지표 단일 조회 (피드백 조회용)
+     */
+    @Query("""
+            SELECT DISTINCT a FROM Answer a
+            JOIN FETCH a.question
+            LEFT JOIN FETCH a.metrics am
+            LEFT JOIN FETCH am.metric
+            WHERE a.id = :answerId
+            AND a.deletedAt IS NULL
+            """)
+    Answer findByIdWithQuestionAndMetrics(@Param("answerId") Long answerId);
+
+    /**
+     * 답변 상태만 조회 (스트림이 다른 인스턴스의 워커 결과를 기다리는 동안 주기적으로 확인)
+     */
+    @Query("""
+            SELECT a.status FROM Answer a
+            WHERE a.id = :answerId
+            AND a.deletedAt IS NULL
+            """)
+    AnswerStatus findStatusById(@Param("answerId") Long answerId);
+
+    /**
+     * 음성 파일로 답변 ID 조회 (업로드 확인 시 변환 대기 답변 탐색)
+     */
+    @Query("""
+            SELECT a.id FROM Answer a
+            WHERE a.audioFileId = :audioFileId
+            AND a.status = :status
+            AND a.deletedAt IS NULL
+            """)
+    List<Long> findIdsByAudioFileIdAndStatus(
+            @Param("audioFileId") Long audioFileId,
+            @Param("status") AnswerStatus status
+    );
+
+    /**
+     * 변환 대기 한도를 넘긴 답변 ID 조회 (FAILED 처리 대상)
+     * 선점 UPDATE는 updatedAt을 바꾸지 않으므로, STT 호출 중인(임대가 살아 있는) 답변은 제외한다.
+     */
+    @Query("""
+            SELECT a.id FROM Answer a
+            WHERE a.status = :status
+            AND a.updatedAt < :updatedBefore
+            AND (a.transcribeLockedAt IS NULL OR a.transcribeLockedAt < :staleBefore)
+            AND a.deletedAt IS NULL
+            ORDER BY a.id ASC
+            """)
+    List<Long> findExpiredTranscribingIds(
+            @Param("status") AnswerStatus status,
+            @Param("updatedBefore") LocalDateTime updatedBefore,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            Pageable pageable
+    );
+
+    /**
+     * 다시 STT에 넣을 변환 대기 답변 ID 조회 (파이프라인 유실 복구용)
+     * 선점된 적 없이 오래 머문 답변과 선점 임대 시간이 지난 답변이 대상이다.
+     */
+    @Query("""
+            SELECT a.id FROM Answer a
+            WHERE a.status = :status
+            AND ((a.transcribeLockedAt IS NULL AND a.updatedAt < :staleBefore)
+                 OR a.transcribeLockedAt < :staleBefore)
+            AND a.deletedAt IS NULL
+            ORDER BY a.id ASC
+            """)
+    List<Long> findStaleTranscribingIds(
+            @Param("status") AnswerStatus status,
+            @Param("staleBefore") LocalDateTime staleBefore,
+            Pageable pageable
+    );
+
+    /**
+     * STT 처리 선점 (조건부 UPDATE)
+     * 여러 인스턴스가 같은 답변을 넣어도 임대 시간 안에는 한 곳만 STT를 호출한다.
+     *
+     * @return 선점 성공 시 1, 다른 인스턴스가 임대 중이거나 변환 대기 상태가 아니면 0
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Answer a
+            SET a.transcribeLockedAt = :now
+            WHERE a.id = :answerId
+            AND a.status = :status
+            AND (a.transcribeLockedAt IS NULL OR a.transcribeLockedAt < :staleBefore)
+            """)
+    int claimTranscription(
+            @Param("answerId") Long answerId,
+            @Param("status") AnswerStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("staleBefore") LocalDateTime staleBefore
+    );
+
+    /**
+     * STT 선점 해제 (업로드 확인 전이라 변환할 수 없는 경우)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Answer a
+            SET a.transcribeLockedAt = NULL
+            WHERE a.id = :answerId
+            """)
+    int releaseTranscription(@Param("answerId") Long answerId);
+
+    /**
+     * STT 선점 임대 단축 (과부하·일시 오류로 변환하지 못한 경우)
+     * 임대 만료 시각을 앞당겨 스위퍼가 stale-after 전체를 기다리지 않고 다시 선점하게 한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Answer a
+            SET a.transcribeLockedAt = :lockedAt
+            WHERE a.id = :answerId
+            AND a.transcribeLockedAt IS NOT NULL
+            """)
+    int shortenTranscriptionLease(@Param("answerId") Long answerId, @Param("lockedAt") LocalDateTime lockedAt);
+
     /**
      * 세션 내 중복 답변 체크
      * TODO: ANSWER_SESSION 엔티티 구현 후 활성화
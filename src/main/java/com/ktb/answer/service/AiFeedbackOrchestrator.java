@@ -5,29 +5,54 @@ import com.ktb.answer.dto.response.FeedbackResponse;
 
 /**
  * AI 피드백 오케스트레이터 인터페이스
- * 비동기 AI 피드백 생성 파이프라인 관리 (Kafka 이벤트 기반)
+ * 비동기 AI 피드백 생성 파이프라인 관리 (아웃박스 + 워커 기반)
  */
 public interface AiFeedbackOrchestrator {
 
     /**
-     * AI 피드백 동기 조회 (FastAPI 서버 호출)
+     * AI 피드백 스트리밍 조회
+     * 제출 시 등록된 아웃박스 작업의 결과를 기다리며 진행 상태를 listener로 전달한다.
+     * 같은 인스턴스의 워커가 처리 중이면 생성 중인 텍스트 조각도 전달된다.
      *
      * @param answerId 답변 ID
      * @param accountId 유저 ID
-     * @return AI 피드백 응답
+     * @param listener 진행 상황 수신자
+     * @return 최종 AI 피드백 응답 (대기 시간 초과 시 PROCESSING)
      * @throws com.ktb.answer.exception.AnswerNotFoundException  답변을 찾을 수 없는 경우
-     * @throws com.ktb.ai.feedback.exception.AiFeedbackServiceException FastAPI 서버 호출 실패 시
+     * @throws com.ktb.answer.exception.AnswerAccessDeniedException 본인 답변이 아닌 경우
+     * @throws com.ktb.answer.exception.InvalidAnswerStatusTransitionException FAILED, TRANSCRIBING 상태인 경우
      */
-    FeedbackResponse getFeedbackSync(Long answerId, Long accountId);
+    FeedbackResponse streamFeedback(Long answerId, Long accountId, FeedbackStreamListener listener);
 
     /**
-     * AI 피드백 생성 이벤트 발행 (Kafka)
+     * AI 피드백 조회 (논블로킹)
+     * 처리 중이면 PROCESSING 응답을 즉시 반환하고, 아직 요청되지 않은 답변은 큐에 등록한다.
+     *
+     * @param answerId 답변 ID
+     * @param accountId 유저 ID
+     * @return 상태별 AI 피드백 응답
+     * @throws com.ktb.answer.exception.AnswerNotFoundException  답변을 찾을 수 없는 경우
+     * @throws com.ktb.answer.exception.AnswerAccessDeniedException 본인 답변이 아닌 경우
+     */
+    FeedbackResponse getFeedback(Long answerId, Long accountId);
+
+    /**
+     * AI 피드백 생성 작업 등록 (아웃박스 기록)
+     * 호출한 트랜잭션에 참여하므로 답변 저장과 원자적으로 커밋된다.
      *
      * @param answerId 피드백 생성 대상 답변 ID
-     * @throws RuntimeException 이벤트 발행에 실패한 경우
+     * @throws com.ktb.answer.exception.AnswerNotFoundException 답변을 찾을 수 없는 경우
      */
     void enqueue(Long answerId);
 
+    /**
+     * 선점된 아웃박스 작업 처리 (워커 전용)
+     * LLM 호출 동안에는 트랜잭션(DB 커넥션)을 점유하지 않는다.
+     *
+     * @param outboxId 선점된 아웃박스 ID
+     */
+    void process(Long outboxId);
+
     /**
      * 피드백 처리 상태 조회
      *
@@ -40,7 +65,7 @@ public interface AiFeedbackOrchestrator {
      * 피드백 재시도 요청
      *
      * @param answerId 답변 ID
-     * @throws RuntimeException 재시도가 허용되지 않는 경우
+     * @throws com.ktb.answer.exception.InvalidAnswerStatusTransitionException FAILED_RETRYABLE 상태가 아닌 경우
      */
     void requestRetry(Long answerId);
 }
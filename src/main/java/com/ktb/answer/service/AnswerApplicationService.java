@@ -6,6 +6,7 @@ import com.ktb.answer.dto.AnswerDetailResult;
 import com.ktb.answer.dto.AnswerSubmitCommand;
 import com.ktb.answer.dto.AnswerSubmitResult;
 import com.ktb.answer.dto.FeedbackResult;
+import com.ktb.answer.dto.ImmediateFeedbackResult;
 import com.ktb.answer.exception.AnswerAccessDeniedException;
 import com.ktb.answer.exception.AnswerNotFoundException;
 import com.ktb.file.exception.FileAlreadyDeletedException;
@@ -67,6 +68,26 @@ public interface AnswerApplicationService {
             FileSizeExceededException, FileExtensionNotAllowedException,
             FileNotFoundException, FileAlreadyDeletedException, FileStorageMigrationException;
 
+    /**
+     * 음성 변환 결과 반영 (음성 답변 파이프라인 전용)
+     * 변환 텍스트로 즉각 피드백(키워드 체크)을 만들고 AI 피드백 아웃박스에 등록한다.
+     *
+     * @param answerId   TRANSCRIBING 상태의 답변 ID
+     * @param transcript 음성 변환 텍스트
+     * @return 즉각 피드백 결과
+     * @throws AnswerNotFoundException 답변이 존재하지 않는 경우
+     * @throws com.ktb.answer.exception.InvalidAnswerStatusTransitionException TRANSCRIBING 상태가 아닌 경우
+     */
+    ImmediateFeedbackResult applyTranscript(Long answerId, String transcript);
+
+    /**
+     * 음성 변환 실패 처리 (TRANSCRIBING → FAILED, 음성 답변 파이프라인 전용)
+     *
+     * @param answerId 답변 ID
+     * @param reason   실패 사유
+     */
+    void failTranscription(Long answerId, String reason);
+
     /**
      * 세션 기반 답변 제출 (실전 모드)
      *
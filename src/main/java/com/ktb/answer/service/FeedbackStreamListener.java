@@ -0,0 +1,30 @@
+package com.ktb.answer.service;
+
+import com.ktb.answer.dto.FeedbackStatus;
+
+/**
+ * AI 피드백 생성 진행 상황 수신자 (SSE 스트리밍용)
+ * AI 서버 호출 스레드에서 호출되므로 오래 블로킹하지 않아야 한다.
+ */
+public interface FeedbackStreamListener {
+
+    FeedbackStreamListener NOOP = new FeedbackStreamListener() {
+        @Override
+        public void onStatus(FeedbackStatus status) {
+        }
+
+        @Override
+        public void onToken(String token) {
+        }
+    };
+
+    /**
+     * 처리 상태 변경 (AI 서버가 스트리밍을 지원하지 않으면 상태 변경만 전달된다)
+     */
+    void onStatus(FeedbackStatus status);
+
+    /**
+     * AI 서버가 생성 중인 피드백 텍스트 조각
+     */
+    void onToken(String token);
+}
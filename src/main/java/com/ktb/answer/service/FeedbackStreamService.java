@@ -0,0 +1,20 @@
+package com.ktb.answer.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * AI 피드백 SSE 스트리밍 서비스
+ */
+public interface FeedbackStreamService {
+
+    /**
+     * 피드백 스트림 시작
+     * 이벤트: status(처리 상태) → token(생성 텍스트 조각, AI 서버가 스트리밍을 지원할 때) → result(최종 피드백) 또는 error
+     *
+     * @param answerId 답변 ID
+     * @param accountId 유저 ID
+     * @return 요청 스레드를 점유하지 않는 SSE emitter
+     * @throws com.ktb.ai.common.exception.AiServiceOverloadedException 동시 스트림 수를 초과한 경우
+     */
+    SseEmitter open(Long answerId, Long accountId);
+}
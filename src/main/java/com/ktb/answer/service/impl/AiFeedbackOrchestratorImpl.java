@@ -1,93 +1,302 @@
 package com.ktb.answer.service.impl;
 
+import com.ktb.ai.common.exception.AiServiceOverloadedException;
 import com.ktb.ai.feedback.dto.response.AiFeedbackBadCaseFeedback;
 import com.ktb.ai.feedback.dto.response.AiFeedbackResponse;
 import com.ktb.ai.feedback.dto.response.AiFeedbackFeedback;
 import com.ktb.ai.feedback.dto.response.AiFeedbackMetric;
 import com.ktb.ai.feedback.dto.response.BadCaseType;
 import com.ktb.ai.feedback.service.AiFeedbackService;
+import com.ktb.answer.config.AiFeedbackWorkerProperties;
+import com.ktb.answer.domain.AiFeedbackOutbox;
+import com.ktb.answer.domain.AiFeedbackOutboxStatus;
+import com.ktb.common.domain.ErrorCode;
 import com.ktb.common.dto.ApiResponse;
 import com.ktb.answer.domain.Answer;
 import com.ktb.answer.domain.AnswerStatus;
+import com.ktb.answer.dto.AiFeedbackRequestSnapshot;
 import com.ktb.answer.dto.FeedbackStatus;
 import com.ktb.answer.dto.response.FeedbackResponse;
 import com.ktb.answer.exception.AnswerAccessDeniedException;
+import com.ktb.answer.exception.AnswerConcurrentModificationException;
 import com.ktb.answer.exception.AnswerNotFoundException;
+import com.ktb.answer.exception.InvalidAnswerStatusTransitionException;
+import com.ktb.answer.repository.AiFeedbackOutboxRepository;
 import com.ktb.answer.repository.AnswerRepository;
 import com.ktb.answer.service.AiFeedbackOrchestrator;
-import com.ktb.auth.domain.UserAccount;
-import com.ktb.question.domain.Question;
+import com.ktb.answer.service.FeedbackStreamListener;
+import com.ktb.common.exception.BusinessException;
+import com.ktb.metric.cache.MetricIdCache;
+import com.ktb.metric.domain.AnswerMetric;
+import com.ktb.metric.repository.AnswerMetricRepository;
+import com.ktb.metric.repository.MetricRepository;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AiFeedbackOrchestratorImpl implements AiFeedbackOrchestrator {
 
+    private static final int RADAR_MAX_SCORE = 5;
+    private static final String FEEDBACK_FAILED_MESSAGE = "AI 피드백 생성에 실패했습니다. 잠시 후 다시 답변을 제출해주세요.";
+    private static final Set<ErrorCode> NON_RETRYABLE_ERROR_CODES = EnumSet.of(
+            ErrorCode.AI_FEEDBACK_EMPTY_QUESTION,
+            ErrorCode.AI_FEEDBACK_EMPTY_ANSWER,
+            ErrorCode.AI_FEEDBACK_ANSWER_TOO_SHORT,
+            ErrorCode.AI_FEEDBACK_ANSWER_TOO_LONG
+    );
+
     private final AnswerRepository answerRepository;
+    private final AiFeedbackOutboxRepository outboxRepository;
     private final AiFeedbackService aiFeedbackService;
+    private final AiFeedbackWorkerProperties workerProperties;
+    private final AnswerMetricRepository answerMetricRepository;
+    private final MetricRepository metricRepository;
+    private final MetricIdCache metricIdCache;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    // 이 인스턴스의 워커가 처리 중인 답변별 생성 결과 중계 (스트리밍 구독용)
+    private final ConcurrentMap<Long, FeedbackRelay> relays = new ConcurrentHashMap<>();
+
+    public AiFeedbackOrchestratorImpl(
+            AnswerRepository answerRepository,
+            AiFeedbackOutboxRepository outboxRepository,
+            AiFeedbackService aiFeedbackService,
+            AiFeedbackWorkerProperties workerProperties,
+            AnswerMetricRepository answerMetricRepository,
+            MetricRepository metricRepository,
+            MetricIdCache metricIdCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.answerRepository = answerRepository;
+        this.outboxRepository = outboxRepository;
+        this.aiFeedbackService = aiFeedbackService;
+        this.workerProperties = workerProperties;
+        this.answerMetricRepository = answerMetricRepository;
+        this.metricRepository = metricRepository;
+        this.metricIdCache = metricIdCache;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
 
+    /**
+     * AI 서버 호출은 제출 시 등록된 아웃박스 워커만 수행하고, 스트림은 그 결과를 구독한다.
+     * 같은 인스턴스의 워커가 처리 중이면 생성 중인 텍스트 조각을 중계받고,
+     * 다른 인스턴스에서 처리 중이면 저장된 상태를 주기적으로 확인한다.
+     */
     @Override
-    @Transactional
-    public FeedbackResponse getFeedbackSync(Long answerId, Long accountId) {
-        log.info("Getting AI feedback synchronously for answerId: {}", answerId);
+    public FeedbackResponse streamFeedback(Long answerId, Long accountId, FeedbackStreamListener listener) {
+        FeedbackResponse persisted = writeTransaction.execute(status -> prepareStream(answerId, accountId));
+        if (persisted != null) {
+            log.info("Returning persisted AI feedback for answerId: {}", answerId);
+            return persisted;
+        }
 
-        Answer answer = answerRepository.findById(answerId)
-            .orElseThrow(() -> new AnswerNotFoundException(answerId));
+        listener.onStatus(FeedbackStatus.PROCESSING);
+        return awaitWorkerResult(answerId, listener);
+    }
 
-        Question question = answer.getQuestion();
-        UserAccount account = answer.getAccount();
+    /**
+     * 스트림 시작 전 답변 상태 확인
+     * 완료된 답변은 저장된 피드백을 반환하고, 아직 등록되지 않은 답변은 아웃박스에 등록한다.
+     */
+    private FeedbackResponse prepareStream(Long answerId, Long accountId) {
+        Answer answer = answerRepository.findByIdWithQuestionAndMetrics(answerId);
+        if (answer == null) {
+            throw new AnswerNotFoundException(answerId);
+        }
 
         validateAnswerOwner(answer.getAccount().getId(), accountId, answerId);
 
-        log.debug("Answer found - answerId: {}, questionId: {}, userId: {}",
-                answerId, question.getId(), account.getId());
+        return switch (answer.getStatus()) {
+            case COMPLETED -> toPersistedResponse(answer);
+            case FAILED, TRANSCRIBING ->
+                    throw new InvalidAnswerStatusTransitionException(answer.getStatus(), AnswerStatus.AI_FEEDBACK_PROCESSING);
+            case SUBMITTED, IMMEDIATE_FEEDBACK_READY -> {
+                enqueue(answerId);
+                yield null;
+            }
+            default -> null;
+        };
+    }
 
-        ApiResponse<AiFeedbackResponse> apiResponse = getAiFeedback(account, question, answer);
+    /**
+     * 같은 인스턴스의 워커가 처리 중이면 중계 완료를 기다리고(DB 조회 없음),
+     * 아니면 상태 컬럼만 주기적으로 확인한 뒤 종료 상태가 되었을 때 한 번만 피드백과 지표를 조회한다.
+     * 스트림이 취소되면(인터럽트) 즉시 대기를 멈춘다.
+     */
+    private FeedbackResponse awaitWorkerResult(Long answerId, FeedbackStreamListener listener) {
+        long deadline = System.nanoTime() + workerProperties.getResultWaitTimeout().toNanos();
+        FeedbackRelay subscribed = null;
+
+        try {
+            while (true) {
+                if (subscribed != null && subscribed.result() != null) {
+                    return subscribed.result();
+                }
+
+                FeedbackRelay relay = relays.get(answerId);
+                if (relay != subscribed) {
+                    if (subscribed != null) {
+                        subscribed.unsubscribe(listener);
+                    }
+                    if (relay != null) {
+                        relay.subscribe(listener);
+                    }
+                    subscribed = relay;
+                }
+
+                if (relay == null || relay.isDone()) {
+                    FeedbackResponse terminal = findTerminalResponse(answerId);
+                    if (terminal != null) {
+                        return terminal;
+                    }
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    log.info("AI feedback still processing after wait timeout - answerId: {}", answerId);
+                    return FeedbackResponse.processing(workerProperties.getRetryAfterSeconds());
+                }
+
+                if (relay != null && !relay.isDone()) {
+                    relay.await(remaining);
+                } else {
+                    TimeUnit.NANOSECONDS.sleep(Math.min(remaining, workerProperties.getResultPollInterval().toNanos()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("AI feedback stream wait cancelled - answerId: {}", answerId);
+            return FeedbackResponse.processing(workerProperties.getRetryAfterSeconds());
+        } finally {
+            if (subscribed != null) {
+                subscribed.unsubscribe(listener);
+            }
+        }
+    }
 
-        FeedbackResponse response = isBadCase(apiResponse)
-                ? handleBadCaseResponse(answer, apiResponse)
-                : handleSuccessResponse(answer, apiResponse);
+    /**
+     * 저장된 최종 결과 조회 (FAILED_RETRYABLE은 워커가 재시도하므로 계속 기다린다)
+     * 대기 중에는 상태 컬럼만 읽고, 종료 상태일 때만 피드백과 지표를 함께 조회한다.
+     */
+    private FeedbackResponse findTerminalResponse(Long answerId) {
+        AnswerStatus status = answerRepository.findStatusById(answerId);
+        if (status == null) {
+            throw new AnswerNotFoundException(answerId);
+        }
 
-        log.info("AI feedback retrieved successfully for answerId: {}", answerId);
+        return switch (status) {
+            case COMPLETED -> readTransaction.execute(transaction ->
+                    toPersistedResponse(answerRepository.findByIdWithQuestionAndMetrics(answerId)));
+            case FAILED -> FeedbackResponse.failedPermanently(FEEDBACK_FAILED_MESSAGE);
+            default -> null;
+        };
+    }
 
-        return response;
+    @Override
+    @Transactional
+    public FeedbackResponse getFeedback(Long answerId, Long accountId) {
+        Answer answer = answerRepository.findByIdWithQuestionAndMetrics(answerId);
+        if (answer == null) {
+            throw new AnswerNotFoundException(answerId);
+        }
+
+        validateAnswerOwner(answer.getAccount().getId(), accountId, answerId);
+
+        return switch (answer.getStatus()) {
+            case COMPLETED -> toPersistedResponse(answer);
+            case FAILED -> FeedbackResponse.failedPermanently(FEEDBACK_FAILED_MESSAGE);
+            case SUBMITTED, IMMEDIATE_FEEDBACK_READY -> {
+                enqueue(answerId);
+                yield FeedbackResponse.processing(workerProperties.getRetryAfterSeconds());
+            }
+            default -> FeedbackResponse.processing(workerProperties.getRetryAfterSeconds());
+        };
     }
 
     @Override
+    @Transactional
     public void enqueue(Long answerId) {
-        // TODO: MVP V2 구현 필요
-        // 1. Kafka Producer 구성
-        // 2. ANSWER_AI_FEEDBACK_REQUESTED 이벤트 발행
-        // 3. 이벤트 payload: { answerId, questionId, answerContent }
-        // 4. 발행 실패 시 예외 처리 (재시도 정책)
+        Answer answer = answerRepository.findById(answerId)
+                .orElseThrow(() -> new AnswerNotFoundException(answerId));
 
-        log.info("Enqueueing AI feedback request for answerId: {}", answerId);
+        if (answer.getStatus() != AnswerStatus.SUBMITTED
+                && answer.getStatus() != AnswerStatus.IMMEDIATE_FEEDBACK_READY) {
+            log.debug("AI feedback already requested - answerId: {}, status: {}", answerId, answer.getStatus());
+            return;
+        }
 
-        // TODO: Kafka 연동 후 활성화
-        // kafkaTemplate.send("answer-feedback-requests", answerId.toString(), event);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
 
-        log.warn("AI feedback enqueue not implemented yet (Kafka integration required)");
+        outboxRepository.findByAnswerId(answerId)
+                .ifPresentOrElse(
+                        outbox -> {
+                            if (!outbox.isPending()) {
+                                outbox.rescheduleNow();
+                            }
+                        },
+                        () -> outboxRepository.save(AiFeedbackOutbox.create(answerId))
+                );
+
+        log.info("AI feedback request enqueued - answerId: {}", answerId);
     }
 
     @Override
-    public FeedbackStatus getStatus(Long answerId) {
-        // TODO: 구현 필요
-        // 1. Answer 조회
-        // 2. Answer.status를 FeedbackStatus로 매핑
-        //    - AI_FEEDBACK_PROCESSING -> PROCESSING
-        //    - COMPLETED -> COMPLETED
-        //    - FAILED -> FAILED
-        //    - FAILED_RETRYABLE -> FAILED_RETRYABLE
-        // 3. FeedbackStatus 반환
+    public void process(Long outboxId) {
+        AiFeedbackRequestSnapshot snapshot = writeTransaction.execute(status -> prepare(outboxId));
+        if (snapshot == null) {
+            return;
+        }
 
+        FeedbackRelay relay = new FeedbackRelay();
+        relays.put(snapshot.answerId(), relay);
+        FeedbackResponse result = null;
+        try {
+            ApiResponse<AiFeedbackResponse> apiResponse;
+            try {
+                apiResponse = requestAiFeedback(snapshot, relay);
+            } catch (RuntimeException e) {
+                writeTransaction.executeWithoutResult(status -> applyFailure(outboxId, e));
+                return;
+            }
+
+            try {
+                result = writeTransaction.execute(status -> applyResult(outboxId, snapshot, apiResponse));
+            } catch (AnswerConcurrentModificationException e) {
+                writeTransaction.executeWithoutResult(status -> applyFailure(outboxId, e));
+            } catch (OptimisticLockingFailureException e) {
+                AnswerConcurrentModificationException conflict =
+                        new AnswerConcurrentModificationException(snapshot.answerId());
+                writeTransaction.executeWithoutResult(status -> applyFailure(outboxId, conflict));
+            }
+        } finally {
+            relays.remove(snapshot.answerId(), relay);
+            relay.complete(result);
+        }
+    }
+
+    @Override
+    public FeedbackStatus getStatus(Long answerId) {
         log.debug("Getting feedback status for answerId: {}", answerId);
 
         Answer answer = answerRepository.findById(answerId)
@@ -97,35 +306,167 @@ public class AiFeedbackOrchestratorImpl implements AiFeedbackOrchestrator {
     }
 
     @Override
+    @Transactional
     public void requestRetry(Long answerId) {
-        // TODO: MVP V2 구현 필요
-        // 1. Answer 조회
-        // 2. 상태 검증 (FAILED_RETRYABLE만 허용)
-        // 3. 재시도 횟수 체크 (최대 3회)
-        // 4. Kafka 이벤트 재발행
-        // 5. Answer 상태를 AI_FEEDBACK_PROCESSING으로 전이
-
         log.info("Requesting feedback retry for answerId: {}", answerId);
 
-        // TODO: 재시도 정책 구현 후 활성화
-        throw new UnsupportedOperationException("Feedback retry not yet implemented");
+        Answer answer = answerRepository.findById(answerId)
+                .orElseThrow(() -> new AnswerNotFoundException(answerId));
+
+        if (answer.getStatus() != AnswerStatus.FAILED_RETRYABLE) {
+            throw new InvalidAnswerStatusTransitionException(answer.getStatus(), AnswerStatus.AI_FEEDBACK_PROCESSING);
+        }
+
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+
+        AiFeedbackOutbox outbox = outboxRepository.findByAnswerId(answerId)
+                .orElseGet(() -> outboxRepository.save(AiFeedbackOutbox.create(answerId)));
+        outbox.rescheduleNow();
+    }
+
+    /**
+     * 저장된 피드백 + 지표로 응답 구성 (AI 서버 호출 없음)
+     * 부적절한 답변 판정은 워커가 처음 돌려준 것과 같은 실패 응답으로 구성한다.
+     * 지표는 findByIdWithQuestionAndMetrics로 함께 조회된 상태여야 한다.
+     */
+    private FeedbackResponse toPersistedResponse(Answer answer) {
+        if (answer.isAiFeedbackBadCase()) {
+            return FeedbackResponse.failed(answer.getAiFeedback());
+        }
+
+        List<FeedbackResponse.RadarChartMetric> radarChart = answer.getMetrics().stream()
+                .map(answerMetric -> new FeedbackResponse.RadarChartMetric(
+                        answerMetric.getMetric().getName(),
+                        answerMetric.getComment(),
+                        answerMetric.getScore(),
+                        RADAR_MAX_SCORE
+                ))
+                .toList();
+
+        return FeedbackResponse.completed(answer.getAiFeedback(), radarChart.isEmpty() ? null : radarChart);
+    }
+
+    /**
+     * 워커 1단계: 짧은 트랜잭션에서 LLM 호출에 필요한 값만 스냅샷으로 추출
+     */
+    private AiFeedbackRequestSnapshot prepare(Long outboxId) {
+        AiFeedbackOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != AiFeedbackOutboxStatus.IN_PROGRESS) {
+            return null;
+        }
+
+        Answer answer = answerRepository.findByIdWithQuestion(outbox.getAnswerId());
+        if (answer == null) {
+            outbox.markDead("answer not found");
+            return null;
+        }
+
+        if (answer.getStatus() == AnswerStatus.COMPLETED || answer.getStatus() == AnswerStatus.FAILED) {
+            outbox.markDone();
+            return null;
+        }
+
+        if (answer.getStatus() != AnswerStatus.AI_FEEDBACK_PROCESSING) {
+            answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+            answerRepository.flush();
+        }
+
+        return AiFeedbackRequestSnapshot.from(answer);
+    }
+
+    /**
+     * 워커 3단계: 짧은 트랜잭션에서 LLM 응답을 답변에 반영
+     * 스냅샷 이후 답변이 변경되었으면 반영하지 않고 재시도로 넘긴다.
+     */
+    private FeedbackResponse applyResult(Long outboxId, AiFeedbackRequestSnapshot snapshot,
+                                         ApiResponse<AiFeedbackResponse> apiResponse) {
+        AiFeedbackOutbox outbox = outboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalStateException("Outbox not found: " + outboxId));
+        Answer answer = answerRepository.findById(outbox.getAnswerId())
+                .orElseThrow(() -> new AnswerNotFoundException(outbox.getAnswerId()));
+
+        if (answer.getStatus() == AnswerStatus.COMPLETED || answer.getStatus() == AnswerStatus.FAILED) {
+            outbox.markDone();
+            return null;
+        }
+
+        if (!Objects.equals(answer.getVersion(), snapshot.answerVersion())) {
+            throw new AnswerConcurrentModificationException(snapshot.answerId());
+        }
+
+        FeedbackResponse response = applyFeedback(answer, apiResponse);
+        outbox.markDone();
+
+        log.info("AI feedback completed asynchronously - answerId: {}, attempt: {}",
+                answer.getId(), outbox.getAttemptCount());
+
+        return response;
+    }
+
+    private void applyFailure(Long outboxId, RuntimeException cause) {
+        AiFeedbackOutbox outbox = outboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalStateException("Outbox not found: " + outboxId));
+        Answer answer = answerRepository.findById(outbox.getAnswerId())
+                .orElseThrow(() -> new AnswerNotFoundException(outbox.getAnswerId()));
+
+        if (cause instanceof AiServiceOverloadedException) {
+            // AI 서버를 호출하지 않았으므로 시도 횟수를 쓰지 않고 다시 기다린다
+            outbox.defer(workerProperties.getOverloadBackoff(), cause.getMessage());
+            log.info("AI feedback deferred by call guard - answerId: {}, attempt: {}, reason: {}",
+                    answer.getId(), outbox.getAttemptCount(), cause.getMessage());
+            return;
+        }
+
+        boolean retryable = isRetryable(cause) && outbox.getAttemptCount() < workerProperties.getMaxAttempts();
+
+        if (retryable) {
+            if (answer.getStatus() == AnswerStatus.AI_FEEDBACK_PROCESSING) {
+                answer.transitionTo(AnswerStatus.FAILED_RETRYABLE);
+            }
+            outbox.scheduleRetry(workerProperties.backoffFor(outbox.getAttemptCount()), cause.getMessage());
+            log.warn("AI feedback failed, retry scheduled - answerId: {}, attempt: {}, error: {}",
+                    answer.getId(), outbox.getAttemptCount(), cause.getMessage());
+            return;
+        }
+
+        if (answer.getStatus().canTransitionTo(AnswerStatus.FAILED)) {
+            answer.transitionTo(AnswerStatus.FAILED);
+        }
+        outbox.markDead(cause.getMessage());
+        log.error("AI feedback failed permanently - answerId: {}, attempt: {}",
+                answer.getId(), outbox.getAttemptCount(), cause);
     }
 
-    private ApiResponse<AiFeedbackResponse> getAiFeedback(
-        UserAccount account, Question question, Answer answer
-        ) {
+    /**
+     * 입력값 검증 오류(4xx)는 재시도해도 결과가 같으므로 즉시 실패 처리
+     */
+    private boolean isRetryable(RuntimeException cause) {
+        if (cause instanceof BusinessException businessException) {
+            return !NON_RETRYABLE_ERROR_CODES.contains(businessException.getErrorCode());
+        }
+        return true;
+    }
 
-        return aiFeedbackService.evaluateSync(
-            account.getId(),
-            question.getId(),
-            question.getType(),
-            question.getCategory(),
-            answer.getType(),
-            question.getContent(),
-            answer.getContent()
+    private ApiResponse<AiFeedbackResponse> requestAiFeedback(AiFeedbackRequestSnapshot snapshot,
+                                                              FeedbackRelay relay) {
+        return aiFeedbackService.evaluateStream(
+                snapshot.accountId(),
+                snapshot.questionId(),
+                snapshot.questionType(),
+                snapshot.questionCategory(),
+                snapshot.answerType(),
+                snapshot.questionContent(),
+                snapshot.answerContent(),
+                relay::publish
         );
     }
 
+    private FeedbackResponse applyFeedback(Answer answer, ApiResponse<AiFeedbackResponse> apiResponse) {
+        return isBadCase(apiResponse)
+                ? handleBadCaseResponse(answer, apiResponse)
+                : handleSuccessResponse(answer, apiResponse);
+    }
+
     private boolean isBadCase(ApiResponse<AiFeedbackResponse> response) {
         return "bad_case_detected".equalsIgnoreCase(response.message());
     }
@@ -136,8 +477,7 @@ public class AiFeedbackOrchestratorImpl implements AiFeedbackOrchestrator {
 
         String failureMessage = badCaseType.getMessage() + "\n\n" + badCaseType.getGuidance();
 
-//        answer.transitionTo(AnswerStatus.COMPLETED);
-        answer.setAiFeedback(badCaseType.getGuidance());
+        answer.markBadCase(failureMessage);
         answerRepository.save(answer);
 
         log.warn("Bad case detected for answerId: {}, type: {}", answer.getId(), badCaseType);
@@ -153,10 +493,44 @@ public class AiFeedbackOrchestratorImpl implements AiFeedbackOrchestrator {
 
         answer.setAiFeedback(combinedFeedback);
         answerRepository.save(answer);
+        saveMetrics(answer, data.metrics());
 
         return FeedbackResponse.completed(combinedFeedback, radarChart);
     }
 
+    /**
+     * 레이더 차트 지표를 ANSWER_METRIC에 일괄 저장
+     * 지표 ID는 캐시로 해결하고, 등록되지 않은 지표명은 건너뛴다.
+     */
+    private void saveMetrics(Answer answer, List<AiFeedbackMetric> metrics) {
+        if (metrics == null || metrics.isEmpty()) {
+            return;
+        }
+
+        List<String> names = metrics.stream()
+                .map(AiFeedbackMetric::name)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, Long> metricIds = metricIdCache.resolve(names);
+
+        Map<Long, AnswerMetric> answerMetrics = new LinkedHashMap<>();
+        for (AiFeedbackMetric metric : metrics) {
+            Long metricId = metric.name() == null ? null : metricIds.get(metric.name());
+            if (metricId == null || metric.score() == null) {
+                log.warn("Feedback metric skipped - answerId: {}, metric: {}", answer.getId(), metric.name());
+                continue;
+            }
+            answerMetrics.putIfAbsent(metricId, AnswerMetric.create(
+                    answer,
+                    metricRepository.getReferenceById(metricId),
+                    metric.score(),
+                    metric.comment()
+            ));
+        }
+
+        answerMetricRepository.saveAll(answerMetrics.values());
+    }
+
     private List<FeedbackResponse.RadarChartMetric> convertToRadarChart(List<AiFeedbackMetric> metrics) {
         if (metrics == null) {
             return null;
@@ -167,7 +541,7 @@ public class AiFeedbackOrchestratorImpl implements AiFeedbackOrchestrator {
                         metric.name(),        // metricName
                         metric.comment(),     // metricDescription
                         metric.score(),       // score (1~5)
-                        5                     // maxScore
+                        RADAR_MAX_SCORE       // maxScore
                 ))
                 .collect(Collectors.toList());
     }
@@ -195,4 +569,47 @@ public class AiFeedbackOrchestratorImpl implements AiFeedbackOrchestrator {
             default -> FeedbackStatus.NOT_AVAILABLE;
         };
     }
+
+    /**
+     * 워커 한 번의 생성 결과 중계
+     * 늦게 구독한 스트림도 처음부터 받을 수 있도록 텍스트 조각을 보관한다.
+     */
+    private static final class FeedbackRelay {
+
+        private final List<String> tokens = new ArrayList<>();
+        private final List<FeedbackStreamListener> subscribers = new ArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile FeedbackResponse result;
+
+        synchronized void publish(String token) {
+            tokens.add(token);
+            subscribers.forEach(subscriber -> subscriber.onToken(token));
+        }
+
+        synchronized void subscribe(FeedbackStreamListener listener) {
+            tokens.forEach(listener::onToken);
+            subscribers.add(listener);
+        }
+
+        synchronized void unsubscribe(FeedbackStreamListener listener) {
+            subscribers.remove(listener);
+        }
+
+        void complete(FeedbackResponse result) {
+            this.result = result;
+            done.countDown();
+        }
+
+        FeedbackResponse result() {
+            return result;
+        }
+
+        boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        void await(long nanos) throws InterruptedException {
+            done.await(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
 }
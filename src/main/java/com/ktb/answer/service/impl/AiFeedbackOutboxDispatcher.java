@@ -0,0 +1,149 @@
+package com.ktb.answer.service.impl;
+
+import com.ktb.ai.common.resilience.AiResilienceGuard;
+import com.ktb.answer.config.AiFeedbackWorkerProperties;
+import com.ktb.answer.domain.AiFeedbackOutbox;
+import com.ktb.answer.domain.AiFeedbackOutboxStatus;
+import com.ktb.answer.pipeline.PipelineStage;
+import com.ktb.answer.repository.AiFeedbackOutboxRepository;
+import com.ktb.answer.service.AiFeedbackOrchestrator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 피드백 아웃박스 디스패처
+ * 주기적으로 PENDING 아웃박스를 선점하여 가상 스레드 워커에 넘긴다.
+ * 동시 처리 수는 세마포어로 제한하며, 여유 슬롯과 AI 호출 보호의 여유 중 작은 만큼만 가져온다.
+ * 음성 답변 파이프라인의 ai_feedback 단계로서 같은 이름의 단계 지표를 기록한다.
+ */
+@Component
+@Slf4j
+public class AiFeedbackOutboxDispatcher {
+
+    private final AiFeedbackOutboxRepository outboxRepository;
+    private final AiFeedbackOrchestrator aiFeedbackOrchestrator;
+    private final AiFeedbackWorkerProperties properties;
+    private final ExecutorService workerExecutor;
+    private final AiResilienceGuard aiFeedbackGuard;
+    private final Semaphore permits;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    private static final String STAGE_AI_FEEDBACK = "ai_feedback";
+
+    public AiFeedbackOutboxDispatcher(
+            AiFeedbackOutboxRepository outboxRepository,
+            AiFeedbackOrchestrator aiFeedbackOrchestrator,
+            AiFeedbackWorkerProperties properties,
+            @Qualifier("aiFeedbackWorkerExecutor") ExecutorService workerExecutor,
+            @Qualifier("aiFeedbackGuard") AiResilienceGuard aiFeedbackGuard,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.aiFeedbackOrchestrator = aiFeedbackOrchestrator;
+        this.properties = properties;
+        this.workerExecutor = workerExecutor;
+        this.aiFeedbackGuard = aiFeedbackGuard;
+        this.permits = new Semaphore(properties.getMaxConcurrency());
+
+        Gauge.builder(PipelineStage.METRIC_QUEUE_DEPTH, outboxRepository,
+                        repository -> repository.countByStatusAndNextAttemptAtLessThanEqual(
+                                AiFeedbackOutboxStatus.PENDING, LocalDateTime.now()))
+                .tag(PipelineStage.TAG_STAGE, STAGE_AI_FEEDBACK)
+                .register(meterRegistry);
+        Gauge.builder(PipelineStage.METRIC_INFLIGHT, permits,
+                        semaphore -> properties.getMaxConcurrency() - semaphore.availablePermits())
+                .tag(PipelineStage.TAG_STAGE, STAGE_AI_FEEDBACK)
+                .register(meterRegistry);
+        Gauge.builder(PipelineStage.METRIC_CONCURRENCY_LIMIT, properties::getMaxConcurrency)
+                .tag(PipelineStage.TAG_STAGE, STAGE_AI_FEEDBACK)
+                .register(meterRegistry);
+        this.successTimer = PipelineStage.durationTimer(meterRegistry, STAGE_AI_FEEDBACK, "success");
+        this.failureTimer = PipelineStage.durationTimer(meterRegistry, STAGE_AI_FEEDBACK, "failure");
+    }
+
+    @Scheduled(fixedDelayString = "${ai.feedback.worker.poll-interval:1000}")
+    public void dispatch() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int released = outboxRepository.releaseStale(
+                AiFeedbackOutboxStatus.PENDING,
+                AiFeedbackOutboxStatus.IN_PROGRESS,
+                now.minus(properties.getLeaseTimeout())
+        );
+        if (released > 0) {
+            log.warn("Released stale AI feedback outbox entries: {}", released);
+        }
+
+        // 서킷 OPEN, 동시성 한도 소진 시에는 선점하지 않는다 (선점하면 거절되어 재예약만 반복)
+        int capacity = Math.min(
+                Math.min(permits.availablePermits(), properties.getBatchSize()),
+                aiFeedbackGuard.availableCalls()
+        );
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<AiFeedbackOutbox> candidates = outboxRepository.findDispatchable(
+                AiFeedbackOutboxStatus.PENDING,
+                now,
+                PageRequest.of(0, capacity)
+        );
+
+        for (AiFeedbackOutbox candidate : candidates) {
+            if (!permits.tryAcquire()) {
+                return;
+            }
+            if (!claim(candidate)) {
+                permits.release();
+                continue;
+            }
+            submit(candidate);
+        }
+    }
+
+    private boolean claim(AiFeedbackOutbox candidate) {
+        return outboxRepository.claim(
+                candidate.getId(),
+                AiFeedbackOutboxStatus.PENDING,
+                AiFeedbackOutboxStatus.IN_PROGRESS,
+                LocalDateTime.now()
+        ) == 1;
+    }
+
+    private void submit(AiFeedbackOutbox claimed) {
+        try {
+            workerExecutor.execute(() -> {
+                Timer.Sample sample = Timer.start();
+                try {
+                    aiFeedbackOrchestrator.process(claimed.getId());
+                    sample.stop(successTimer);
+                } catch (Exception e) {
+                    sample.stop(failureTimer);
+                    log.error("AI feedback worker failed - outboxId: {}, answerId: {}",
+                            claimed.getId(), claimed.getAnswerId(), e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중인 경우: 임대 만료 후 다른 인스턴스가 재처리한다
+            permits.release();
+            log.warn("AI feedback worker rejected - outboxId: {}", claimed.getId());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.answer.service.impl;
 
 import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerStatus;
 import com.ktb.answer.domain.AnswerType;
 import com.ktb.answer.dto.AnswerDetailQuery;
 import com.ktb.answer.dto.AnswerDetailResult;
@@ -8,18 +9,25 @@ import com.ktb.answer.dto.AnswerSubmitCommand;
 import com.ktb.answer.dto.AnswerSubmitResult;
 import com.ktb.answer.dto.FeedbackResult;
 import com.ktb.answer.dto.ImmediateFeedbackResult;
+import com.ktb.answer.dto.KeywordCheckResult;
+import com.ktb.answer.event.AudioAnswerSubmittedEvent;
 import com.ktb.answer.exception.AnswerAccessDeniedException;
 import com.ktb.answer.exception.AnswerNotFoundException;
 import com.ktb.answer.repository.AnswerRepository;
+import com.ktb.answer.service.AiFeedbackOrchestrator;
 import com.ktb.answer.service.AnswerApplicationService;
 import com.ktb.answer.service.ImmediateFeedbackService;
 import com.ktb.auth.domain.UserAccount;
 import com.ktb.auth.service.UserAccountService;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileCategory;
 import com.ktb.file.exception.FileAlreadyDeletedException;
 import com.ktb.file.exception.FileExtensionNotAllowedException;
+import com.ktb.file.exception.FileInvalidMetadataException;
 import com.ktb.file.exception.FileNotFoundException;
 import com.ktb.file.exception.FileSizeExceededException;
 import com.ktb.file.exception.FileStorageMigrationException;
+import com.ktb.file.repository.FileRepository;
 import com.ktb.hashtag.domain.AnswerHashtag;
 import com.ktb.hashtag.domain.Hashtag;
 import com.ktb.hashtag.exception.HashtagNotFoundException;
@@ -33,8 +41,13 @@ import com.ktb.question.exception.QuestionNotFoundException;
 import com.ktb.question.service.QuestionService;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -49,8 +62,11 @@ public class AnswerApplicationServiceImpl implements AnswerApplicationService {
     private final QuestionService questionService;
     private final UserAccountService userAccountService;
     private final ImmediateFeedbackService immediateFeedbackService;
+    private final AiFeedbackOrchestrator aiFeedbackOrchestrator;
     private final AnswerHashtagRepository answerHashtagRepository;
     private final HashtagRepository hashtagRepository;
+    private final FileRepository fileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Slice<?> getList(
@@ -102,6 +118,10 @@ public class AnswerApplicationServiceImpl implements AnswerApplicationService {
 
         UserAccount account = userAccountService.findById(accountId);
 
+        if (command.isAudio()) {
+            return submitAudio(question, account, command);
+        }
+
         Answer answer = Answer.create(
                 Question.createWithQuestionId(question.questionId()),
                 account,
@@ -117,16 +137,92 @@ public class AnswerApplicationServiceImpl implements AnswerApplicationService {
         );
 
         saveAnswerHashtags(savedAnswer, immediateFeedback);
+        savedAnswer.transitionTo(AnswerStatus.IMMEDIATE_FEEDBACK_READY);
+
+        // 같은 트랜잭션에서 아웃박스에 기록 → 커밋 이후 워커가 처리
+        aiFeedbackOrchestrator.enqueue(savedAnswer.getId());
 
-        // TODO: MVP V2 AI 피드백 이벤트 발행
         return AnswerSubmitResult.processing(savedAnswer.getId(), immediateFeedback);
     }
 
+    /**
+     * 음성 답변은 TRANSCRIBING 상태로 저장만 하고, 변환/즉각 피드백/AI 피드백은 커밋 후 파이프라인이 이어서 처리한다.
+     * 업로드 확인 전이라면 confirmUpload 시점에 파이프라인이 시작된다.
+     */
+    private AnswerSubmitResult submitAudio(QuestionDetailResponse question, UserAccount account,
+                                           AnswerSubmitCommand command) {
+        File audioFile = fileRepository.findById(command.audioFileId())
+                .orElseThrow(() -> new FileNotFoundException(command.audioFileId()));
+        if (audioFile.isDeleted()) {
+            throw new FileAlreadyDeletedException(audioFile.getId());
+        }
+        if (audioFile.getCategory() != FileCategory.AUDIO) {
+            throw new FileInvalidMetadataException("음성 답변에는 AUDIO 파일만 사용할 수 있습니다");
+        }
+
+        Answer savedAnswer = answerRepository.save(Answer.createAudio(
+                Question.createWithQuestionId(question.questionId()),
+                account,
+                command.answerType(),
+                audioFile.getId()
+        ));
+
+        eventPublisher.publishEvent(new AudioAnswerSubmittedEvent(savedAnswer.getId()));
+
+        log.info("Audio answer submitted - answerId: {}, fileId: {}", savedAnswer.getId(), audioFile.getId());
+
+        return AnswerSubmitResult.processing(savedAnswer.getId(), new ImmediateFeedbackResult(List.of()));
+    }
+
+    @Override
+    @Transactional
+    public ImmediateFeedbackResult applyTranscript(Long answerId, String transcript) {
+        Answer answer = answerRepository.findByIdWithQuestion(answerId);
+        if (answer == null) {
+            throw new AnswerNotFoundException(answerId);
+        }
+
+        ImmediateFeedbackResult immediateFeedback = immediateFeedbackService.evaluate(
+                answer.getQuestion().getId(),
+                transcript
+        );
+
+        answer.applyTranscript(transcript);
+        saveAnswerHashtags(answer, immediateFeedback);
+
+        // 텍스트 답변 제출과 같이 아웃박스에 기록 → 커밋 이후 AI 피드백 워커가 처리
+        aiFeedbackOrchestrator.enqueue(answerId);
+
+        log.info("Transcript applied - answerId: {}, textLength: {}", answerId, transcript.length());
+
+        return immediateFeedback;
+    }
+
+    @Override
+    @Transactional
+    public void failTranscription(Long answerId, String reason) {
+        answerRepository.findById(answerId)
+                .filter(answer -> answer.getStatus() == AnswerStatus.TRANSCRIBING)
+                .ifPresent(answer -> {
+                    answer.transitionTo(AnswerStatus.FAILED);
+                    log.warn("Transcription failed permanently - answerId: {}, reason: {}", answerId, reason);
+                });
+    }
+
     private void saveAnswerHashtags(Answer answer, ImmediateFeedbackResult feedback) {
+        // 키워드 수와 무관하게 해시태그는 IN 조회 한 번으로 가져온다
+        Set<Long> hashtagIds = feedback.keywords().stream()
+            .map(KeywordCheckResult::keywordId)
+            .collect(Collectors.toSet());
+        Map<Long, Hashtag> hashtagsById = hashtagRepository.findAllById(hashtagIds).stream()
+            .collect(Collectors.toMap(Hashtag::getId, Function.identity()));
+
         List<AnswerHashtag> answerHashtags = feedback.keywords().stream()
             .map(keywordResult -> {
-                Hashtag hashtag = hashtagRepository.findById(keywordResult.keywordId())
-                    .orElseThrow(() -> new HashtagNotFoundException(keywordResult.keywordId()));
+                Hashtag hashtag = hashtagsById.get(keywordResult.keywordId());
+                if (hashtag == null) {
+                    throw new HashtagNotFoundException(keywordResult.keywordId());
+                }
 
                 return AnswerHashtag.create(
                     answer,
@@ -0,0 +1,156 @@
+package com.ktb.answer.service.impl;
+
+import com.ktb.ai.common.exception.AiServiceOverloadedException;
+import com.ktb.answer.config.FeedbackStreamProperties;
+import com.ktb.answer.dto.FeedbackStatus;
+import com.ktb.answer.dto.response.FeedbackResponse;
+import com.ktb.answer.service.AiFeedbackOrchestrator;
+import com.ktb.answer.service.FeedbackStreamListener;
+import com.ktb.answer.service.FeedbackStreamService;
+import com.ktb.common.domain.ErrorCode;
+import com.ktb.common.dto.ApiResponse;
+import com.ktb.common.dto.CommonErrorResponse;
+import com.ktb.common.exception.BusinessException;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * AI 피드백 SSE 스트리밍
+ * 스트림마다 가상 스레드 하나에서 오케스트레이터를 호출하고, 서블릿 요청 스레드는 즉시 반환한다.
+ * 피드백 생성/저장은 아웃박스 워커가 수행하므로 클라이언트가 중간에 연결을 끊으면 스트림 대기만 중단하고 생성/저장은 끝까지 진행된다.
+ */
+@Slf4j
+@Service
+public class FeedbackStreamServiceImpl implements FeedbackStreamService {
+
+    private static final String EVENT_STATUS = "status";
+    private static final String EVENT_TOKEN = "token";
+    private static final String EVENT_RESULT = "result";
+    private static final String EVENT_ERROR = "error";
+    private static final String MESSAGE_FEEDBACK_RETRIEVED = "feedback_retrieval_success";
+
+    private final AiFeedbackOrchestrator aiFeedbackOrchestrator;
+    private final FeedbackStreamProperties properties;
+    private final ExecutorService feedbackStreamExecutor;
+    private final Semaphore openStreams;
+
+    public FeedbackStreamServiceImpl(
+            AiFeedbackOrchestrator aiFeedbackOrchestrator,
+            FeedbackStreamProperties properties,
+            @Qualifier("feedbackStreamExecutor") ExecutorService feedbackStreamExecutor
+    ) {
+        this.aiFeedbackOrchestrator = aiFeedbackOrchestrator;
+        this.properties = properties;
+        this.feedbackStreamExecutor = feedbackStreamExecutor;
+        this.openStreams = new Semaphore(properties.getMaxOpenStreams());
+    }
+
+    @Override
+    public SseEmitter open(Long answerId, Long accountId) {
+        if (!openStreams.tryAcquire()) {
+            throw new AiServiceOverloadedException("feedback-stream", "max open streams");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        FeedbackStream stream = new FeedbackStream(answerId, emitter);
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                openStreams.release();
+            }
+        };
+
+        Future<?> task;
+        try {
+            task = feedbackStreamExecutor.submit(() -> {
+                try {
+                    stream.run(accountId);
+                } finally {
+                    release.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+
+        // 클라이언트가 떠나면 대기 중인 가상 스레드를 중단하고 자리를 바로 돌려준다 (피드백 생성은 워커가 계속한다)
+        Runnable cancel = () -> {
+            stream.disconnect();
+            task.cancel(true);
+            release.run();
+        };
+        emitter.onCompletion(release);
+        emitter.onTimeout(cancel);
+        emitter.onError(error -> cancel.run());
+
+        return emitter;
+    }
+
+    /**
+     * 스트림 하나의 상태. 클라이언트 연결이 끊기면 이후 이벤트는 버린다.
+     */
+    private final class FeedbackStream implements FeedbackStreamListener {
+
+        private final Long answerId;
+        private final SseEmitter emitter;
+        private volatile boolean connected = true;
+
+        private FeedbackStream(Long answerId, SseEmitter emitter) {
+            this.answerId = answerId;
+            this.emitter = emitter;
+        }
+
+        void run(Long accountId) {
+            try {
+                FeedbackResponse response = aiFeedbackOrchestrator.streamFeedback(answerId, accountId, this);
+                send(EVENT_RESULT, new ApiResponse<>(MESSAGE_FEEDBACK_RETRIEVED, response));
+            } catch (BusinessException e) {
+                log.warn("AI feedback stream failed - answerId: {}, error: {}", answerId, e.getMessage());
+                send(EVENT_ERROR, CommonErrorResponse.of(e.getErrorCode(), e.getMessage(), null));
+            } catch (RuntimeException e) {
+                log.error("AI feedback stream failed - answerId: {}", answerId, e);
+                send(EVENT_ERROR, CommonErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR, null));
+            } finally {
+                if (connected) {
+                    emitter.complete();
+                }
+            }
+        }
+
+        @Override
+        public void onStatus(FeedbackStatus status) {
+            send(EVENT_STATUS, Map.of("status", status.name()));
+        }
+
+        @Override
+        public void onToken(String token) {
+            send(EVENT_TOKEN, Map.of("text", token));
+        }
+
+        void disconnect() {
+            connected = false;
+        }
+
+        private void send(String event, Object data) {
+            if (!connected) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("AI feedback stream client disconnected - answerId: {}", answerId);
+                connected = false;
+            }
+        }
+    }
+}
@@ -3,8 +3,12 @@ package com.ktb.answer.service.impl;
 import com.ktb.answer.dto.ImmediateFeedbackResult;
 import com.ktb.answer.dto.KeywordCheckResult;
 import com.ktb.answer.service.ImmediateFeedbackService;
+import com.ktb.hashtag.cache.QuestionKeywordMatcherCache;
+import com.ktb.hashtag.cache.QuestionKeywordMatcherCache.CompiledQuestionKeywords;
 import com.ktb.hashtag.domain.QuestionHashtag;
+import com.ktb.hashtag.matcher.KeywordMatch;
 import com.ktb.hashtag.repository.QuestionHashtagRepository;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,13 +20,14 @@ import org.springframework.stereotype.Service;
 public class ImmediateFeedbackServiceImpl implements ImmediateFeedbackService {
 
     private final QuestionHashtagRepository questionHashtagRepository;
+    private final QuestionKeywordMatcherCache questionKeywordMatcherCache;
 
     @Override
     public ImmediateFeedbackResult evaluate(Long questionId, String answerText) {
         log.debug("Evaluating immediate feedback - questionId: {}", questionId);
 
-        List<QuestionHashtag> questionHashtags = extractKeywords(questionId);
-        List<KeywordCheckResult> keywordChecks = checkKeywords(answerText, questionHashtags);
+        CompiledQuestionKeywords compiled = questionKeywordMatcherCache.get(questionId);
+        List<KeywordCheckResult> keywordChecks = checkKeywords(answerText, compiled);
 
         return new ImmediateFeedbackResult(keywordChecks);
     }
@@ -38,22 +43,36 @@ public class ImmediateFeedbackServiceImpl implements ImmediateFeedbackService {
 
     @Override
     public List<KeywordCheckResult> checkKeywords(String answerText, List<QuestionHashtag> questionHashtags) {
-        log.debug("Checking keywords in answer text: keywordCount={}", questionHashtags.size());
+        CompiledQuestionKeywords compiled = CompiledQuestionKeywords.of(
+            questionHashtags.stream().map(QuestionHashtag::getHashtag).toList()
+        );
+        return checkKeywords(answerText, compiled);
+    }
 
-        String normalizedAnswerText = answerText.toLowerCase();
+    /**
+     * 컴파일된 오토마톤으로 답변을 한 번만 순회하여 모든 키워드의 등장 위치를 구한다.
+     */
+    private List<KeywordCheckResult> checkKeywords(String answerText, CompiledQuestionKeywords compiled) {
+        int keywordCount = compiled.keywords().size();
+        log.debug("Checking keywords in answer text: keywordCount={}", keywordCount);
 
-        List<KeywordCheckResult> keywordChecks = questionHashtags.stream()
-            .map(qh -> {
-                String keyword = qh.getHashtag().getName();
-                boolean included = normalizedAnswerText.contains(keyword);
+        List<List<Integer>> offsets = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            offsets.add(new ArrayList<>());
+        }
+        for (KeywordMatch match : compiled.matcher().findAll(answerText)) {
+            offsets.get(match.keywordIndex()).add(match.start());
+        }
 
-                return new KeywordCheckResult(
-                    qh.getHashtag().getId(),
-                    keyword,
-                    included
-                );
-            })
-            .toList();
+        List<KeywordCheckResult> keywordChecks = new ArrayList<>(keywordCount);
+        for (int i = 0; i < keywordCount; i++) {
+            keywordChecks.add(new KeywordCheckResult(
+                compiled.hashtagIds().get(i),
+                compiled.keywords().get(i),
+                !offsets.get(i).isEmpty(),
+                offsets.get(i)
+            ));
+        }
 
         log.debug("Immediate feedback - total keywords: {}, included: {}",
             keywordChecks.size(),
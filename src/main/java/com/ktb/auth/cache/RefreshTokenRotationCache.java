@@ -0,0 +1,113 @@
+package com.ktb.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.auth.dto.TokenRefreshResult;
+import com.ktb.auth.jwt.JwtProperties;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Refresh Token 회전 결과 유예 캐시
+ * 같은 Refresh Token으로 거의 동시에 들어온 중복 갱신(모바일 재연결 폭주 등)에
+ * 재사용 탐지 대신 먼저 발급된 동일한 토큰 쌍을 돌려준다.
+ *
+ * <p>키는 기존 토큰 해시, 값은 회전 결과 future이며 유예 시간(jwt.refresh-token-reuse-grace-period)이 지나면 만료된다.
+ * 회전 결과는 커밋 이후에만 공개하고, 롤백되면 제거해 대기 중인 요청이 DB 판정으로 넘어가게 한다.
+ * 인스턴스 로컬 캐시이므로 다른 인스턴스로 간 중복 요청은 기존처럼 DB 조건부 UPDATE로 재사용 판정된다.
+ */
+@Component
+@Slf4j
+public class RefreshTokenRotationCache {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(3);
+
+    private final Cache<String, CompletableFuture<TokenRefreshResult>> cache;
+
+    public RefreshTokenRotationCache(JwtProperties jwtProperties) {
+        Long gracePeriod = jwtProperties.getRefreshTokenReuseGracePeriod();
+        this.cache = gracePeriod != null && gracePeriod > 0
+                ? Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(gracePeriod)).build()
+                : null;
+    }
+
+    /**
+     * 회전 주도권 획득 시도
+     *
+     * @return 이미 진행 중이거나 유예 시간 내 완료된 회전이 있으면 그 future, 주도권을 얻었으면 null
+     */
+    public CompletableFuture<TokenRefreshResult> tryLead(String tokenHash) {
+        if (cache == null) {
+            return null;
+        }
+        return cache.asMap().putIfAbsent(tokenHash, new CompletableFuture<>());
+    }
+
+    /**
+     * 선행 회전 결과 대기
+     * 선행 회전이 실패했거나 제한 시간 안에 끝나지 않으면 empty
+     */
+    public Optional<TokenRefreshResult> await(CompletableFuture<TokenRefreshResult> rotation) {
+        try {
+            return Optional.of(rotation.get(AWAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 회전 결과 공개 (주도권을 가진 요청만 호출)
+     * 트랜잭션 진행 중이면 커밋 이후 공개하고, 롤백되면 제거한다.
+     */
+    public void publish(String tokenHash, TokenRefreshResult result) {
+        if (cache == null) {
+            return;
+        }
+        CompletableFuture<TokenRefreshResult> rotation = cache.getIfPresent(tokenHash);
+        if (rotation == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rotation.complete(result);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    rotation.complete(result);
+                } else {
+                    abandon(tokenHash);
+                }
+            }
+        });
+    }
+
+    /**
+     * 회전 포기 (주도권을 가진 요청이 결과 공개 전에 실패한 경우)
+     * 대기 중인 요청은 DB 판정으로 넘어간다.
+     */
+    public void abandon(String tokenHash) {
+        if (cache == null) {
+            return;
+        }
+        CompletableFuture<TokenRefreshResult> rotation = cache.asMap().remove(tokenHash);
+        if (rotation != null) {
+            rotation.completeExceptionally(new IllegalStateException("Refresh Token 회전이 완료되지 않았습니다"));
+            log.debug("Refresh Token 회전 포기");
+        }
+    }
+}
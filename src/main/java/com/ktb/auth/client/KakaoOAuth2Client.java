@@ -5,18 +5,17 @@ import com.ktb.auth.config.KakaoOAuthRegistrationProperties;
 import com.ktb.auth.dto.response.KakaoUserInfoResponse;
 import com.ktb.auth.dto.response.KakaoTokenResponse;
 import com.ktb.auth.exception.oauth.OAuthProviderException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
 
 @Component
 @RequiredArgsConstructor
@@ -32,53 +31,65 @@ public class KakaoOAuth2Client {
     private static final String ERROR_TOKEN_RESPONSE_EMPTY = "Kakao Access Token을 받지 못했습니다.";
     private static final String ERROR_USERINFO_RESPONSE_EMPTY = "Kakao 사용자 정보를 받지 못했습니다.";
 
-    private final RestTemplate restTemplate;
+    private static final String METRIC_NAME = "oauth.kakao.request";
+    private static final String OPERATION_TOKEN_EXCHANGE = "token_exchange";
+    private static final String OPERATION_USER_INFO = "user_info";
+
+    private final RestClient kakaoRestClient;
     private final KakaoOAuthRegistrationProperties registrationProperties;
     private final KakaoOAuthProviderProperties providerProperties;
+    private final MeterRegistry meterRegistry;
 
     public String getAccessToken(String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        HttpEntity<MultiValueMap<String, String>> request = getValueMapHttpEntity(
-            code, headers);
-
-        ResponseEntity<KakaoTokenResponse> response = restTemplate.exchange(
-                providerProperties.getTokenUri(),
-                HttpMethod.POST,
-                request,
-                KakaoTokenResponse.class
-        );
-
-        if (response.getBody() == null) {
+        KakaoTokenResponse response = timed(OPERATION_TOKEN_EXCHANGE, () -> kakaoRestClient.post()
+                .uri(providerProperties.getTokenUri())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(getTokenRequestParams(code))
+                .retrieve()
+                .body(KakaoTokenResponse.class));
+
+        if (response == null) {
             throw new OAuthProviderException(ERROR_TOKEN_RESPONSE_EMPTY);
         }
 
-        return response.getBody().access_token();
+        return response.access_token();
     }
 
     public KakaoUserInfoResponse getUserInfo(String accessToken) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-
-        HttpEntity<Void> request = new HttpEntity<>(headers);
+        KakaoUserInfoResponse response = timed(OPERATION_USER_INFO, () -> kakaoRestClient.get()
+                .uri(providerProperties.getUserInfoUri())
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .body(KakaoUserInfoResponse.class));
 
-        ResponseEntity<KakaoUserInfoResponse> response = restTemplate.exchange(
-            providerProperties.getUserInfoUri(),
-            HttpMethod.GET,
-            request,
-            KakaoUserInfoResponse.class
-        );
-
-        if (response.getBody() == null) {
+        if (response == null) {
             throw new OAuthProviderException(ERROR_USERINFO_RESPONSE_EMPTY);
         }
 
-        return response.getBody();
+        return response;
+    }
+
+    /**
+     * 호출 지연 시간 기록 (oauth.kakao.request{operation, outcome})
+     */
+    private <T> T timed(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
     }
 
-    private @NonNull HttpEntity<MultiValueMap<String, String>> getValueMapHttpEntity(String code,
-                                                                                          HttpHeaders headers) {
+    private @NonNull MultiValueMap<String, String> getTokenRequestParams(String code) {
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add(PARAM_GRANT_TYPE, GRANT_TYPE_AUTHORIZATION_CODE);
         params.add(PARAM_CLIENT_ID, registrationProperties.getClientId());
@@ -86,6 +97,6 @@ public class KakaoOAuth2Client {
         params.add(PARAM_REDIRECT_URI, registrationProperties.getRedirectUri());
         params.add(PARAM_CODE, code);
 
-        return new HttpEntity<>(params, headers);
+        return params;
     }
 }
@@ -0,0 +1,33 @@
+package com.ktb.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * OAuth state / 교환 코드 저장소 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.ephemeral-store")
+@Getter
+@Setter
+public class EphemeralTokenStoreProperties {
+
+    /**
+     * 저장소 구현 (memory | jdbc)
+     * 다중 인스턴스 배포에서는 jdbc를 사용해야 다른 인스턴스에서 발급한 코드를 소비할 수 있다.
+     */
+    private String engine = "memory";
+
+    /**
+     * 인메모리 저장소 최대 항목 수
+     * 로그인 흐름을 중간에 포기한 항목이 쌓여도 이 크기를 넘지 않는다.
+     */
+    private long maxSize = 100_000;
+
+    /**
+     * JDBC 저장소 만료 행 정리 주기 (ms)
+     */
+    private long purgeIntervalMs = 60_000;
+}
@@ -0,0 +1,36 @@
+package com.ktb.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * OAuth 제공자 호출용 HTTP 클라이언트 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "oauth.http-client")
+@Getter
+@Setter
+public class OAuthHttpClientProperties {
+
+    /**
+     * 연결 타임아웃 (ms)
+     */
+    private long connectTimeoutMs = 2_000;
+
+    /**
+     * 응답 타임아웃 (ms)
+     */
+    private long readTimeoutMs = 5_000;
+
+    /**
+     * 호스트별 최대 동시 요청 수
+     */
+    private int maxConcurrentPerHost = 50;
+
+    /**
+     * 동시 요청 허용을 기다리는 최대 시간 (ms)
+     */
+    private long acquireTimeoutMs = 1_000;
+}
@@ -0,0 +1,37 @@
+package com.ktb.auth.config;
+
+import com.ktb.common.http.PerHostConcurrencyLimitInterceptor;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * OAuth 제공자 호출용 RestClient
+ *
+ * <p>하나의 JDK HttpClient를 공유하여 호스트별 커넥션 풀과 keep-alive 연결을 재사용한다.
+ * 연결/응답 타임아웃과 호스트별 동시 요청 제한으로 제공자 지연이 콜백 요청 스레드를 붙잡지 않게 한다.
+ */
+@Configuration
+public class OAuthRestClientConfig {
+
+    @Bean
+    public RestClient kakaoRestClient(OAuthHttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(properties.getReadTimeoutMs()));
+
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .requestInterceptor(new PerHostConcurrencyLimitInterceptor(
+                        properties.getMaxConcurrentPerHost(),
+                        Duration.ofMillis(properties.getAcquireTimeoutMs())
+                ))
+                .build();
+    }
+}
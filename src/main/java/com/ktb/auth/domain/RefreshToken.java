@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -37,7 +38,8 @@ import lombok.NoArgsConstructor;
 public class RefreshToken extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_oauth_refresh_seq_gen")
+    @SequenceGenerator(name = "user_oauth_refresh_seq_gen", sequenceName = "user_oauth_refresh_seq", allocationSize = 50)
     @Column(name = "token_id")
     private Long id;
 
@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -45,7 +46,8 @@ public class TokenFamily extends BaseTimeEntity {
     private static final int DEFAULT_FAMILY_LIFETIME_DAYS = 30;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_oauth_rtr_family_seq_gen")
+    @SequenceGenerator(name = "user_oauth_rtr_family_seq_gen", sequenceName = "user_oauth_rtr_family_seq", allocationSize = 50)
     @Column(name = "family_id")
     private Long id;
 
@@ -15,6 +15,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -50,7 +51,8 @@ public class UserAccount extends BaseTimeEntity {
     private static final int NICKNAME_MAX_LENGTH = 200;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_account_seq_gen")
+    @SequenceGenerator(name = "user_account_seq_gen", sequenceName = "user_account_seq", allocationSize = 50)
     @Column(name = "account_id")
     private Long id;
 
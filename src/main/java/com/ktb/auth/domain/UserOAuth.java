@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -43,7 +44,8 @@ import org.springframework.data.annotation.LastModifiedDate;
 public class UserOAuth extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_oauth_seq_gen")
+    @SequenceGenerator(name = "user_oauth_seq_gen", sequenceName = "user_oauth_seq", allocationSize = 50)
     @Column(name = "oauth_id")
     private Long id;
 
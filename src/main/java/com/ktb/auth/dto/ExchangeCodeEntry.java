@@ -1,7 +0,0 @@
-package com.ktb.auth.dto;
-
-public record ExchangeCodeEntry(
-    OAuthExchangePayload payload,
-    long createdAt
-) {
-}
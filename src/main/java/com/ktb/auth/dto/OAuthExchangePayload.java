@@ -1,8 +1,15 @@
 package com.ktb.auth.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 교환 코드에 묶어 임시 저장소에 JSON으로 보관하는 로그인 결과
+ * is 접두 boolean 컴포넌트는 JSON 이름을 고정해 직렬화/역직렬화가 같은 키를 쓰게 한다.
+ */
 public record OAuthExchangePayload(
         Long accountId,
         String nickname,
+        @JsonProperty("isNewUser")
         boolean isNewUser,
         String deviceInfo,
         String clientIp
@@ -0,0 +1,8 @@
+package com.ktb.auth.dto;
+
+public record OAuthLoginAccount(
+        Long accountId,
+        String nickname,
+        boolean isNewUser
+) {
+}
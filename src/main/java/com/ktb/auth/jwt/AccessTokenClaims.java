@@ -0,0 +1,15 @@
+package com.ktb.auth.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 검증이 끝난 Access Token 클레임 (불변)
+ * 캐시에 그대로 보관되므로 roles는 방어적으로 복사한다.
+ */
+public record AccessTokenClaims(Long userId, List<String> roles, Instant expiresAt) {
+
+    public AccessTokenClaims {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ktb.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 Access Token 클레임 로컬 캐시 (Caffeine)
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 각 항목은 토큰의 exp 시각에 만료된다.
+ * 검증에 성공한 토큰만 적재하므로 위조 토큰은 항상 서명 검증 경로를 거친다.
+ */
+@Component
+public class AccessTokenClaimsCache {
+
+    private static final String CACHE_NAME = "jwt.access.claims";
+
+    private final Cache<String, AccessTokenClaims> cache;
+
+    public AccessTokenClaimsCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getAccessTokenCacheMaxSize())
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public AccessTokenClaims getIfPresent(String tokenDigest) {
+        AccessTokenClaims claims = cache.getIfPresent(tokenDigest);
+        if (claims != null && !claims.expiresAt().isAfter(Instant.now())) {
+            // 만료 시각 경계에서 정리 전 항목이 조회되는 경우
+            cache.invalidate(tokenDigest);
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(String tokenDigest, AccessTokenClaims claims) {
+        cache.put(tokenDigest, claims);
+    }
+
+    private static final class ExpireAtTokenExpiration implements Expiry<String, AccessTokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, AccessTokenClaims value, long currentTime) {
+            long remaining = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(remaining, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AccessTokenClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AccessTokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
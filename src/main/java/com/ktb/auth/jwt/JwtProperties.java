@@ -31,6 +31,19 @@ public class JwtProperties {
      */
     private Long refreshTokenExpiration = 1209600000L;
 
+    /**
+     * Refresh Token 중복 갱신 유예 시간 (밀리초)
+     * 이 시간 안에 같은 토큰으로 들어온 중복 갱신에는 먼저 발급된 토큰 쌍을 그대로 돌려준다.
+     * 0이면 유예 없이 모든 재사용을 탈취로 판정한다.
+     * 기본값: 10000 (10초)
+     */
+    private Long refreshTokenReuseGracePeriod = 10000L;
+
+    /**
+     * 검증된 Access Token 클레임 캐시 최대 항목 수
+     */
+    private long accessTokenCacheMaxSize = 100_000;
+
     /**
      * JWT Issuer
      */
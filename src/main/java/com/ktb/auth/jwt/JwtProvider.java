@@ -6,6 +6,7 @@ import com.ktb.auth.exception.token.TokenHashingFailedException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -45,13 +46,19 @@ public class JwtProvider {
     private static final String HASH_ALGORITHM = "SHA-256";
 
     private final JwtProperties jwtProperties;
+    private final AccessTokenClaimsCache accessTokenClaimsCache;
     private SecretKey secretKey;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)
         );
+        // JwtParser는 불변/스레드 안전하므로 한 번만 생성해 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String createAccessToken(Long userId, List<String> roles) {
@@ -112,6 +119,31 @@ public class JwtProvider {
         }
     }
 
+    /**
+     * Access Token 검증 (캐시 우선)
+     * 이미 검증한 토큰은 다이제스트로 캐시를 조회해 서명 검증/JSON 파싱을 생략한다.
+     */
+    public AccessTokenClaims verifyAccessToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidAccessTokenException("Access Token이 비어 있습니다");
+        }
+
+        String digest = generateTokenHash(token);
+        AccessTokenClaims cached = accessTokenClaimsCache.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = validateAccessToken(token);
+        AccessTokenClaims verified = new AccessTokenClaims(
+                claims.get(CLAIM_USER_ID, Long.class),
+                extractRoles(claims),
+                claims.getExpiration().toInstant()
+        );
+        accessTokenClaimsCache.put(digest, verified);
+        return verified;
+    }
+
     public Claims validateRefreshToken(String token) {
         if (token == null || token.isBlank()) {
             throw new InvalidRefreshTokenException("Refresh Token이 비어 있습니다");
@@ -190,10 +222,16 @@ public class JwtProvider {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private List<String> extractRoles(Claims claims) {
+        Object roles = claims.get(CLAIM_ROLES);
+        if (!(roles instanceof List<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .map(String::valueOf)
+                .toList();
     }
 }
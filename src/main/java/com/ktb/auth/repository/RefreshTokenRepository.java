@@ -1,8 +1,10 @@
 package com.ktb.auth.repository;
 
 import com.ktb.auth.domain.RefreshToken;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,6 +24,18 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
             "WHERE rt.tokenHash = :tokenHash")
     Optional<RefreshToken> findByTokenHashWithFamily(@Param("tokenHash") String tokenHash);
 
+    /**
+     * 미사용 토큰만 사용 처리 (조건부 UPDATE)
+     * 영향 행 수가 0이면 이미 사용된 토큰 → 재사용 탐지
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt " +
+            "SET rt.used = true, " +
+            "rt.usedAt = :usedAt " +
+            "WHERE rt.id = :tokenId " +
+            "AND rt.used = false")
+    int markAsUsedIfUnused(@Param("tokenId") Long tokenId, @Param("usedAt") LocalDateTime usedAt);
+
     /**
      * Token Hash 존재 여부 확인
      */
@@ -3,6 +3,7 @@ package com.ktb.auth.security.config;
 import com.ktb.auth.config.CorsProperties;
 import com.ktb.auth.security.filter.JwtAuthenticationFilter;
 import com.ktb.auth.security.handler.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,6 +43,9 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()))
 
                 .authorizeHttpRequests(auth -> auth
+                    // SSE 등 비동기 응답 완료 시의 재디스패치 (최초 요청에서 이미 인가됨)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                     // Public 엔드포인트
                     .requestMatchers(
                         "/",
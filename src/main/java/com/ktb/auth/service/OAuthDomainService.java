@@ -3,6 +3,7 @@ package com.ktb.auth.service;
 import com.ktb.auth.domain.OAuthProvider;
 import com.ktb.auth.domain.UserAccount;
 import com.ktb.auth.dto.OAuthExchangePayload;
+import com.ktb.auth.dto.OAuthLoginAccount;
 import com.ktb.auth.dto.response.KakaoUserInfoResponse;
 
 public interface OAuthDomainService {
@@ -32,6 +33,12 @@ public interface OAuthDomainService {
      */
     UserAccount findOrCreateAccount(OAuthProvider provider, String providerUserId, KakaoUserInfoResponse userInfo);
 
+    /**
+     * OAuth 로그인 처리 (계정 조회/생성 + 최종 로그인 시각 갱신)
+     * 제공자 호출이 끝난 뒤 DB 작업만 하나의 트랜잭션으로 수행한다.
+     */
+    OAuthLoginAccount loginOrRegister(OAuthProvider provider, String providerUserId, KakaoUserInfoResponse userInfo);
+
     /**
      * OAuth 연동 정보 갱신
      */
@@ -1,33 +1,33 @@
 package com.ktb.auth.service;
 
+import com.ktb.auth.domain.RefreshToken;
 import com.ktb.auth.domain.RevokeReason;
 import com.ktb.auth.domain.TokenFamily;
 
 public interface RTRService {
 
     /**
-     * 토큰 재사용 탐지
+     * 갱신 대상 토큰 조회 (토큰 + Family + 계정 단일 조회)
+     * Family 활성 상태와 토큰의 familyUuid 일치 여부까지 확인한다.
      */
-    void detectReuse(TokenService.RefreshTokenEntity tokenEntity);
+    RefreshToken findActiveToken(String tokenHash, String familyUuid);
 
     /**
-     * Family 폐기
+     * 토큰 사용 처리 (조건부 UPDATE, compare-and-set)
+     * 영향 행 수로 승자를 정하므로 동시 요청 중 하나만 true를 받는다.
+     *
+     * @return false면 이미 사용된 토큰 (재사용 또는 동시 중복 요청)
      */
-    void revokeFamily(Long familyId, RevokeReason reason);
+    boolean tryConsume(RefreshToken token);
 
     /**
-     * 토큰 사용 처리
+     * Family 폐기
      */
-    void markAsUsed(Long refreshTokenId);
+    void revokeFamily(Long familyId, RevokeReason reason);
 
     /**
      * Family 생성 (새 세션 시작)
      */
     TokenFamily createFamily(Long accountId, String deviceInfo, String clientIp);
-
-    /**
-     * Family 활성 상태 확인
-     */
-    void validateFamilyActive(Long familyId);
 }
 
@@ -1,6 +1,5 @@
 package com.ktb.auth.service;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TokenService {
@@ -20,14 +19,8 @@ public interface TokenService {
      */
     RefreshTokenClaims validateRefreshToken(String refreshToken);
 
-    /**
-     * Refresh Token Hash로 DB 조회
-     */
-    RefreshTokenEntity findByTokenHash(String tokenHash);
-
     // DTO 레코드
     record TokenClaims(Long userId, List<String> roles) {}
     record RefreshTokenClaims(Long userId, String familyUuid) {}
-    record RefreshTokenEntity(Long id, Long familyId, Boolean used, LocalDateTime expiresAt) {}
 }
 
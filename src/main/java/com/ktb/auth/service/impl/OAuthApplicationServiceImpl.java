@@ -1,5 +1,6 @@
 package com.ktb.auth.service.impl;
 
+import com.ktb.auth.cache.RefreshTokenRotationCache;
 import com.ktb.auth.client.KakaoOAuth2Client;
 import com.ktb.auth.config.KakaoOAuthProviderProperties;
 import com.ktb.auth.config.KakaoOAuthRegistrationProperties;
@@ -7,10 +8,10 @@ import com.ktb.auth.domain.OAuthProvider;
 import com.ktb.auth.domain.RefreshToken;
 import com.ktb.auth.domain.RevokeReason;
 import com.ktb.auth.domain.TokenFamily;
-import com.ktb.auth.domain.UserAccount;
 import com.ktb.auth.dto.AuthorizationUrlResult;
 import com.ktb.auth.dto.OAuthExchangeCodeResult;
 import com.ktb.auth.dto.OAuthExchangePayload;
+import com.ktb.auth.dto.OAuthLoginAccount;
 import com.ktb.auth.dto.response.KakaoUserInfoResponse;
 import com.ktb.auth.dto.OAuthLoginResult;
 import com.ktb.auth.dto.TokenRefreshResult;
@@ -19,6 +20,7 @@ import com.ktb.auth.exception.family.FamilyOwnershipException;
 import com.ktb.auth.exception.family.TokenFamilyNotFoundException;
 import com.ktb.auth.exception.oauth.OAuthProviderException;
 import com.ktb.auth.exception.oauth.UnsupportedProviderException;
+import com.ktb.auth.exception.token.TokenReuseDetectedException;
 import com.ktb.auth.jwt.JwtProvider;
 import com.ktb.auth.repository.RefreshTokenRepository;
 import com.ktb.auth.repository.TokenFamilyRepository;
@@ -28,14 +30,16 @@ import com.ktb.auth.service.RTRService;
 import com.ktb.auth.service.TokenService;
 import java.time.LocalDateTime;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OAuthApplicationServiceImpl implements OAuthApplicationService {
 
     private static final String SUPPORTED_PROVIDER_KAKAO = "kakao";
@@ -49,8 +53,36 @@ public class OAuthApplicationServiceImpl implements OAuthApplicationService {
     private final JwtProvider jwtProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final TokenFamilyRepository tokenFamilyRepository;
+    private final RefreshTokenRotationCache refreshTokenRotationCache;
     private final KakaoOAuthProviderProperties kakaoProviderProperties;
     private final KakaoOAuthRegistrationProperties kakaoRegistrationProperties;
+    private final TransactionTemplate writeTransaction;
+
+    public OAuthApplicationServiceImpl(
+            KakaoOAuth2Client kakaoOAuth2Client,
+            OAuthDomainService oauthDomainService,
+            TokenService tokenService,
+            RTRService rtrService,
+            JwtProvider jwtProvider,
+            RefreshTokenRepository refreshTokenRepository,
+            TokenFamilyRepository tokenFamilyRepository,
+            RefreshTokenRotationCache refreshTokenRotationCache,
+            KakaoOAuthProviderProperties kakaoProviderProperties,
+            KakaoOAuthRegistrationProperties kakaoRegistrationProperties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.kakaoOAuth2Client = kakaoOAuth2Client;
+        this.oauthDomainService = oauthDomainService;
+        this.tokenService = tokenService;
+        this.rtrService = rtrService;
+        this.jwtProvider = jwtProvider;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenFamilyRepository = tokenFamilyRepository;
+        this.refreshTokenRotationCache = refreshTokenRotationCache;
+        this.kakaoProviderProperties = kakaoProviderProperties;
+        this.kakaoRegistrationProperties = kakaoRegistrationProperties;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public AuthorizationUrlResult getAuthorizationUrl(String provider) {
@@ -75,8 +107,11 @@ public class OAuthApplicationServiceImpl implements OAuthApplicationService {
         return new AuthorizationUrlResult(redirectUrl);
     }
 
+    /**
+     * 제공자 호출(토큰 교환, 사용자 정보 조회)은 트랜잭션 밖에서 수행하고,
+     * 계정 조회/생성과 로그인 시각 갱신만 도메인 서비스의 짧은 트랜잭션으로 처리한다.
+     */
     @Override
-    @Transactional
     public OAuthExchangeCodeResult handleCallback(String provider, String code, String state, String deviceInfo, String clientIp) {
         if (!SUPPORTED_PROVIDER_KAKAO.equalsIgnoreCase(provider)) {
             throw new UnsupportedProviderException(provider);
@@ -89,26 +124,22 @@ public class OAuthApplicationServiceImpl implements OAuthApplicationService {
 
             KakaoUserInfoResponse userInfo = kakaoOAuth2Client.getUserInfo(kakaoAccessToken);
 
-            UserAccount account = oauthDomainService.findOrCreateAccount(
+            OAuthLoginAccount account = oauthDomainService.loginOrRegister(
                     OAuthProvider.KAKAO,
                     userInfo.getProviderId(),
                     userInfo
             );
 
-            boolean isNewUser = account.getLastLoginAt() == null;
-
-            account.updateLastLogin();
-
             OAuthExchangePayload payload = new OAuthExchangePayload(
-                    account.getId(),
-                    account.getNickname(),
-                    isNewUser,
+                    account.accountId(),
+                    account.nickname(),
+                    account.isNewUser(),
                     deviceInfo,
                     clientIp
             );
             String exchangeCode = oauthDomainService.generateAndStoreExchangeCode(payload);
 
-            log.info("OAuth 로그인 성공: accountId={}, isNewUser={}", account.getId(), isNewUser);
+            log.info("OAuth 로그인 성공: accountId={}, isNewUser={}", account.accountId(), account.isNewUser());
 
             return new OAuthExchangeCodeResult(exchangeCode);
 
@@ -143,35 +174,73 @@ public class OAuthApplicationServiceImpl implements OAuthApplicationService {
         );
     }
 
+    /**
+     * 중복 요청의 선행 회전 대기(최대 수 초)는 트랜잭션 밖에서 하고,
+     * DB 판정(조회, 사용 처리, 새 토큰 저장)만 짧은 트랜잭션으로 처리한다.
+     */
     @Override
-    @Transactional
     public TokenRefreshResult refreshTokens(String refreshToken) {
-        // 1. Refresh Token 검증
+        // 1. Refresh Token 검증 (서명 검증/파싱 1회)
         TokenService.RefreshTokenClaims claims = tokenService.validateRefreshToken(refreshToken);
-
-        // 2. Token Hash로 DB 조회
         String tokenHash = jwtProvider.generateTokenHash(refreshToken);
-        TokenService.RefreshTokenEntity tokenEntity = tokenService.findByTokenHash(tokenHash);
 
-        // 3. 재사용 감지
-        rtrService.detectReuse(tokenEntity);
+        // 2. 같은 토큰의 회전이 이미 진행/완료되었으면 (유예 시간 내) 같은 토큰 쌍을 돌려준다
+        CompletableFuture<TokenRefreshResult> inFlight = refreshTokenRotationCache.tryLead(tokenHash);
+        if (inFlight != null) {
+            Optional<TokenRefreshResult> shared = refreshTokenRotationCache.await(inFlight);
+            if (shared.isPresent()) {
+                log.info("Token Refresh 중복 요청 - 유예 시간 내 동일 토큰 반환: userId={}, familyUuid={}",
+                        claims.userId(), claims.familyUuid());
+                return shared.get();
+            }
+            // 선행 회전이 실패 → 아래 DB 판정으로 진행
+        }
 
-        // 4. Family 활성 상태 확인
-        rtrService.validateFamilyActive(tokenEntity.familyId());
+        try {
+            TokenRefreshResult result = rotate(claims, tokenHash);
+            if (inFlight == null) {
+                refreshTokenRotationCache.publish(tokenHash, result);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            if (inFlight == null) {
+                refreshTokenRotationCache.abandon(tokenHash);
+            }
+            throw e;
+        }
+    }
 
-        // 5. 기존 토큰 사용 처리
-        rtrService.markAsUsed(tokenEntity.id());
+    private TokenRefreshResult rotate(TokenService.RefreshTokenClaims claims, String tokenHash) {
+        Rotation rotation = writeTransaction.execute(status -> consumeAndStore(claims, tokenHash));
+
+        // 재사용 탐지 시 Family 폐기는 위 트랜잭션에서 커밋된 뒤 예외로 알린다
+        if (rotation.reusedFamilyId() != null) {
+            throw new TokenReuseDetectedException(rotation.reusedFamilyId());
+        }
 
-        // 6. 새로운 Access Token 발급
+        // 7. 새로운 Access Token 발급 (DB 접근 없음)
         String newAccessToken = tokenService.issueAccessToken(claims.userId(), DEFAULT_ROLES);
 
-        // 7. 새로운 Refresh Token 발급 (RTR)
-        String newRefreshToken = jwtProvider.createRefreshToken(claims.userId(), claims.familyUuid());
+        log.info("Token Refresh 성공: userId={}, familyUuid={}", claims.userId(), claims.familyUuid());
 
-        // 8. 새로운 RefreshToken DB 저장
-        TokenFamily family = tokenFamilyRepository.findByUuid(claims.familyUuid())
-                .orElseThrow(() -> new TokenFamilyNotFoundException(claims.familyUuid()));
+        return new TokenRefreshResult(newAccessToken, rotation.refreshToken(), jwtProvider.accessTokenExpiresSeconds());
+    }
+
+    private Rotation consumeAndStore(TokenService.RefreshTokenClaims claims, String tokenHash) {
+        // 3. 토큰 + Family + 계정 단일 조회 및 Family 활성 확인
+        RefreshToken currentToken = rtrService.findActiveToken(tokenHash, claims.familyUuid());
+        TokenFamily family = currentToken.getFamily();
+
+        // 4. 사용 처리 (조건부 UPDATE) - 영향 행이 없으면 재사용 탐지 → Family 폐기 (롤백되지 않도록 정상 반환)
+        if (!rtrService.tryConsume(currentToken)) {
+            rtrService.revokeFamily(family.getId(), RevokeReason.REUSE_DETECTED);
+            return Rotation.reused(family.getId());
+        }
+
+        // 5. 새로운 Refresh Token 발급 (RTR)
+        String newRefreshToken = jwtProvider.createRefreshToken(claims.userId(), claims.familyUuid());
 
+        // 6. 새로운 RefreshToken 저장
         String newTokenHash = jwtProvider.generateTokenHash(newRefreshToken);
         RefreshToken newTokenEntity = RefreshToken.builder()
                 .family(family)
@@ -182,9 +251,7 @@ public class OAuthApplicationServiceImpl implements OAuthApplicationService {
 
         family.updateLastUsed();
 
-        log.info("Token Refresh 성공: userId={}, familyUuid={}", claims.userId(), claims.familyUuid());
-
-        return new TokenRefreshResult(newAccessToken, newRefreshToken, jwtProvider.accessTokenExpiresSeconds());
+        return Rotation.rotated(newRefreshToken);
     }
 
     @Override
@@ -214,4 +281,18 @@ public class OAuthApplicationServiceImpl implements OAuthApplicationService {
         log.info("전체 로그아웃 성공: accountId={}, revokedCount={}", accountId, count);
         return count;
     }
+
+    /**
+     * 회전 트랜잭션 결과 (새 Refresh Token 또는 재사용이 탐지된 Family ID)
+     */
+    private record Rotation(String refreshToken, Long reusedFamilyId) {
+
+        static Rotation rotated(String refreshToken) {
+            return new Rotation(refreshToken, null);
+        }
+
+        static Rotation reused(Long familyId) {
+            return new Rotation(null, familyId);
+        }
+    }
 }
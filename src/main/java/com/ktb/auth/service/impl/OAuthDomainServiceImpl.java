@@ -1,10 +1,12 @@
 package com.ktb.auth.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktb.auth.domain.OAuthProvider;
 import com.ktb.auth.domain.UserAccount;
 import com.ktb.auth.domain.UserOAuth;
-import com.ktb.auth.dto.ExchangeCodeEntry;
 import com.ktb.auth.dto.OAuthExchangePayload;
+import com.ktb.auth.dto.OAuthLoginAccount;
 import com.ktb.auth.exception.oauth.InvalidStateException;
 import com.ktb.auth.exception.oauth.OAuthConnectionNotFoundException;
 import com.ktb.auth.exception.oauth.InvalidExchangeCodeException;
@@ -12,10 +14,9 @@ import com.ktb.auth.dto.response.KakaoUserInfoResponse;
 import com.ktb.auth.repository.UserAccountRepository;
 import com.ktb.auth.repository.UserOAuthRepository;
 import com.ktb.auth.service.OAuthDomainService;
-import java.util.Map;
+import com.ktb.auth.store.EphemeralTokenStore;
+import java.time.Duration;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,12 +30,13 @@ public class OAuthDomainServiceImpl implements OAuthDomainService {
 
     private final UserOAuthRepository userOAuthRepository;
     private final UserAccountRepository userAccountRepository;
+    private final EphemeralTokenStore ephemeralTokenStore;
+    private final ObjectMapper objectMapper;
 
-    // 임시 State 저장소 (실제로는 Redis 사용 권장)
-    private final Map<String, Long> stateStore = new ConcurrentHashMap<>();
-    private static final long STATE_EXPIRATION_MS = TimeUnit.MINUTES.toMillis(5);
-    private final Map<String, ExchangeCodeEntry> exchangeCodeStore = new ConcurrentHashMap<>();
-    private static final long EXCHANGE_CODE_EXPIRATION_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final String STATE_NAMESPACE = "oauth-state";
+    private static final Duration STATE_TTL = Duration.ofMinutes(5);
+    private static final String EXCHANGE_CODE_NAMESPACE = "oauth-exchange-code";
+    private static final Duration EXCHANGE_CODE_TTL = Duration.ofMinutes(1);
 
     private static final String DEFAULT_NICKNAME_PREFIX = "사용자";
     private static final int DEFAULT_NICKNAME_SUFFIX_LENGTH = 6;
@@ -42,7 +44,7 @@ public class OAuthDomainServiceImpl implements OAuthDomainService {
     @Override
     public String generateAndStoreState(String provider) {
         String state = UUID.randomUUID().toString();
-        stateStore.put(state, System.currentTimeMillis());
+        ephemeralTokenStore.put(STATE_NAMESPACE, state, provider, STATE_TTL);
 
         log.info("State 생성: provider={}, state={}", provider, state);
         return state;
@@ -50,14 +52,7 @@ public class OAuthDomainServiceImpl implements OAuthDomainService {
 
     @Override
     public void validateAndConsumeState(String state) {
-        Long timestamp = stateStore.remove(state);
-
-        if (timestamp == null) {
-            throw new InvalidStateException();
-        }
-
-        long elapsed = System.currentTimeMillis() - timestamp;
-        if (elapsed > STATE_EXPIRATION_MS) {
+        if (state == null || ephemeralTokenStore.consume(STATE_NAMESPACE, state).isEmpty()) {
             throw new InvalidStateException();
         }
     }
@@ -65,7 +60,7 @@ public class OAuthDomainServiceImpl implements OAuthDomainService {
     @Override
     public String generateAndStoreExchangeCode(OAuthExchangePayload payload) {
         String exchangeCode = UUID.randomUUID().toString();
-        exchangeCodeStore.put(exchangeCode, new ExchangeCodeEntry(payload, System.currentTimeMillis()));
+        ephemeralTokenStore.put(EXCHANGE_CODE_NAMESPACE, exchangeCode, serialize(payload), EXCHANGE_CODE_TTL);
 
         log.info("Exchange code 생성: accountId={}, code={}", payload.accountId(), exchangeCode);
         return exchangeCode;
@@ -73,17 +68,12 @@ public class OAuthDomainServiceImpl implements OAuthDomainService {
 
     @Override
     public OAuthExchangePayload consumeExchangeCode(String exchangeCode) {
-        ExchangeCodeEntry entry = exchangeCodeStore.remove(exchangeCode);
-        if (entry == null) {
+        if (exchangeCode == null) {
             throw new InvalidExchangeCodeException();
         }
-
-        long elapsed = System.currentTimeMillis() - entry.createdAt();
-        if (elapsed > EXCHANGE_CODE_EXPIRATION_MS) {
-            throw new InvalidExchangeCodeException();
-        }
-
-        return entry.payload();
+        return ephemeralTokenStore.consume(EXCHANGE_CODE_NAMESPACE, exchangeCode)
+                .map(this::deserialize)
+                .orElseThrow(InvalidExchangeCodeException::new);
     }
 
     @Override
@@ -95,6 +85,17 @@ public class OAuthDomainServiceImpl implements OAuthDomainService {
                 .orElseGet(() -> createNewAccount(provider, providerUserId, userInfo));
     }
 
+    @Override
+    @Transactional
+    public OAuthLoginAccount loginOrRegister(OAuthProvider provider, String providerUserId, KakaoUserInfoResponse userInfo) {
+        UserAccount account = findOrCreateAccount(provider, providerUserId, userInfo);
+
+        boolean isNewUser = account.getLastLoginAt() == null;
+        account.updateLastLogin();
+
+        return new OAuthLoginAccount(account.getId(), account.getNickname(), isNewUser);
+    }
+
     @Override
     @Transactional
     public void updateOAuthLoginInfo(Long oauthId) {
@@ -125,4 +126,21 @@ public class OAuthDomainServiceImpl implements OAuthDomainService {
 
         return account;
     }
+
+    private String serialize(OAuthExchangePayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("교환 코드 페이로드 직렬화 실패", e);
+        }
+    }
+
+    private OAuthExchangePayload deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, OAuthExchangePayload.class);
+        } catch (JsonProcessingException e) {
+            log.warn("교환 코드 페이로드 역직렬화 실패", e);
+            throw new InvalidExchangeCodeException();
+        }
+    }
 }
@@ -8,12 +8,11 @@ import com.ktb.auth.exception.account.AccountNotFoundException;
 import com.ktb.auth.exception.family.FamilyRevokedException;
 import com.ktb.auth.exception.family.TokenFamilyNotFoundException;
 import com.ktb.auth.exception.token.InvalidRefreshTokenException;
-import com.ktb.auth.exception.token.TokenReuseDetectedException;
 import com.ktb.auth.repository.RefreshTokenRepository;
 import com.ktb.auth.repository.TokenFamilyRepository;
 import com.ktb.auth.repository.UserAccountRepository;
 import com.ktb.auth.service.RTRService;
-import com.ktb.auth.service.TokenService;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,29 +27,34 @@ public class RTRServiceImpl implements RTRService {
     private final UserAccountRepository userAccountRepository;
 
     @Override
-    public void detectReuse(TokenService.RefreshTokenEntity tokenEntity) {
-        if (tokenEntity.used()) {
-            revokeFamily(tokenEntity.familyId(), RevokeReason.REUSE_DETECTED);
-            throw new TokenReuseDetectedException(tokenEntity.familyId());
+    public RefreshToken findActiveToken(String tokenHash, String familyUuid) {
+        RefreshToken token = refreshTokenRepository.findByTokenHashWithFamily(tokenHash)
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        TokenFamily family = token.getFamily();
+        if (!family.getUuid().equals(familyUuid)) {
+            throw new InvalidRefreshTokenException("Refresh Token의 Family가 일치하지 않습니다.");
+        }
+        if (!family.isValid()) {
+            throw new FamilyRevokedException(family.getId());
         }
+
+        return token;
     }
 
     @Override
     @Transactional
-    public void revokeFamily(Long familyId, RevokeReason reason) {
-        TokenFamily family = tokenFamilyRepository.findById(familyId)
-                .orElseThrow(() -> new TokenFamilyNotFoundException(familyId));
-
-        family.revoke(reason);
+    public boolean tryConsume(RefreshToken token) {
+        return refreshTokenRepository.markAsUsedIfUnused(token.getId(), LocalDateTime.now()) == 1;
     }
 
     @Override
     @Transactional
-    public void markAsUsed(Long refreshTokenId) {
-        RefreshToken token = refreshTokenRepository.findById(refreshTokenId)
-                .orElseThrow(() -> new InvalidRefreshTokenException("RefreshToken을 찾을 수 없습니다."));
+    public void revokeFamily(Long familyId, RevokeReason reason) {
+        TokenFamily family = tokenFamilyRepository.findById(familyId)
+                .orElseThrow(() -> new TokenFamilyNotFoundException(familyId));
 
-        token.markAsUsed();
+        family.revoke(reason);
     }
 
     @Override
@@ -62,19 +66,4 @@ public class RTRServiceImpl implements RTRService {
         TokenFamily family = TokenFamily.create(account, deviceInfo, clientIp);
         return tokenFamilyRepository.save(family);
     }
-
-    @Override
-    public void validateFamilyActive(Long familyId) {
-        TokenFamily family = tokenFamilyRepository.findById(familyId)
-                .orElseThrow(() -> new TokenFamilyNotFoundException(familyId));
-
-        if (family.isRevoked()) {
-            throw new FamilyRevokedException();
-        }
-
-        if (family.isExpired()) {
-            throw new FamilyRevokedException();
-        }
-    }
-
 }
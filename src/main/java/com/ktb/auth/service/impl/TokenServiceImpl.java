@@ -2,9 +2,9 @@ package com.ktb.auth.service.impl;
 
 import com.ktb.auth.exception.token.InvalidAccessTokenException;
 import com.ktb.auth.exception.token.InvalidRefreshTokenException;
+import com.ktb.auth.jwt.AccessTokenClaims;
 import com.ktb.auth.jwt.JwtProperties;
 import com.ktb.auth.jwt.JwtProvider;
-import com.ktb.auth.repository.RefreshTokenRepository;
 import com.ktb.auth.service.TokenService;
 import io.jsonwebtoken.Claims;
 import java.util.List;
@@ -19,7 +19,6 @@ public class TokenServiceImpl implements TokenService {
 
     private final JwtProvider jwtProvider;
     private final JwtProperties jwtProperties;
-    private final RefreshTokenRepository refreshTokenRepository;
 
     @Override
     public String issueAccessToken(Long accountId, List<String> roles) {
@@ -29,12 +28,8 @@ public class TokenServiceImpl implements TokenService {
     @Override
     public TokenService.TokenClaims validateAccessToken(String accessToken) {
         try {
-            Claims claims = jwtProvider.validateAccessToken(accessToken);
-            Long userId = claims.get("userId", Long.class);
-            @SuppressWarnings("unchecked")
-            List<String> roles = claims.get("roles", List.class);
-
-            return new TokenService.TokenClaims(userId, roles);
+            AccessTokenClaims claims = jwtProvider.verifyAccessToken(accessToken);
+            return new TokenService.TokenClaims(claims.userId(), claims.roles());
         } catch (Exception e) {
             throw new InvalidAccessTokenException();
         }
@@ -52,16 +47,4 @@ public class TokenServiceImpl implements TokenService {
             throw new InvalidRefreshTokenException(e.getMessage());
         }
     }
-
-    @Override
-    public TokenService.RefreshTokenEntity findByTokenHash(String tokenHash) {
-        return refreshTokenRepository.findByTokenHashWithFamily(tokenHash)
-                .map(token -> new TokenService.RefreshTokenEntity(
-                        token.getId(),
-                        token.getFamily().getId(),
-                        token.getUsed(),
-                        token.getExpiresAt()
-                ))
-                .orElseThrow(InvalidRefreshTokenException::new);
-    }
 }
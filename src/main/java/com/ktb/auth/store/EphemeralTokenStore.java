@@ -0,0 +1,33 @@
+package com.ktb.auth.store;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 일회용 단기 토큰 저장소 (OAuth state, 교환 코드 등)
+ * 모든 항목은 TTL이 지나면 사라지며, consume은 한 번만 성공한다.
+ *
+ * <p>구현 선택: auth.ephemeral-store.engine
+ * <ul>
+ *     <li>memory (기본): 단일 인스턴스용 로컬 캐시</li>
+ *     <li>jdbc: 다중 인스턴스용 DB 테이블 (docs/db/auth_ephemeral_token.sql)</li>
+ * </ul>
+ */
+public interface EphemeralTokenStore {
+
+    /**
+     * 저장
+     *
+     * @param namespace 용도 구분 (예: oauth-state)
+     * @param key       토큰 값
+     * @param value     함께 보관할 값
+     * @param ttl       유효 시간
+     */
+    void put(String namespace, String key, String value, Duration ttl);
+
+    /**
+     * 조회 후 즉시 삭제 (원자적)
+     * 없거나 만료되었으면 empty
+     */
+    Optional<String> consume(String namespace, String key);
+}
@@ -0,0 +1,82 @@
+package com.ktb.auth.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.ktb.auth.config.EphemeralTokenStoreProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 일회용 토큰 저장소 (auth.ephemeral-store.engine=memory)
+ *
+ * <p>Caffeine의 항목별 만료(내부 타이머 휠)와 스케줄러로 소비되지 않은 항목도 TTL 시점에 정리되고,
+ * 최대 크기를 넘으면 오래된 항목부터 축출된다. 축출/만료 수는 cache.evictions 메트릭으로 노출된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.ephemeral-store", name = "engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryEphemeralTokenStore implements EphemeralTokenStore {
+
+    private static final String CACHE_NAME = "auth.ephemeral";
+
+    private final Cache<String, Entry> cache;
+
+    public InMemoryEphemeralTokenStore(EphemeralTokenStoreProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new EntryExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public void put(String namespace, String key, String value, Duration ttl) {
+        cache.put(cacheKey(namespace, key), new Entry(value, System.nanoTime() + ttl.toNanos(), ttl.toNanos()));
+    }
+
+    @Override
+    public Optional<String> consume(String namespace, String key) {
+        Entry entry = cache.asMap().remove(cacheKey(namespace, key));
+        if (entry == null || entry.expiresAtNanos() - System.nanoTime() <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private String cacheKey(String namespace, String key) {
+        return namespace + ':' + key;
+    }
+
+    private record Entry(String value, long expiresAtNanos, long ttlNanos) {
+    }
+
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ktb.auth.store;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 기반 일회용 토큰 저장소 (auth.ephemeral-store.engine=jdbc)
+ * 다중 인스턴스에서 한 인스턴스가 발급한 state/교환 코드를 다른 인스턴스가 소비할 수 있다.
+ *
+ * <p>consume은 조회 후 DELETE 영향 행 수로 소비 주체를 하나로 정한다.
+ * 만료 행은 주기적으로 일괄 삭제한다. 테이블 DDL: docs/db/auth_ephemeral_token.sql
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.ephemeral-store", name = "engine", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class JdbcEphemeralTokenStore implements EphemeralTokenStore {
+
+    private static final String INSERT = """
+            INSERT INTO auth_ephemeral_token (namespace, token_key, token_value, expires_at)
+            VALUES (:namespace, :key, :value, :expiresAt)
+            """;
+
+    private static final String SELECT = """
+            SELECT token_value FROM auth_ephemeral_token
+            WHERE namespace = :namespace AND token_key = :key AND expires_at > :now
+            """;
+
+    private static final String DELETE = """
+            DELETE FROM auth_ephemeral_token
+            WHERE namespace = :namespace AND token_key = :key
+            """;
+
+    private static final String DELETE_EXPIRED = "DELETE FROM auth_ephemeral_token WHERE expires_at <= :now";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void put(String namespace, String key, String value, Duration ttl) {
+        jdbcTemplate.update(INSERT, keyParams(namespace, key)
+                .addValue("value", value)
+                .addValue("expiresAt", Timestamp.valueOf(LocalDateTime.now().plus(ttl))));
+    }
+
+    @Override
+    public Optional<String> consume(String namespace, String key) {
+        MapSqlParameterSource params = keyParams(namespace, key)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+        List<String> values = jdbcTemplate.queryForList(SELECT, params, String.class);
+        // 동시에 같은 키를 소비하면 DELETE에 성공한 한 요청만 값을 받는다
+        if (jdbcTemplate.update(DELETE, params) == 0 || values.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(values.getFirst());
+    }
+
+    @Scheduled(fixedDelayString = "${auth.ephemeral-store.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update(DELETE_EXPIRED,
+                new MapSqlParameterSource("now", Timestamp.valueOf(LocalDateTime.now())));
+        if (purged > 0) {
+            log.debug("만료된 일회용 토큰 정리: {}건", purged);
+        }
+    }
+
+    private MapSqlParameterSource keyParams(String namespace, String key) {
+        return new MapSqlParameterSource()
+                .addValue("namespace", namespace)
+                .addValue("key", key);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktb.common.config;
 
+import java.net.URI;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -9,6 +10,8 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @ConfigurationProperties(prefix = "aws")
@@ -25,6 +28,16 @@ public class S3Config {
     public static class S3Properties {
         private String bucketName;
         private String cdnUrlPrefix;
+
+        /**
+         * S3 호환 저장소 엔드포인트 (MinIO, LocalStack 등). 비어 있으면 AWS 기본 엔드포인트
+         */
+        private String endpoint;
+
+        /**
+         * 경로 방식 주소 사용 여부 (S3 호환 저장소는 대부분 필요)
+         */
+        private boolean pathStyleAccess;
     }
 
     @Getter
@@ -38,19 +51,37 @@ public class S3Config {
     public S3Client s3Client() {
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(
             credentials.getAccessKey(), credentials.getSecretKey());
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
             .region(Region.of(region))
             .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
-            .build();
+            .serviceConfiguration(serviceConfiguration());
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+        return builder.build();
     }
 
     @Bean
     public S3Presigner s3Presigner() {
         AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(
             credentials.getAccessKey(), credentials.getSecretKey());
-        return S3Presigner.builder()
+        S3Presigner.Builder builder = S3Presigner.builder()
             .region(Region.of(region))
             .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+            .serviceConfiguration(serviceConfiguration());
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+        return builder.build();
+    }
+
+    private S3Configuration serviceConfiguration() {
+        return S3Configuration.builder()
+            .pathStyleAccessEnabled(s3.isPathStyleAccess())
             .build();
     }
+
+    private boolean hasEndpointOverride() {
+        return s3.getEndpoint() != null && !s3.getEndpoint().isBlank();
+    }
 }
@@ -43,6 +43,7 @@ public enum ErrorCode {
     QUESTION_CONTENT_HAS_SPACES(400, "Q008", "질문 내용은 앞뒤 공백을 포함할 수 없습니다"),
     QUESTION_CONTENT_TOO_SHORT(400, "Q009", "질문 내용은 2자 이상이어야 합니다"),
     QUESTION_CONTENT_TOO_LONG(400, "Q010", "질문 내용은 200자를 초과할 수 없습니다"),
+    KEYWORD_CHECK_LIMIT_EXCEEDED(400, "Q011", "키워드 체크 요청 개수를 초과했습니다"),
 
     // ==================== Answer 관련 ====================
     ANSWER_NOT_FOUND(404, "A001", "답변을 찾을 수 없습니다"),
@@ -51,6 +52,7 @@ public enum ErrorCode {
     ANSWER_INVALID_CONTENT(400, "A004", "답변 내용이 올바르지 않습니다"),
     ANSWER_INVALID_STATUS_TRANSITION(400, "A005", "허용되지 않는 답변 상태 전이입니다"),
     ANSWER_TYPE_REQUIRED(400, "A006", "답변 유형은 필수입니다"),
+    ANSWER_CONCURRENT_MODIFICATION(409, "A007", "답변이 다른 요청에 의해 변경되었습니다"),
 
     // ==================== File 관련 ====================
     INVALID_FILE_FORMAT(400, "F001", "지원하지 않는 파일 형식입니다"),
@@ -60,6 +62,8 @@ public enum ErrorCode {
     FILE_STORAGE_MIGRATION_FAILED(422, "F005", "파일 저장소 마이그레이션에 실패했습니다"),
     FILE_INVALID_METADATA(400, "F006", "파일 메타데이터가 올바르지 않습니다"),
     FILE_NOT_DELETED(409, "F007", "삭제되지 않은 파일입니다"),
+    FILE_UPLOAD_BUSY(503, "F008", "업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    FILE_UPLOAD_FAILED(502, "F009", "파일 저장소 업로드에 실패했습니다"),
 
     // ==================== Hashtag 관련 ====================
     HASHTAG_NOT_FOUND(404, "H001", "해시태그를 찾을 수 없습니다"),
@@ -90,6 +94,7 @@ public enum ErrorCode {
     AI_FEEDBACK_INTERNAL_SERVER_ERROR(422, "AI010", "AI 서버 내부 오류가 발생했습니다"),
     AI_FEEDBACK_LLM_SERVICE_UNAVAILABLE(422, "AI011", "LLM 서비스 연결에 실패했습니다"),
     AI_FEEDBACK_SERVICE_TEMPORARILY_UNAVAILABLE(422, "AI012", "AI 피드백 서비스를 일시적으로 사용할 수 없습니다"),
+    AI_SERVICE_OVERLOADED(503, "AI013", "AI 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
 
     // ==================== STT 관련 ====================
     STT_SERVICE_ERROR(422, "STT001", "STT 서비스 오류가 발생했습니다"),
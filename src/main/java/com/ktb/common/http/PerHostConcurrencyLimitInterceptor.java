@@ -0,0 +1,108 @@
+package com.ktb.common.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 호스트별 동시 요청 수 제한 인터셉터
+ *
+ * <p>외부 호스트가 느려져도 해당 호스트로 나가는 요청이 maxConcurrentPerHost를 넘지 않게 하여
+ * 요청 스레드가 한 호스트에 모두 묶이지 않도록 한다. 허용량을 acquireTimeout 안에 얻지 못하면
+ * IOException으로 실패시키며, RestClient는 이를 ResourceAccessException으로 감싼다.
+ * 허용량은 응답 본문을 다 읽고 응답이 닫힐 때 반환된다.
+ */
+public class PerHostConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int maxConcurrentPerHost;
+    private final Duration acquireTimeout;
+    private final Map<String, Semaphore> permitsByHost = new ConcurrentHashMap<>();
+
+    public PerHostConcurrencyLimitInterceptor(int maxConcurrentPerHost, Duration acquireTimeout) {
+        if (maxConcurrentPerHost <= 0) {
+            throw new IllegalArgumentException("maxConcurrentPerHost must be positive");
+        }
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        Semaphore permits = permitsByHost.computeIfAbsent(host, ignored -> new Semaphore(maxConcurrentPerHost));
+        acquire(permits, host);
+
+        try {
+            return new PermitReleasingResponse(execution.execute(request, body), permits);
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire(Semaphore permits, String host) throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IOException("동시 요청 한도 초과: host=" + host + ", limit=" + maxConcurrentPerHost);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("동시 요청 허용 대기 중 인터럽트: host=" + host, e);
+        }
+    }
+
+    private static final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate, Semaphore permits) {
+            this.delegate = delegate;
+            this.permits = permits;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
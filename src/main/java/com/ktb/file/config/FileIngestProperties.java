@@ -0,0 +1,28 @@
+package com.ktb.file.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 스트리밍 업로드 설정 (POST /api/files/stream)
+ * 업로드 하나가 파트 버퍼 하나만 쓰므로 힙 사용량 상한은 part-size-bytes × max-concurrent-uploads다.
+ */
+@Component
+@ConfigurationProperties(prefix = "file.ingest")
+@Getter
+@Setter
+public class FileIngestProperties {
+
+    /**
+     * 멀티파트 업로드 파트 크기 (S3 최소 5MB, 마지막 파트 제외)
+     * 첫 파트보다 작은 파일은 멀티파트 없이 한 번에 올린다.
+     */
+    private int partSizeBytes = 8 * 1024 * 1024;
+
+    /**
+     * 동시에 진행할 최대 업로드 수 (초과 요청은 503으로 거절)
+     */
+    private int maxConcurrentUploads = 16;
+}
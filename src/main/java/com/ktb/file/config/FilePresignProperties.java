@@ -0,0 +1,32 @@
+package com.ktb.file.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Presigned URL 일괄 발급 설정 (POST /api/files/presigned-urls)
+ * 서명은 네트워크 없이 CPU만 쓰므로 동시 서명 수는 코어 수를 넘겨도 이득이 없다.
+ */
+@Component
+@ConfigurationProperties(prefix = "file.presign")
+@Getter
+@Setter
+public class FilePresignProperties {
+
+    /**
+     * 한 번에 요청할 수 있는 최대 파일 수
+     */
+    private int batchMaxFiles = 20;
+
+    /**
+     * 동시에 서명할 최대 URL 수 (가상 스레드)
+     */
+    private int maxParallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 이 개수 미만이면 스레드를 띄우지 않고 요청 스레드에서 차례로 서명한다
+     */
+    private int parallelThreshold = 8;
+}
@@ -1,9 +1,14 @@
 package com.ktb.file.controller;
 
 import com.ktb.common.dto.ApiResponse;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.dto.request.BatchPresignedUrlRequest;
 import com.ktb.file.dto.request.PresignedUrlRequest;
+import com.ktb.file.dto.response.BatchPresignedUrlResponse;
+import com.ktb.file.dto.response.FileIngestResponse;
 import com.ktb.file.dto.response.FileUploadConfirmResponse;
 import com.ktb.file.dto.response.PresignedUrlResponse;
+import com.ktb.file.service.FileIngestService;
 import com.ktb.file.service.S3PresignedUrlService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,12 +17,18 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "File API", description = "파일 업로드 관리 API")
@@ -27,9 +38,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class FileController {
 
     private static final String MESSAGE_PRESIGNED_URL_GENERATED = "presigned_url_generated";
+    private static final String MESSAGE_PRESIGNED_URLS_GENERATED = "presigned_urls_generated";
     private static final String MESSAGE_UPLOAD_CONFIRMED = "upload_confirmed";
+    private static final String MESSAGE_FILE_INGESTED = "file_ingested";
 
     private final S3PresignedUrlService s3PresignedUrlService;
+    private final FileIngestService fileIngestService;
 
     @PostMapping("/presigned-url")
     @Operation(
@@ -57,6 +71,32 @@ public class FileController {
         );
     }
 
+    @PostMapping("/presigned-urls")
+    @Operation(
+            summary = "Presigned URL 일괄 생성",
+            description = "여러 파일의 업로드용 Presigned URL을 한 번에 생성합니다. " +
+                    "응답 목록은 요청 순서와 같으며, 파일마다 업로드 후 confirm을 호출해야 합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Presigned URL 일괄 생성 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (파일 수 초과, PUT 외 요청, 허용되지 않은 파일 형식 등)",
+                    content = @Content(schema = @Schema(implementation = com.ktb.common.dto.CommonErrorResponse.class))
+            )
+    })
+    public ResponseEntity<ApiResponse<BatchPresignedUrlResponse>> generatePresignedUrls(
+            @Valid @RequestBody BatchPresignedUrlRequest request
+    ) {
+        BatchPresignedUrlResponse response = s3PresignedUrlService.generatePresignedUrls(request);
+        return ResponseEntity.ok(
+                new ApiResponse<>(MESSAGE_PRESIGNED_URLS_GENERATED, response)
+        );
+    }
+
     @PostMapping("/{fileId}/confirm")
     @Operation(
             summary = "파일 업로드 완료 확인",
@@ -88,4 +128,52 @@ public class FileController {
                 new ApiResponse<>(MESSAGE_UPLOAD_CONFIRMED, response)
         );
     }
+
+    @PostMapping("/stream")
+    @Operation(
+            summary = "서버 스트리밍 업로드",
+            description = "Presigned PUT을 쓸 수 없는 클라이언트용 업로드입니다. " +
+                    "요청 본문(파일 바이트 그대로)을 서버가 S3 멀티파트 업로드로 전달하고, " +
+                    "업로드 완료(UPLOADED) 상태의 파일 정보를 반환합니다. 별도의 confirm 호출이 필요 없습니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "업로드 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (허용되지 않은 파일 형식, 빈 파일 등)",
+                    content = @Content(schema = @Schema(implementation = com.ktb.common.dto.CommonErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "422",
+                    description = "파일 크기 제한 초과",
+                    content = @Content(schema = @Schema(implementation = com.ktb.common.dto.CommonErrorResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "동시 업로드 한도 초과",
+                    content = @Content(schema = @Schema(implementation = com.ktb.common.dto.CommonErrorResponse.class))
+            )
+    })
+    public ResponseEntity<ApiResponse<FileIngestResponse>> ingest(
+            @Parameter(description = "파일 카테고리", example = "VIDEO")
+            @RequestParam FileCategory category,
+            @Parameter(description = "원본 파일명", example = "answer.mp4")
+            @RequestParam("file_name") String fileName,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body
+    ) {
+        FileIngestResponse response = fileIngestService.ingest(
+                category,
+                fileName,
+                contentType.getType() + "/" + contentType.getSubtype(),
+                contentLength,
+                body
+        );
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ApiResponse<>(MESSAGE_FILE_INGESTED, response));
+    }
 }
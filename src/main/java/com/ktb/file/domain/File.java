@@ -15,6 +15,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -53,7 +54,8 @@ public class File extends BaseTimeEntity {
     private static final long PERMANENT_DELETE_DAYS = 7L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_seq_gen")
+    @SequenceGenerator(name = "file_seq_gen", sequenceName = "file_seq", allocationSize = 50)
     @Column(name = "file_id")
     private Long id;
 
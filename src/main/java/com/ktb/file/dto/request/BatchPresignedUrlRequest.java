@@ -0,0 +1,20 @@
+package com.ktb.file.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+@Schema(description = "Presigned URL 일괄 생성 요청 (업로드용 PUT만 지원)")
+public record BatchPresignedUrlRequest(
+
+        @JsonProperty("files")
+        @ArraySchema(schema = @Schema(implementation = PresignedUrlRequest.class),
+                arraySchema = @Schema(description = "업로드할 파일 목록 (최대 file.presign.batch-max-files개)",
+                        requiredMode = Schema.RequiredMode.REQUIRED))
+        @NotEmpty(message = "files는 비어 있을 수 없습니다")
+        List<@Valid PresignedUrlRequest> files
+) {
+}
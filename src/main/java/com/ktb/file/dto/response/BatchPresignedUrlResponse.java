@@ -0,0 +1,17 @@
+package com.ktb.file.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Presigned URL 일괄 생성 응답")
+public record BatchPresignedUrlResponse(
+
+        @JsonProperty("files")
+        @ArraySchema(schema = @Schema(implementation = PresignedUrlResponse.class),
+                arraySchema = @Schema(description = "요청 순서와 같은 순서의 Presigned URL 목록",
+                        requiredMode = Schema.RequiredMode.REQUIRED))
+        List<PresignedUrlResponse> files
+) {
+}
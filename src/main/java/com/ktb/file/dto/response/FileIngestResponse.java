@@ -0,0 +1,28 @@
+package com.ktb.file.dto.response;
+
+import com.ktb.file.domain.FileUploadStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "서버 스트리밍 업로드 응답")
+public record FileIngestResponse(
+
+        @Schema(description = "파일 ID", example = "123", requiredMode = Schema.RequiredMode.REQUIRED)
+        Long fileId,
+
+        @Schema(description = "파일 URL (CDN)", example = "https://cdn.example.com/uploads/video/uuid.mp4",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        String fileUrl,
+
+        @Schema(description = "파일 크기 (bytes)", example = "52428800", requiredMode = Schema.RequiredMode.REQUIRED)
+        long fileSize,
+
+        @Schema(description = "파일 내용 SHA-256 (16진수 64자)",
+                example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        String fileHash,
+
+        @Schema(description = "업로드 상태", example = "UPLOADED", requiredMode = Schema.RequiredMode.REQUIRED,
+                allowableValues = {"PENDING", "UPLOADED", "FAILED"})
+        FileUploadStatus status
+) {
+}
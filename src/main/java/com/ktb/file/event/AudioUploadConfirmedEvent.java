@@ -0,0 +1,13 @@
+package com.ktb.file.event;
+
+/**
+ * 음성 파일 업로드 확인 이벤트 (확인 트랜잭션 커밋 후 처리)
+ *
+ * @param fileId 업로드가 확인된 음성 파일 ID
+ * @param fileUrl 음성 파일 URL
+ */
+public record AudioUploadConfirmedEvent(
+        Long fileId,
+        String fileUrl
+) {
+}
@@ -0,0 +1,11 @@
+package com.ktb.file.exception;
+
+import com.ktb.common.domain.ErrorCode;
+import com.ktb.common.exception.BusinessException;
+
+public class FileUploadBusyException extends BusinessException {
+
+    public FileUploadBusyException() {
+        super(ErrorCode.FILE_UPLOAD_BUSY, ErrorCode.FILE_UPLOAD_BUSY.getMessage());
+    }
+}
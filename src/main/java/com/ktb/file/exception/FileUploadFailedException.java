@@ -0,0 +1,15 @@
+package com.ktb.file.exception;
+
+import com.ktb.common.domain.ErrorCode;
+import com.ktb.common.exception.BusinessException;
+
+public class FileUploadFailedException extends BusinessException {
+
+    public FileUploadFailedException(String message) {
+        super(ErrorCode.FILE_UPLOAD_FAILED, message);
+    }
+
+    public FileUploadFailedException(String message, Throwable cause) {
+        super(ErrorCode.FILE_UPLOAD_FAILED, message, cause);
+    }
+}
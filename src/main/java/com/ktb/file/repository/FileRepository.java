@@ -2,11 +2,25 @@ package com.ktb.file.repository;
 
 import com.ktb.file.domain.File;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * File 엔티티 Repository
  */
 @Repository
 public interface FileRepository extends JpaRepository<File, Long> {
+
+    /**
+     * 해시가 비어 있을 때만 기록 (먼저 기록한 쪽이 유지된다)
+     *
+     * @return 갱신된 행 수 (0이면 이미 해시가 있음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE File f SET f.hash = :hash WHERE f.id = :fileId AND f.hash IS NULL")
+    int updateHashIfAbsent(@Param("fileId") Long fileId, @Param("hash") String hash);
 }
@@ -0,0 +1,18 @@
+package com.ktb.file.service;
+
+/**
+ * 업로드된 파일의 내용 해시(SHA-256) 계산 서비스
+ *
+ * <p>객체 전체를 내려받으므로 업로드 확인 요청이나 DB 트랜잭션 안에서 호출하지 않는다.
+ * 음성 답변 파이프라인이 커밋 이후 STT 결과 캐시를 조회하기 직전에 호출한다.
+ */
+public interface FileContentHashService {
+
+    /**
+     * 음성 파일의 해시를 반환하고, 비어 있으면 S3 객체를 읽어 계산한 뒤 저장합니다.
+     *
+     * @param fileId 파일 ID
+     * @return 내용 해시, 음성 파일이 아니거나 계산할 수 없으면 null
+     */
+    String ensureContentHash(Long fileId);
+}
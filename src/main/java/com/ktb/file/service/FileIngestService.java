@@ -0,0 +1,36 @@
+package com.ktb.file.service;
+
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.dto.response.FileIngestResponse;
+import java.io.InputStream;
+
+/**
+ * 서버 스트리밍 업로드 서비스
+ *
+ * <p>Presigned PUT을 쓸 수 없는 클라이언트용. 요청 본문을 버퍼링하지 않고 고정 크기 파트로 S3 멀티파트 업로드한다.
+ */
+public interface FileIngestService {
+
+    /**
+     * 요청 본문을 S3에 올리고 업로드 완료(UPLOADED) 상태의 파일을 한 번에 저장합니다.
+     * SHA-256 해시는 읽는 동안 함께 계산합니다.
+     *
+     * @param category     파일 카테고리
+     * @param fileName     원본 파일명 (확장자 필수)
+     * @param mimeType     MIME 타입
+     * @param declaredSize Content-Length, 모르면 null (chunked 전송)
+     * @param body         요청 본문 스트림
+     * @return 저장된 파일 정보 (fileId, CDN URL, 크기, 해시)
+     * @throws com.ktb.file.exception.FileInvalidMetadataException 형식/확장자가 허용되지 않거나 빈 파일일 때
+     * @throws com.ktb.file.exception.FileSizeExceededException 카테고리 최대 크기를 넘을 때 (업로드 중단)
+     * @throws com.ktb.file.exception.FileUploadBusyException 동시 업로드 한도를 넘을 때
+     * @throws com.ktb.file.exception.FileUploadFailedException 본문 읽기 또는 S3 업로드 실패 시
+     */
+    FileIngestResponse ingest(
+            FileCategory category,
+            String fileName,
+            String mimeType,
+            Long declaredSize,
+            InputStream body
+    );
+}
@@ -1,6 +1,8 @@
 package com.ktb.file.service;
 
+import com.ktb.file.dto.request.BatchPresignedUrlRequest;
 import com.ktb.file.dto.request.PresignedUrlRequest;
+import com.ktb.file.dto.response.BatchPresignedUrlResponse;
 import com.ktb.file.dto.response.FileUploadConfirmResponse;
 import com.ktb.file.dto.response.PresignedUrlResponse;
 
@@ -19,6 +21,17 @@ public interface S3PresignedUrlService {
      */
     PresignedUrlResponse generatePresignedUrl(PresignedUrlRequest request);
 
+    /**
+     * 여러 파일의 업로드용 Presigned URL을 한 번에 생성합니다.
+     * 전체를 먼저 검증하므로 하나라도 유효하지 않으면 아무것도 저장하지 않습니다.
+     *
+     * @param request 업로드할 파일 목록 (PUT만 허용)
+     * @return 요청 순서와 같은 순서의 Presigned URL 응답 목록
+     * @throws com.ktb.file.exception.FileInvalidMetadataException 파일 수가 한도를 넘거나 메타데이터가 유효하지 않을 때
+     * @throws com.ktb.file.exception.FileSizeExceededException 파일 크기가 제한을 초과할 때
+     */
+    BatchPresignedUrlResponse generatePresignedUrls(BatchPresignedUrlRequest request);
+
     /**
      * S3 파일 업로드 완료를 확인하고 상태를 업데이트합니다.
      *
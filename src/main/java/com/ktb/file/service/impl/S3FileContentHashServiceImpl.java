@@ -0,0 +1,68 @@
+package com.ktb.file.service.impl;
+
+import com.ktb.common.config.S3Config;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.domain.FileUploadStatus;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.file.service.FileContentHashService;
+import com.ktb.file.util.ContentHashUtil;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3FileContentHashServiceImpl implements FileContentHashService {
+
+    private final FileRepository fileRepository;
+    private final S3Client s3Client;
+    private final S3Config s3Config;
+
+    /**
+     * 트랜잭션 없이 조회 → 스트림 해시 → 조건부 UPDATE 순으로 처리해 다운로드 동안 DB 커넥션을 잡지 않는다.
+     * 동시에 계산한 쪽이 있으면 먼저 기록된 값을 그대로 둔다 (같은 내용이므로 값도 같다).
+     */
+    @Override
+    public String ensureContentHash(Long fileId) {
+        File file = fileRepository.findById(fileId).orElse(null);
+        if (file == null
+                || file.getCategory() != FileCategory.AUDIO
+                || file.getUploadStatus() != FileUploadStatus.UPLOADED) {
+            return null;
+        }
+        if (file.getHash() != null) {
+            return file.getHash();
+        }
+
+        String hash = computeContentHash(file.getPath());
+        if (hash != null && fileRepository.updateHashIfAbsent(fileId, hash) == 0) {
+            log.debug("Content hash already recorded - File ID: {}", fileId);
+        }
+        return hash;
+    }
+
+    /**
+     * 업로드된 객체를 스트림으로 읽어 SHA-256 계산 (STT 결과 캐시 등 내용 기준 중복 판별용)
+     * 실패하면 해시 없이 진행한다 (캐시를 건너뛸 뿐 STT는 호출된다).
+     */
+    private String computeContentHash(String s3Key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+            .bucket(s3Config.getS3().getBucketName())
+            .key(s3Key)
+            .build();
+        try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(getObjectRequest)) {
+            return ContentHashUtil.sha256Hex(object);
+        } catch (IOException | SdkException e) {
+            log.warn("Content hash skipped - S3 key: {}, error: {}", s3Key, e.getMessage());
+            return null;
+        }
+    }
+}
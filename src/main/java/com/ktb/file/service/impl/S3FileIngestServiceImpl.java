@@ -0,0 +1,294 @@
+package com.ktb.file.service.impl;
+
+import com.ktb.common.exception.BusinessException;
+import com.ktb.file.config.FileIngestProperties;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.domain.FileUploadStatus;
+import com.ktb.file.domain.StorageType;
+import com.ktb.file.dto.response.FileIngestResponse;
+import com.ktb.file.event.AudioUploadConfirmedEvent;
+import com.ktb.file.exception.FileInvalidMetadataException;
+import com.ktb.file.exception.FileUploadBusyException;
+import com.ktb.file.exception.FileUploadFailedException;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.file.service.FileIngestService;
+import com.ktb.file.util.ContentHashUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * S3 멀티파트 스트리밍 업로드
+ *
+ * <p>요청 본문을 파트 크기 버퍼 하나로 반복해 읽어 올린다 (업로드당 메모리 = 파트 크기, 파일 크기와 무관).
+ * 읽은 바이트는 곧바로 SHA-256에 반영하고, 누적 크기가 카테고리 한도를 넘으면 즉시 업로드를 중단한다.
+ * 파일 메타데이터는 업로드가 끝난 뒤 UPLOADED 상태로 한 번만 저장한다 (PENDING → confirm 단계 없음).
+ */
+@Slf4j
+@Service
+public class S3FileIngestServiceImpl implements FileIngestService {
+
+    static final String METRIC_INGEST_DURATION = "file.ingest.duration";
+    static final String METRIC_INGEST_ACTIVE = "file.ingest.active";
+
+    private final S3Client s3Client;
+    private final S3UploadPolicy uploadPolicy;
+    private final FileRepository fileRepository;
+    private final FileIngestProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore uploadPermits;
+
+    public S3FileIngestServiceImpl(
+            S3Client s3Client,
+            S3UploadPolicy uploadPolicy,
+            FileRepository fileRepository,
+            FileIngestProperties properties,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.s3Client = s3Client;
+        this.uploadPolicy = uploadPolicy;
+        this.fileRepository = fileRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.uploadPermits = new Semaphore(properties.getMaxConcurrentUploads());
+        Gauge.builder(METRIC_INGEST_ACTIVE, uploadPermits,
+                        permits -> properties.getMaxConcurrentUploads() - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public FileIngestResponse ingest(
+            FileCategory category,
+            String fileName,
+            String mimeType,
+            Long declaredSize,
+            InputStream body
+    ) {
+        uploadPolicy.validate(category, fileName, mimeType, declaredSize);
+
+        if (!uploadPermits.tryAcquire()) {
+            throw new FileUploadBusyException();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            String extension = uploadPolicy.extractExtension(fileName);
+            String storedName = uploadPolicy.generateStoredName(extension);
+            String s3Key = uploadPolicy.buildS3Key(category, storedName);
+
+            UploadedObject uploaded = upload(s3Key, mimeType, category, body);
+
+            File saved = save(File.builder()
+                    .originalName(fileName)
+                    .storedName(storedName)
+                    .path(s3Key)
+                    .extension(extension)
+                    .size(uploaded.size())
+                    .hash(uploaded.hash())
+                    .mimeType(mimeType)
+                    .storageType(StorageType.S3)
+                    .category(category)
+                    .url(uploadPolicy.buildCdnUrl(s3Key))
+                    .uploadStatus(FileUploadStatus.UPLOADED)
+                    .build());
+
+            outcome = "success";
+            log.info("File ingested - File ID: {}, S3 Key: {}, Size: {}, Parts: {}",
+                    saved.getId(), s3Key, saved.getReadableSize(), uploaded.parts());
+
+            return new FileIngestResponse(
+                    saved.getId(),
+                    saved.getUrl(),
+                    saved.getSize(),
+                    saved.getHash(),
+                    saved.getUploadStatus()
+            );
+        } finally {
+            uploadPermits.release();
+            sample.stop(Timer.builder(METRIC_INGEST_DURATION).tag("outcome", outcome).register(meterRegistry));
+        }
+    }
+
+    /**
+     * 첫 파트를 다 채우지 못하면 PutObject 한 번, 아니면 멀티파트 업로드
+     */
+    private UploadedObject upload(String s3Key, String mimeType, FileCategory category, InputStream body) {
+        byte[] part = new byte[properties.getPartSizeBytes()];
+        MessageDigest digest = ContentHashUtil.newDigest();
+
+        int read = readPart(body, part);
+        if (read == 0) {
+            throw new FileInvalidMetadataException("빈 파일은 업로드할 수 없습니다");
+        }
+        long size = read;
+        uploadPolicy.validateSize(category, size);
+        digest.update(part, 0, read);
+
+        if (read < part.length) {
+            try {
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(uploadPolicy.bucketName())
+                                .key(s3Key)
+                                .contentType(mimeType)
+                                .contentLength(size)
+                                .build(),
+                        partBody(part, read, mimeType));
+            } catch (SdkException e) {
+                throw new FileUploadFailedException("S3 업로드 실패: " + s3Key, e);
+            }
+            return new UploadedObject(size, ContentHashUtil.toHex(digest), 1);
+        }
+
+        String uploadId = createMultipartUpload(s3Key, mimeType);
+        List<CompletedPart> completedParts = new ArrayList<>();
+        try {
+            while (read > 0) {
+                completedParts.add(uploadPart(s3Key, uploadId, completedParts.size() + 1, part, read));
+
+                read = readPart(body, part);
+                if (read > 0) {
+                    size += read;
+                    uploadPolicy.validateSize(category, size);
+                    digest.update(part, 0, read);
+                }
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(uploadPolicy.bucketName())
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (BusinessException e) {
+            abortMultipartUpload(s3Key, uploadId);
+            throw e;
+        } catch (SdkException e) {
+            abortMultipartUpload(s3Key, uploadId);
+            throw new FileUploadFailedException("S3 멀티파트 업로드 실패: " + s3Key, e);
+        }
+        return new UploadedObject(size, ContentHashUtil.toHex(digest), completedParts.size());
+    }
+
+    private String createMultipartUpload(String s3Key, String mimeType) {
+        try {
+            return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                            .bucket(uploadPolicy.bucketName())
+                            .key(s3Key)
+                            .contentType(mimeType)
+                            .build())
+                    .uploadId();
+        } catch (SdkException e) {
+            throw new FileUploadFailedException("S3 멀티파트 업로드 시작 실패: " + s3Key, e);
+        }
+    }
+
+    private CompletedPart uploadPart(String s3Key, String uploadId, int partNumber, byte[] part, int length) {
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(uploadPolicy.bucketName())
+                                .key(s3Key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        partBody(part, length, null))
+                .eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+    }
+
+    private void abortMultipartUpload(String s3Key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(uploadPolicy.bucketName())
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            // 남은 파트는 버킷 수명 주기 규칙(AbortIncompleteMultipartUpload)으로 정리된다
+            log.warn("Multipart upload abort failed - S3 Key: {}, uploadId: {}, error: {}",
+                    s3Key, uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * 파일 저장 + 음성이면 업로드 확인 이벤트 (커밋 후 음성 답변 파이프라인이 이어서 처리)
+     * 저장에 실패하면 올린 객체를 지워 고아 객체를 남기지 않는다.
+     */
+    private File save(File file) {
+        try {
+            return transactionTemplate.execute(status -> {
+                File saved = fileRepository.save(file);
+                if (saved.getCategory() == FileCategory.AUDIO) {
+                    eventPublisher.publishEvent(new AudioUploadConfirmedEvent(saved.getId(), saved.getUrl()));
+                }
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            deleteObject(file.getPath());
+            throw e;
+        }
+    }
+
+    private void deleteObject(String s3Key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(uploadPolicy.bucketName())
+                    .key(s3Key)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("Orphan object delete failed - S3 Key: {}, error: {}", s3Key, e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼가 가득 차거나 본문이 끝날 때까지 읽는다
+     */
+    private static int readPart(InputStream body, byte[] part) {
+        try {
+            return body.readNBytes(part, 0, part.length);
+        } catch (IOException e) {
+            throw new FileUploadFailedException("업로드 본문을 읽을 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 버퍼를 복사하지 않고 그대로 전송 (SDK 재시도 시 처음부터 다시 읽을 수 있도록 매번 새 스트림 제공)
+     */
+    private static RequestBody partBody(byte[] part, int length, String mimeType) {
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(part, 0, length), length,
+                mimeType != null ? mimeType : "application/octet-stream");
+    }
+
+    private record UploadedObject(long size, String hash, int parts) {
+    }
+}
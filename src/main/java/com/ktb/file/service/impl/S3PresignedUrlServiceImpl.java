@@ -1,58 +1,53 @@
 package com.ktb.file.service.impl;
 
 import com.ktb.common.config.S3Config;
+import com.ktb.file.config.FilePresignProperties;
 import com.ktb.file.domain.File;
 import com.ktb.file.domain.FileCategory;
 import com.ktb.file.domain.FileUploadStatus;
 import com.ktb.file.domain.StorageType;
+import com.ktb.file.dto.request.BatchPresignedUrlRequest;
 import com.ktb.file.dto.request.PresignedUrlMethod;
 import com.ktb.file.dto.request.PresignedUrlRequest;
+import com.ktb.file.dto.response.BatchPresignedUrlResponse;
 import com.ktb.file.dto.response.FileUploadConfirmResponse;
 import com.ktb.file.dto.response.PresignedUrlResponse;
+import com.ktb.file.event.AudioUploadConfirmedEvent;
 import com.ktb.file.exception.FileInvalidMetadataException;
 import com.ktb.file.exception.FileNotFoundException;
-import com.ktb.file.exception.FileSizeExceededException;
 import com.ktb.file.exception.FileStorageMigrationException;
 import com.ktb.file.repository.FileRepository;
 import com.ktb.file.service.S3PresignedUrlService;
-import com.ktb.file.util.SizeUtil;
+import com.ktb.file.service.impl.S3UrlSigner.PutTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import java.time.Duration;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3PresignedUrlServiceImpl implements S3PresignedUrlService {
 
-    private static final int PRESIGNED_URL_EXPIRATION_SECONDS = 300; // 5분
+    private static final int PRESIGNED_URL_EXPIRATION_SECONDS = S3UrlSigner.EXPIRATION_SECONDS;
     private static final String UPLOAD_METHOD = "PUT";
-    private static final String ERROR_MESSAGE_EXTENSION_NOT_FOUND = "파일 확장자를 찾을 수 없습니다";
     private static final String ERROR_MESSAGE_FILE_NOT_UPLOADED = "S3에 파일이 업로드되지 않았습니다";
 
     private final FileRepository fileRepository;
     private final S3Client s3Client;
-    private final S3Presigner s3Presigner;
+    private final S3UrlSigner urlSigner;
 
     private final S3Config s3Config;
-
-    @Value("${aws.s3.key-prefix:uploads}")
-    private String keyPrefix;
+    private final S3UploadPolicy uploadPolicy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FilePresignProperties presignProperties;
 
     @Override
     @Transactional
@@ -64,6 +59,54 @@ public class S3PresignedUrlServiceImpl implements S3PresignedUrlService {
         return generateReadPresignedUrl(request, method);
     }
 
+    /**
+     * 검증 → 서명(병렬) → saveAll 순서로 처리
+     * 서명이 끝난 뒤에 저장하므로 서명 실패 시 PENDING 레코드가 남지 않는다.
+     * File ID는 pooled-lo 시퀀스 블록에서 받아 INSERT가 hibernate.jdbc.batch_size 단위로 묶인다.
+     */
+    @Override
+    @Transactional
+    public BatchPresignedUrlResponse generatePresignedUrls(BatchPresignedUrlRequest request) {
+        List<PresignedUrlRequest> items = request.files();
+        if (items.size() > presignProperties.getBatchMaxFiles()) {
+            throw new FileInvalidMetadataException(
+                    "한 번에 요청할 수 있는 파일은 최대 " + presignProperties.getBatchMaxFiles() + "개입니다");
+        }
+        for (PresignedUrlRequest item : items) {
+            if (resolveMethod(item) != PresignedUrlMethod.PUT) {
+                throw new FileInvalidMetadataException("일괄 요청은 업로드(PUT)만 지원합니다");
+            }
+            uploadPolicy.validate(item.category(), item.fileName(), item.mimeType(), item.fileSize());
+        }
+
+        List<File> entities = new ArrayList<>(items.size());
+        List<PutTarget> targets = new ArrayList<>(items.size());
+        for (PresignedUrlRequest item : items) {
+            File fileEntity = newPendingFile(item);
+            entities.add(fileEntity);
+            targets.add(new PutTarget(fileEntity.getPath(), item.mimeType()));
+        }
+
+        List<String> presignedUrls = urlSigner.presignPutAll(targets);
+        List<File> savedFiles = fileRepository.saveAll(entities);
+
+        List<PresignedUrlResponse> responses = new ArrayList<>(savedFiles.size());
+        for (int i = 0; i < savedFiles.size(); i++) {
+            responses.add(new PresignedUrlResponse(
+                    savedFiles.get(i).getId(),
+                    presignedUrls.get(i),
+                    PRESIGNED_URL_EXPIRATION_SECONDS,
+                    UPLOAD_METHOD
+            ));
+        }
+
+        log.info("Presigned URLs generated - Count: {}, File IDs: {}..{}, Expires in: {}s",
+                savedFiles.size(), savedFiles.getFirst().getId(), savedFiles.getLast().getId(),
+                PRESIGNED_URL_EXPIRATION_SECONDS);
+
+        return new BatchPresignedUrlResponse(responses);
+    }
+
     @Override
     @Transactional
     public FileUploadConfirmResponse confirmUpload(Long fileId) {
@@ -75,14 +118,20 @@ public class S3PresignedUrlServiceImpl implements S3PresignedUrlService {
 
         if (exists) {
             file.setUploadStatus(FileUploadStatus.UPLOADED);
-            String cdnUrl = buildCdnUrl(file.getPath());
+            String cdnUrl = uploadPolicy.buildCdnUrl(file.getPath());
             file.updateUrl(cdnUrl);
             fileRepository.save(file);
 
             log.info("Upload confirmed - File ID: {}, CDN URL: {}", file.getId(), cdnUrl);
 
+            if (file.getCategory() == FileCategory.AUDIO) {
+                // 커밋 후 음성 답변 파이프라인(내용 해시 → STT → 즉각 피드백 → AI 피드백)이 이어서 처리
+                // 객체 다운로드가 필요한 해시 계산은 이 요청/트랜잭션에서 하지 않는다
+                eventPublisher.publishEvent(new AudioUploadConfirmedEvent(file.getId(), cdnUrl));
+            }
+
             // 업로드 확인 응답은 조회용 Presigned GET URL을 반환
-            String presignedUrl = generateS3PresignedGetUrl(file.getPath());
+            String presignedUrl = urlSigner.presignGet(file.getPath());
             return new FileUploadConfirmResponse(
                     file.getId(),
                     presignedUrl,
@@ -112,102 +161,13 @@ public class S3PresignedUrlServiceImpl implements S3PresignedUrlService {
         }
     }
 
-    private String generateS3PresignedUrl(String s3Key, String contentType) {
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-            .bucket(s3Config.getS3().getBucketName())
-            .key(s3Key)
-            .contentType(contentType)
-            .build();
-
-        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-            .signatureDuration(Duration.ofSeconds(PRESIGNED_URL_EXPIRATION_SECONDS))
-            .putObjectRequest(putObjectRequest)
-            .build();
-
-        PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
-
-        return presignedRequest.url().toString();
-    }
-
-    private String generateS3PresignedGetUrl(String s3Key) {
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(s3Config.getS3().getBucketName())
-                .key(s3Key)
-                .build();
-
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofSeconds(PRESIGNED_URL_EXPIRATION_SECONDS))
-                .getObjectRequest(getObjectRequest)
-                .build();
-
-        PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-
-        return presignedRequest.url().toString();
-    }
-
-
-    private void validateMetadata(PresignedUrlRequest request) {
-        FileCategory category = request.category();
-
-        if (!category.isAllowedMimeType(request.mimeType())) {
-            throw new FileInvalidMetadataException(
-                    "허용되지 않은 파일 형식입니다. 허용 형식: " + category.getAllowedMimeTypesAsString()
-            );
-        }
-
-        if (request.fileSize() > category.getMaxSizeBytes()) {
-            throw new FileSizeExceededException(category, SizeUtil.getReadableSize(request.fileSize()));
-        }
-
-        String extension = extractExtension(request.fileName());
-        if (!category.isAllowedExtension(extension)) {
-            throw new FileInvalidMetadataException(
-                    "허용되지 않은 확장자입니다. 허용 확장자: " + category.getAllowedExtensionsAsString()
-            );
-        }
-    }
-
-    private String extractExtension(String fileName) {
-        if (fileName == null || !fileName.contains(".")) {
-            throw new FileInvalidMetadataException(ERROR_MESSAGE_EXTENSION_NOT_FOUND);
-        }
-        return fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
-    }
-
-    private String generateStoredName(String extension) {
-        return UUID.randomUUID().toString() + "." + extension;
-    }
-
-    private String buildS3Key(FileCategory category, String storedName) {
-        return normalizeKeyPrefix() + "/" + category.name().toLowerCase() + "/" + storedName;
-    }
-
-    private String buildCdnUrl(String s3Key) {
-        return normalizeCdnPrefix() + "/" + s3Key;
-    }
-
     private PresignedUrlResponse generateUploadPresignedUrl(PresignedUrlRequest request) {
-        validateMetadata(request);
-
-        String extension = extractExtension(request.fileName());
-        String storedName = generateStoredName(extension);
-        String s3Key = buildS3Key(request.category(), storedName);
-
-        File fileEntity = File.builder()
-                .originalName(request.fileName())
-                .storedName(storedName)
-                .path(s3Key)
-                .extension(extension)
-                .size(request.fileSize())
-                .mimeType(request.mimeType())
-                .storageType(StorageType.S3)
-                .category(request.category())
-                .uploadStatus(FileUploadStatus.PENDING)
-                .build();
+        uploadPolicy.validate(request.category(), request.fileName(), request.mimeType(), request.fileSize());
 
-        File savedFile = fileRepository.save(fileEntity);
+        File savedFile = fileRepository.save(newPendingFile(request));
+        String s3Key = savedFile.getPath();
 
-        String presignedUrl = generateS3PresignedUrl(s3Key, request.mimeType());
+        String presignedUrl = urlSigner.presignPut(s3Key, request.mimeType());
 
         log.info("Presigned URL generated - File ID: {}, S3 Key: {}, Category: {}, Expires in: {}s",
                 savedFile.getId(), s3Key, request.category(), PRESIGNED_URL_EXPIRATION_SECONDS);
@@ -228,7 +188,7 @@ public class S3PresignedUrlServiceImpl implements S3PresignedUrlService {
         File file = fileRepository.findById(request.fileId())
                 .orElseThrow(() -> new FileNotFoundException(request.fileId()));
 
-        String presignedUrl = generateS3PresignedGetUrl(file.getPath());
+        String presignedUrl = urlSigner.presignGet(file.getPath());
 
         log.info("Presigned URL generated - File ID: {}, S3 Key: {}, Method: {}, Expires in: {}s",
                 file.getId(), file.getPath(), method, PRESIGNED_URL_EXPIRATION_SECONDS);
@@ -241,19 +201,24 @@ public class S3PresignedUrlServiceImpl implements S3PresignedUrlService {
         );
     }
 
-    private PresignedUrlMethod resolveMethod(PresignedUrlRequest request) {
-        return request.method() != null ? request.method() : PresignedUrlMethod.PUT;
-    }
+    private File newPendingFile(PresignedUrlRequest request) {
+        String extension = uploadPolicy.extractExtension(request.fileName());
+        String storedName = uploadPolicy.generateStoredName(extension);
 
-    private String normalizeKeyPrefix() {
-        if (keyPrefix == null || keyPrefix.trim().isEmpty()) {
-            return "uploads";
-        }
-        return keyPrefix.endsWith("/") ? keyPrefix.substring(0, keyPrefix.length() - 1) : keyPrefix;
+        return File.builder()
+                .originalName(request.fileName())
+                .storedName(storedName)
+                .path(uploadPolicy.buildS3Key(request.category(), storedName))
+                .extension(extension)
+                .size(request.fileSize())
+                .mimeType(request.mimeType())
+                .storageType(StorageType.S3)
+                .category(request.category())
+                .uploadStatus(FileUploadStatus.PENDING)
+                .build();
     }
 
-    private String normalizeCdnPrefix() {
-        String cdnUrlPrefix = s3Config.getS3().getCdnUrlPrefix();
-        return cdnUrlPrefix.endsWith("/") ? cdnUrlPrefix.substring(0, cdnUrlPrefix.length() - 1) : cdnUrlPrefix;
+    private PresignedUrlMethod resolveMethod(PresignedUrlRequest request) {
+        return request.method() != null ? request.method() : PresignedUrlMethod.PUT;
     }
 }
@@ -0,0 +1,92 @@
+package com.ktb.file.service.impl;
+
+import com.ktb.common.config.S3Config;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.exception.FileInvalidMetadataException;
+import com.ktb.file.exception.FileSizeExceededException;
+import com.ktb.file.util.SizeUtil;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 업로드 공통 규칙 (Presigned PUT / 서버 스트리밍 업로드 공용)
+ * 카테고리별 형식/크기 검증과 저장 이름, 객체 키, CDN URL 규칙을 한곳에서 정한다.
+ */
+@Component
+public class S3UploadPolicy {
+
+    private static final String ERROR_MESSAGE_EXTENSION_NOT_FOUND = "파일 확장자를 찾을 수 없습니다";
+    private static final String DEFAULT_KEY_PREFIX = "uploads";
+
+    private final S3Config s3Config;
+    private final String keyPrefix;
+
+    public S3UploadPolicy(S3Config s3Config, @Value("${aws.s3.key-prefix:uploads}") String keyPrefix) {
+        this.s3Config = s3Config;
+        this.keyPrefix = keyPrefix;
+    }
+
+    /**
+     * @param fileSize 선언된 파일 크기, 모르면 null (스트리밍 업로드는 읽으면서 다시 검사)
+     */
+    public void validate(FileCategory category, String fileName, String mimeType, Long fileSize) {
+        if (!category.isAllowedMimeType(mimeType)) {
+            throw new FileInvalidMetadataException(
+                    "허용되지 않은 파일 형식입니다. 허용 형식: " + category.getAllowedMimeTypesAsString()
+            );
+        }
+
+        if (fileSize != null) {
+            validateSize(category, fileSize);
+        }
+
+        String extension = extractExtension(fileName);
+        if (!category.isAllowedExtension(extension)) {
+            throw new FileInvalidMetadataException(
+                    "허용되지 않은 확장자입니다. 허용 확장자: " + category.getAllowedExtensionsAsString()
+            );
+        }
+    }
+
+    public void validateSize(FileCategory category, long fileSize) {
+        if (fileSize > category.getMaxSizeBytes()) {
+            throw new FileSizeExceededException(category, SizeUtil.getReadableSize(fileSize));
+        }
+    }
+
+    public String extractExtension(String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            throw new FileInvalidMetadataException(ERROR_MESSAGE_EXTENSION_NOT_FOUND);
+        }
+        return fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+    }
+
+    public String generateStoredName(String extension) {
+        return UUID.randomUUID().toString() + "." + extension;
+    }
+
+    public String buildS3Key(FileCategory category, String storedName) {
+        return normalizeKeyPrefix() + "/" + category.name().toLowerCase() + "/" + storedName;
+    }
+
+    public String buildCdnUrl(String s3Key) {
+        return normalizeCdnPrefix() + "/" + s3Key;
+    }
+
+    public String bucketName() {
+        return s3Config.getS3().getBucketName();
+    }
+
+    private String normalizeKeyPrefix() {
+        if (keyPrefix == null || keyPrefix.trim().isEmpty()) {
+            return DEFAULT_KEY_PREFIX;
+        }
+        return keyPrefix.endsWith("/") ? keyPrefix.substring(0, keyPrefix.length() - 1) : keyPrefix;
+    }
+
+    private String normalizeCdnPrefix() {
+        String cdnUrlPrefix = s3Config.getS3().getCdnUrlPrefix();
+        return cdnUrlPrefix.endsWith("/") ? cdnUrlPrefix.substring(0, cdnUrlPrefix.length() - 1) : cdnUrlPrefix;
+    }
+}
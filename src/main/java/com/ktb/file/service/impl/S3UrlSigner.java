@@ -0,0 +1,117 @@
+package com.ktb.file.service.impl;
+
+import com.ktb.common.config.S3Config;
+import com.ktb.file.config.FilePresignProperties;
+import com.ktb.file.exception.FileUploadFailedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * S3 Presigned URL 서명
+ *
+ * <p>서명은 로컬 HMAC 계산뿐이라 네트워크 대기가 없다. 여러 개를 서명할 때는 가상 스레드로 나누되
+ * 동시 서명 수를 코어 수 이하로 묶어 요청 스레드들과 CPU를 다투지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class S3UrlSigner {
+
+    public static final int EXPIRATION_SECONDS = 300; // 5분
+
+    private static final Duration EXPIRATION = Duration.ofSeconds(EXPIRATION_SECONDS);
+
+    private final S3Presigner s3Presigner;
+    private final S3Config s3Config;
+    private final FilePresignProperties properties;
+
+    public String presignPut(String s3Key, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(s3Config.getS3().getBucketName())
+                .key(s3Key)
+                .contentType(contentType)
+                .build();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(EXPIRATION)
+                .putObjectRequest(putObjectRequest)
+                .build();
+
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
+    }
+
+    public String presignGet(String s3Key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(s3Config.getS3().getBucketName())
+                .key(s3Key)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(EXPIRATION)
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    }
+
+    /**
+     * 업로드 URL 일괄 서명
+     *
+     * @param targets 서명할 객체 (S3 키, Content-Type)
+     * @return targets와 같은 순서의 Presigned PUT URL
+     */
+    public List<String> presignPutAll(List<PutTarget> targets) {
+        if (targets.size() < properties.getParallelThreshold() || properties.getMaxParallelism() <= 1) {
+            return targets.stream()
+                    .map(target -> presignPut(target.s3Key(), target.contentType()))
+                    .toList();
+        }
+
+        // 제출하는 쪽이 세마포어를 기다리므로 가상 스레드가 코어 수 이상 쌓이지 않는다
+        Semaphore permits = new Semaphore(properties.getMaxParallelism());
+        List<Future<String>> futures = new ArrayList<>(targets.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (PutTarget target : targets) {
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return presignPut(target.s3Key(), target.contentType());
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            List<String> urls = new ArrayList<>(targets.size());
+            for (Future<String> future : futures) {
+                urls.add(future.get());
+            }
+            return urls;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new FileUploadFailedException("Presigned URL 서명이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new FileUploadFailedException("Presigned URL 서명 실패", e.getCause());
+        }
+    }
+
+    public record PutTarget(String s3Key, String contentType) {
+    }
+}
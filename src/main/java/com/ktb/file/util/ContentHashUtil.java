@@ -0,0 +1,42 @@
+package com.ktb.file.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 파일 내용 해시 (SHA-256, 소문자 16진수 64자)
+ * 스트림을 고정 크기 버퍼로 읽으며 계산하므로 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ */
+public class ContentHashUtil {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ContentHashUtil() {
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    public static String sha256Hex(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest);
+    }
+
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,80 @@
+package com.ktb.hashtag.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.hashtag.config.HashtagCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 해시태그 이름 → ID 프로세스 로컬 캐시 (Caffeine)
+ * 해시태그는 이름이 유일하고 변경/삭제되지 않으므로 한 번 확인한 ID는 계속 유효하다.
+ * 대량 태깅 시 이미 아는 이름은 DB 왕복 없이 해결한다.
+ */
+@Component
+@Slf4j
+public class HashtagIdCache {
+
+    private static final String CACHE_NAME = "hashtag.id";
+
+    private final Cache<String, Long> cache;
+
+    public HashtagIdCache(HashtagCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 이름 목록의 ID 조회
+     * 캐시에 없는 이름만 loader로 한 번에 해결한다.
+     * loader가 방금 생성한 행은 롤백될 수 있으므로, 트랜잭션 진행 중이면 커밋 이후에 캐시에 넣는다.
+     *
+     * @param names  정규화된 해시태그 이름
+     * @param loader 캐시에 없는 이름 → ID (예: HashtagRepository.upsertAllByName)
+     */
+    public Map<String, Long> resolve(Collection<String> names, Function<Set<String>, Map<String, Long>> loader) {
+        Set<String> distinctNames = new LinkedHashSet<>(names);
+        Map<String, Long> resolved = new HashMap<>(cache.getAllPresent(distinctNames));
+
+        Set<String> missing = new LinkedHashSet<>(distinctNames);
+        missing.removeAll(resolved.keySet());
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, Long> loaded = loader.apply(missing);
+        resolved.putAll(loaded);
+        putAfterCommit(loaded);
+
+        log.debug("Hashtag ids resolved - cached: {}, loaded: {}", distinctNames.size() - missing.size(), loaded.size());
+        return resolved;
+    }
+
+    private void putAfterCommit(Map<String, Long> loaded) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.putAll(loaded);
+            return;
+        }
+
+        Map<String, Long> snapshot = Map.copyOf(loaded);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.putAll(snapshot);
+            }
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.ktb.hashtag.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.hashtag.domain.Hashtag;
+import com.ktb.hashtag.domain.QuestionHashtag;
+import com.ktb.hashtag.matcher.KeywordMatcher;
+import com.ktb.hashtag.repository.QuestionHashtagRepository;
+import com.ktb.question.config.QuestionCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 질문별 컴파일된 키워드 매처 캐시
+ * 질문의 키워드(해시태그)가 바뀔 때까지 오토마톤을 재사용한다.
+ */
+@Component
+@Slf4j
+public class QuestionKeywordMatcherCache {
+
+    private static final String CACHE_NAME = "question.keyword-matcher";
+
+    private final QuestionHashtagRepository questionHashtagRepository;
+    private final Cache<Long, CompiledQuestionKeywords> cache;
+
+    public QuestionKeywordMatcherCache(
+            QuestionHashtagRepository questionHashtagRepository,
+            QuestionCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.questionHashtagRepository = questionHashtagRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CompiledQuestionKeywords get(Long questionId) {
+        return cache.get(questionId, this::load);
+    }
+
+    /**
+     * 키워드 변경 시 무효화 (커밋 이후 한 번 더 제거)
+     */
+    public void evict(Long questionId) {
+        cache.invalidate(questionId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(questionId);
+                }
+            });
+        }
+    }
+
+    private CompiledQuestionKeywords load(Long questionId) {
+        List<Hashtag> hashtags = questionHashtagRepository.findKeywordNamesByQuestionId(questionId).stream()
+                .map(QuestionHashtag::getHashtag)
+                .toList();
+
+        log.debug("Compiling keyword matcher - questionId: {}, keywordCount: {}", questionId, hashtags.size());
+        return CompiledQuestionKeywords.of(hashtags);
+    }
+
+    /**
+     * 컴파일된 질문 키워드
+     * 매처의 keywordIndex는 hashtagIds/keywords의 인덱스와 같다.
+     */
+    public record CompiledQuestionKeywords(
+            List<Long> hashtagIds,
+            List<String> keywords,
+            KeywordMatcher matcher
+    ) {
+
+        public static CompiledQuestionKeywords of(List<Hashtag> hashtags) {
+            List<Long> ids = hashtags.stream().map(Hashtag::getId).toList();
+            List<String> names = hashtags.stream().map(Hashtag::getName).toList();
+            return new CompiledQuestionKeywords(ids, names, KeywordMatcher.compile(names));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktb.hashtag.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 해시태그 이름 → ID 로컬 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "hashtag.cache")
+@Getter
+@Setter
+public class HashtagCacheProperties {
+
+    /**
+     * 캐시 최대 항목 수
+     * 해시태그 이름과 ID의 매핑은 바뀌지 않으므로 만료 시간 없이 크기로만 제한한다.
+     */
+    private long maxSize = 100_000;
+}
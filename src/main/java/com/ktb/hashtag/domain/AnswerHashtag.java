@@ -11,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -34,7 +35,8 @@ import lombok.ToString;
 public class AnswerHashtag extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_hashtag_seq_gen")
+    @SequenceGenerator(name = "answer_hashtag_seq_gen", sequenceName = "answer_hashtag_seq", allocationSize = 50)
     @Column(name = "answer_hashtag_id")
     private Long id;
 
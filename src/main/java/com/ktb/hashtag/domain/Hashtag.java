@@ -10,6 +10,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -32,7 +33,8 @@ import lombok.ToString;
 public class Hashtag extends BaseUsableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hashtag_seq_gen")
+    @SequenceGenerator(name = "hashtag_seq_gen", sequenceName = "hashtag_seq", allocationSize = 50)
     @Column(name = "tag_id")
     private Long id;
 
@@ -44,8 +46,7 @@ public class Hashtag extends BaseUsableEntity {
 
     @Builder
     private Hashtag(String name, String description) {
-        validateName(name);
-        this.name = normalizeHashtagName(name);
+        this.name = normalizeName(name);
         this.description = description;
     }
 
@@ -66,11 +67,16 @@ public class Hashtag extends BaseUsableEntity {
         this.description = description;
     }
 
-    private String normalizeHashtagName(String name) {
+    /**
+     * 해시태그 이름 검증 후 저장 형태(trim + 소문자)로 변환
+     * 엔티티를 거치지 않는 일괄 upsert 경로에서도 같은 규칙을 적용하기 위해 공개한다.
+     */
+    public static String normalizeName(String name) {
+        validateName(name);
         return name.trim().toLowerCase();
     }
 
-    private void validateName(String name) {
+    private static void validateName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new HashtagNameRequiredException();
         }
@@ -11,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -34,7 +35,8 @@ import lombok.ToString;
 public class QuestionHashtag extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_hashtag_seq_gen")
+    @SequenceGenerator(name = "question_hashtag_seq_gen", sequenceName = "question_hashtag_seq", allocationSize = 50)
     @Column(name = "question_hashtag_id")
     private Long id;
 
@@ -0,0 +1,17 @@
+package com.ktb.hashtag.matcher;
+
+/**
+ * 키워드 매칭 결과
+ *
+ * @param keywordIndex 컴파일 시 전달한 키워드 목록의 인덱스
+ * @param keyword      매칭된 키워드
+ * @param start        원문 기준 시작 오프셋 (포함)
+ * @param end          원문 기준 종료 오프셋 (제외)
+ */
+public record KeywordMatch(
+        int keywordIndex,
+        String keyword,
+        int start,
+        int end
+) {
+}
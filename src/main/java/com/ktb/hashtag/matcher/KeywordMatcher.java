@@ -0,0 +1,199 @@
+package com.ktb.hashtag.matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho–Corasick 기반 다중 키워드 매처
+ * 키워드 목록을 한 번 오토마톤으로 컴파일해 두고, 답변 텍스트를 한 번만 순회하여 모든 키워드의 등장 위치를 찾는다.
+ * 컴파일된 인스턴스는 불변이므로 여러 스레드에서 공유할 수 있다.
+ *
+ * <p>매칭 규칙
+ * <ul>
+ *     <li>대소문자를 구분하지 않는다 (문자 단위 소문자 변환, 오프셋은 원문 기준).</li>
+ *     <li>키워드 뒤에 붙는 문자는 허용한다. "트랜잭션을", "인덱스는"처럼 조사가 붙은 경우와 "apis"도 매칭된다.</li>
+ *     <li>영문/숫자로 시작하는 키워드는 앞 글자가 영문/숫자이면 매칭하지 않는다. ("ram"은 "program"에서 매칭되지 않음)</li>
+ *     <li>한글로 시작하는 키워드는 복합 명사("클러스터드인덱스")를 고려해 앞 글자를 검사하지 않는다.</li>
+ * </ul>
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final String[] keywords;
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[][] outputs;
+    private final int[] outputLink;
+
+    private KeywordMatcher(String[] keywords, char[][] edgeChars, int[][] edgeTargets,
+                           int[] fail, int[][] outputs, int[] outputLink) {
+        this.keywords = keywords;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.outputLink = outputLink;
+    }
+
+    /**
+     * 키워드 목록을 오토마톤으로 컴파일
+     * 빈 키워드는 무시하지만 인덱스는 유지한다.
+     */
+    public static KeywordMatcher compile(List<String> keywords) {
+        String[] normalized = keywords.stream()
+                .map(keyword -> keyword == null ? "" : lowerCase(keyword))
+                .toArray(String[]::new);
+
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        children.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        for (int index = 0; index < normalized.length; index++) {
+            String keyword = normalized[index];
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(index);
+        }
+
+        int size = children.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            Character[] chars = children.get(node).keySet().toArray(Character[]::new);
+            Arrays.sort(chars);
+            edgeChars[node] = new char[chars.length];
+            edgeTargets[node] = new int[chars.length];
+            for (int i = 0; i < chars.length; i++) {
+                edgeChars[node][i] = chars[i];
+                edgeTargets[node][i] = children.get(node).get(chars[i]);
+            }
+        }
+
+        int[][] outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            List<Integer> list = nodeOutputs.get(node);
+            outputs[node] = list.isEmpty() ? NO_OUTPUT : list.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        Arrays.fill(outputLink, NONE);
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[ROOT]) {
+            fail[target] = ROOT;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int state = fail[node];
+                int next = step(edgeChars, edgeTargets, state, c);
+                while (next == NONE && state != ROOT) {
+                    state = fail[state];
+                    next = step(edgeChars, edgeTargets, state, c);
+                }
+                fail[child] = next == NONE ? ROOT : next;
+
+                int suffix = fail[child];
+                outputLink[child] = outputs[suffix].length > 0 ? suffix : outputLink[suffix];
+                queue.add(child);
+            }
+        }
+
+        return new KeywordMatcher(normalized, edgeChars, edgeTargets, fail, outputs, outputLink);
+    }
+
+    /**
+     * 텍스트에서 모든 키워드 등장 위치를 찾는다 (텍스트 길이에 선형)
+     *
+     * @return 종료 오프셋 순으로 정렬된 매칭 목록
+     */
+    public List<KeywordMatch> findAll(CharSequence text) {
+        if (text == null || text.isEmpty() || edgeChars[ROOT].length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<KeywordMatch> matches = new ArrayList<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+
+            int next = step(edgeChars, edgeTargets, state, c);
+            while (next == NONE && state != ROOT) {
+                state = fail[state];
+                next = step(edgeChars, edgeTargets, state, c);
+            }
+            state = next == NONE ? ROOT : next;
+
+            int node = outputs[state].length > 0 ? state : outputLink[state];
+            while (node != NONE) {
+                for (int keywordIndex : outputs[node]) {
+                    String keyword = keywords[keywordIndex];
+                    int end = i + 1;
+                    int start = end - keyword.length();
+                    if (isAcceptedStart(text, start, keyword)) {
+                        matches.add(new KeywordMatch(keywordIndex, keyword, start, end));
+                    }
+                }
+                node = outputLink[node];
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int position = Arrays.binarySearch(edgeChars[state], c);
+        return position < 0 ? NONE : edgeTargets[state][position];
+    }
+
+    private static boolean isAcceptedStart(CharSequence text, int start, String keyword) {
+        if (start == 0 || !isAsciiLetterOrDigit(keyword.charAt(0))) {
+            return true;
+        }
+        return !isAsciiLetterOrDigit(text.charAt(start - 1));
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static String lowerCase(String keyword) {
+        char[] chars = keyword.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
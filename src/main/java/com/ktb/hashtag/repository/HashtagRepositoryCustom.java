@@ -0,0 +1,17 @@
+package com.ktb.hashtag.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface HashtagRepositoryCustom {
+
+    /**
+     * 해시태그 일괄 upsert
+     * 없는 이름은 생성하고, 이미 있는 이름(동시 생성 포함)은 기존 행을 그대로 사용한다.
+     * uk_tag_nm 충돌로 트랜잭션이 실패하지 않는다.
+     *
+     * @param names 정규화된 해시태그 이름 (Hashtag.normalizeName)
+     * @return 이름 → tag_id
+     */
+    Map<String, Long> upsertAllByName(Collection<String> names);
+}
@@ -0,0 +1,112 @@
+package com.ktb.hashtag.repository;
+
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+/**
+ * 해시태그 upsert (JDBC)
+ *
+ * <p>PostgreSQL: INSERT ... ON CONFLICT (tag_nm) DO NOTHING RETURNING 한 문장으로 생성하고,
+ * 충돌로 반환되지 않은 이름만 IN 조회로 채운다. 경쟁 트랜잭션이 같은 이름을 먼저 넣으면
+ * 그 커밋을 기다린 뒤 DO NOTHING으로 넘어가므로 unique 위반이 발생하지 않는다.
+ *
+ * <p>그 외(H2 테스트 환경): INSERT ... SELECT ... WHERE NOT EXISTS 배치 후 IN 조회.
+ *
+ * <p>식별자는 엔티티와 같은 hashtag_seq에서 발급한다. pooled-lo 블록의 시작 값을 하나씩 쓰므로
+ * Hibernate가 발급하는 블록과 겹치지 않는다.
+ */
+public class HashtagRepositoryCustomImpl implements HashtagRepositoryCustom {
+
+    private static final String SELECT_BY_NAMES = "SELECT tag_id, tag_nm FROM hashtag WHERE tag_nm IN (:names)";
+
+    private static final String H2_INSERT_IF_ABSENT = """
+            INSERT INTO hashtag (tag_id, tag_nm, use_yn, created_at, updated_at)
+            SELECT NEXT VALUE FOR hashtag_seq, :name, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            WHERE NOT EXISTS (SELECT 1 FROM hashtag WHERE tag_nm = :name)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    public HashtagRepositoryCustomImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = isPostgres(jdbcTemplate);
+    }
+
+    @Override
+    public Map<String, Long> upsertAllByName(Collection<String> names) {
+        Set<String> distinctNames = new LinkedHashSet<>(names);
+        if (distinctNames.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> idsByName = new HashMap<>();
+        if (postgres) {
+            insertOnConflictDoNothing(distinctNames, idsByName);
+        } else {
+            insertIfAbsent(distinctNames);
+        }
+
+        List<String> unresolved = distinctNames.stream()
+                .filter(name -> !idsByName.containsKey(name))
+                .toList();
+        if (!unresolved.isEmpty()) {
+            jdbcTemplate.query(SELECT_BY_NAMES, new MapSqlParameterSource("names", unresolved),
+                    rs -> {
+                        idsByName.put(rs.getString("tag_nm"), rs.getLong("tag_id"));
+                    });
+        }
+        return idsByName;
+    }
+
+    private void insertOnConflictDoNothing(Set<String> names, Map<String, Long> idsByName) {
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO hashtag (tag_id, tag_nm, use_yn, created_at, updated_at)
+                VALUES
+                """);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        int index = 0;
+        for (String name : names) {
+            if (index > 0) {
+                sql.append(", ");
+            }
+            sql.append("(nextval('hashtag_seq'), :name").append(index).append(", true, now(), now())");
+            params.addValue("name" + index, name);
+            index++;
+        }
+        sql.append(" ON CONFLICT (tag_nm) DO NOTHING RETURNING tag_id, tag_nm");
+
+        jdbcTemplate.query(sql.toString(), params, rs -> {
+            idsByName.put(rs.getString("tag_nm"), rs.getLong("tag_id"));
+        });
+    }
+
+    private void insertIfAbsent(Set<String> names) {
+        List<SqlParameterSource> batch = new ArrayList<>(names.size());
+        for (String name : names) {
+            batch.add(new MapSqlParameterSource("name", name));
+        }
+        jdbcTemplate.batchUpdate(H2_INSERT_IF_ABSENT, batch.toArray(SqlParameterSource[]::new));
+    }
+
+    private static boolean isPostgres(NamedParameterJdbcTemplate jdbcTemplate) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getJdbcTemplate().getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            return product.toLowerCase().contains("postgres");
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+}
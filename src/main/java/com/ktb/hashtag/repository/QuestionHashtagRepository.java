@@ -18,8 +18,6 @@ public interface QuestionHashtagRepository extends JpaRepository<QuestionHashtag
             """)
     List<QuestionHashtag> findKeywordNamesByQuestionId(@Param("questionId") Long questionId);
 
-    boolean existsByQuestion_IdAndHashtag_NameIgnoreCase(Long questionId, String name);
-
     void deleteByQuestion_Id(Long questionId);
 
     @Query("""
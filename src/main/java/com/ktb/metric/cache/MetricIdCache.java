@@ -0,0 +1,67 @@
+package com.ktb.metric.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.metric.config.MetricCacheProperties;
+import com.ktb.metric.domain.Metric;
+import com.ktb.metric.repository.MetricRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활성 평가 지표 이름 → ID 프로세스 로컬 캐시 (Caffeine)
+ * AI 피드백 지표 저장 시 매번 METRIC 테이블을 조회하지 않도록 한다.
+ * 존재하지 않는 이름은 캐시하지 않는다.
+ */
+@Component
+@Slf4j
+public class MetricIdCache {
+
+    private static final String CACHE_NAME = "metric.id";
+
+    private final Cache<String, Long> cache;
+    private final MetricRepository metricRepository;
+
+    public MetricIdCache(MetricCacheProperties properties, MetricRepository metricRepository,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.metricRepository = metricRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 지표 이름 목록의 ID 조회
+     * 캐시에 없는 이름만 한 번의 IN 조회로 해결하며, 활성 지표가 아닌 이름은 결과에서 빠진다.
+     */
+    public Map<String, Long> resolve(Collection<String> names) {
+        Set<String> distinctNames = new LinkedHashSet<>(names);
+        Map<String, Long> resolved = new HashMap<>(cache.getAllPresent(distinctNames));
+
+        Set<String> missing = new LinkedHashSet<>(distinctNames);
+        missing.removeAll(resolved.keySet());
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, Long> loaded = new HashMap<>();
+        for (Metric metric : metricRepository.findByNameInAndUseYn(missing, true)) {
+            loaded.putIfAbsent(metric.getName(), metric.getId());
+        }
+        cache.putAll(loaded);
+        resolved.putAll(loaded);
+
+        log.debug("Metric ids resolved - cached: {}, loaded: {}", distinctNames.size() - missing.size(), loaded.size());
+        return resolved;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ktb.metric.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평가 지표 이름 → ID 로컬 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "metric.cache")
+@Getter
+@Setter
+public class MetricCacheProperties {
+
+    /**
+     * 캐시 최대 항목 수
+     */
+    private long maxSize = 1_000;
+
+    /**
+     * 캐시 유지 시간
+     * 지표는 관리자가 이름을 바꾸거나 비활성화할 수 있으므로 일정 시간 후 다시 조회한다.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
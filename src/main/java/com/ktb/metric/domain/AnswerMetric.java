@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -35,8 +36,11 @@ import lombok.ToString;
 @ToString(exclude = {"answer", "metric"})
 public class AnswerMetric extends BaseTimeEntity {
 
+    private static final int MAX_COMMENT_LENGTH = 1000;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_metric_seq_gen")
+    @SequenceGenerator(name = "answer_metric_seq_gen", sequenceName = "answer_metric_seq", allocationSize = 50)
     @Column(name = "answer_metric_id")
     private Long id;
 
@@ -51,22 +55,31 @@ public class AnswerMetric extends BaseTimeEntity {
     @Column(name = "answer_metric_score", nullable = false)
     private int score;
 
+    @Column(name = "answer_metric_comment", length = MAX_COMMENT_LENGTH)
+    private String comment;
+
     private final static int MIN_SCORE = 0;
     private final static int MAX_SCORE = 100;
 
     @Builder
-    private AnswerMetric(Answer answer, Metric metric, int score) {
+    private AnswerMetric(Answer answer, Metric metric, int score, String comment) {
         validateScore(score);
         this.answer = answer;
         this.metric = metric;
         this.score = score;
+        this.comment = truncate(comment);
     }
 
     public static AnswerMetric create(Answer answer, Metric metric, int score) {
+        return create(answer, metric, score, null);
+    }
+
+    public static AnswerMetric create(Answer answer, Metric metric, int score, String comment) {
         return AnswerMetric.builder()
                 .answer(answer)
                 .metric(metric)
                 .score(score)
+                .comment(comment)
                 .build();
     }
 
@@ -75,6 +88,16 @@ public class AnswerMetric extends BaseTimeEntity {
         this.score = score;
     }
 
+    /**
+     * LLM 코멘트 길이는 보장되지 않으므로 컬럼 길이에 맞춰 자른다 (한 건 때문에 일괄 저장 전체가 실패하지 않도록)
+     */
+    private static String truncate(String comment) {
+        if (comment == null || comment.length() <= MAX_COMMENT_LENGTH) {
+            return comment;
+        }
+        return comment.substring(0, MAX_COMMENT_LENGTH);
+    }
+
     private void validateScore(int score) {
         if (score < MIN_SCORE || score > MAX_SCORE) {
             throw new MetricInvalidRangeException();
@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -30,7 +31,8 @@ import lombok.ToString;
 public class Metric extends BaseUsableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "metric_seq_gen")
+    @SequenceGenerator(name = "metric_seq_gen", sequenceName = "metric_seq", allocationSize = 50)
     @Column(name = "metric_id")
     private Long id;
 
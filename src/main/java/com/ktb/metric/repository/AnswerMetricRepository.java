@@ -0,0 +1,7 @@
+package com.ktb.metric.repository;
+
+import com.ktb.metric.domain.AnswerMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AnswerMetricRepository extends JpaRepository<AnswerMetric, Long> {
+}
@@ -1,6 +1,8 @@
 package com.ktb.metric.repository;
 
 import com.ktb.metric.domain.Metric;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,4 +13,6 @@ public interface MetricRepository extends JpaRepository<Metric, Long> {
     Slice<Metric> findByIdLessThan(Long cursor, Pageable pageable);
 
     Slice<Metric> findByUseYnAndIdLessThan(boolean useYn, Long cursor, Pageable pageable);
+
+    List<Metric> findByNameInAndUseYn(Collection<String> names, boolean useYn);
 }
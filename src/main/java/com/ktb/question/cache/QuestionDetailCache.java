@@ -0,0 +1,60 @@
+package com.ktb.question.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.question.config.QuestionCacheProperties;
+import com.ktb.question.dto.QuestionDetailResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 질문 상세 로컬 캐시 (Caffeine)
+ * 질문은 관리자만 수정하므로 조회 시 질문/키워드 쿼리를 생략한다.
+ * 히트/미스/축출 통계는 Actuator 메트릭(cache.gets, cache.evictions 등)으로 노출된다.
+ */
+@Component
+@Slf4j
+public class QuestionDetailCache {
+
+    private static final String CACHE_NAME = "question.detail";
+
+    private final Cache<Long, QuestionDetailResponse> cache;
+
+    public QuestionDetailCache(QuestionCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public QuestionDetailResponse get(Long questionId, Function<Long, QuestionDetailResponse> loader) {
+        return cache.get(questionId, loader);
+    }
+
+    /**
+     * 캐시 무효화
+     * 즉시 제거하고, 트랜잭션 진행 중이면 커밋 이후 한 번 더 제거한다.
+     * (커밋 전 다른 요청이 이전 값을 다시 적재하는 경우 방지)
+     */
+    public void evict(Long questionId) {
+        cache.invalidate(questionId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(questionId);
+                }
+            });
+        }
+
+        log.debug("Question detail cache evicted - questionId: {}", questionId);
+    }
+}
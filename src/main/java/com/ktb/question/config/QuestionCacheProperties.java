@@ -0,0 +1,28 @@
+package com.ktb.question.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 질문 조회 로컬 캐시 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "question.cache")
+@Getter
+@Setter
+public class QuestionCacheProperties {
+
+    /**
+     * 캐시 최대 항목 수
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * 항목 만료 시간 (쓰기 기준)
+     * 다중 인스턴스 환경에서 다른 인스턴스의 수정이 반영되는 최대 지연 시간이기도 하다.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,6 +24,7 @@ import lombok.ToString;
 @Entity
 @Table(
         name = "QUESTION",
+        // 커서 페이지네이션 인덱스는 활성 행만 담는 부분 인덱스로 관리: docs/db/question_indexes.sql
         indexes = {}
 )
 @Getter
@@ -33,7 +35,8 @@ public class Question extends BaseActivatableEntity {
     private static final int MAX_CONTENT_LENGTH = 200;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_seq_gen")
+    @SequenceGenerator(name = "question_seq_gen", sequenceName = "question_seq", allocationSize = 50)
     @Column(name = "question_id")
     private Long id;
 
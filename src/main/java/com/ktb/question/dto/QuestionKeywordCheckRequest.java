@@ -7,7 +7,9 @@ import java.util.List;
 
 public record QuestionKeywordCheckRequest(
         @NotEmpty
-        @Size(max = 5)
+        @Size(max = QuestionKeywordCheckRequest.MAX_KEYWORDS)
         List<@NotBlank @Size(max = 100) String> keywords
 ) {
+
+    public static final int MAX_KEYWORDS = 5;
 }
@@ -0,0 +1,12 @@
+package com.ktb.question.exception;
+
+import com.ktb.common.domain.ErrorCode;
+import com.ktb.common.exception.BusinessException;
+
+public class KeywordCheckLimitExceededException extends BusinessException {
+
+    public KeywordCheckLimitExceededException(int maxSize) {
+        super(ErrorCode.KEYWORD_CHECK_LIMIT_EXCEEDED,
+                String.format("키워드는 최대 %d개까지 확인할 수 있습니다.", maxSize));
+    }
+}
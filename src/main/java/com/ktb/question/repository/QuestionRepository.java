@@ -1,51 +1,11 @@
 package com.ktb.question.repository;
 
 import com.ktb.question.domain.Question;
-import com.ktb.question.domain.QuestionCategory;
-import com.ktb.question.domain.QuestionType;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface QuestionRepository extends JpaRepository<Question, Long> {
-
-    @Query("""
-            SELECT q FROM Question q
-            WHERE q.deletedAt IS NULL
-            AND q.useYn = true
-            AND (:type IS NULL OR q.type = :type)
-            AND (:category IS NULL OR q.category = :category)
-            AND (:cursor IS NULL OR q.id < :cursor)
-            ORDER BY q.id DESC
-            """)
-    Slice<Question> findActiveByFilters(
-            @Param("type") QuestionType type,
-            @Param("category") QuestionCategory category,
-            @Param("cursor") Long cursor,
-            Pageable pageable
-    );
-
-    @Query("""
-            SELECT q FROM Question q
-            WHERE q.deletedAt IS NULL
-            AND q.useYn = true
-            AND (:type IS NULL OR q.type = :type)
-            AND (:category IS NULL OR q.category = :category)
-            AND LOWER(q.content) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            AND (:cursor IS NULL OR q.id < :cursor)
-            ORDER BY q.id DESC
-            """)
-    Slice<Question> searchActiveByKeyword(
-            @Param("keyword") String keyword,
-            @Param("type") QuestionType type,
-            @Param("category") QuestionCategory category,
-            @Param("cursor") Long cursor,
-            Pageable pageable
-    );
+public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionRepositoryCustom {
 
     java.util.Optional<Question> findFirstByDeletedAtIsNullAndUseYnTrueOrderByIdDesc();
 }
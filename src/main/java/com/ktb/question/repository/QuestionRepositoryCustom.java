@@ -0,0 +1,22 @@
+package com.ktb.question.repository;
+
+import com.ktb.question.domain.Question;
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.domain.QuestionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface QuestionRepositoryCustom {
+
+    /**
+     * 활성 질문 목록 조회 (필터 + 커서 페이지네이션)
+     * 정렬: question_id DESC
+     * null 필터는 조건에서 제외하여 (type, category, id) 복합 인덱스를 탈 수 있도록 쿼리를 동적으로 구성한다.
+     */
+    Slice<Question> findActiveByFilters(
+            QuestionType type,
+            QuestionCategory category,
+            Long cursor,
+            Pageable pageable
+    );
+}
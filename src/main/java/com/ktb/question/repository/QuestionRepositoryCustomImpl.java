@@ -0,0 +1,59 @@
+package com.ktb.question.repository;
+
+import com.ktb.question.domain.Question;
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.domain.QuestionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+public class QuestionRepositoryCustomImpl implements QuestionRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Question> findActiveByFilters(
+            QuestionType type,
+            QuestionCategory category,
+            Long cursor,
+            Pageable pageable
+    ) {
+        StringBuilder jpql = new StringBuilder("""
+                SELECT q FROM Question q
+                WHERE q.deletedAt IS NULL
+                AND q.useYn = true
+                """);
+        if (type != null) {
+            jpql.append(" AND q.type = :type");
+        }
+        if (category != null) {
+            jpql.append(" AND q.category = :category");
+        }
+        if (cursor != null) {
+            jpql.append(" AND q.id < :cursor");
+        }
+        jpql.append(" ORDER BY q.id DESC");
+
+        TypedQuery<Question> query = entityManager.createQuery(jpql.toString(), Question.class);
+        if (type != null) {
+            query.setParameter("type", type);
+        }
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        if (cursor != null) {
+            query.setParameter("cursor", cursor);
+        }
+
+        int size = pageable.getPageSize();
+        List<Question> content = query.setMaxResults(size + 1).getResultList();
+
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, pageable, hasNext);
+    }
+}
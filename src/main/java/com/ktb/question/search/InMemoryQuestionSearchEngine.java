@@ -0,0 +1,368 @@
+package com.ktb.question.search;
+
+import com.ktb.hashtag.repository.QuestionHashtagRepository;
+import com.ktb.hashtag.repository.QuestionKeywordRow;
+import com.ktb.question.domain.Question;
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.domain.QuestionType;
+import com.ktb.question.repository.QuestionRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 bigram 역색인 검색 백엔드 (기본값, H2/PostgreSQL 공통)
+ *
+ * <p>질문 본문 + 해시태그명을 정규화(소문자, 공백 축약)한 뒤 2-gram 단위로 역색인한다.
+ * 검색 시 검색어 bigram의 포스팅 리스트를 교집합하고 원문 포함 여부로 최종 검증하므로 LIKE '%kw%'와 결과가 같다.
+ * 포스팅 리스트는 ID 내림차순으로 정렬되어 있어 커서 이후 필요한 건수만 순회한다.
+ *
+ * <p>질문 생성/수정/삭제 커밋 후 reindex로 증분 반영하며,
+ * 다른 인스턴스에서 발생한 변경은 주기적 전체 재색인으로 따라잡는다.
+ * 증분 반영은 조회 전에 받은 세대 번호로 순서를 정해, 먼저 읽은 스냅샷이 나중에 읽은 스냅샷을 덮어쓰지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "question.search", name = "engine", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryQuestionSearchEngine implements QuestionSearchEngine {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final QuestionRepository questionRepository;
+    private final QuestionHashtagRepository questionHashtagRepository;
+
+    private volatile Index index = new Index();
+    private List<Long> pendingReindex;
+
+    private final AtomicLong generations = new AtomicLong();
+    // 질문별 마지막으로 반영한 스냅샷의 세대 (this로 보호)
+    private final Map<Long, Long> appliedGenerations = new HashMap<>();
+
+    public InMemoryQuestionSearchEngine(
+            QuestionRepository questionRepository,
+            QuestionHashtagRepository questionHashtagRepository
+    ) {
+        this.questionRepository = questionRepository;
+        this.questionHashtagRepository = questionHashtagRepository;
+    }
+
+    @Override
+    public List<Long> search(String keyword, QuestionType type, QuestionCategory category, Long cursor, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Index current = this.index;
+        if (query.length() < 2) {
+            return scan(current, query, type, category, cursor, limit);
+        }
+
+        List<Posting> postings = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Posting posting = current.postings.get(gram);
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            postings.add(posting);
+        }
+        // ConcurrentSkipListSet.size()는 O(n)이므로 색인 시 함께 관리한 건수로 정렬
+        postings.sort(Comparator.comparingInt(Posting::size));
+
+        NavigableSet<Long> driver = postings.getFirst().ids();
+        if (cursor != null) {
+            driver = driver.tailSet(cursor, false);
+        }
+
+        List<Long> result = new ArrayList<>(limit);
+        for (Long id : driver) {
+            if (!containsInAll(postings, id)) {
+                continue;
+            }
+            Document document = current.documents.get(id);
+            if (document != null && document.matches(query, type, category)) {
+                result.add(id);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void reindex(Long questionId) {
+        long generation = generations.incrementAndGet();
+        Document document = loadDocument(questionId);
+        synchronized (this) {
+            if (pendingReindex != null) {
+                pendingReindex.add(questionId);
+            }
+            if (appliedGenerations.getOrDefault(questionId, 0L) > generation) {
+                // 더 늦게 시작한 재색인이 이미 반영됨 (이 스냅샷이 더 오래되었을 수 있다)
+                log.debug("Stale reindex skipped - questionId: {}", questionId);
+                return;
+            }
+            appliedGenerations.put(questionId, generation);
+            apply(index, questionId, document);
+        }
+    }
+
+    /**
+     * 전체 재색인
+     * 기동 시 1회, 이후 주기적으로 수행한다. 재색인 중 들어온 증분 변경은 새 색인에 다시 반영한 뒤 교체한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${question.search.refresh-interval:600000}",
+            fixedDelayString = "${question.search.refresh-interval:600000}"
+    )
+    public void rebuild() {
+        synchronized (this) {
+            if (pendingReindex != null) {
+                return;
+            }
+            pendingReindex = new ArrayList<>();
+        }
+
+        Index fresh = new Index();
+        try {
+            Long cursor = null;
+            Slice<Question> page;
+            do {
+                page = questionRepository.findActiveByFilters(
+                        null, null, cursor,
+                        PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"))
+                );
+                Map<Long, List<String>> keywordMap = loadKeywords(page.getContent());
+                for (Question question : page.getContent()) {
+                    fresh.put(Document.of(question, keywordMap.getOrDefault(question.getId(), List.of())));
+                    cursor = question.getId();
+                }
+            } while (page.hasNext());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingReindex = null;
+            }
+            log.error("Question search index rebuild failed", e);
+            return;
+        }
+
+        // 재색인 중 들어온 변경은 락 밖에서 다시 조회하고, 락 안에서는 세대 비교 후 반영만 한다
+        Set<Long> pending = drainPendingReindex();
+        while (pending != null) {
+            List<Reload> reloads = new ArrayList<>(pending.size());
+            for (Long questionId : pending) {
+                long generation = generations.incrementAndGet();
+                reloads.add(new Reload(questionId, generation, loadDocument(questionId)));
+            }
+            synchronized (this) {
+                for (Reload reload : reloads) {
+                    // 더 늦게 시작한 재색인은 pendingReindex에 다시 들어 있으므로 다음 차례에 반영된다
+                    if (appliedGenerations.getOrDefault(reload.questionId(), 0L) > reload.generation()) {
+                        continue;
+                    }
+                    appliedGenerations.put(reload.questionId(), reload.generation());
+                    apply(fresh, reload.questionId(), reload.document());
+                }
+                if (pendingReindex.isEmpty()) {
+                    pendingReindex = null;
+                    this.index = fresh;
+                    pending = null;
+                } else {
+                    pending = drainPendingReindex();
+                }
+            }
+        }
+
+        log.info("Question search index rebuilt - documents: {}, grams: {}",
+                fresh.documents.size(), fresh.postings.size());
+    }
+
+    private synchronized Set<Long> drainPendingReindex() {
+        Set<Long> drained = new LinkedHashSet<>(pendingReindex);
+        pendingReindex.clear();
+        return drained;
+    }
+
+    /**
+     * 한 글자 검색어는 bigram이 없으므로 전체 문서를 순회한다
+     */
+    private List<Long> scan(Index current, String query, QuestionType type, QuestionCategory category,
+                            Long cursor, int limit) {
+        return current.documents.values().stream()
+                .filter(document -> cursor == null || document.id() < cursor)
+                .filter(document -> document.matches(query, type, category))
+                .map(Document::id)
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .toList();
+    }
+
+    private void apply(Index target, Long questionId, Document document) {
+        if (document == null) {
+            target.remove(questionId);
+        } else {
+            target.put(document);
+        }
+    }
+
+    private Document loadDocument(Long questionId) {
+        return questionRepository.findById(questionId)
+                .filter(question -> question.getDeletedAt() == null && question.isUseYn())
+                .map(question -> Document.of(question, loadKeywords(List.of(question))
+                        .getOrDefault(questionId, List.of())))
+                .orElse(null);
+    }
+
+    private Map<Long, List<String>> loadKeywords(List<Question> questions) {
+        if (questions.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = questions.stream().map(Question::getId).toList();
+        return questionHashtagRepository.findKeywordRowsByQuestionIdIn(ids).stream()
+                .collect(Collectors.groupingBy(
+                        QuestionKeywordRow::getQuestionId,
+                        Collectors.mapping(QuestionKeywordRow::getKeyword, Collectors.toList())
+                ));
+    }
+
+    private static boolean containsInAll(List<Posting> postings, Long id) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).ids().contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * 2-gram 분해 (필드 구분자를 걸치는 gram은 제외)
+     */
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            String gram = normalized.substring(i, i + 2);
+            if (gram.indexOf(FIELD_SEPARATOR) < 0) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    private record Reload(Long questionId, long generation, Document document) {
+    }
+
+    private record Document(
+            Long id,
+            QuestionType type,
+            QuestionCategory category,
+            String text
+    ) {
+
+        static Document of(Question question, List<String> keywords) {
+            StringBuilder text = new StringBuilder(normalize(question.getContent()));
+            for (String keyword : keywords) {
+                text.append(FIELD_SEPARATOR).append(normalize(keyword));
+            }
+            return new Document(question.getId(), question.getType(), question.getCategory(), text.toString());
+        }
+
+        boolean matches(String query, QuestionType type, QuestionCategory category) {
+            return (type == null || this.type == type)
+                    && (category == null || this.category == category)
+                    && text.contains(query);
+        }
+
+        Set<String> indexGrams() {
+            return grams(text);
+        }
+    }
+
+    /**
+     * 포스팅 리스트 (ID 내림차순) + 건수
+     */
+    private record Posting(NavigableSet<Long> ids, AtomicInteger count) {
+
+        Posting() {
+            this(new ConcurrentSkipListSet<>(Comparator.reverseOrder()), new AtomicInteger());
+        }
+
+        int size() {
+            return count.get();
+        }
+
+        void add(Long id) {
+            if (ids.add(id)) {
+                count.incrementAndGet();
+            }
+        }
+
+        void remove(Long id) {
+            if (ids.remove(id)) {
+                count.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class Index {
+
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+
+        void put(Document document) {
+            remove(document.id());
+            for (String gram : document.indexGrams()) {
+                postings.computeIfAbsent(gram, key -> new Posting()).add(document.id());
+            }
+            documents.put(document.id(), document);
+        }
+
+        void remove(Long questionId) {
+            Document previous = documents.remove(questionId);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : previous.indexGrams()) {
+                Posting posting = postings.get(gram);
+                if (posting != null) {
+                    posting.remove(questionId);
+                    if (posting.ids().isEmpty()) {
+                        postings.remove(gram, posting);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ktb.question.search;
+
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.domain.QuestionType;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL pg_trgm + GIN 인덱스 기반 검색 백엔드 (question.search.engine=pg-trgm)
+ *
+ * <p>ILIKE '%kw%'가 trigram GIN 인덱스를 사용하므로 순차 스캔 없이 후보를 찾는다.
+ * 인덱스는 DB가 유지하므로 reindex는 아무 것도 하지 않는다.
+ * 필요한 확장/인덱스 DDL: docs/db/question_search_pg_trgm.sql
+ */
+@Component
+@ConditionalOnProperty(prefix = "question.search", name = "engine", havingValue = "pg-trgm")
+@RequiredArgsConstructor
+public class PostgresTrgmQuestionSearchEngine implements QuestionSearchEngine {
+
+    private static final String BASE_QUERY = """
+            SELECT q.question_id
+            FROM question q
+            WHERE q.deleted_at IS NULL
+            AND q.use_yn = true
+            AND (q.question_content ILIKE :pattern ESCAPE '\\'
+                 OR EXISTS (
+                     SELECT 1
+                     FROM question_hashtag qh
+                     JOIN hashtag h ON h.tag_id = qh.tag_id
+                     WHERE qh.question_id = q.question_id
+                     AND h.tag_nm ILIKE :pattern ESCAPE '\\'
+                 ))
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> search(String keyword, QuestionType type, QuestionCategory category, Long cursor, int limit) {
+        StringBuilder sql = new StringBuilder(BASE_QUERY);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("pattern", "%" + escapeLike(keyword.trim()) + "%")
+                .addValue("limit", limit);
+
+        if (type != null) {
+            sql.append(" AND q.question_type_cd = :type");
+            params.addValue("type", type.name());
+        }
+        if (category != null) {
+            sql.append(" AND q.question_ctg = :category");
+            params.addValue("category", category.name());
+        }
+        if (cursor != null) {
+            sql.append(" AND q.question_id < :cursor");
+            params.addValue("cursor", cursor);
+        }
+        sql.append(" ORDER BY q.question_id DESC LIMIT :limit");
+
+        return jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+
+    @Override
+    public void reindex(Long questionId) {
+        // GIN 인덱스는 DB가 갱신한다
+    }
+
+    private String escapeLike(String keyword) {
+        return keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
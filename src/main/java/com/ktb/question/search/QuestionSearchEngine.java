@@ -0,0 +1,32 @@
+package com.ktb.question.search;
+
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.domain.QuestionType;
+import java.util.List;
+
+/**
+ * 질문 검색 백엔드
+ * 질문 본문과 해시태그명을 대상으로 부분 문자열 검색을 수행하고, 질문 ID 내림차순 커서 페이지를 반환한다.
+ */
+public interface QuestionSearchEngine {
+
+    /**
+     * 활성 질문 검색
+     *
+     * @param keyword  검색어 (대소문자 무시, 부분 일치)
+     * @param type     질문 유형 필터 (nullable)
+     * @param category 질문 카테고리 필터 (nullable)
+     * @param cursor   이전 페이지 마지막 질문 ID (nullable, 해당 ID 미만만 조회)
+     * @param limit    최대 반환 건수
+     * @return 질문 ID 내림차순 목록
+     */
+    List<Long> search(String keyword, QuestionType type, QuestionCategory category, Long cursor, int limit);
+
+    /**
+     * 질문 재색인
+     * 커밋된 DB 상태 기준으로 반영하며, 삭제/비활성 질문은 색인에서 제거한다.
+     *
+     * @param questionId 질문 ID
+     */
+    void reindex(Long questionId);
+}
@@ -1,10 +1,13 @@
 package com.ktb.question.service.impl;
 
+import com.ktb.hashtag.cache.HashtagIdCache;
+import com.ktb.hashtag.cache.QuestionKeywordMatcherCache;
 import com.ktb.hashtag.domain.Hashtag;
 import com.ktb.hashtag.domain.QuestionHashtag;
 import com.ktb.hashtag.repository.HashtagRepository;
 import com.ktb.hashtag.repository.QuestionKeywordRow;
 import com.ktb.hashtag.repository.QuestionHashtagRepository;
+import com.ktb.question.cache.QuestionDetailCache;
 import com.ktb.question.domain.Question;
 import com.ktb.question.domain.QuestionCategory;
 import com.ktb.question.domain.QuestionType;
@@ -12,20 +15,25 @@ import com.ktb.question.dto.KeywordMatchResponse;
 import com.ktb.question.dto.PaginationResponse;
 import com.ktb.question.dto.QuestionCreateRequest;
 import com.ktb.question.dto.QuestionDetailResponse;
+import com.ktb.question.dto.QuestionKeywordCheckRequest;
 import com.ktb.question.dto.QuestionKeywordCheckResponse;
 import com.ktb.question.dto.QuestionKeywordListResponse;
 import com.ktb.question.dto.QuestionListResponse;
 import com.ktb.question.dto.QuestionSearchResponse;
 import com.ktb.question.dto.QuestionSummaryResponse;
 import com.ktb.question.dto.QuestionUpdateRequest;
+import com.ktb.question.exception.KeywordCheckLimitExceededException;
 import com.ktb.question.exception.QuestionNotFoundException;
 import com.ktb.question.exception.SearchKeywordTooShortException;
 import com.ktb.question.repository.QuestionRepository;
+import com.ktb.question.search.QuestionSearchEngine;
 import com.ktb.question.service.QuestionService;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,8 +41,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -46,6 +57,10 @@ public class QuestionServiceImpl implements QuestionService {
     private final QuestionRepository questionRepository;
     private final QuestionHashtagRepository questionHashtagRepository;
     private final HashtagRepository hashtagRepository;
+    private final QuestionDetailCache questionDetailCache;
+    private final QuestionKeywordMatcherCache questionKeywordMatcherCache;
+    private final HashtagIdCache hashtagIdCache;
+    private final QuestionSearchEngine questionSearchEngine;
 
     @Override
     public QuestionListResponse getQuestions(QuestionCategory category, QuestionType type, Long cursor, int size) {
@@ -61,18 +76,15 @@ public class QuestionServiceImpl implements QuestionService {
 
     @Override
     public QuestionDetailResponse getQuestionDetail(Long questionId) {
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new QuestionNotFoundException(questionId));
-
-        return toDetailResponse(question);
+        return questionDetailCache.get(questionId, this::loadQuestionDetail);
     }
 
     @Override
     public QuestionSearchResponse search(String keyword, QuestionCategory category, QuestionType type, Long cursor, int size) {
         validateKeyword(keyword);
 
-        PageRequest pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id"));
-        Slice<Question> questions = questionRepository.searchActiveByKeyword(keyword, type, category, cursor, pageable);
+        List<Long> ids = questionSearchEngine.search(keyword.trim(), type, category, cursor, size + 1);
+        Slice<Question> questions = loadSearchPage(ids, size);
         Map<Long, List<String>> keywordMap = loadKeywordsByQuestionIds(questions.getContent());
 
         return new QuestionSearchResponse(
@@ -95,6 +107,7 @@ public class QuestionServiceImpl implements QuestionService {
         Question question = Question.create(request.content(), request.type(), request.category());
         Question saved = questionRepository.save(question);
         attachKeywords(saved, request.keywords());
+        onQuestionChanged(saved.getId());
 
         return toDetailResponse(saved);
     }
@@ -124,6 +137,7 @@ public class QuestionServiceImpl implements QuestionService {
         if (request.keywords() != null) {
             replaceKeywords(question, request.keywords());
         }
+        onQuestionChanged(questionId);
 
         return toDetailResponse(question);
     }
@@ -136,29 +150,28 @@ public class QuestionServiceImpl implements QuestionService {
 
         if (question.isUseYn()) {
             question.delete();
+            onQuestionChanged(questionId);
         }
     }
 
     @Override
     public QuestionKeywordListResponse getQuestionKeywords(Long questionId) {
-        validateQuestionExists(questionId);
-        List<QuestionHashtag> tags = questionHashtagRepository.findKeywordNamesByQuestionId(questionId);
-
-        List<String> keywords = tags.stream()
-            .map(questionHashtag -> questionHashtag.getHashtag().getName())
-            .toList();
-
-        return new QuestionKeywordListResponse(keywords);
+        return new QuestionKeywordListResponse(getQuestionDetail(questionId).keywords());
     }
 
     @Override
     public QuestionKeywordCheckResponse checkQuestionKeywords(Long questionId, List<String> keywords) {
-        validateQuestionExists(questionId);
+        if (keywords.size() > QuestionKeywordCheckRequest.MAX_KEYWORDS) {
+            throw new KeywordCheckLimitExceededException(QuestionKeywordCheckRequest.MAX_KEYWORDS);
+        }
+
+        // 질문 키워드 집합 한 번으로 전체 판정 (캐시 히트 시 쿼리 없음)
+        Set<String> questionKeywords = new HashSet<>(getQuestionDetail(questionId).keywords());
+
         List<KeywordMatchResponse> results = keywords.stream()
                 .map(keyword -> new KeywordMatchResponse(
                         keyword,
-                        questionHashtagRepository
-                                .existsByQuestion_IdAndHashtag_NameIgnoreCase(questionId, keyword)
+                        questionKeywords.contains(keyword.trim().toLowerCase())
                 ))
                 .toList();
         return new QuestionKeywordCheckResponse(results);
@@ -185,6 +198,13 @@ public class QuestionServiceImpl implements QuestionService {
                 .toList();
     }
 
+    private QuestionDetailResponse loadQuestionDetail(Long questionId) {
+        Question question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new QuestionNotFoundException(questionId));
+
+        return toDetailResponse(question);
+    }
+
     private QuestionDetailResponse toDetailResponse(Question question) {
         List<QuestionHashtag> tags = questionHashtagRepository.findKeywordNamesByQuestionId(question.getId());
 
@@ -213,10 +233,43 @@ public class QuestionServiceImpl implements QuestionService {
         return new PaginationResponse(nextCursor, slice.hasNext(), slice.getSize());
     }
 
-    private void validateQuestionExists(Long questionId) {
-        if (!questionRepository.existsById(questionId)) {
-            throw new QuestionNotFoundException(questionId);
+    /**
+     * 검색 결과 ID 순서대로 질문을 조회하여 커서 페이지 구성 (size + 1건 조회로 hasNext 판단)
+     */
+    private Slice<Question> loadSearchPage(List<Long> ids, int size) {
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        Map<Long, Question> questionMap = questionRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+        List<Question> questions = pageIds.stream()
+                .map(questionMap::get)
+                .filter(question -> question != null && question.getDeletedAt() == null && question.isUseYn())
+                .toList();
+
+        return new SliceImpl<>(questions, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * 질문/키워드 변경 시 캐시 무효화 및 커밋 후 검색 색인 갱신
+     */
+    private void onQuestionChanged(Long questionId) {
+        questionDetailCache.evict(questionId);
+        questionKeywordMatcherCache.evict(questionId);
+        runAfterCommit(() -> questionSearchEngine.reindex(questionId));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     private void attachKeywords(Question question, List<String> keywords) {
@@ -225,33 +278,19 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         List<String> normalized = keywords.stream()
-                .map(keyword -> keyword.trim().toLowerCase())
+                .map(String::trim)
+                .map(Hashtag::normalizeName)
                 .distinct()
                 .toList();
 
-        List<Hashtag> existing = hashtagRepository.findByNameIn(normalized);
-        Map<String, Hashtag> existingByName = existing.stream()
-                .collect(Collectors.toMap(Hashtag::getName, Function.identity()));
-
-        List<Hashtag> toCreate = new ArrayList<>();
-        for (String name : normalized) {
-            if (!existingByName.containsKey(name)) {
-                toCreate.add(Hashtag.create(name));
-            }
-        }
-
-        if (!toCreate.isEmpty()) {
-            List<Hashtag> created = hashtagRepository.saveAll(toCreate);
-            for (Hashtag hashtag : created) {
-                existingByName.put(hashtag.getName(), hashtag);
-            }
-        }
+        // 이미 아는 이름은 캐시로, 나머지는 upsert 한 번으로 해결 (동시 생성 시에도 unique 충돌 없음)
+        Map<String, Long> hashtagIds = hashtagIdCache.resolve(normalized, hashtagRepository::upsertAllByName);
 
         List<QuestionHashtag> mappings = new ArrayList<>();
         for (String name : normalized) {
-            Hashtag hashtag = existingByName.get(name);
-            if (hashtag != null) {
-                mappings.add(QuestionHashtag.create(question, hashtag));
+            Long hashtagId = hashtagIds.get(name);
+            if (hashtagId != null) {
+                mappings.add(QuestionHashtag.create(question, hashtagRepository.getReferenceById(hashtagId)));
             }
         }
 
@@ -262,6 +301,7 @@ public class QuestionServiceImpl implements QuestionService {
 
     private void replaceKeywords(Question question, List<String> keywords) {
         questionHashtagRepository.deleteByQuestion_Id(question.getId());
+        onQuestionChanged(question.getId());
         if (keywords == null || keywords.isEmpty()) {
             return;
         }
@@ -0,0 +1,211 @@
+package com.ktb.ai.feedback.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.ai.common.config.AiResilienceProperties;
+import com.ktb.ai.common.exception.AiServiceOverloadedException;
+import com.ktb.ai.common.resilience.AiResilienceGuard;
+import com.ktb.ai.feedback.dto.request.AiFeedbackRequest;
+import com.ktb.ai.feedback.exception.AiFeedbackRateLimitException;
+import com.ktb.ai.feedback.exception.AiFeedbackServiceTemporarilyUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AiFeedbackClient 호출 보호 테스트 (로컬 스텁 AI 서버)")
+class AiFeedbackClientResilienceTest {
+
+    private static final String ENDPOINT = "/ai/interview/feedback/request";
+    private static final String SUCCESS_BODY = "{\"message\":\"generate_feedback_success\",\"data\":null}";
+    private static final int MAX_CONCURRENT_CALLS = 4;
+
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+    private final AtomicInteger responseDelayMs = new AtomicInteger(0);
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private ExecutorService stubExecutor;
+    private HttpServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private AiResilienceGuard guard;
+    private AiFeedbackClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubExecutor = Executors.newCachedThreadPool();
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext(ENDPOINT, exchange -> {
+            hits.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(responseDelayMs.get());
+                int status = responseStatus.get();
+                byte[] body = (status == 200 ? SUCCESS_BODY : "{\"message\":\"error\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        stubServer.start();
+
+        AiResilienceProperties.Downstream properties = new AiResilienceProperties.Downstream();
+        properties.setMaxConcurrentCalls(MAX_CONCURRENT_CALLS);
+        properties.setInitialLimit(MAX_CONCURRENT_CALLS);
+        properties.setSlidingWindowSize(10);
+        properties.setMinimumCalls(5);
+        properties.setFailureRateThreshold(50);
+        properties.setOpenDuration(Duration.ofMinutes(1));
+
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new AiResilienceGuard("ai-feedback", properties, meterRegistry);
+        client = new AiFeedbackClient(RestClient.create(), new ObjectMapper(), guard);
+        ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + stubServer.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "endpoint", ENDPOINT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("503이 이어지면 서킷이 열리고 이후 요청은 AI 서버에 닿지 않고 즉시 거절된다")
+    void evaluate_RepeatedServiceUnavailable_ShouldOpenCircuit() {
+        // given
+        responseStatus.set(503);
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.evaluate(request()))
+                    .isInstanceOf(AiFeedbackServiceTemporarilyUnavailableException.class);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> client.evaluate(request()))
+                .isInstanceOf(AiServiceOverloadedException.class);
+        assertThat(hits.get()).isEqualTo(5);
+        assertThat(gauge("ai.client.circuit.state")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("ai.client.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1.0);
+        assertThat(guard.availableCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("여유 호출 수는 벌크헤드와 동시성 한도 중 작은 값을 따른다")
+    void availableCalls_ShouldFollowConcurrencyLimit() {
+        // given
+        assertThat(guard.availableCalls()).isEqualTo(MAX_CONCURRENT_CALLS);
+        responseStatus.set(429);
+
+        // when
+        assertThatThrownBy(() -> client.evaluate(request()))
+                .isInstanceOf(AiFeedbackRateLimitException.class);
+
+        // then
+        assertThat(guard.availableCalls()).isEqualTo(MAX_CONCURRENT_CALLS / 2);
+    }
+
+    @Test
+    @DisplayName("호출이 Error로 끝나도 동시성 슬롯과 서킷 허가가 반납된다")
+    void execute_WhenCallThrowsError_ShouldReleaseSlot() {
+        // given
+        Supplier<Object> failing = () -> {
+            throw new LinkageError("boom");
+        };
+
+        // when
+        assertThatThrownBy(() -> guard.execute(failing, e -> true))
+                .isInstanceOf(LinkageError.class);
+
+        // then
+        assertThat(gauge("ai.client.inflight")).isZero();
+        assertThat(guard.availableCalls()).isEqualTo(MAX_CONCURRENT_CALLS);
+    }
+
+    @Test
+    @DisplayName("429 응답을 받으면 동시성 한도가 곱셈 감소한다")
+    void evaluate_RateLimited_ShouldDecreaseLimit() {
+        // given
+        responseStatus.set(429);
+
+        // when
+        assertThatThrownBy(() -> client.evaluate(request()))
+                .isInstanceOf(AiFeedbackRateLimitException.class);
+
+        // then
+        assertThat(gauge("ai.client.concurrency.limit")).isEqualTo(MAX_CONCURRENT_CALLS / 2.0);
+    }
+
+    @Test
+    @DisplayName("AI 서버가 느려지면 벌크헤드를 넘는 요청은 기다리지 않고 거절된다")
+    void evaluate_SlowServer_ShouldShedExcessCalls() throws Exception {
+        // given
+        responseDelayMs.set(500);
+        int callers = 12;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // when
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        client.evaluate(request());
+                        return true;
+                    } catch (AiServiceOverloadedException e) {
+                        return false;
+                    }
+                }));
+            }
+            int rejected = 0;
+            for (Future<Boolean> result : results) {
+                if (!result.get()) {
+                    rejected++;
+                }
+            }
+
+            // then
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENT_CALLS);
+            assertThat(rejected).isGreaterThan(0);
+            assertThat(hits.get()).isEqualTo(callers - rejected);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("downstream", "ai-feedback").gauge().value();
+    }
+
+    private AiFeedbackRequest request() {
+        return new AiFeedbackRequest(1L, 1L, "CS", "DB", "PRACTICE_INTERVIEW", "질문", "답변");
+    }
+}
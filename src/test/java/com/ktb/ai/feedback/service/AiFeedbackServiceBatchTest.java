@@ -0,0 +1,134 @@
+package com.ktb.ai.feedback.service;
+
+import com.ktb.ai.feedback.client.AiFeedbackClient;
+import com.ktb.ai.feedback.config.AiFeedbackBatchProperties;
+import com.ktb.ai.feedback.domain.AiFeedbackBatchCheckpoint;
+import com.ktb.ai.feedback.dto.request.AiFeedbackBatchItem;
+import com.ktb.ai.feedback.dto.request.AiFeedbackRequest;
+import com.ktb.ai.feedback.dto.response.AiFeedbackBatchResult;
+import com.ktb.ai.feedback.dto.response.AiFeedbackBatchSummary;
+import com.ktb.ai.feedback.dto.response.AiFeedbackResponse;
+import com.ktb.ai.feedback.exception.AiFeedbackInternalServerException;
+import com.ktb.ai.feedback.repository.AiFeedbackBatchCheckpointRepository;
+import com.ktb.ai.feedback.service.impl.AiFeedbackServiceImpl;
+import com.ktb.common.dto.ApiResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiFeedbackService 배치 평가 테스트")
+class AiFeedbackServiceBatchTest {
+
+    private static final String RUN_ID = "rescore-test";
+
+    @Mock
+    private AiFeedbackClient aiFeedbackClient;
+
+    @Mock
+    private AiFeedbackBatchCheckpointRepository checkpointRepository;
+
+    private AiFeedbackBatchProperties batchProperties;
+    private AiFeedbackServiceImpl aiFeedbackService;
+
+    @BeforeEach
+    void setUp() {
+        batchProperties = new AiFeedbackBatchProperties();
+        aiFeedbackService = new AiFeedbackServiceImpl(aiFeedbackClient, batchProperties, checkpointRepository);
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("체크포인트가 있으면 마지막 answerId 이후부터 이어서 처리한다")
+    void evaluateBatch_WithCheckpoint_ShouldResumeAfterLastAnswer() {
+        // given
+        batchProperties.setChunkSize(2);
+        AiFeedbackBatchCheckpoint checkpoint = AiFeedbackBatchCheckpoint.start(RUN_ID);
+        checkpoint.advance(2L, 2, 0);
+        when(checkpointRepository.findById(RUN_ID)).thenReturn(Optional.of(checkpoint));
+        when(aiFeedbackClient.evaluate(any())).thenReturn(successResponse());
+
+        List<Long> delivered = new ArrayList<>();
+
+        // when
+        AiFeedbackBatchSummary summary = aiFeedbackService.evaluateBatch(
+                RUN_ID, items(5).iterator(), result -> delivered.add(result.answerId()));
+
+        // then
+        assertThat(delivered).containsExactlyInAnyOrder(3L, 4L, 5L);
+        verify(aiFeedbackClient, times(3)).evaluate(any());
+        assertThat(summary.processed()).isEqualTo(5);
+        assertThat(summary.lastAnswerId()).isEqualTo(5L);
+
+        ArgumentCaptor<AiFeedbackBatchCheckpoint> captor = ArgumentCaptor.forClass(AiFeedbackBatchCheckpoint.class);
+        verify(checkpointRepository, atLeastOnce()).save(captor.capture());
+        assertThat(captor.getValue().isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("개별 호출 모드는 동시 호출 수를 제한하고, 실패한 건은 실패 결과로 전달한다")
+    void evaluateBatch_Parallel_ShouldBoundConcurrencyAndReportFailures() {
+        // given
+        batchProperties.setChunkSize(10);
+        batchProperties.setMaxParallelism(3);
+        when(checkpointRepository.findById(RUN_ID)).thenReturn(Optional.empty());
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(aiFeedbackClient.evaluate(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(30);
+                AiFeedbackRequest request = invocation.getArgument(0);
+                if (request.questionId() == 7L) {
+                    throw new AiFeedbackInternalServerException();
+                }
+                return successResponse();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        List<AiFeedbackBatchResult> delivered = new ArrayList<>();
+
+        // when
+        AiFeedbackBatchSummary summary = aiFeedbackService.evaluateBatch(
+                RUN_ID, items(20).iterator(), delivered::add);
+
+        // then
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+        assertThat(delivered).hasSize(20);
+        assertThat(delivered).filteredOn(result -> !result.isSuccess())
+                .extracting(AiFeedbackBatchResult::answerId)
+                .containsExactly(7L);
+        assertThat(summary.succeeded()).isEqualTo(19);
+        assertThat(summary.failed()).isEqualTo(1);
+    }
+
+    private List<AiFeedbackBatchItem> items(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new AiFeedbackBatchItem(id, new AiFeedbackRequest(
+                        1L, id, "CS", "DB", "PRACTICE_INTERVIEW", "질문", "답변")))
+                .toList();
+    }
+
+    private ApiResponse<AiFeedbackResponse> successResponse() {
+        return new ApiResponse<>("generate_feedback_success", null);
+    }
+}
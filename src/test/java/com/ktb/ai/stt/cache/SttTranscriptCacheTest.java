@@ -0,0 +1,131 @@
+package com.ktb.ai.stt.cache;
+
+import com.ktb.ai.stt.config.SttCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SttTranscriptCache 테스트")
+class SttTranscriptCacheTest {
+
+    private static final String HASH = "a".repeat(64);
+    private static final String TRANSCRIPT = "프로세스는 실행 중인 프로그램입니다";
+
+    private final AtomicInteger sttCalls = new AtomicInteger();
+
+    private EmbeddedDatabase database;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SttCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("file:docs/db/stt_transcript_cache.sql")
+                .build();
+        jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        properties = new SttCacheProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 해시의 음성은 한 번만 변환하고, 다른 인스턴스(빈 인메모리)도 DB 계층에서 결과를 받는다")
+    void getOrLoad_SameHash_ShouldConvertOnce() {
+        // given
+        SttTranscriptCache cache = newCache();
+        cache.getOrLoad(HASH, this::convert);
+
+        // when
+        String fromMemory = cache.getOrLoad(HASH, this::convert);
+        String fromDb = newCache().getOrLoad(HASH, this::convert);
+
+        // then
+        assertThat(fromMemory).isEqualTo(TRANSCRIPT);
+        assertThat(fromDb).isEqualTo(TRANSCRIPT);
+        assertThat(sttCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 계층 TTL이 지난 결과는 사용하지 않고 정리 대상이 된다")
+    void getOrLoad_ExpiredDbEntry_ShouldConvertAgain() throws InterruptedException {
+        // given
+        properties.setDbTtl(Duration.ofMillis(1));
+        newCache().getOrLoad(HASH, this::convert);
+        Thread.sleep(20);
+
+        // when
+        String transcript = newCache().getOrLoad(HASH, this::convert);
+        Thread.sleep(20);
+        newCache().purgeExpired();
+
+        // then
+        assertThat(transcript).isEqualTo(TRANSCRIPT);
+        assertThat(sttCalls.get()).isEqualTo(2);
+        assertThat(jdbcTemplate.getJdbcTemplate()
+                .queryForObject("SELECT COUNT(*) FROM stt_transcript_cache", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 해시의 변환이 진행 중이면 새로 호출하지 않고 결과를 함께 받는다")
+    void getOrLoad_ConcurrentSameHash_ShouldShareInFlightConversion() throws Exception {
+        // given
+        SttTranscriptCache cache = newCache();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> cache.getOrLoad(HASH, () -> {
+                started.countDown();
+                await(release);
+                return convert();
+            }));
+            started.await();
+
+            // when
+            Future<String> follower = executor.submit(() -> cache.getOrLoad(HASH, this::convert));
+            Thread.sleep(50);
+            release.countDown();
+
+            // then
+            assertThat(leader.get()).isEqualTo(TRANSCRIPT);
+            assertThat(follower.get()).isEqualTo(TRANSCRIPT);
+        }
+        assertThat(sttCalls.get()).isEqualTo(1);
+    }
+
+    private SttTranscriptCache newCache() {
+        return new SttTranscriptCache(properties, jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    private String convert() {
+        sttCalls.incrementAndGet();
+        return TRANSCRIPT;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
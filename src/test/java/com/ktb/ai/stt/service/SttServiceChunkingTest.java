@@ -0,0 +1,225 @@
+package com.ktb.ai.stt.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.ai.common.config.AiResilienceProperties;
+import com.ktb.ai.common.resilience.AiResilienceGuard;
+import com.ktb.ai.stt.audio.AudioAnalyzer;
+import com.ktb.ai.stt.cache.SttTranscriptCache;
+import com.ktb.ai.stt.client.SttClient;
+import com.ktb.ai.stt.config.SttCacheProperties;
+import com.ktb.ai.stt.config.SttChunkingProperties;
+import com.ktb.ai.stt.service.impl.SttServiceImpl;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SttService 분할 변환 테스트 (로컬 스텁 STT 서버)")
+class SttServiceChunkingTest {
+
+    private static final String STT_ENDPOINT = "/ai/stt";
+    private static final String AUDIO_PATH = "/uploads/audio/answer.wav";
+    private static final float SAMPLE_RATE = 8000f;
+    private static final int AUDIO_SECONDS = 70;
+    private static final List<Integer> SILENT_SECONDS = List.of(18, 39, 58);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<JsonNode> sttRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger audioDownloads = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicBoolean rangeSupported = new AtomicBoolean(true);
+
+    private HttpServer stubServer;
+    private String baseUrl;
+    private SttChunkingProperties properties;
+    private SttService sttService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        byte[] wav = speechWithPauses();
+
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext(AUDIO_PATH, exchange -> {
+            audioDownloads.incrementAndGet();
+            respond(exchange, "audio/wav", wav);
+        });
+        stubServer.createContext(STT_ENDPOINT, exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+                sttRequests.add(request);
+                Thread.sleep(300);
+                String text = rangeSupported.get()
+                        ? wordsBetween(
+                                request.path("start_seconds").asDouble(0),
+                                request.path("end_seconds").asDouble(AUDIO_SECONDS))
+                        : wordsBetween(0, AUDIO_SECONDS);
+                respond(exchange, "application/json",
+                        ("{\"message\":\"stt_success\",\"data\":{\"user_id\":1,\"session_id\":null,\"text\":\""
+                                + text + "\"}}").getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        stubServer.start();
+        baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AiResilienceGuard guard = new AiResilienceGuard("stt", new AiResilienceProperties.Downstream(), meterRegistry);
+        SttClient sttClient = new SttClient(RestClient.create(), guard);
+        ReflectionTestUtils.setField(sttClient, "baseUrl", baseUrl);
+        ReflectionTestUtils.setField(sttClient, "endpoint", STT_ENDPOINT);
+
+        properties = new SttChunkingProperties();
+        properties.setEnabled(true);
+        properties.setTargetSegment(Duration.ofSeconds(20));
+        properties.setMaxSegment(Duration.ofSeconds(30));
+        properties.setSilenceSearchWindow(Duration.ofSeconds(10));
+        properties.setOverlap(Duration.ofSeconds(2));
+
+        SttCacheProperties cacheProperties = new SttCacheProperties();
+        cacheProperties.setEnabled(false);
+        sttService = new SttServiceImpl(
+                sttClient,
+                new SttTranscriptCache(cacheProperties, null, meterRegistry),
+                new AudioAnalyzer(RestClient.create(), properties),
+                properties,
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("긴 음성은 무음 경계에서 겹치게 나눠 병렬 변환하고 겹친 단어를 한 번만 남긴다")
+    void convertToText_LongAudio_ShouldSplitOnSilenceAndStitch() {
+        // when
+        String text = sttService.convertToText(1L, null, baseUrl + AUDIO_PATH);
+
+        // then
+        assertThat(text).isEqualTo(wordsBetween(0, AUDIO_SECONDS));
+        assertThat(sttRequests).hasSize(4);
+        assertThat(sttRequests.stream().map(request -> request.get("start_seconds").asDouble()).sorted().toList())
+                .containsExactly(0.0, 16.5, 37.5, 56.5);
+        assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(properties.getMaxParallelSegments());
+    }
+
+    @Test
+    @DisplayName("STT 서버가 구간을 무시하면 전체 텍스트를 구간 수만큼 반복하지 않고 한 번만 사용한다")
+    void convertToText_WhenServerIgnoresRange_ShouldNotRepeatTranscript() {
+        // given
+        rangeSupported.set(false);
+
+        // when
+        String text = sttService.convertToText(1L, null, baseUrl + AUDIO_PATH);
+
+        // then
+        assertThat(sttRequests).hasSize(4);
+        assertThat(text).isEqualTo(wordsBetween(0, AUDIO_SECONDS));
+    }
+
+    @Test
+    @DisplayName("분할 변환이 꺼져 있으면(기본값) 긴 음성도 내려받지 않고 한 번에 변환한다")
+    void convertToText_ChunkingDisabledByDefault_ShouldCallOnce() {
+        // given
+        properties.setEnabled(new SttChunkingProperties().isEnabled());
+
+        // when
+        String text = sttService.convertToText(1L, null, baseUrl + AUDIO_PATH);
+
+        // then
+        assertThat(text).isEqualTo(wordsBetween(0, AUDIO_SECONDS));
+        assertThat(audioDownloads.get()).isZero();
+        assertThat(sttRequests).singleElement()
+                .satisfies(request -> assertThat(request.has("start_seconds")).isFalse());
+    }
+
+    @Test
+    @DisplayName("크기가 작은 음성은 내려받지 않고 구간 없이 한 번에 변환한다")
+    void convertToText_SmallAudio_ShouldCallOnceWithoutRange() {
+        // when
+        String text = sttService.convertToText(1L, null, baseUrl + AUDIO_PATH, 1024L, null);
+
+        // then
+        assertThat(text).isEqualTo(wordsBetween(0, AUDIO_SECONDS));
+        assertThat(audioDownloads.get()).isZero();
+        assertThat(sttRequests).singleElement()
+                .satisfies(request -> assertThat(request.has("start_seconds")).isFalse());
+    }
+
+    /**
+     * 스텁 STT: 구간 [start, end)에 걸친 정수 초마다 단어 하나 ("w0 w1 ...")
+     */
+    private static String wordsBetween(double start, double end) {
+        return IntStream.range((int) Math.ceil(start), AUDIO_SECONDS)
+                .filter(second -> second < end)
+                .mapToObj(second -> "w" + second)
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * 8kHz 모노 16bit 70초 WAV, 18/39/58초에서 1초씩 무음
+     */
+    private static byte[] speechWithPauses() throws IOException {
+        int frames = (int) (SAMPLE_RATE * AUDIO_SECONDS);
+        ByteBuffer pcm = ByteBuffer.allocate(frames * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < frames; i++) {
+            boolean silent = SILENT_SECONDS.contains((int) (i / SAMPLE_RATE));
+            pcm.putShort(silent ? 0 : (short) (8000 * Math.sin(2 * Math.PI * 440 * i / SAMPLE_RATE)));
+        }
+
+        AudioFormat format = new AudioFormat(SAMPLE_RATE, 16, 1, true, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AudioSystem.write(
+                new AudioInputStream(new ByteArrayInputStream(pcm.array()), format, frames),
+                AudioFileFormat.Type.WAVE,
+                out
+        );
+        return out.toByteArray();
+    }
+
+    private static void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ktb.answer.domain;
+
+import com.ktb.answer.config.AiFeedbackWorkerProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiFeedbackOutbox 도메인 테스트")
+class AiFeedbackOutboxTest {
+
+    private static final Long ANSWER_ID = 1L;
+
+    @Nested
+    @DisplayName("상태 변경 테스트")
+    class StatusTest {
+
+        @Test
+        @DisplayName("생성 시 PENDING 상태로 즉시 처리 가능")
+        void create_ShouldBePendingAndDispatchableNow() {
+            // When
+            AiFeedbackOutbox outbox = AiFeedbackOutbox.create(ANSWER_ID);
+
+            // Then
+            assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.PENDING);
+            assertThat(outbox.getAttemptCount()).isZero();
+            assertThat(outbox.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+            assertThat(outbox.isPending()).isTrue();
+        }
+
+        @Test
+        @DisplayName("재시도 예약 시 PENDING으로 돌아가고 다음 시도 시각이 미뤄짐")
+        void scheduleRetry_ShouldDelayNextAttempt() {
+            // Given
+            AiFeedbackOutbox outbox = AiFeedbackOutbox.create(ANSWER_ID);
+
+            // When
+            outbox.scheduleRetry(Duration.ofMinutes(1), "rate limited");
+
+            // Then
+            assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.PENDING);
+            assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+            assertThat(outbox.getLastError()).isEqualTo("rate limited");
+        }
+
+        @Test
+        @DisplayName("호출 보호 거절로 미루면 선점 시 늘린 시도 횟수를 되돌림")
+        void defer_ShouldRestoreAttemptCount() {
+            // Given
+            AiFeedbackOutbox outbox = AiFeedbackOutbox.create(ANSWER_ID);
+            ReflectionTestUtils.setField(outbox, "status", AiFeedbackOutboxStatus.IN_PROGRESS);
+            ReflectionTestUtils.setField(outbox, "attemptCount", 2);
+
+            // When
+            outbox.defer(Duration.ofSeconds(5), "circuit_open");
+
+            // Then
+            assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.PENDING);
+            assertThat(outbox.getAttemptCount()).isEqualTo(1);
+            assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(3));
+            assertThat(outbox.getLockedAt()).isNull();
+            assertThat(outbox.getLastError()).isEqualTo("circuit_open");
+        }
+
+        @Test
+        @DisplayName("DEAD 처리 시 오류 메시지는 500자로 잘림")
+        void markDead_ShouldTruncateError() {
+            // Given
+            AiFeedbackOutbox outbox = AiFeedbackOutbox.create(ANSWER_ID);
+
+            // When
+            outbox.markDead("x".repeat(1000));
+
+            // Then
+            assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.DEAD);
+            assertThat(outbox.getLastError()).hasSize(500);
+            assertThat(outbox.isPending()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("재시도 백오프 테스트")
+    class BackoffTest {
+
+        @Test
+        @DisplayName("시도 횟수에 따라 지수적으로 증가하고 최대값을 넘지 않음")
+        void backoffFor_ShouldGrowExponentiallyWithCap() {
+            // Given
+            AiFeedbackWorkerProperties properties = new AiFeedbackWorkerProperties();
+            properties.setBaseBackoff(Duration.ofSeconds(5));
+            properties.setMaxBackoff(Duration.ofSeconds(30));
+
+            // When & Then
+            assertThat(properties.backoffFor(1)).isEqualTo(Duration.ofSeconds(5));
+            assertThat(properties.backoffFor(2)).isEqualTo(Duration.ofSeconds(10));
+            assertThat(properties.backoffFor(3)).isEqualTo(Duration.ofSeconds(20));
+            assertThat(properties.backoffFor(4)).isEqualTo(Duration.ofSeconds(30));
+        }
+    }
+}
@@ -355,6 +355,34 @@ class AnswerTest {
             assertThat(answer.getAiFeedback()).isNull();
             assertThat(answer.getStatus()).isEqualTo(AnswerStatus.COMPLETED);
         }
+
+        @Test
+        @DisplayName("AI_FEEDBACK_PROCESSING이 아닌 상태에서 AI 피드백 설정 불가")
+        void setAiFeedback_WhenNotProcessing_ShouldThrowException() {
+            // Given
+            Answer answer = AnswerFixture.createAnswerWithStatus(AnswerStatus.TRANSCRIBING);
+
+            // When & Then
+            assertThatThrownBy(() -> answer.setAiFeedback("피드백"))
+                    .isInstanceOf(InvalidAnswerStatusTransitionException.class);
+            assertThat(answer.getAiFeedback()).isNull();
+            assertThat(answer.getStatus()).isEqualTo(AnswerStatus.TRANSCRIBING);
+        }
+
+        @Test
+        @DisplayName("부적절한 답변 판정 시 COMPLETED로 변경하고 판정 여부를 기록")
+        void markBadCase_ShouldCompleteAndFlagBadCase() {
+            // Given
+            Answer answer = AnswerFixture.createAnswerWithStatus(AnswerStatus.AI_FEEDBACK_PROCESSING);
+
+            // When
+            answer.markBadCase("답변이 너무 짧습니다.");
+
+            // Then
+            assertThat(answer.getStatus()).isEqualTo(AnswerStatus.COMPLETED);
+            assertThat(answer.getAiFeedback()).isEqualTo("답변이 너무 짧습니다.");
+            assertThat(answer.isAiFeedbackBadCase()).isTrue();
+        }
     }
 
     @Nested
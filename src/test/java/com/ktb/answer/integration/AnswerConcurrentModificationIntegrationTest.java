@@ -0,0 +1,140 @@
+package com.ktb.answer.integration;
+
+import com.ktb.ai.feedback.service.AiFeedbackService;
+import com.ktb.answer.domain.AiFeedbackOutbox;
+import com.ktb.answer.domain.AiFeedbackOutboxStatus;
+import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerStatus;
+import com.ktb.answer.domain.AnswerType;
+import com.ktb.answer.exception.AnswerConcurrentModificationException;
+import com.ktb.answer.repository.AiFeedbackOutboxRepository;
+import com.ktb.answer.repository.AnswerRepository;
+import com.ktb.answer.service.AiFeedbackOrchestrator;
+import com.ktb.auth.domain.UserAccount;
+import com.ktb.auth.repository.UserAccountRepository;
+import com.ktb.fixture.QuestionFixture;
+import com.ktb.question.domain.Question;
+import com.ktb.question.repository.QuestionRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 답변 낙관적 락(answer_version) 통합 테스트 (H2, 테스트마다 실제 커밋)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("답변 동시 수정 통합 테스트")
+class AnswerConcurrentModificationIntegrationTest {
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private AiFeedbackOutboxRepository outboxRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private AiFeedbackOrchestrator aiFeedbackOrchestrator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private AiFeedbackService aiFeedbackService;
+
+    private TransactionTemplate transaction;
+    private Long answerId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+
+        UserAccount account = userAccountRepository.save(
+                UserAccount.createEmailAccount("version@example.com", "버전테스트"));
+        Question question = questionRepository.save(QuestionFixture.createQuestion());
+        Answer answer = Answer.create(question, account, "처음 답변", AnswerType.PRACTICE_INTERVIEW);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        answerId = answerRepository.save(answer).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        answerRepository.deleteAll();
+        questionRepository.deleteAll();
+        userAccountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 버전을 읽은 두 쓰기 중 늦은 쪽은 실패하고 먼저 커밋한 변경이 유지됨")
+    void staleWriters_ShouldNotLoseFirstUpdate() {
+        // Given
+        Answer first = answerRepository.findById(answerId).orElseThrow();
+        Answer second = answerRepository.findById(answerId).orElseThrow();
+
+        // When
+        first.updateContent("먼저 커밋한 답변");
+        Answer committed = answerRepository.save(first);
+
+        second.updateContent("늦게 커밋한 답변");
+
+        // Then
+        assertThatThrownBy(() -> answerRepository.save(second))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        Answer stored = answerRepository.findById(answerId).orElseThrow();
+        assertThat(stored.getContent()).isEqualTo("먼저 커밋한 답변");
+        assertThat(stored.getVersion()).isEqualTo(committed.getVersion());
+    }
+
+    @Test
+    @DisplayName("LLM 호출 중 답변이 변경되면 워커는 AnswerConcurrentModificationException으로 반영을 포기함")
+    void process_WhenAnswerChangedDuringCall_ShouldKeepConcurrentUpdate() {
+        // Given
+        AiFeedbackOutbox outbox = outboxRepository.save(AiFeedbackOutbox.create(answerId));
+        outboxRepository.claim(outbox.getId(), AiFeedbackOutboxStatus.PENDING,
+                AiFeedbackOutboxStatus.IN_PROGRESS, LocalDateTime.now());
+
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    transaction.executeWithoutResult(status -> answerRepository.findById(answerId)
+                            .orElseThrow()
+                            .updateContent("LLM 호출 중 수정된 답변"));
+                    return null;
+                });
+
+        // When
+        aiFeedbackOrchestrator.process(outbox.getId());
+
+        // Then
+        Answer stored = answerRepository.findById(answerId).orElseThrow();
+        assertThat(stored.getContent()).isEqualTo("LLM 호출 중 수정된 답변");
+        assertThat(stored.getAiFeedback()).isNull();
+        assertThat(stored.getStatus()).isEqualTo(AnswerStatus.FAILED_RETRYABLE);
+
+        AiFeedbackOutbox retried = outboxRepository.findById(outbox.getId()).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(AiFeedbackOutboxStatus.PENDING);
+        assertThat(retried.getLastError())
+                .isEqualTo(new AnswerConcurrentModificationException(answerId).getMessage());
+    }
+}
@@ -0,0 +1,268 @@
+package com.ktb.answer.integration;
+
+import com.ktb.ai.feedback.client.AiFeedbackClient;
+import com.ktb.ai.feedback.dto.response.AiFeedbackFeedback;
+import com.ktb.ai.feedback.dto.response.AiFeedbackResponse;
+import com.ktb.answer.domain.AiFeedbackOutbox;
+import com.ktb.answer.domain.AiFeedbackOutboxStatus;
+import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerStatus;
+import com.ktb.answer.domain.AnswerType;
+import com.ktb.answer.pipeline.AudioAnswerPipeline;
+import com.ktb.answer.repository.AiFeedbackOutboxRepository;
+import com.ktb.answer.repository.AnswerRepository;
+import com.ktb.answer.service.AiFeedbackOrchestrator;
+import com.ktb.auth.domain.UserAccount;
+import com.ktb.auth.repository.UserAccountRepository;
+import com.ktb.common.dto.ApiResponse;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.domain.FileUploadStatus;
+import com.ktb.file.domain.StorageType;
+import com.ktb.file.event.AudioUploadConfirmedEvent;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.file.service.FileContentHashService;
+import com.ktb.fixture.QuestionFixture;
+import com.ktb.question.domain.Question;
+import com.ktb.question.repository.QuestionRepository;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 음성 답변 전체 흐름 통합 테스트 (업로드 확인 → STT → 변환 텍스트 저장 → AI 피드백)
+ * STT 서버는 로컬 스텁, AI 피드백 서버는 클라이언트 목으로 대체한다.
+ */
+@SpringBootTest(properties = "answer.audio-pipeline.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("음성 답변 파이프라인 통합 테스트")
+class AudioAnswerPipelineIntegrationTest {
+
+    private static final String STT_ENDPOINT = "/ai/stt";
+    // answer_content의 이전 길이 제한(500자)을 넘는 변환 결과
+    private static final String LONG_TRANSCRIPT = "프로세스는 실행 중인 프로그램이고 스레드는 프로세스 안의 실행 흐름입니다. ".repeat(20);
+    private static final AtomicInteger STT_CALLS = new AtomicInteger();
+    private static final HttpServer STT_SERVER = startSttServer();
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private AiFeedbackOutboxRepository outboxRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private AiFeedbackOrchestrator aiFeedbackOrchestrator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AudioAnswerPipeline audioAnswerPipeline;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AiFeedbackClient aiFeedbackClient;
+
+    // 테스트 환경에는 S3가 없으므로 해시 없이(캐시 우회) 진행
+    @MockitoBean
+    private FileContentHashService fileContentHashService;
+
+    private TransactionTemplate transaction;
+    private Long fileId;
+    private Long answerId;
+
+    @DynamicPropertySource
+    static void sttProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.stt.base-url", () -> "http://127.0.0.1:" + STT_SERVER.getAddress().getPort());
+        registry.add("ai.stt.endpoint", () -> STT_ENDPOINT);
+    }
+
+    @AfterAll
+    static void stopSttServer() {
+        STT_SERVER.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        STT_CALLS.set(0);
+
+        UserAccount account = userAccountRepository.save(
+                UserAccount.createEmailAccount("audio@example.com", "음성테스트"));
+        Question question = questionRepository.save(QuestionFixture.createQuestion());
+        fileId = fileRepository.save(pendingAudioFile()).getId();
+        answerId = answerRepository.save(
+                Answer.createAudio(question, account, AnswerType.PRACTICE_INTERVIEW, fileId)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        answerRepository.deleteAll();
+        fileRepository.deleteAll();
+        questionRepository.deleteAll();
+        userAccountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("업로드가 확인되면 STT 변환 텍스트(500자 초과)를 저장하고 AI 피드백까지 완료된다")
+    void uploadConfirmed_ShouldTranscribeAndCompleteFeedback() throws Exception {
+        // Given
+        when(aiFeedbackClient.evaluate(any())).thenReturn(successResponse());
+
+        // When: 업로드 확인 트랜잭션 커밋 → 파이프라인 시작
+        transaction.executeWithoutResult(status -> {
+            File file = fileRepository.findById(fileId).orElseThrow();
+            file.setUploadStatus(FileUploadStatus.UPLOADED);
+            eventPublisher.publishEvent(new AudioUploadConfirmedEvent(fileId, file.getUrl()));
+        });
+        Answer transcribed = awaitStatus(AnswerStatus.AI_FEEDBACK_PROCESSING);
+
+        AiFeedbackOutbox outbox = outboxRepository.findByAnswerId(answerId).orElseThrow();
+        outboxRepository.claim(outbox.getId(), AiFeedbackOutboxStatus.PENDING,
+                AiFeedbackOutboxStatus.IN_PROGRESS, LocalDateTime.now());
+        aiFeedbackOrchestrator.process(outbox.getId());
+
+        // Then
+        assertThat(STT_CALLS.get()).isEqualTo(1);
+        assertThat(transcribed.getContent()).isEqualTo(LONG_TRANSCRIPT.strip());
+        assertThat(transcribed.getContent().length()).isGreaterThan(500);
+
+        Answer completed = answerRepository.findById(answerId).orElseThrow();
+        assertThat(completed.getStatus()).isEqualTo(AnswerStatus.COMPLETED);
+        assertThat(completed.getAiFeedback()).isEqualTo("강점\n\n개선사항");
+        assertThat(outboxRepository.findById(outbox.getId()).orElseThrow().getStatus())
+                .isEqualTo(AiFeedbackOutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("변환 대기 한도를 넘겼어도 STT 호출 중(임대 유지)인 답변은 스위퍼가 FAILED 처리하지 않는다")
+    void sweep_ShouldNotFailAnswerWithLiveTranscriptionLease() {
+        // Given: 1시간 넘게 TRANSCRIBING에 머물렀지만 방금 선점된 답변
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("UPDATE answer SET updated_at = ? WHERE answer_id = ?", now.minusHours(2), answerId);
+        answerRepository.claimTranscription(answerId, AnswerStatus.TRANSCRIBING, now, now.minusMinutes(10));
+
+        // When
+        audioAnswerPipeline.sweep();
+
+        // Then
+        assertThat(answerRepository.findById(answerId).orElseThrow().getStatus())
+                .isEqualTo(AnswerStatus.TRANSCRIBING);
+    }
+
+    @Test
+    @DisplayName("변환 대기 한도를 넘기고 선점되지 않은 답변은 스위퍼가 FAILED 처리한다")
+    void sweep_ShouldFailExpiredAnswerWithoutLease() {
+        // Given
+        jdbcTemplate.update("UPDATE answer SET updated_at = ? WHERE answer_id = ?",
+                LocalDateTime.now().minusHours(2), answerId);
+
+        // When
+        audioAnswerPipeline.sweep();
+
+        // Then
+        assertThat(answerRepository.findById(answerId).orElseThrow().getStatus())
+                .isEqualTo(AnswerStatus.FAILED);
+    }
+
+    private Answer awaitStatus(AnswerStatus expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Answer answer = answerRepository.findById(answerId).orElseThrow();
+            if (answer.getStatus() == expected) {
+                return answer;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("answer did not reach " + expected);
+    }
+
+    private ApiResponse<AiFeedbackResponse> successResponse() {
+        AiFeedbackResponse data = new AiFeedbackResponse(
+                1L, 1L, "PRACTICE_INTERVIEW", "CS", "OS",
+                List.of(),
+                null,
+                false,
+                new AiFeedbackFeedback("강점", "개선사항")
+        );
+        return new ApiResponse<>("feedback_success", data);
+    }
+
+    private static File pendingAudioFile() {
+        return File.builder()
+                .originalName("answer.mp3")
+                .storedName("uuid.mp3")
+                .path("uploads/audio/uuid.mp3")
+                .extension("mp3")
+                .size(1024L)
+                .mimeType("audio/mpeg")
+                .storageType(StorageType.S3)
+                .category(FileCategory.AUDIO)
+                .url("https://cdn/uploads/audio/uuid.mp3")
+                .uploadStatus(FileUploadStatus.PENDING)
+                .build();
+    }
+
+    private static HttpServer startSttServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext(STT_ENDPOINT, exchange -> {
+                STT_CALLS.incrementAndGet();
+                byte[] body = ("{\"message\":\"stt_success\",\"data\":{\"user_id\":1,\"session_id\":null,\"text\":\""
+                        + LONG_TRANSCRIPT.strip() + "\"}}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.ktb.answer.pipeline;
+
+import com.ktb.ai.common.config.AiResilienceProperties;
+import com.ktb.ai.common.resilience.AiResilienceGuard;
+import com.ktb.ai.stt.audio.AudioAnalyzer;
+import com.ktb.ai.stt.cache.SttTranscriptCache;
+import com.ktb.ai.stt.client.SttClient;
+import com.ktb.ai.stt.config.SttCacheProperties;
+import com.ktb.ai.stt.config.SttChunkingProperties;
+import com.ktb.ai.stt.service.impl.SttServiceImpl;
+import com.ktb.answer.config.AudioAnswerPipelineProperties;
+import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerStatus;
+import com.ktb.answer.domain.AnswerType;
+import com.ktb.answer.repository.AnswerRepository;
+import com.ktb.answer.service.AnswerApplicationService;
+import com.ktb.auth.domain.UserAccount;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.domain.FileUploadStatus;
+import com.ktb.file.domain.StorageType;
+import com.ktb.file.event.AudioUploadConfirmedEvent;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.file.service.FileContentHashService;
+import com.ktb.question.domain.Question;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AudioAnswerPipeline 테스트 (로컬 스텁 STT 서버)")
+class AudioAnswerPipelineTest {
+
+    private static final String STT_ENDPOINT = "/ai/stt";
+    private static final String TRANSCRIPT = "프로세스는 실행 중인 프로그램입니다";
+    private static final Long ACCOUNT_ID = 10L;
+    private static final Long FILE_ID = 100L;
+    private static final String CONTENT_HASH = "a".repeat(64);
+
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+    private final AtomicInteger responseDelayMs = new AtomicInteger(0);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger sttCalls = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private SttClient sttClient;
+    private AnswerRepository answerRepository;
+    private FileRepository fileRepository;
+    private FileContentHashService fileContentHashService;
+    private SttTranscriptCache transcriptCache;
+    private AnswerApplicationService answerApplicationService;
+    private AudioAnswerPipelineProperties properties;
+    private AudioAnswerPipeline pipeline;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext(STT_ENDPOINT, exchange -> {
+            sttCalls.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(responseDelayMs.get());
+                int status = responseStatus.get();
+                byte[] body = (status == 200
+                        ? "{\"message\":\"stt_success\",\"data\":{\"user_id\":10,\"session_id\":null,\"text\":\""
+                                + TRANSCRIPT + "\"}}"
+                        : "{\"message\":\"error\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        stubServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        AiResilienceGuard guard = new AiResilienceGuard("stt", new AiResilienceProperties.Downstream(), meterRegistry);
+        sttClient = new SttClient(RestClient.create(), guard);
+        ReflectionTestUtils.setField(sttClient, "baseUrl", "http://127.0.0.1:" + stubServer.getAddress().getPort());
+        ReflectionTestUtils.setField(sttClient, "endpoint", STT_ENDPOINT);
+
+        answerRepository = mock(AnswerRepository.class);
+        fileRepository = mock(FileRepository.class);
+        fileContentHashService = mock(FileContentHashService.class);
+        answerApplicationService = mock(AnswerApplicationService.class);
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(audioFile(FileUploadStatus.UPLOADED)));
+        when(answerRepository.claimTranscription(anyLong(), eq(AnswerStatus.TRANSCRIBING), any(), any()))
+                .thenReturn(1);
+
+        transcriptCache = new SttTranscriptCache(disabledCache(), null, meterRegistry);
+
+        properties = new AudioAnswerPipelineProperties();
+        properties.getTranscribe().setConcurrency(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("음성 업로드가 확인되면 STT 변환 텍스트로 즉각 피드백 단계가 이어서 실행된다")
+    void onAudioUploadConfirmed_ShouldTranscribeAndApplyTranscript() {
+        // given
+        givenTranscribingAnswers(1L);
+        when(answerRepository.findIdsByAudioFileIdAndStatus(FILE_ID, AnswerStatus.TRANSCRIBING))
+                .thenReturn(List.of(1L));
+        pipeline = createPipeline();
+
+        // when
+        pipeline.onAudioUploadConfirmed(new AudioUploadConfirmedEvent(FILE_ID, "https://cdn/audio.mp3"));
+
+        // then
+        verify(answerApplicationService, timeout(3000)).applyTranscript(1L, TRANSCRIPT);
+        assertThat(meterRegistry.get(PipelineStage.METRIC_QUEUE_WAIT).tag("stage", "transcribe").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("STT 단계는 설정된 동시 처리 수를 넘지 않고 모든 답변을 처리한다")
+    void submit_ManyAnswers_ShouldBoundTranscribeConcurrency() {
+        // given
+        responseDelayMs.set(200);
+        givenTranscribingAnswers(1L, 2L, 3L, 4L, 5L, 6L);
+        pipeline = createPipeline();
+
+        // when
+        LongStream.rangeClosed(1, 6).forEach(answerId -> assertThat(pipeline.submit(answerId)).isTrue());
+
+        // then
+        for (long answerId = 1; answerId <= 6; answerId++) {
+            verify(answerApplicationService, timeout(5000)).applyTranscript(answerId, TRANSCRIPT);
+        }
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인식할 수 없는 오디오(422)는 FAILED 처리하고 다음 단계로 넘기지 않는다")
+    void transcribe_UnprocessableAudio_ShouldFailAnswer() {
+        // given
+        responseStatus.set(422);
+        givenTranscribingAnswers(1L);
+        pipeline = createPipeline();
+
+        // when
+        pipeline.submit(1L);
+
+        // then
+        verify(answerApplicationService, timeout(3000)).failTranscription(eq(1L), anyString());
+        verify(answerApplicationService, never()).applyTranscript(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 선점 중인 답변은 STT를 다시 호출하지 않는다")
+    void submit_WhenClaimedElsewhere_ShouldSkipTranscription() {
+        // given
+        givenTranscribingAnswers(1L);
+        when(answerRepository.claimTranscription(eq(1L), eq(AnswerStatus.TRANSCRIBING), any(), any()))
+                .thenReturn(0);
+        pipeline = createPipeline();
+
+        // when
+        pipeline.submit(1L);
+
+        // then
+        verify(answerRepository, timeout(3000))
+                .claimTranscription(eq(1L), eq(AnswerStatus.TRANSCRIBING), any(), any());
+        verify(answerRepository, after(300).never()).findById(1L);
+        assertThat(maxInFlight.get()).isZero();
+        verify(answerApplicationService, never()).applyTranscript(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("업로드 확인 전이면 선점을 해제해 업로드 확인 시 다시 처리할 수 있게 한다")
+    void submit_BeforeUploadConfirmed_ShouldReleaseClaim() {
+        // given
+        givenTranscribingAnswers(1L);
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(audioFile(FileUploadStatus.PENDING)));
+        pipeline = createPipeline();
+
+        // when
+        pipeline.submit(1L);
+
+        // then
+        verify(answerRepository, timeout(3000)).releaseTranscription(1L);
+        assertThat(maxInFlight.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("STT 과부하(429)면 FAILED 처리하지 않고 선점 임대를 단축해 곧 다시 선점되게 한다")
+    void transcribe_RateLimited_ShouldShortenClaimLease() {
+        // given
+        responseStatus.set(429);
+        givenTranscribingAnswers(1L);
+        pipeline = createPipeline();
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        pipeline.submit(1L);
+
+        // then: 임대 만료 시각(lockedAt + stale-after)이 transient-retry-delay 뒤로 당겨진다
+        ArgumentCaptor<LocalDateTime> lockedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(answerRepository, timeout(3000)).shortenTranscriptionLease(eq(1L), lockedAt.capture());
+        LocalDateTime leaseExpiresAt = lockedAt.getValue().plus(properties.getStaleAfter());
+        assertThat(leaseExpiresAt)
+                .isAfterOrEqualTo(before.plus(properties.getTransientRetryDelay()))
+                .isBefore(LocalDateTime.now().plus(properties.getTransientRetryDelay()).plusSeconds(1));
+        verify(answerApplicationService, never()).failTranscription(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("변환 텍스트를 저장할 수 없으면 답변을 FAILED 처리한다")
+    void applyTranscript_WhenPersistFails_ShouldFailAnswer() {
+        // given
+        givenTranscribingAnswers(1L);
+        when(answerApplicationService.applyTranscript(1L, TRANSCRIPT))
+                .thenThrow(new DataIntegrityViolationException("value too long for answer_content"));
+        pipeline = createPipeline();
+
+        // when
+        pipeline.submit(1L);
+
+        // then
+        verify(answerApplicationService, timeout(3000)).failTranscription(eq(1L), anyString());
+    }
+
+    @Test
+    @DisplayName("해시가 없는 음성은 파이프라인에서 해시를 계산해 STT 결과 캐시를 조회한다")
+    void transcribe_WithoutHash_ShouldHashThenUseTranscriptCache() {
+        // given
+        SttCacheProperties cacheProperties = new SttCacheProperties();
+        transcriptCache = new SttTranscriptCache(
+                cacheProperties, mock(NamedParameterJdbcTemplate.class), meterRegistry);
+        when(fileContentHashService.ensureContentHash(FILE_ID)).thenReturn(CONTENT_HASH);
+        givenTranscribingAnswers(1L, 2L);
+        pipeline = createPipeline();
+
+        // when: 같은 음성 파일을 가리키는 두 답변을 차례로 처리
+        pipeline.submit(1L);
+        verify(answerApplicationService, timeout(3000)).applyTranscript(1L, TRANSCRIPT);
+        pipeline.submit(2L);
+
+        // then: 두 번째 답변은 캐시 적중으로 STT를 다시 호출하지 않는다
+        verify(answerApplicationService, timeout(3000)).applyTranscript(2L, TRANSCRIPT);
+        verify(fileContentHashService, timeout(3000).times(2)).ensureContentHash(FILE_ID);
+        assertThat(sttCalls.get()).isEqualTo(1);
+    }
+
+    private AudioAnswerPipeline createPipeline() {
+        return new AudioAnswerPipeline(
+                answerRepository,
+                fileRepository,
+                new SttServiceImpl(
+                        sttClient,
+                        transcriptCache,
+                        new AudioAnalyzer(RestClient.create(), new SttChunkingProperties()),
+                        new SttChunkingProperties(),
+                        meterRegistry
+                ),
+                fileContentHashService,
+                answerApplicationService,
+                properties,
+                new NoOpTransactionManager(),
+                meterRegistry
+        );
+    }
+
+    private static SttCacheProperties disabledCache() {
+        SttCacheProperties cacheProperties = new SttCacheProperties();
+        cacheProperties.setEnabled(false);
+        return cacheProperties;
+    }
+
+    private void givenTranscribingAnswers(Long... answerIds) {
+        for (Long answerId : answerIds) {
+            UserAccount account = mock(UserAccount.class);
+            when(account.getId()).thenReturn(ACCOUNT_ID);
+            Answer answer = Answer.createAudio(mock(Question.class), account, AnswerType.PRACTICE_INTERVIEW, FILE_ID);
+            when(answerRepository.findById(answerId)).thenReturn(Optional.of(answer));
+        }
+    }
+
+    private File audioFile(FileUploadStatus uploadStatus) {
+        File file = File.builder()
+                .originalName("answer.mp3")
+                .storedName("uuid.mp3")
+                .path("uploads/audio/uuid.mp3")
+                .extension("mp3")
+                .size(1024L)
+                .mimeType("audio/mpeg")
+                .storageType(StorageType.S3)
+                .category(FileCategory.AUDIO)
+                .url("https://cdn/uploads/audio/uuid.mp3")
+                .uploadStatus(uploadStatus)
+                .build();
+        ReflectionTestUtils.setField(file, "id", FILE_ID);
+        return file;
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ktb.answer.repository;
+
+import com.ktb.answer.domain.AiFeedbackOutbox;
+import com.ktb.answer.domain.AiFeedbackOutboxStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 선점/복구 쿼리 테스트 (H2, 테스트마다 실제 커밋)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("AiFeedbackOutboxRepository 테스트")
+class AiFeedbackOutboxRepositoryTest {
+
+    private static final AiFeedbackOutboxStatus PENDING = AiFeedbackOutboxStatus.PENDING;
+    private static final AiFeedbackOutboxStatus IN_PROGRESS = AiFeedbackOutboxStatus.IN_PROGRESS;
+
+    @Autowired
+    private AiFeedbackOutboxRepository outboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("여러 워커가 같은 아웃박스를 동시에 선점해도 한 곳만 성공함")
+    void claim_Concurrently_ShouldHaveSingleWinner() throws Exception {
+        // Given
+        int rounds = 10;
+        int claimers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(claimers);
+
+        try {
+            for (int round = 0; round < rounds; round++) {
+                Long outboxId = outboxRepository.save(AiFeedbackOutbox.create(1000L + round)).getId();
+                CountDownLatch start = new CountDownLatch(1);
+
+                // When
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < claimers; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return outboxRepository.claim(outboxId, PENDING, IN_PROGRESS, LocalDateTime.now());
+                    }));
+                }
+                start.countDown();
+
+                // Then
+                int winners = 0;
+                for (Future<Integer> result : results) {
+                    winners += result.get(10, TimeUnit.SECONDS);
+                }
+                assertThat(winners).isEqualTo(1);
+
+                AiFeedbackOutbox claimed = outboxRepository.findById(outboxId).orElseThrow();
+                assertThat(claimed.getStatus()).isEqualTo(IN_PROGRESS);
+                assertThat(claimed.getAttemptCount()).isEqualTo(1);
+                assertThat(claimed.getLockedAt()).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("임대 시간이 지난 IN_PROGRESS만 PENDING으로 복구되어 다시 선점할 수 있음")
+    void releaseStale_ShouldOnlyReleaseExpiredLeases() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Long staleId = outboxRepository.save(AiFeedbackOutbox.create(1L)).getId();
+        Long activeId = outboxRepository.save(AiFeedbackOutbox.create(2L)).getId();
+        outboxRepository.claim(staleId, PENDING, IN_PROGRESS, now.minusMinutes(20));
+        outboxRepository.claim(activeId, PENDING, IN_PROGRESS, now);
+
+        // When
+        int released = outboxRepository.releaseStale(PENDING, IN_PROGRESS, now.minusMinutes(10));
+
+        // Then
+        assertThat(released).isEqualTo(1);
+        assertThat(outboxRepository.findById(staleId).orElseThrow().getStatus()).isEqualTo(PENDING);
+        assertThat(outboxRepository.findById(activeId).orElseThrow().getStatus()).isEqualTo(IN_PROGRESS);
+
+        assertThat(outboxRepository.claim(staleId, PENDING, IN_PROGRESS, now)).isEqualTo(1);
+        assertThat(outboxRepository.findById(staleId).orElseThrow().getAttemptCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도 예약된 아웃박스는 다음 시도 시각 이후에만 조회되고 DEAD는 조회되지 않음")
+    void findDispatchable_ShouldRespectBackoffAndSkipDead() {
+        // Given
+        AiFeedbackOutbox retrying = AiFeedbackOutbox.create(1L);
+        retrying.scheduleRetry(Duration.ofMinutes(5), "timeout");
+        AiFeedbackOutbox dead = AiFeedbackOutbox.create(2L);
+        dead.markDead("retries exhausted");
+        outboxRepository.saveAll(List.of(retrying, dead));
+
+        // When
+        List<AiFeedbackOutbox> beforeBackoff = outboxRepository.findDispatchable(
+                PENDING, LocalDateTime.now(), PageRequest.of(0, 10));
+        List<AiFeedbackOutbox> afterBackoff = outboxRepository.findDispatchable(
+                PENDING, LocalDateTime.now().plusMinutes(6), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(beforeBackoff).isEmpty();
+        assertThat(afterBackoff)
+                .extracting(AiFeedbackOutbox::getAnswerId)
+                .containsExactly(1L);
+    }
+}
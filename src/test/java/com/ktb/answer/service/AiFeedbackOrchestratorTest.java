@@ -0,0 +1,599 @@
+package com.ktb.answer.service;
+
+import com.ktb.ai.common.exception.AiServiceOverloadedException;
+import com.ktb.ai.feedback.dto.response.AiFeedbackBadCaseFeedback;
+import com.ktb.ai.feedback.dto.response.AiFeedbackFeedback;
+import com.ktb.ai.feedback.dto.response.AiFeedbackMetric;
+import com.ktb.ai.feedback.dto.response.AiFeedbackResponse;
+import com.ktb.ai.feedback.dto.response.BadCaseType;
+import com.ktb.ai.feedback.service.AiFeedbackService;
+import com.ktb.answer.config.AiFeedbackWorkerProperties;
+import com.ktb.answer.domain.AiFeedbackOutbox;
+import com.ktb.answer.domain.AiFeedbackOutboxStatus;
+import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerStatus;
+import com.ktb.answer.dto.FeedbackStatus;
+import com.ktb.answer.dto.response.FeedbackResponse;
+import com.ktb.answer.exception.AnswerConcurrentModificationException;
+import com.ktb.answer.exception.InvalidAnswerStatusTransitionException;
+import com.ktb.answer.repository.AiFeedbackOutboxRepository;
+import com.ktb.answer.repository.AnswerRepository;
+import com.ktb.answer.service.impl.AiFeedbackOrchestratorImpl;
+import com.ktb.common.dto.ApiResponse;
+import com.ktb.fixture.AnswerFixture;
+import com.ktb.fixture.MetricFixture;
+import com.ktb.metric.cache.MetricIdCache;
+import com.ktb.metric.domain.AnswerMetric;
+import com.ktb.metric.domain.Metric;
+import com.ktb.metric.repository.AnswerMetricRepository;
+import com.ktb.metric.repository.MetricRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiFeedbackOrchestrator 단위 테스트")
+class AiFeedbackOrchestratorTest {
+
+    private static final Long ANSWER_ID = 1L;
+    private static final Long ACCOUNT_ID = 10L;
+    private static final Long OUTBOX_ID = 100L;
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @Mock
+    private AiFeedbackOutboxRepository outboxRepository;
+
+    @Mock
+    private AiFeedbackService aiFeedbackService;
+
+    @Mock
+    private AnswerMetricRepository answerMetricRepository;
+
+    @Mock
+    private MetricRepository metricRepository;
+
+    @Mock
+    private MetricIdCache metricIdCache;
+
+    private TrackingTransactionManager transactionManager;
+    private AiFeedbackWorkerProperties workerProperties;
+    private AiFeedbackOrchestratorImpl orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new TrackingTransactionManager();
+        workerProperties = new AiFeedbackWorkerProperties();
+        workerProperties.setResultPollInterval(Duration.ofMillis(10));
+        workerProperties.setResultWaitTimeout(Duration.ofSeconds(5));
+        orchestrator = new AiFeedbackOrchestratorImpl(
+                answerRepository,
+                outboxRepository,
+                aiFeedbackService,
+                workerProperties,
+                answerMetricRepository,
+                metricRepository,
+                metricIdCache,
+                transactionManager
+        );
+    }
+
+    @Test
+    @DisplayName("워커 처리 시 AI 서버 호출 동안 트랜잭션(커넥션)을 점유하지 않음")
+    void process_ShouldNotHoldTransactionDuringClientCall() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        AiFeedbackOutbox outbox = claimedOutbox(1);
+        when(outboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findById(ANSWER_ID)).thenReturn(Optional.of(answer));
+
+        AtomicInteger openDuringCall = new AtomicInteger(-1);
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    openDuringCall.set(transactionManager.open.get());
+                    return successResponse();
+                });
+
+        // When
+        orchestrator.process(OUTBOX_ID);
+
+        // Then
+        assertThat(openDuringCall.get()).isZero();
+        assertThat(transactionManager.begun.get()).isEqualTo(2);
+        assertThat(transactionManager.open.get()).isZero();
+        assertThat(answer.getStatus()).isEqualTo(AnswerStatus.COMPLETED);
+        assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("AI 서버 호출 중 답변이 변경되면 피드백을 반영하지 않고 재시도를 예약함")
+    void process_WhenAnswerChangedDuringCall_ShouldNotApplyFeedback() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        AiFeedbackOutbox outbox = claimedOutbox(1);
+        when(outboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findById(ANSWER_ID)).thenReturn(Optional.of(answer));
+
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    ReflectionTestUtils.setField(answer, "version", 1L);
+                    return successResponse();
+                });
+
+        // When
+        orchestrator.process(OUTBOX_ID);
+
+        // Then
+        assertThat(answer.getAiFeedback()).isNull();
+        assertThat(answer.getStatus()).isEqualTo(AnswerStatus.FAILED_RETRYABLE);
+        assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.PENDING);
+        assertThat(outbox.getLastError())
+                .isEqualTo(new AnswerConcurrentModificationException(ANSWER_ID).getMessage());
+        assertThat(transactionManager.open.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("워커 처리 중 스트림을 열면 AI 서버를 다시 호출하지 않고 워커 결과를 중계받음")
+    void streamFeedback_WhileOutboxInFlight_ShouldCallClientOnce() throws Exception {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        AiFeedbackOutbox outbox = claimedOutbox(1);
+        when(outboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findById(ANSWER_ID)).thenReturn(Optional.of(answer));
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+
+        CountDownLatch clientCalled = new CountDownLatch(1);
+        CountDownLatch releaseClient = new CountDownLatch(1);
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<String> onToken = invocation.getArgument(7);
+                    onToken.accept("강");
+                    clientCalled.countDown();
+                    releaseClient.await(5, TimeUnit.SECONDS);
+                    onToken.accept("점");
+                    return successResponse();
+                });
+
+        List<String> events = new CopyOnWriteArrayList<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        FeedbackStreamListener listener = new FeedbackStreamListener() {
+            @Override
+            public void onStatus(FeedbackStatus status) {
+                events.add(status.name());
+            }
+
+            @Override
+            public void onToken(String token) {
+                events.add(token);
+                subscribed.countDown();
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // When
+            Future<?> worker = executor.submit(() -> orchestrator.process(OUTBOX_ID));
+            assertThat(clientCalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<FeedbackResponse> stream = executor.submit(
+                    () -> orchestrator.streamFeedback(ANSWER_ID, ACCOUNT_ID, listener));
+            assertThat(subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+            releaseClient.countDown();
+
+            // Then
+            worker.get(5, TimeUnit.SECONDS);
+            FeedbackResponse response = stream.get(5, TimeUnit.SECONDS);
+            assertThat(events).containsExactly("PROCESSING", "강", "점");
+            assertThat(response.status()).isEqualTo("COMPLETED");
+            assertThat(answer.getStatus()).isEqualTo(AnswerStatus.COMPLETED);
+            verify(aiFeedbackService, times(1))
+                    .evaluateStream(any(), any(), any(), any(), any(), any(), any(), any());
+            verify(aiFeedbackService, never()).evaluateSync(any(), any(), any(), any(), any(), any(), any());
+            verify(answerRepository, times(1)).save(answer);
+            verify(answerRepository, never()).findStatusById(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 완료된 답변은 AI 서버를 호출하지 않고 저장된 피드백을 반환함")
+    void streamFeedback_WhenCompleted_ShouldReturnPersistedFeedback() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        answer.setAiFeedback("강점\n\n개선사항");
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+
+        // When
+        FeedbackResponse response = orchestrator.streamFeedback(ANSWER_ID, ACCOUNT_ID, FeedbackStreamListener.NOOP);
+
+        // Then
+        assertThat(response.status()).isEqualTo("COMPLETED");
+        assertThat(transactionManager.begun.get()).isEqualTo(1);
+        verifyNoInteractions(aiFeedbackService);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = AnswerStatus.class, names = {"FAILED", "TRANSCRIBING"})
+    @DisplayName("FAILED, TRANSCRIBING 답변은 스트림을 열 수 없음")
+    void streamFeedback_WhenNotAvailable_ShouldThrowException(AnswerStatus status) {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(status);
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+
+        // When & Then
+        assertThatThrownBy(() -> orchestrator.streamFeedback(ANSWER_ID, ACCOUNT_ID, FeedbackStreamListener.NOOP))
+                .isInstanceOf(InvalidAnswerStatusTransitionException.class);
+        verifyNoInteractions(aiFeedbackService);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 워커가 처리한 결과는 저장된 상태 컬럼으로 확인함")
+    void streamFeedback_WhenProcessedElsewhere_ShouldPollStatusOnly() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findStatusById(ANSWER_ID))
+                .thenReturn(AnswerStatus.AI_FEEDBACK_PROCESSING, AnswerStatus.FAILED_RETRYABLE, AnswerStatus.FAILED);
+
+        // When
+        FeedbackResponse response = orchestrator.streamFeedback(ANSWER_ID, ACCOUNT_ID, FeedbackStreamListener.NOOP);
+
+        // Then
+        assertThat(response.status()).isEqualTo(FeedbackStatus.FAILED.name());
+        verify(answerRepository, times(3)).findStatusById(ANSWER_ID);
+        verify(answerRepository, times(1)).findByIdWithQuestionAndMetrics(ANSWER_ID);
+        verifyNoInteractions(aiFeedbackService);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 완료되면 피드백과 지표는 마지막에 한 번만 조회함")
+    void streamFeedback_WhenCompletedElsewhere_ShouldFetchFeedbackOnce() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findStatusById(ANSWER_ID)).thenAnswer(invocation -> {
+            if (answer.getStatus() == AnswerStatus.AI_FEEDBACK_PROCESSING) {
+                answer.setAiFeedback("강점\n\n개선사항");
+                return AnswerStatus.AI_FEEDBACK_PROCESSING;
+            }
+            return answer.getStatus();
+        });
+
+        // When
+        FeedbackResponse response = orchestrator.streamFeedback(ANSWER_ID, ACCOUNT_ID, FeedbackStreamListener.NOOP);
+
+        // Then
+        assertThat(response.status()).isEqualTo(FeedbackStatus.COMPLETED.name());
+        assertThat(response.feedback()).isEqualTo("강점\n\n개선사항");
+        verify(answerRepository, times(2)).findStatusById(ANSWER_ID);
+        verify(answerRepository, times(2)).findByIdWithQuestionAndMetrics(ANSWER_ID);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 워커 결과가 없으면 PROCESSING을 반환함")
+    void streamFeedback_WhenWaitTimesOut_ShouldReturnProcessing() {
+        // Given
+        workerProperties.setResultWaitTimeout(Duration.ofMillis(50));
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findStatusById(ANSWER_ID)).thenReturn(AnswerStatus.AI_FEEDBACK_PROCESSING);
+
+        // When
+        FeedbackResponse response = orchestrator.streamFeedback(ANSWER_ID, ACCOUNT_ID, FeedbackStreamListener.NOOP);
+
+        // Then
+        assertThat(response.status()).isEqualTo(FeedbackStatus.PROCESSING.name());
+        assertThat(transactionManager.open.get()).isZero();
+        verifyNoInteractions(aiFeedbackService);
+    }
+
+    @Test
+    @DisplayName("스트림이 취소되면(인터럽트) 대기를 멈추고 더 이상 상태를 조회하지 않음")
+    void streamFeedback_WhenCancelled_ShouldStopPolling() throws Exception {
+        // Given
+        workerProperties.setResultWaitTimeout(Duration.ofMinutes(5));
+        workerProperties.setResultPollInterval(Duration.ofMinutes(1));
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+        CountDownLatch polled = new CountDownLatch(1);
+        when(answerRepository.findStatusById(ANSWER_ID)).thenAnswer(invocation -> {
+            polled.countDown();
+            return AnswerStatus.AI_FEEDBACK_PROCESSING;
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<FeedbackResponse> stream = executor.submit(
+                    () -> orchestrator.streamFeedback(ANSWER_ID, ACCOUNT_ID, FeedbackStreamListener.NOOP));
+            assertThat(polled.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            executor.shutdownNow();
+
+            // Then
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(stream.isDone()).isTrue();
+            verify(answerRepository, times(1)).findStatusById(ANSWER_ID);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("AI 피드백 반영 시 레이더 지표를 한 번에 저장함 (등록되지 않은 지표명은 제외)")
+    void process_ShouldPersistMetricsInOneBatch() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        AiFeedbackOutbox outbox = claimedOutbox(1);
+        when(outboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findById(ANSWER_ID)).thenReturn(Optional.of(answer));
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(successResponse(List.of(
+                        new AiFeedbackMetric("정확도", 4, "정확합니다"),
+                        new AiFeedbackMetric("논리성", 3, "보통입니다"),
+                        new AiFeedbackMetric("미등록", 5, "무시됩니다")
+                )));
+        when(metricIdCache.resolve(anyCollection())).thenReturn(Map.of("정확도", 1L, "논리성", 2L));
+        when(metricRepository.getReferenceById(any())).thenReturn(MetricFixture.createMetric());
+
+        // When
+        orchestrator.process(OUTBOX_ID);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<AnswerMetric>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(answerMetricRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(AnswerMetric::getScore, AnswerMetric::getComment)
+                .containsExactly(
+                        tuple(4, "정확합니다"),
+                        tuple(3, "보통입니다")
+                );
+    }
+
+    @Test
+    @DisplayName("완료된 답변 조회 시 저장된 지표로 레이더 차트를 구성함")
+    void getFeedback_WhenCompleted_ShouldServeStoredMetrics() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        answer.setAiFeedback("강점\n\n개선사항");
+        Metric metric = MetricFixture.createMetric();
+        answer.getMetrics().add(AnswerMetric.create(answer, metric, 4, "정확합니다"));
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+
+        // When
+        FeedbackResponse response = orchestrator.getFeedback(ANSWER_ID, ACCOUNT_ID);
+
+        // Then
+        assertThat(response.status()).isEqualTo("COMPLETED");
+        assertThat(response.radarChart())
+                .singleElement()
+                .satisfies(chart -> {
+                    assertThat(chart.metricName()).isEqualTo(metric.getName());
+                    assertThat(chart.metricDescription()).isEqualTo("정확합니다");
+                    assertThat(chart.score()).isEqualTo(4);
+                });
+        verify(aiFeedbackService, never()).evaluateSync(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("워커 처리 중 일시적 오류가 나면 FAILED_RETRYABLE로 바꾸고 백오프 후 재시도를 예약함")
+    void process_WhenRetryableFailure_ShouldScheduleRetryWithBackoff() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        AiFeedbackOutbox outbox = claimedOutbox(1);
+        when(outboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findById(ANSWER_ID)).thenReturn(Optional.of(answer));
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("read timeout"));
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        orchestrator.process(OUTBOX_ID);
+
+        // Then
+        assertThat(answer.getStatus()).isEqualTo(AnswerStatus.FAILED_RETRYABLE);
+        assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.PENDING);
+        assertThat(outbox.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(5));
+        assertThat(outbox.getLastError()).isEqualTo("read timeout");
+        assertThat(transactionManager.open.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 소진하면 답변은 FAILED, 아웃박스는 DEAD로 전환함")
+    void process_WhenAttemptsExhausted_ShouldMarkDead() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        AiFeedbackOutbox outbox = claimedOutbox(new AiFeedbackWorkerProperties().getMaxAttempts());
+        when(outboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findById(ANSWER_ID)).thenReturn(Optional.of(answer));
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("read timeout"));
+
+        // When
+        orchestrator.process(OUTBOX_ID);
+
+        // Then
+        assertThat(answer.getStatus()).isEqualTo(AnswerStatus.FAILED);
+        assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.DEAD);
+    }
+
+    @Test
+    @DisplayName("서킷 OPEN으로 호출 전에 거절되면 시도 횟수를 쓰지 않고 재예약하여 DEAD로 가지 않음")
+    void process_WhenCircuitOpen_ShouldDeferWithoutConsumingAttempts() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        AiFeedbackOutbox outbox = AiFeedbackOutbox.create(ANSWER_ID);
+        ReflectionTestUtils.setField(outbox, "id", OUTBOX_ID);
+        when(outboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findById(ANSWER_ID)).thenReturn(Optional.of(answer));
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new AiServiceOverloadedException("ai-feedback", "circuit_open"));
+        int rounds = workerProperties.getMaxAttempts() + 2;
+
+        // When: 디스패처의 선점(attempt_count + 1)과 처리를 최대 시도 횟수보다 여러 번 반복
+        LocalDateTime before = LocalDateTime.now();
+        for (int i = 0; i < rounds; i++) {
+            ReflectionTestUtils.setField(outbox, "status", AiFeedbackOutboxStatus.IN_PROGRESS);
+            ReflectionTestUtils.setField(outbox, "attemptCount", outbox.getAttemptCount() + 1);
+            orchestrator.process(OUTBOX_ID);
+        }
+
+        // Then
+        assertThat(outbox.getStatus()).isEqualTo(AiFeedbackOutboxStatus.PENDING);
+        assertThat(outbox.getAttemptCount()).isZero();
+        assertThat(outbox.getNextAttemptAt())
+                .isAfterOrEqualTo(before.plus(workerProperties.getOverloadBackoff()));
+        assertThat(answer.getStatus()).isEqualTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        verify(aiFeedbackService, times(rounds))
+                .evaluateStream(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("부적절한 답변 판정은 다시 조회해도 워커가 처음 돌려준 것과 같은 응답을 반환함")
+    void getFeedback_AfterBadCase_ShouldReturnSameResponseAsWorker() {
+        // Given
+        Answer answer = AnswerFixture.createAnswerWithAccountId(ACCOUNT_ID);
+        answer.transitionTo(AnswerStatus.AI_FEEDBACK_PROCESSING);
+        AiFeedbackOutbox outbox = claimedOutbox(1);
+        when(outboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        when(answerRepository.findById(ANSWER_ID)).thenReturn(Optional.of(answer));
+        when(answerRepository.findByIdWithQuestionAndMetrics(ANSWER_ID)).thenReturn(answer);
+        when(aiFeedbackService.evaluateStream(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(badCaseResponse(BadCaseType.TOO_SHORT));
+        orchestrator.process(OUTBOX_ID);
+
+        // When
+        FeedbackResponse polled = orchestrator.getFeedback(ANSWER_ID, ACCOUNT_ID);
+        FeedbackResponse streamed = orchestrator.streamFeedback(ANSWER_ID, ACCOUNT_ID, FeedbackStreamListener.NOOP);
+
+        // Then
+        FeedbackResponse expected = FeedbackResponse.failed(
+                BadCaseType.TOO_SHORT.getMessage() + "\n\n" + BadCaseType.TOO_SHORT.getGuidance());
+        assertThat(answer.getStatus()).isEqualTo(AnswerStatus.COMPLETED);
+        assertThat(answer.isAiFeedbackBadCase()).isTrue();
+        assertThat(polled).isEqualTo(expected);
+        assertThat(streamed).isEqualTo(expected);
+        verify(aiFeedbackService, times(1))
+                .evaluateStream(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    private AiFeedbackOutbox claimedOutbox(int attemptCount) {
+        AiFeedbackOutbox outbox = AiFeedbackOutbox.create(ANSWER_ID);
+        ReflectionTestUtils.setField(outbox, "id", OUTBOX_ID);
+        ReflectionTestUtils.setField(outbox, "status", AiFeedbackOutboxStatus.IN_PROGRESS);
+        ReflectionTestUtils.setField(outbox, "attemptCount", attemptCount);
+        return outbox;
+    }
+
+    private ApiResponse<AiFeedbackResponse> successResponse() {
+        return successResponse(List.of(new AiFeedbackMetric("정확도", 4, "정확합니다")));
+    }
+
+    private ApiResponse<AiFeedbackResponse> successResponse(List<AiFeedbackMetric> metrics) {
+        AiFeedbackResponse data = new AiFeedbackResponse(
+                ACCOUNT_ID, 1L, "PRACTICE_INTERVIEW", "CS", "DB",
+                metrics,
+                null,
+                false,
+                new AiFeedbackFeedback("강점", "개선사항")
+        );
+        return new ApiResponse<>("feedback_success", data);
+    }
+
+    private ApiResponse<AiFeedbackResponse> badCaseResponse(BadCaseType type) {
+        AiFeedbackResponse data = new AiFeedbackResponse(
+                ACCOUNT_ID, 1L, "PRACTICE_INTERVIEW", "CS", "DB",
+                null,
+                new AiFeedbackBadCaseFeedback(type.name(), type.getMessage(), type.getGuidance()),
+                null,
+                null
+        );
+        return new ApiResponse<>("bad_case_detected", data);
+    }
+
+    /**
+     * 열린 트랜잭션 수를 추적하는 테스트용 트랜잭션 매니저
+     */
+    private static class TrackingTransactionManager implements PlatformTransactionManager {
+
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicInteger begun = new AtomicInteger();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            open.incrementAndGet();
+            begun.incrementAndGet();
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            open.decrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            open.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.ktb.answer.service;
+
+import com.ktb.answer.domain.Answer;
+import com.ktb.answer.domain.AnswerStatus;
+import com.ktb.answer.domain.AnswerType;
+import com.ktb.answer.dto.ImmediateFeedbackResult;
+import com.ktb.answer.dto.KeywordCheckResult;
+import com.ktb.answer.repository.AnswerRepository;
+import com.ktb.answer.service.impl.AnswerApplicationServiceImpl;
+import com.ktb.auth.domain.UserAccount;
+import com.ktb.auth.service.UserAccountService;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.hashtag.domain.AnswerHashtag;
+import com.ktb.hashtag.domain.Hashtag;
+import com.ktb.hashtag.exception.HashtagNotFoundException;
+import com.ktb.hashtag.repository.AnswerHashtagRepository;
+import com.ktb.hashtag.repository.HashtagRepository;
+import com.ktb.question.domain.Question;
+import com.ktb.question.service.QuestionService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnswerApplicationService 답변 해시태그 저장 테스트")
+class AnswerApplicationServiceTest {
+
+    private static final Long ANSWER_ID = 1L;
+    private static final Long QUESTION_ID = 10L;
+    private static final String TRANSCRIPT = "MVCC와 락 기반 동시성 제어의 차이";
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @Mock
+    private QuestionService questionService;
+
+    @Mock
+    private UserAccountService userAccountService;
+
+    @Mock
+    private ImmediateFeedbackService immediateFeedbackService;
+
+    @Mock
+    private AiFeedbackOrchestrator aiFeedbackOrchestrator;
+
+    @Mock
+    private AnswerHashtagRepository answerHashtagRepository;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<List<AnswerHashtag>> rowsCaptor;
+
+    private AnswerApplicationService answerApplicationService;
+
+    @BeforeEach
+    void setUp() {
+        answerApplicationService = new AnswerApplicationServiceImpl(
+                answerRepository,
+                questionService,
+                userAccountService,
+                immediateFeedbackService,
+                aiFeedbackOrchestrator,
+                answerHashtagRepository,
+                hashtagRepository,
+                fileRepository,
+                eventPublisher
+        );
+    }
+
+    @Test
+    @DisplayName("키워드 결과의 해시태그를 한 번에 조회하고 답변 해시태그를 한 번에 저장한다")
+    void applyTranscript_ShouldLoadHashtagsOnceAndSaveAllRows() {
+        // given
+        Answer answer = givenTranscribingAnswer();
+        when(immediateFeedbackService.evaluate(QUESTION_ID, TRANSCRIPT)).thenReturn(new ImmediateFeedbackResult(List.of(
+                new KeywordCheckResult(100L, "mvcc", true),
+                new KeywordCheckResult(101L, "락", true),
+                new KeywordCheckResult(102L, "인덱스", false)
+        )));
+        when(hashtagRepository.findAllById(anyIterable())).thenReturn(List.of(
+                hashtag(100L, "mvcc"),
+                hashtag(101L, "락"),
+                hashtag(102L, "인덱스")
+        ));
+
+        // when
+        answerApplicationService.applyTranscript(ANSWER_ID, TRANSCRIPT);
+
+        // then
+        verify(hashtagRepository, times(1)).findAllById(anyIterable());
+        verify(hashtagRepository, never()).findById(anyLong());
+        verify(answerHashtagRepository, times(1)).saveAll(rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue())
+                .extracting(row -> row.getHashtag().getId(), AnswerHashtag::isIncluded)
+                .containsExactly(tuple(100L, true), tuple(101L, true), tuple(102L, false));
+        assertThat(answer.getStatus()).isEqualTo(AnswerStatus.IMMEDIATE_FEEDBACK_READY);
+    }
+
+    @Test
+    @DisplayName("조회되지 않는 해시태그가 있으면 저장하지 않고 예외를 던진다")
+    void applyTranscript_WithUnknownHashtag_ShouldThrow() {
+        // given
+        givenTranscribingAnswer();
+        when(immediateFeedbackService.evaluate(QUESTION_ID, TRANSCRIPT)).thenReturn(new ImmediateFeedbackResult(List.of(
+                new KeywordCheckResult(100L, "mvcc", true),
+                new KeywordCheckResult(999L, "없는 키워드", false)
+        )));
+        when(hashtagRepository.findAllById(anyIterable())).thenReturn(List.of(hashtag(100L, "mvcc")));
+
+        // when & then
+        assertThatThrownBy(() -> answerApplicationService.applyTranscript(ANSWER_ID, TRANSCRIPT))
+                .isInstanceOf(HashtagNotFoundException.class);
+        verify(answerHashtagRepository, never()).saveAll(anyList());
+    }
+
+    private Answer givenTranscribingAnswer() {
+        Answer answer = Answer.createAudio(
+                Question.createWithQuestionId(QUESTION_ID),
+                mock(UserAccount.class),
+                AnswerType.PRACTICE_INTERVIEW,
+                1000L
+        );
+        ReflectionTestUtils.setField(answer, "id", ANSWER_ID);
+        when(answerRepository.findByIdWithQuestion(ANSWER_ID)).thenReturn(answer);
+        return answer;
+    }
+
+    private static Hashtag hashtag(Long id, String name) {
+        Hashtag hashtag = Hashtag.create(name);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ktb.auth.integration;
+
+import com.ktb.auth.domain.RefreshToken;
+import com.ktb.auth.domain.TokenFamily;
+import com.ktb.auth.domain.UserAccount;
+import com.ktb.auth.dto.TokenRefreshResult;
+import com.ktb.auth.jwt.JwtProvider;
+import com.ktb.auth.repository.RefreshTokenRepository;
+import com.ktb.auth.repository.TokenFamilyRepository;
+import com.ktb.auth.repository.UserAccountRepository;
+import com.ktb.auth.service.OAuthApplicationService;
+import com.ktb.common.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refresh Token 동시 회전 통합 테스트 (H2, 실제 조건부 UPDATE와 커밋)
+ * 테스트 프로파일은 유예 시간이 0이므로 중복 요청은 모두 DB 판정으로 간다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Refresh Token 동시 회전 통합 테스트")
+class RefreshTokenRotationIntegrationTest {
+
+    private static final int PARALLEL_REQUESTS = 100;
+
+    @Autowired
+    private OAuthApplicationService oauthApplicationService;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TokenFamilyRepository tokenFamilyRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private String refreshToken;
+    private Long familyId;
+
+    @BeforeEach
+    void setUp() {
+        UserAccount account = userAccountRepository.save(
+                UserAccount.createEmailAccount("rotation@example.com", "회전테스트"));
+        TokenFamily family = tokenFamilyRepository.save(TokenFamily.create(account, "device", "127.0.0.1"));
+        familyId = family.getId();
+
+        refreshToken = jwtProvider.createRefreshToken(account.getId(), family.getUuid());
+        refreshTokenRepository.save(RefreshToken.builder()
+                .family(family)
+                .tokenHash(jwtProvider.generateTokenHash(refreshToken))
+                .expiresAt(LocalDateTime.now().plus(jwtProvider.refreshTokenDuration()))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        tokenFamilyRepository.deleteAll();
+        userAccountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 Refresh Token으로 100개 요청이 동시에 들어오면 새 토큰은 한 행만 저장되고 사용 처리도 한 번만 일어난다")
+    void refreshTokens_ParallelDuplicates_ShouldRotateOnce() throws Exception {
+        // when
+        List<Object> outcomes = refreshInParallel();
+
+        // then
+        long succeeded = outcomes.stream().filter(TokenRefreshResult.class::isInstance).count();
+        assertThat(outcomes).allSatisfy(outcome -> assertThat(outcome)
+                .isInstanceOfAny(TokenRefreshResult.class, BusinessException.class));
+        assertThat(succeeded).isEqualTo(1);
+
+        List<RefreshToken> tokens = refreshTokenRepository.findAll();
+        assertThat(tokens).hasSize(2);
+        assertThat(tokens).filteredOn(RefreshToken::getUsed).hasSize(1);
+        assertThat(tokens).filteredOn(RefreshToken::getUsed)
+                .allSatisfy(token -> assertThat(token.getTokenHash())
+                        .isEqualTo(jwtProvider.generateTokenHash(refreshToken)));
+
+        // 중복 요청은 재사용으로 판정되어 Family가 폐기된다
+        assertThat(tokenFamilyRepository.findById(familyId).orElseThrow().isRevoked()).isTrue();
+    }
+
+    private List<Object> refreshInParallel() throws Exception {
+        CountDownLatch ready = new CountDownLatch(PARALLEL_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_REQUESTS)) {
+            for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        return oauthApplicationService.refreshTokens(refreshToken);
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        }
+    }
+}
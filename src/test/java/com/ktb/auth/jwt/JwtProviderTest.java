@@ -0,0 +1,68 @@
+package com.ktb.auth.jwt;
+
+import com.ktb.auth.exception.token.InvalidAccessTokenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtProvider Access Token 검증 테스트")
+class JwtProviderTest {
+
+    private static final Long USER_ID = 1L;
+    private static final List<String> ROLES = List.of("ROLE_USER");
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-for-testing-purposes-only-minimum-256-bits-required");
+        jwtProvider = new JwtProvider(properties, new AccessTokenClaimsCache(properties, new SimpleMeterRegistry()));
+        jwtProvider.init();
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 다시 조회할 때 캐시된 클레임을 반환해야 한다")
+    void verifyAccessToken_SecondCall_ShouldReturnCachedClaims() {
+        // given
+        String token = jwtProvider.createAccessToken(USER_ID, ROLES);
+
+        // when
+        AccessTokenClaims first = jwtProvider.verifyAccessToken(token);
+        AccessTokenClaims second = jwtProvider.verifyAccessToken(token);
+
+        // then
+        assertThat(first.userId()).isEqualTo(USER_ID);
+        assertThat(first.roles()).containsExactly("ROLE_USER");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시된 토큰이 있어도 거부되어야 한다")
+    void verifyAccessToken_WithForgedSignature_ShouldThrowException() {
+        // given
+        String token = jwtProvider.createAccessToken(USER_ID, ROLES);
+        jwtProvider.verifyAccessToken(token);
+        String forged = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verifyAccessToken(forged))
+                .isInstanceOf(InvalidAccessTokenException.class);
+    }
+
+    @Test
+    @DisplayName("Refresh Token은 Access Token으로 검증되지 않아야 한다")
+    void verifyAccessToken_WithRefreshToken_ShouldThrowException() {
+        // given
+        String refreshToken = jwtProvider.createRefreshToken(USER_ID, "family-uuid");
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verifyAccessToken(refreshToken))
+                .isInstanceOf(InvalidAccessTokenException.class);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktb.auth.service;
 
+import com.ktb.auth.cache.RefreshTokenRotationCache;
 import com.ktb.auth.client.KakaoOAuth2Client;
 import com.ktb.auth.config.KakaoOAuthProviderProperties;
 import com.ktb.auth.config.KakaoOAuthRegistrationProperties;
@@ -8,12 +9,12 @@ import com.ktb.auth.exception.oauth.OAuthProviderException;
 import com.ktb.auth.domain.RefreshToken;
 import com.ktb.auth.domain.RevokeReason;
 import com.ktb.auth.domain.TokenFamily;
-import com.ktb.auth.domain.UserAccount;
 import com.ktb.auth.dto.AuthorizationUrlResult;
 import com.ktb.auth.dto.KakaoAccount;
 import com.ktb.auth.dto.KakaoProfile;
 import com.ktb.auth.dto.OAuthExchangeCodeResult;
 import com.ktb.auth.dto.OAuthExchangePayload;
+import com.ktb.auth.dto.OAuthLoginAccount;
 import com.ktb.auth.dto.response.KakaoUserInfoResponse;
 import com.ktb.auth.dto.OAuthLoginResult;
 import com.ktb.auth.dto.TokenRefreshResult;
@@ -33,11 +34,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static com.ktb.common.domain.ErrorCode.FAMILY_REVOKED;
 import static com.ktb.common.domain.ErrorCode.TOKEN_REUSE_DETECTED;
@@ -71,12 +73,18 @@ class OAuthApplicationServiceTest {
     @Mock
     private TokenFamilyRepository tokenFamilyRepository;
 
+    @Mock
+    private RefreshTokenRotationCache refreshTokenRotationCache;
+
     @Mock
     private KakaoOAuthProviderProperties kakaoProviderProperties;
 
     @Mock
     private KakaoOAuthRegistrationProperties kakaoRegistrationProperties;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private OAuthApplicationServiceImpl oauthApplicationService;
 
@@ -131,15 +139,12 @@ class OAuthApplicationServiceTest {
     void handleCallback_WithNewUser_ShouldSucceed() {
         // given
         KakaoUserInfoResponse userInfo = new KakaoUserInfoResponse(12345L, new KakaoAccount("newuser@example.com", new KakaoProfile("신규유저", null)));
-        UserAccount newUser = mock(UserAccount.class);
-        when(newUser.getId()).thenReturn(USER_ID);
-        when(newUser.getNickname()).thenReturn("신규유저");
-        when(newUser.getLastLoginAt()).thenReturn(null); // 신규 사용자
+        OAuthLoginAccount newUser = new OAuthLoginAccount(USER_ID, "신규유저", true); // 신규 사용자
 
         doNothing().when(oauthDomainService).validateAndConsumeState(STATE);
         when(kakaoOAuth2Client.getAccessToken(CODE)).thenReturn(KAKAO_ACCESS_TOKEN);
         when(kakaoOAuth2Client.getUserInfo(KAKAO_ACCESS_TOKEN)).thenReturn(userInfo);
-        when(oauthDomainService.findOrCreateAccount(OAuthProvider.KAKAO, "12345", userInfo)).thenReturn(newUser);
+        when(oauthDomainService.loginOrRegister(OAuthProvider.KAKAO, "12345", userInfo)).thenReturn(newUser);
         when(oauthDomainService.generateAndStoreExchangeCode(any(OAuthExchangePayload.class))).thenReturn(EXCHANGE_CODE);
 
         // when
@@ -151,7 +156,7 @@ class OAuthApplicationServiceTest {
         assertThat(result.exchangeCode()).isEqualTo(EXCHANGE_CODE);
 
         verify(oauthDomainService).validateAndConsumeState(STATE);
-        verify(newUser).updateLastLogin();
+        verify(oauthDomainService).loginOrRegister(OAuthProvider.KAKAO, "12345", userInfo);
         verify(oauthDomainService).generateAndStoreExchangeCode(
                 argThat(payload ->
                         payload.accountId().equals(USER_ID)
@@ -168,15 +173,12 @@ class OAuthApplicationServiceTest {
     void handleCallback_WithExistingUser_ShouldSucceed() {
         // given
         KakaoUserInfoResponse userInfo = new KakaoUserInfoResponse(12345L, new KakaoAccount("existing@example.com", new KakaoProfile("기존유저", null)));
-        UserAccount existingUser = mock(UserAccount.class);
-        when(existingUser.getId()).thenReturn(USER_ID);
-        when(existingUser.getNickname()).thenReturn("기존유저");
-        when(existingUser.getLastLoginAt()).thenReturn(LocalDateTime.now().minusDays(1)); // 기존 사용자
+        OAuthLoginAccount existingUser = new OAuthLoginAccount(USER_ID, "기존유저", false); // 기존 사용자
 
         doNothing().when(oauthDomainService).validateAndConsumeState(STATE);
         when(kakaoOAuth2Client.getAccessToken(CODE)).thenReturn(KAKAO_ACCESS_TOKEN);
         when(kakaoOAuth2Client.getUserInfo(KAKAO_ACCESS_TOKEN)).thenReturn(userInfo);
-        when(oauthDomainService.findOrCreateAccount(OAuthProvider.KAKAO, "12345", userInfo)).thenReturn(existingUser);
+        when(oauthDomainService.loginOrRegister(OAuthProvider.KAKAO, "12345", userInfo)).thenReturn(existingUser);
         when(oauthDomainService.generateAndStoreExchangeCode(any(OAuthExchangePayload.class))).thenReturn(EXCHANGE_CODE);
 
         // when
@@ -186,7 +188,9 @@ class OAuthApplicationServiceTest {
 
         // then
         assertThat(result.exchangeCode()).isEqualTo(EXCHANGE_CODE);
-        verify(existingUser).updateLastLogin();
+        verify(oauthDomainService).generateAndStoreExchangeCode(
+                argThat(payload -> payload.accountId().equals(USER_ID) && !payload.isNewUser())
+        );
     }
 
     @Test
@@ -263,18 +267,16 @@ class OAuthApplicationServiceTest {
     void refreshTokens_ShouldSucceed() {
         // given
         TokenService.RefreshTokenClaims claims = new TokenService.RefreshTokenClaims(USER_ID, FAMILY_UUID);
-        TokenService.RefreshTokenEntity tokenEntity = new TokenService.RefreshTokenEntity(100L, FAMILY_ID, false, LocalDateTime.now().plusDays(7));
         TokenFamily mockFamily = mock(TokenFamily.class);
+        RefreshToken currentToken = mock(RefreshToken.class);
+        when(currentToken.getFamily()).thenReturn(mockFamily);
 
         when(tokenService.validateRefreshToken(REFRESH_TOKEN)).thenReturn(claims);
         when(jwtProvider.generateTokenHash(REFRESH_TOKEN)).thenReturn(TOKEN_HASH);
-        when(tokenService.findByTokenHash(TOKEN_HASH)).thenReturn(tokenEntity);
-        doNothing().when(rtrService).detectReuse(tokenEntity);
-        doNothing().when(rtrService).validateFamilyActive(FAMILY_ID);
-        doNothing().when(rtrService).markAsUsed(100L);
+        when(rtrService.findActiveToken(TOKEN_HASH, FAMILY_UUID)).thenReturn(currentToken);
+        when(rtrService.tryConsume(currentToken)).thenReturn(true);
         when(tokenService.issueAccessToken(USER_ID, List.of("ROLE_USER"))).thenReturn("new.access.token");
         when(jwtProvider.createRefreshToken(USER_ID, FAMILY_UUID)).thenReturn("new.refresh.token");
-        when(tokenFamilyRepository.findByUuid(FAMILY_UUID)).thenReturn(Optional.of(mockFamily));
         when(jwtProvider.generateTokenHash("new.refresh.token")).thenReturn("new-token-hash");
         when(jwtProvider.refreshTokenDuration()).thenReturn(Duration.ofDays(14));
         when(jwtProvider.accessTokenExpiresSeconds()).thenReturn(600);
@@ -287,9 +289,10 @@ class OAuthApplicationServiceTest {
         assertThat(result.refreshToken()).isEqualTo("new.refresh.token");
         assertThat(result.expiresIn()).isEqualTo(600);
 
-        verify(rtrService).markAsUsed(100L);
+        verify(rtrService).tryConsume(currentToken);
         verify(mockFamily).updateLastUsed();
         verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(tokenFamilyRepository, never()).findByUuid(any());
     }
 
     @Test
@@ -297,21 +300,52 @@ class OAuthApplicationServiceTest {
     void refreshTokens_WithReusedToken_ShouldRevokeFamily() {
         // given
         TokenService.RefreshTokenClaims claims = new TokenService.RefreshTokenClaims(USER_ID, FAMILY_UUID);
-        TokenService.RefreshTokenEntity usedToken = new TokenService.RefreshTokenEntity(100L, FAMILY_ID, true, LocalDateTime.now().plusDays(7));
+        RefreshToken usedToken = mock(RefreshToken.class);
+        TokenFamily mockFamily = mock(TokenFamily.class);
+        when(usedToken.getFamily()).thenReturn(mockFamily);
+        when(mockFamily.getId()).thenReturn(FAMILY_ID);
 
         when(tokenService.validateRefreshToken(REFRESH_TOKEN)).thenReturn(claims);
         when(jwtProvider.generateTokenHash(REFRESH_TOKEN)).thenReturn(TOKEN_HASH);
-        when(tokenService.findByTokenHash(TOKEN_HASH)).thenReturn(usedToken);
-        doThrow(new TokenReuseDetectedException(FAMILY_ID))
-                .when(rtrService).detectReuse(usedToken);
+        when(rtrService.findActiveToken(TOKEN_HASH, FAMILY_UUID)).thenReturn(usedToken);
+        when(rtrService.tryConsume(usedToken)).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> oauthApplicationService.refreshTokens(REFRESH_TOKEN))
                 .isInstanceOf(TokenReuseDetectedException.class)
                 .hasMessageContaining(TOKEN_REUSE_DETECTED.getMessage());
 
-        verify(rtrService).detectReuse(usedToken);
+        verify(rtrService).revokeFamily(FAMILY_ID, RevokeReason.REUSE_DETECTED);
+        verify(refreshTokenRotationCache).abandon(TOKEN_HASH);
         verify(tokenService, never()).issueAccessToken(any(), any());
+        // Family 폐기는 롤백되지 않고 커밋된다
+        verify(transactionManager).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("[Edge Case] 중복 요청은 트랜잭션을 열기 전에 선행 회전 결과를 기다린다")
+    void refreshTokens_WhenRotationInFlight_ShouldAwaitOutsideTransaction() {
+        // given
+        TokenService.RefreshTokenClaims claims = new TokenService.RefreshTokenClaims(USER_ID, FAMILY_UUID);
+        TokenRefreshResult shared = new TokenRefreshResult("shared.access.token", "shared.refresh.token", 600);
+        CompletableFuture<TokenRefreshResult> inFlight = new CompletableFuture<>();
+
+        when(tokenService.validateRefreshToken(REFRESH_TOKEN)).thenReturn(claims);
+        when(jwtProvider.generateTokenHash(REFRESH_TOKEN)).thenReturn(TOKEN_HASH);
+        when(refreshTokenRotationCache.tryLead(TOKEN_HASH)).thenReturn(inFlight);
+        when(refreshTokenRotationCache.await(inFlight)).thenAnswer(invocation -> {
+            verifyNoInteractions(transactionManager);
+            return Optional.of(shared);
+        });
+
+        // when
+        TokenRefreshResult result = oauthApplicationService.refreshTokens(REFRESH_TOKEN);
+
+        // then
+        assertThat(result).isEqualTo(shared);
+        verifyNoInteractions(transactionManager);
+        verify(rtrService, never()).findActiveToken(any(), any());
     }
 
     @Test
@@ -367,20 +401,18 @@ class OAuthApplicationServiceTest {
     void refreshTokens_WithRevokedFamily_ShouldThrowException() {
         // given
         TokenService.RefreshTokenClaims claims = new TokenService.RefreshTokenClaims(USER_ID, FAMILY_UUID);
-        TokenService.RefreshTokenEntity tokenEntity = new TokenService.RefreshTokenEntity(100L, FAMILY_ID, false, LocalDateTime.now().plusDays(7));
 
         when(tokenService.validateRefreshToken(REFRESH_TOKEN)).thenReturn(claims);
         when(jwtProvider.generateTokenHash(REFRESH_TOKEN)).thenReturn(TOKEN_HASH);
-        when(tokenService.findByTokenHash(TOKEN_HASH)).thenReturn(tokenEntity);
-        doNothing().when(rtrService).detectReuse(tokenEntity);
         doThrow(new FamilyRevokedException(FAMILY_ID))
-                .when(rtrService).validateFamilyActive(FAMILY_ID);
+                .when(rtrService).findActiveToken(TOKEN_HASH, FAMILY_UUID);
 
         // when & then
         assertThatThrownBy(() -> oauthApplicationService.refreshTokens(REFRESH_TOKEN))
                 .isInstanceOf(FamilyRevokedException.class)
                 .hasMessageContaining(FAMILY_REVOKED.getMessage());
 
-        verify(rtrService).validateFamilyActive(FAMILY_ID);
+        verify(rtrService).findActiveToken(TOKEN_HASH, FAMILY_UUID);
+        verify(rtrService, never()).tryConsume(any());
     }
 }
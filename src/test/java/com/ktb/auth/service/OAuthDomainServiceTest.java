@@ -0,0 +1,62 @@
+package com.ktb.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.auth.config.EphemeralTokenStoreProperties;
+import com.ktb.auth.dto.OAuthExchangePayload;
+import com.ktb.auth.repository.UserAccountRepository;
+import com.ktb.auth.repository.UserOAuthRepository;
+import com.ktb.auth.service.impl.OAuthDomainServiceImpl;
+import com.ktb.auth.store.InMemoryEphemeralTokenStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("OAuthDomainService 교환 코드 테스트")
+class OAuthDomainServiceTest {
+
+    private OAuthDomainService oauthDomainService;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryEphemeralTokenStore store = new InMemoryEphemeralTokenStore(
+                new EphemeralTokenStoreProperties(), new SimpleMeterRegistry());
+        oauthDomainService = new OAuthDomainServiceImpl(
+                mock(UserOAuthRepository.class),
+                mock(UserAccountRepository.class),
+                store,
+                new ObjectMapper()
+        );
+    }
+
+    @Test
+    @DisplayName("교환 코드로 저장한 페이로드는 신규 사용자 여부까지 그대로 복원된다")
+    void consumeExchangeCode_ShouldRoundTripNewUserFlag() {
+        // given
+        OAuthExchangePayload payload = new OAuthExchangePayload(1L, "신규유저", true, "device", "127.0.0.1");
+        String exchangeCode = oauthDomainService.generateAndStoreExchangeCode(payload);
+
+        // when
+        OAuthExchangePayload restored = oauthDomainService.consumeExchangeCode(exchangeCode);
+
+        // then
+        assertThat(restored).isEqualTo(payload);
+        assertThat(restored.isNewUser()).isTrue();
+    }
+
+    @Test
+    @DisplayName("페이로드의 신규 사용자 여부는 isNewUser 키로 직렬화된다")
+    void serialize_ShouldKeepIsNewUserKey() throws Exception {
+        // given
+        OAuthExchangePayload payload = new OAuthExchangePayload(1L, "신규유저", true, "device", "127.0.0.1");
+
+        // when
+        String json = new ObjectMapper().writeValueAsString(payload);
+
+        // then
+        assertThat(new ObjectMapper().readTree(json).get("isNewUser").asBoolean()).isTrue();
+    }
+}
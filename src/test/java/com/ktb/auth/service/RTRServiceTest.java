@@ -12,7 +12,6 @@ import com.ktb.auth.repository.RefreshTokenRepository;
 import com.ktb.auth.repository.TokenFamilyRepository;
 import com.ktb.auth.repository.UserAccountRepository;
 import com.ktb.auth.service.impl.RTRServiceImpl;
-import com.ktb.common.exception.BusinessException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +25,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +49,8 @@ class RTRServiceTest {
     private static final Long TOKEN_ID = 100L;
     private static final String DEVICE_INFO = "Chrome on MacOS";
     private static final String CLIENT_IP = "127.0.0.1";
+    private static final String TOKEN_HASH = "token-hash-sha256";
+    private static final String FAMILY_UUID = "family-uuid-123";
 
     @Test
     @DisplayName("Family 생성이 성공해야 한다")
@@ -88,126 +90,90 @@ class RTRServiceTest {
     }
 
     @Test
-    @DisplayName("토큰 재사용 탐지 시 Family가 폐기되어야 한다")
-    void detectReuse_WithUsedToken_ShouldRevokeFamily() {
+    @DisplayName("갱신 대상 토큰 조회 - 정상 케이스")
+    void findActiveToken_WithActiveFamily_ShouldReturnToken() {
         // given
-        TokenService.RefreshTokenEntity usedToken =
-                new TokenService.RefreshTokenEntity(TOKEN_ID, FAMILY_ID, true, LocalDateTime.now().plusDays(7));
-
-        TokenFamily mockFamily = mock(TokenFamily.class);
-        when(tokenFamilyRepository.findById(FAMILY_ID)).thenReturn(Optional.of(mockFamily));
-
-        // when & then
-        assertThatThrownBy(() -> rtrService.detectReuse(usedToken))
-                .isInstanceOf(BusinessException.class)
-                .hasMessageContaining("토큰 재사용이 탐지되었습니다");
-
-        verify(mockFamily).revoke(RevokeReason.REUSE_DETECTED);
-    }
-
-    @Test
-    @DisplayName("사용되지 않은 토큰은 재사용 탐지를 통과해야 한다")
-    void detectReuse_WithUnusedToken_ShouldPass() {
-        // given
-        TokenService.RefreshTokenEntity unusedToken =
-                new TokenService.RefreshTokenEntity(TOKEN_ID, FAMILY_ID, false, LocalDateTime.now().plusDays(7));
-
-        // when
-        rtrService.detectReuse(unusedToken);
-
-        // then
-        verify(tokenFamilyRepository, never()).findById(any());
-    }
-
-    @Test
-    @DisplayName("토큰 사용 처리가 성공해야 한다")
-    void markAsUsed_ShouldSucceed() {
-        // given
-        RefreshToken mockToken = mock(RefreshToken.class);
-        when(refreshTokenRepository.findById(TOKEN_ID)).thenReturn(Optional.of(mockToken));
+        RefreshToken mockToken = mockTokenWithFamily(true);
+        when(refreshTokenRepository.findByTokenHashWithFamily(TOKEN_HASH)).thenReturn(Optional.of(mockToken));
 
         // when
-        rtrService.markAsUsed(TOKEN_ID);
+        RefreshToken token = rtrService.findActiveToken(TOKEN_HASH, FAMILY_UUID);
 
         // then
-        verify(mockToken).markAsUsed();
-        verify(refreshTokenRepository).findById(TOKEN_ID);
+        assertThat(token).isSameAs(mockToken);
+        verify(refreshTokenRepository).findByTokenHashWithFamily(TOKEN_HASH);
+        verifyNoInteractions(tokenFamilyRepository);
     }
 
     @Test
-    @DisplayName("[Edge Case] 존재하지 않는 RefreshToken 사용 처리 시 예외가 발생해야 한다")
-    void markAsUsed_WithNonExistentToken_ShouldThrowException() {
+    @DisplayName("[Edge Case] 존재하지 않는 토큰 조회 시 예외가 발생해야 한다")
+    void findActiveToken_WithNonExistentToken_ShouldThrowException() {
         // given
-        when(refreshTokenRepository.findById(TOKEN_ID)).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHashWithFamily(TOKEN_HASH)).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> rtrService.markAsUsed(TOKEN_ID))
+        assertThatThrownBy(() -> rtrService.findActiveToken(TOKEN_HASH, FAMILY_UUID))
                 .isInstanceOf(InvalidRefreshTokenException.class)
                 .hasMessageContaining("Refresh Token이 유효하지 않습니다");
-
-        verify(refreshTokenRepository).findById(TOKEN_ID);
     }
 
     @Test
-    @DisplayName("Family 활성 상태 확인 - 정상 케이스")
-    void validateFamilyActive_WithActiveFamily_ShouldPass() {
+    @DisplayName("[Edge Case] 토큰의 Family UUID가 클레임과 다르면 예외가 발생해야 한다")
+    void findActiveToken_WithDifferentFamilyUuid_ShouldThrowException() {
         // given
+        RefreshToken mockToken = mock(RefreshToken.class);
         TokenFamily mockFamily = mock(TokenFamily.class);
-        when(mockFamily.isRevoked()).thenReturn(false);
-        when(mockFamily.isExpired()).thenReturn(false);
-        when(tokenFamilyRepository.findById(FAMILY_ID)).thenReturn(Optional.of(mockFamily));
+        when(mockToken.getFamily()).thenReturn(mockFamily);
+        when(mockFamily.getUuid()).thenReturn("other-family-uuid");
+        when(refreshTokenRepository.findByTokenHashWithFamily(TOKEN_HASH)).thenReturn(Optional.of(mockToken));
 
-        // when
-        rtrService.validateFamilyActive(FAMILY_ID);
-
-        // then
-        verify(tokenFamilyRepository).findById(FAMILY_ID);
-        verify(mockFamily).isRevoked();
-        verify(mockFamily).isExpired();
+        // when & then
+        assertThatThrownBy(() -> rtrService.findActiveToken(TOKEN_HASH, FAMILY_UUID))
+                .isInstanceOf(InvalidRefreshTokenException.class);
     }
 
     @Test
-    @DisplayName("폐기된 Family 확인 시 예외가 발생해야 한다")
-    void validateFamilyActive_WithRevokedFamily_ShouldThrowException() {
+    @DisplayName("폐기/만료된 Family의 토큰 조회 시 예외가 발생해야 한다")
+    void findActiveToken_WithInvalidFamily_ShouldThrowException() {
         // given
-        TokenFamily mockFamily = mock(TokenFamily.class);
-        when(mockFamily.isRevoked()).thenReturn(true);
-        when(tokenFamilyRepository.findById(FAMILY_ID)).thenReturn(Optional.of(mockFamily));
+        RefreshToken mockToken = mockTokenWithFamily(false);
+        when(refreshTokenRepository.findByTokenHashWithFamily(TOKEN_HASH)).thenReturn(Optional.of(mockToken));
 
         // when & then
-        assertThatThrownBy(() -> rtrService.validateFamilyActive(FAMILY_ID))
+        assertThatThrownBy(() -> rtrService.findActiveToken(TOKEN_HASH, FAMILY_UUID))
                 .isInstanceOf(FamilyRevokedException.class);
-
-        verify(tokenFamilyRepository).findById(FAMILY_ID);
     }
 
     @Test
-    @DisplayName("만료된 Family 확인 시 예외가 발생해야 한다")
-    void validateFamilyActive_WithExpiredFamily_ShouldThrowException() {
+    @DisplayName("미사용 토큰은 조건부 UPDATE로 사용 처리되어야 한다")
+    void tryConsume_WithUnusedToken_ShouldReturnTrue() {
         // given
-        TokenFamily mockFamily = mock(TokenFamily.class);
-        when(mockFamily.isRevoked()).thenReturn(false);
-        when(mockFamily.isExpired()).thenReturn(true);
-        when(tokenFamilyRepository.findById(FAMILY_ID)).thenReturn(Optional.of(mockFamily));
+        RefreshToken mockToken = mock(RefreshToken.class);
+        when(mockToken.getId()).thenReturn(TOKEN_ID);
+        when(refreshTokenRepository.markAsUsedIfUnused(eq(TOKEN_ID), any(LocalDateTime.class))).thenReturn(1);
 
-        // when & then
-        assertThatThrownBy(() -> rtrService.validateFamilyActive(FAMILY_ID))
-                .isInstanceOf(FamilyRevokedException.class);
+        // when
+        boolean consumed = rtrService.tryConsume(mockToken);
 
-        verify(tokenFamilyRepository).findById(FAMILY_ID);
+        // then
+        assertThat(consumed).isTrue();
+        verify(refreshTokenRepository).markAsUsedIfUnused(eq(TOKEN_ID), any(LocalDateTime.class));
     }
 
     @Test
-    @DisplayName("[Edge Case] 존재하지 않는 Family 조회 시 예외가 발생해야 한다")
-    void validateFamilyActive_WithNonExistentFamily_ShouldThrowException() {
+    @DisplayName("이미 사용된 토큰이면 false를 반환해야 한다")
+    void tryConsume_WithUsedToken_ShouldReturnFalse() {
         // given
-        when(tokenFamilyRepository.findById(FAMILY_ID)).thenReturn(Optional.empty());
+        RefreshToken mockToken = mock(RefreshToken.class);
+        when(mockToken.getId()).thenReturn(TOKEN_ID);
+        when(refreshTokenRepository.markAsUsedIfUnused(eq(TOKEN_ID), any(LocalDateTime.class))).thenReturn(0);
 
-        // when & then
-        assertThatThrownBy(() -> rtrService.validateFamilyActive(FAMILY_ID))
-                .isInstanceOf(TokenFamilyNotFoundException.class);
+        // when
+        boolean consumed = rtrService.tryConsume(mockToken);
 
-        verify(tokenFamilyRepository).findById(FAMILY_ID);
+        // then
+        assertThat(consumed).isFalse();
+        verify(tokenFamilyRepository, never()).findById(any());
     }
 
     @Test
@@ -254,4 +220,13 @@ class RTRServiceTest {
 
         verify(tokenFamilyRepository).findById(FAMILY_ID);
     }
+
+    private RefreshToken mockTokenWithFamily(boolean familyValid) {
+        RefreshToken mockToken = mock(RefreshToken.class);
+        TokenFamily mockFamily = mock(TokenFamily.class);
+        when(mockToken.getFamily()).thenReturn(mockFamily);
+        when(mockFamily.getUuid()).thenReturn(FAMILY_UUID);
+        when(mockFamily.isValid()).thenReturn(familyValid);
+        return mockToken;
+    }
 }
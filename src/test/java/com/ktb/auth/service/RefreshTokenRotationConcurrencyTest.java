@@ -0,0 +1,187 @@
+package com.ktb.auth.service;
+
+import com.ktb.auth.cache.RefreshTokenRotationCache;
+import com.ktb.auth.domain.RefreshToken;
+import com.ktb.auth.domain.TokenFamily;
+import com.ktb.auth.domain.UserAccount;
+import com.ktb.auth.dto.TokenRefreshResult;
+import com.ktb.auth.jwt.JwtProperties;
+import com.ktb.auth.jwt.JwtProvider;
+import com.ktb.auth.repository.RefreshTokenRepository;
+import com.ktb.auth.repository.TokenFamilyRepository;
+import com.ktb.auth.repository.UserAccountRepository;
+import com.ktb.auth.service.impl.OAuthApplicationServiceImpl;
+import com.ktb.auth.service.impl.RTRServiceImpl;
+import com.ktb.common.exception.BusinessException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 Refresh Token으로 100개 요청이 동시에 들어오는 재연결 폭주 시나리오
+ * 조건부 UPDATE는 AtomicBoolean compare-and-set으로 재현한다.
+ */
+@DisplayName("Refresh Token 동시 회전 테스트")
+class RefreshTokenRotationConcurrencyTest {
+
+    private static final int PARALLEL_REQUESTS = 100;
+    private static final Long USER_ID = 1L;
+    private static final Long FAMILY_ID = 10L;
+    private static final String REFRESH_TOKEN = "valid.refresh.token";
+    private static final String TOKEN_HASH = "token-hash-sha256";
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private TokenFamilyRepository tokenFamilyRepository;
+    private TokenService tokenService;
+    private JwtProvider jwtProvider;
+    private TokenFamily family;
+    private AtomicBoolean used;
+    private AtomicInteger issuedCount;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        tokenFamilyRepository = mock(TokenFamilyRepository.class);
+        tokenService = mock(TokenService.class);
+        jwtProvider = mock(JwtProvider.class);
+        used = new AtomicBoolean(false);
+        issuedCount = new AtomicInteger();
+
+        family = TokenFamily.create(UserAccount.createEmailAccount("user@example.com", "유저"), "device", "127.0.0.1");
+        ReflectionTestUtils.setField(family, "id", FAMILY_ID);
+        RefreshToken currentToken = RefreshToken.builder()
+                .family(family)
+                .tokenHash(TOKEN_HASH)
+                .expiresAt(LocalDateTime.now().plusDays(14))
+                .build();
+        ReflectionTestUtils.setField(currentToken, "id", 100L);
+
+        when(tokenService.validateRefreshToken(REFRESH_TOKEN))
+                .thenReturn(new TokenService.RefreshTokenClaims(USER_ID, family.getUuid()));
+        when(jwtProvider.generateTokenHash(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jwtProvider.generateTokenHash(REFRESH_TOKEN)).thenReturn(TOKEN_HASH);
+        when(refreshTokenRepository.findByTokenHashWithFamily(TOKEN_HASH)).thenReturn(Optional.of(currentToken));
+        when(refreshTokenRepository.markAsUsedIfUnused(anyLong(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> used.compareAndSet(false, true) ? 1 : 0);
+        when(tokenFamilyRepository.findById(FAMILY_ID)).thenReturn(Optional.of(family));
+        when(tokenService.issueAccessToken(any(), any()))
+                .thenAnswer(invocation -> "access-" + issuedCount.incrementAndGet());
+        when(jwtProvider.createRefreshToken(any(), any())).thenAnswer(invocation -> {
+            // 회전 도중에 중복 요청이 도착하도록 발급 시간을 늘린다
+            Thread.sleep(20);
+            return "refresh-" + issuedCount.get();
+        });
+        when(jwtProvider.refreshTokenDuration()).thenReturn(Duration.ofDays(14));
+        when(jwtProvider.accessTokenExpiresSeconds()).thenReturn(600);
+    }
+
+    @Test
+    @DisplayName("유예 시간 내 동시 중복 갱신은 모두 같은 토큰 쌍을 받고 Family는 유지되어야 한다")
+    void refreshTokens_ParallelDuplicates_ShouldShareSinglePair() throws Exception {
+        // given
+        OAuthApplicationService service = createService(Duration.ofSeconds(10));
+
+        // when
+        List<Object> outcomes = refreshInParallel(service);
+
+        // then
+        assertThat(outcomes).allSatisfy(outcome -> assertThat(outcome).isInstanceOf(TokenRefreshResult.class));
+        assertThat(outcomes).map(outcome -> ((TokenRefreshResult) outcome).refreshToken())
+                .containsOnly("refresh-1");
+        assertThat(issuedCount.get()).isEqualTo(1);
+        assertThat(family.isRevoked()).isFalse();
+        verify(refreshTokenRepository, times(1)).markAsUsedIfUnused(anyLong(), any(LocalDateTime.class));
+        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("유예 시간이 없으면 조건부 UPDATE 승자 하나만 회전하고 나머지는 재사용으로 판정되어야 한다")
+    void refreshTokens_ParallelDuplicatesWithoutGrace_ShouldHaveSingleWinner() throws Exception {
+        // given
+        OAuthApplicationService service = createService(Duration.ZERO);
+
+        // when
+        List<Object> outcomes = refreshInParallel(service);
+
+        // then
+        long succeeded = outcomes.stream().filter(TokenRefreshResult.class::isInstance).count();
+        long rejected = outcomes.stream().filter(BusinessException.class::isInstance).count();
+        assertThat(succeeded).isLessThanOrEqualTo(1);
+        assertThat(succeeded + rejected).isEqualTo(PARALLEL_REQUESTS);
+        assertThat(used.get()).isTrue();
+        assertThat(issuedCount.get()).isEqualTo(1);
+        assertThat(family.isRevoked()).isTrue();
+    }
+
+    private OAuthApplicationService createService(Duration gracePeriod) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRefreshTokenReuseGracePeriod(gracePeriod.toMillis());
+
+        RTRService rtrService = new RTRServiceImpl(
+                refreshTokenRepository, tokenFamilyRepository, mock(UserAccountRepository.class));
+
+        return new OAuthApplicationServiceImpl(
+                null,
+                null,
+                tokenService,
+                rtrService,
+                jwtProvider,
+                refreshTokenRepository,
+                tokenFamilyRepository,
+                new RefreshTokenRotationCache(jwtProperties),
+                null,
+                null,
+                mock(PlatformTransactionManager.class)
+        );
+    }
+
+    private List<Object> refreshInParallel(OAuthApplicationService service) throws Exception {
+        CountDownLatch ready = new CountDownLatch(PARALLEL_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_REQUESTS)) {
+            for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        return service.refreshTokens(REFRESH_TOKEN);
+                    } catch (BusinessException e) {
+                        return e;
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        }
+    }
+}
@@ -1,12 +1,10 @@
 package com.ktb.auth.service;
 
-import com.ktb.auth.domain.RefreshToken;
-import com.ktb.auth.domain.TokenFamily;
 import com.ktb.auth.exception.token.InvalidAccessTokenException;
 import com.ktb.auth.exception.token.InvalidRefreshTokenException;
+import com.ktb.auth.jwt.AccessTokenClaims;
 import com.ktb.auth.jwt.JwtProperties;
 import com.ktb.auth.jwt.JwtProvider;
-import com.ktb.auth.repository.RefreshTokenRepository;
 import com.ktb.auth.service.impl.TokenServiceImpl;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -17,13 +15,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,9 +32,6 @@ class TokenServiceTest {
     @Mock
     private JwtProperties jwtProperties;
 
-    @Mock
-    private RefreshTokenRepository refreshTokenRepository;
-
     @InjectMocks
     private TokenServiceImpl tokenService;
 
@@ -49,7 +42,6 @@ class TokenServiceTest {
     private static final String VALID_REFRESH_TOKEN = "valid.refresh.token";
     private static final String EXPIRED_TOKEN = "expired.token";
     private static final String TAMPERED_TOKEN = "tampered.token";
-    private static final String TOKEN_HASH = "token-hash-sha256";
 
     @Test
     @DisplayName("Access Token 발급이 성공해야 한다")
@@ -69,10 +61,8 @@ class TokenServiceTest {
     @DisplayName("유효한 Access Token 검증이 성공해야 한다")
     void validateAccessToken_WithValidToken_ShouldSucceed() {
         // given
-        Claims mockClaims = mock(Claims.class);
-        when(mockClaims.get("userId", Long.class)).thenReturn(USER_ID);
-        when(mockClaims.get("roles", List.class)).thenReturn(ROLES);
-        when(jwtProvider.validateAccessToken(VALID_ACCESS_TOKEN)).thenReturn(mockClaims);
+        AccessTokenClaims verified = new AccessTokenClaims(USER_ID, ROLES, Instant.now().plusSeconds(600));
+        when(jwtProvider.verifyAccessToken(VALID_ACCESS_TOKEN)).thenReturn(verified);
 
         // when
         TokenService.TokenClaims claims = tokenService.validateAccessToken(VALID_ACCESS_TOKEN);
@@ -80,35 +70,35 @@ class TokenServiceTest {
         // then
         assertThat(claims.userId()).isEqualTo(USER_ID);
         assertThat(claims.roles()).isEqualTo(ROLES);
-        verify(jwtProvider).validateAccessToken(VALID_ACCESS_TOKEN);
+        verify(jwtProvider).verifyAccessToken(VALID_ACCESS_TOKEN);
     }
 
     @Test
     @DisplayName("만료된 Access Token 검증 시 예외가 발생해야 한다")
     void validateAccessToken_WithExpiredToken_ShouldThrowException() {
         // given
-        when(jwtProvider.validateAccessToken(EXPIRED_TOKEN))
-                .thenThrow(new ExpiredJwtException(null, null, "Access Token이 만료되었습니다."));
+        when(jwtProvider.verifyAccessToken(EXPIRED_TOKEN))
+                .thenThrow(new InvalidAccessTokenException("Access Token이 만료되었습니다"));
 
         // when & then
         assertThatThrownBy(() -> tokenService.validateAccessToken(EXPIRED_TOKEN))
                 .isInstanceOf(InvalidAccessTokenException.class);
 
-        verify(jwtProvider).validateAccessToken(EXPIRED_TOKEN);
+        verify(jwtProvider).verifyAccessToken(EXPIRED_TOKEN);
     }
 
     @Test
     @DisplayName("변조된 Access Token 검증 시 예외가 발생해야 한다")
     void validateAccessToken_WithTamperedToken_ShouldThrowException() {
         // given
-        when(jwtProvider.validateAccessToken(TAMPERED_TOKEN))
-                .thenThrow(new SecurityException("잘못된 Access Token 서명입니다."));
+        when(jwtProvider.verifyAccessToken(TAMPERED_TOKEN))
+                .thenThrow(new InvalidAccessTokenException("잘못된 Access Token 서명입니다"));
 
         // when & then
         assertThatThrownBy(() -> tokenService.validateAccessToken(TAMPERED_TOKEN))
                 .isInstanceOf(InvalidAccessTokenException.class);
 
-        verify(jwtProvider).validateAccessToken(TAMPERED_TOKEN);
+        verify(jwtProvider).verifyAccessToken(TAMPERED_TOKEN);
     }
 
     @Test
@@ -142,46 +132,4 @@ class TokenServiceTest {
 
         verify(jwtProvider).validateRefreshToken(EXPIRED_TOKEN);
     }
-
-    @Test
-    @DisplayName("Token Hash로 Refresh Token 조회가 성공해야 한다")
-    void findByTokenHash_WithValidHash_ShouldSucceed() {
-        // given
-        TokenFamily mockFamily = mock(TokenFamily.class);
-        when(mockFamily.getId()).thenReturn(1L);
-
-        RefreshToken mockToken = mock(RefreshToken.class);
-        when(mockToken.getId()).thenReturn(10L);
-        when(mockToken.getFamily()).thenReturn(mockFamily);
-        when(mockToken.getUsed()).thenReturn(false);
-        when(mockToken.getExpiresAt()).thenReturn(LocalDateTime.now().plusDays(7));
-
-        when(refreshTokenRepository.findByTokenHashWithFamily(TOKEN_HASH))
-                .thenReturn(Optional.of(mockToken));
-
-        // when
-        TokenService.RefreshTokenEntity entity = tokenService.findByTokenHash(TOKEN_HASH);
-
-        // then
-        assertThat(entity.id()).isEqualTo(10L);
-        assertThat(entity.familyId()).isEqualTo(1L);
-        assertThat(entity.used()).isFalse();
-        assertThat(entity.expiresAt()).isAfter(LocalDateTime.now());
-
-        verify(refreshTokenRepository).findByTokenHashWithFamily(TOKEN_HASH);
-    }
-
-    @Test
-    @DisplayName("존재하지 않는 Token Hash 조회 시 예외가 발생해야 한다")
-    void findByTokenHash_WithNonExistentHash_ShouldThrowException() {
-        // given
-        when(refreshTokenRepository.findByTokenHashWithFamily(anyString()))
-                .thenReturn(Optional.empty());
-
-        // when & then
-        assertThatThrownBy(() -> tokenService.findByTokenHash("nonexistent-hash"))
-                .isInstanceOf(InvalidRefreshTokenException.class);
-
-        verify(refreshTokenRepository).findByTokenHashWithFamily("nonexistent-hash");
-    }
 }
@@ -0,0 +1,100 @@
+package com.ktb.auth.store;
+
+import com.ktb.auth.config.EphemeralTokenStoreProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryEphemeralTokenStore 테스트")
+class InMemoryEphemeralTokenStoreTest {
+
+    private static final String NAMESPACE = "oauth-state";
+    private static final long MAX_SIZE = 10_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryEphemeralTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        EphemeralTokenStoreProperties properties = new EphemeralTokenStoreProperties();
+        properties.setMaxSize(MAX_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+        store = new InMemoryEphemeralTokenStore(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("저장한 값은 한 번만 소비된다")
+    void consume_ShouldSucceedOnlyOnce() {
+        // given
+        store.put(NAMESPACE, "state-1", "KAKAO", Duration.ofMinutes(5));
+
+        // when
+        Optional<String> first = store.consume(NAMESPACE, "state-1");
+        Optional<String> second = store.consume(NAMESPACE, "state-1");
+
+        // then
+        assertThat(first).contains("KAKAO");
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 키라도 네임스페이스가 다르면 소비할 수 없다")
+    void consume_OtherNamespace_ShouldBeEmpty() {
+        // given
+        store.put(NAMESPACE, "key", "value", Duration.ofMinutes(5));
+
+        // when & then
+        assertThat(store.consume("oauth-exchange-code", "key")).isEmpty();
+        assertThat(store.consume(NAMESPACE, "key")).contains("value");
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 소비되지 않는다")
+    void consume_Expired_ShouldBeEmpty() throws InterruptedException {
+        // given
+        store.put(NAMESPACE, "state-1", "KAKAO", Duration.ofMillis(20));
+        Thread.sleep(50);
+
+        // when
+        Optional<String> result = store.consume(NAMESPACE, "state-1");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버려진 인가 URL 100만 건이 쌓여도 항목 수와 힙 사용량은 상한을 넘지 않는다")
+    void put_MillionAbandonedStates_ShouldStayBounded() {
+        // given
+        long baselineHeap = usedHeapAfterGc();
+
+        // when: state 발급 후 콜백이 오지 않는 로그인 흐름 100만 건
+        for (int i = 0; i < 1_000_000; i++) {
+            store.put(NAMESPACE, UUID.randomUUID().toString(), "KAKAO", Duration.ofMinutes(5));
+        }
+        long size = store.estimatedSize();
+        long retainedHeap = usedHeapAfterGc() - baselineHeap;
+
+        // then
+        assertThat(size).isLessThanOrEqualTo(MAX_SIZE);
+        // 상한이 없으면 100만 건(UUID 키 + 엔트리)으로 수백 MB가 남는다
+        assertThat(retainedHeap).isLessThan(64L * 1024 * 1024);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "auth.ephemeral")
+                .functionCounter().count())
+                .isGreaterThanOrEqualTo(1_000_000 - MAX_SIZE);
+    }
+
+    private long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,136 @@
+package com.ktb.common.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PerHostConcurrencyLimitInterceptor 테스트")
+class PerHostConcurrencyLimitInterceptorTest {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final ClientHttpRequestExecution okExecution = (request, body) -> {
+        executions.incrementAndGet();
+        return new MockClientHttpResponse(EMPTY_BODY, HttpStatus.OK);
+    };
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 대기 시간 안에 허용을 얻지 못하면 실행하지 않고 실패한다")
+    void intercept_OverLimit_ShouldRejectAfterTimeout() throws IOException {
+        // given
+        PerHostConcurrencyLimitInterceptor interceptor = new PerHostConcurrencyLimitInterceptor(1, Duration.ofMillis(50));
+        ClientHttpResponse inFlight = interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution);
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("kauth.kakao.com");
+        assertThat(executions.get()).isEqualTo(1);
+        inFlight.close();
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 앞선 응답이 닫힐 때까지 기다렸다가 실행된다")
+    void intercept_OverLimit_ShouldWaitForRelease() throws Exception {
+        // given
+        PerHostConcurrencyLimitInterceptor interceptor = new PerHostConcurrencyLimitInterceptor(1, Duration.ofSeconds(5));
+        ClientHttpResponse inFlight = interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution);
+
+        // when
+        CompletableFuture<ClientHttpResponse> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // then
+        Thread.sleep(200);
+        assertThat(waiting).isNotDone();
+        assertThat(executions.get()).isEqualTo(1);
+
+        inFlight.close();
+        ClientHttpResponse second = waiting.get(5, TimeUnit.SECONDS);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(executions.get()).isEqualTo(2);
+        second.close();
+    }
+
+    @Test
+    @DisplayName("실행 중 예외가 나도 허용을 반환한다")
+    void intercept_WhenExecutionFails_ShouldReleasePermit() throws IOException {
+        // given
+        PerHostConcurrencyLimitInterceptor interceptor = new PerHostConcurrencyLimitInterceptor(1, Duration.ofMillis(50));
+        ClientHttpRequestExecution ioFailure = (request, body) -> {
+            throw new IOException("connection reset");
+        };
+        ClientHttpRequestExecution runtimeFailure = (request, body) -> {
+            throw new IllegalStateException("unexpected");
+        };
+
+        // when
+        assertThatThrownBy(() -> interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, ioFailure))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, runtimeFailure))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        try (ClientHttpResponse response = interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution)) {
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+    }
+
+    @Test
+    @DisplayName("응답을 여러 번 닫아도 허용은 한 번만 반환한다")
+    void close_Twice_ShouldReleaseOnce() throws IOException {
+        // given
+        PerHostConcurrencyLimitInterceptor interceptor = new PerHostConcurrencyLimitInterceptor(1, Duration.ofMillis(50));
+        ClientHttpResponse first = interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution);
+
+        // when
+        first.close();
+        first.close();
+
+        // then: 한도 1이 유지되어 두 번째 요청이 진행 중이면 세 번째는 거절된다
+        ClientHttpResponse second = interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution);
+        assertThatThrownBy(() -> interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution))
+                .isInstanceOf(IOException.class);
+        second.close();
+    }
+
+    @Test
+    @DisplayName("한도는 호스트별로 따로 적용된다")
+    void intercept_DifferentHosts_ShouldNotShareLimit() throws IOException {
+        // given
+        PerHostConcurrencyLimitInterceptor interceptor = new PerHostConcurrencyLimitInterceptor(1, Duration.ofMillis(50));
+        ClientHttpResponse kakao = interceptor.intercept(request("kauth.kakao.com"), EMPTY_BODY, okExecution);
+
+        // when
+        ClientHttpResponse other = interceptor.intercept(request("kapi.kakao.com"), EMPTY_BODY, okExecution);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+        kakao.close();
+        other.close();
+    }
+
+    private static MockClientHttpRequest request(String host) {
+        return new MockClientHttpRequest(HttpMethod.POST, URI.create("https://" + host + "/oauth/token"));
+    }
+}
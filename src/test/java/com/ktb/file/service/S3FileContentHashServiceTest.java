@@ -0,0 +1,140 @@
+package com.ktb.file.service;
+
+import com.ktb.common.config.S3Config;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.domain.FileUploadStatus;
+import com.ktb.file.domain.StorageType;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.file.service.impl.S3FileContentHashServiceImpl;
+import com.ktb.file.util.ContentHashUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("S3FileContentHashService 테스트")
+class S3FileContentHashServiceTest {
+
+    private static final Long FILE_ID = 1L;
+    private static final byte[] CONTENT = "audio-bytes".getBytes(StandardCharsets.UTF_8);
+
+    private FileRepository fileRepository;
+    private S3Client s3Client;
+    private FileContentHashService fileContentHashService;
+
+    @BeforeEach
+    void setUp() {
+        S3Config s3Config = new S3Config();
+        s3Config.getS3().setBucketName("test-bucket");
+
+        fileRepository = mock(FileRepository.class);
+        s3Client = mock(S3Client.class);
+        fileContentHashService = new S3FileContentHashServiceImpl(fileRepository, s3Client, s3Config);
+    }
+
+    @Test
+    @DisplayName("해시가 없는 음성 파일은 객체를 읽어 계산하고 비어 있을 때만 저장한다")
+    void ensureContentHash_AudioWithoutHash_ShouldComputeAndStore() throws IOException {
+        // given
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file(FileCategory.AUDIO, null)));
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(object(CONTENT));
+        String expected = ContentHashUtil.sha256Hex(new ByteArrayInputStream(CONTENT));
+
+        // when
+        String hash = fileContentHashService.ensureContentHash(FILE_ID);
+
+        // then
+        assertThat(hash).isEqualTo(expected);
+        verify(fileRepository).updateHashIfAbsent(FILE_ID, expected);
+    }
+
+    @Test
+    @DisplayName("이미 해시가 있으면 객체를 다시 읽지 않는다")
+    void ensureContentHash_WhenHashExists_ShouldNotReadObject() {
+        // given
+        String existing = "b".repeat(64);
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file(FileCategory.AUDIO, existing)));
+
+        // when
+        String hash = fileContentHashService.ensureContentHash(FILE_ID);
+
+        // then
+        assertThat(hash).isEqualTo(existing);
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("음성이 아닌 파일은 해시를 계산하지 않는다")
+    void ensureContentHash_NonAudio_ShouldNotReadObject() {
+        // given
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file(FileCategory.PROFILE, null)));
+
+        // when
+        String hash = fileContentHashService.ensureContentHash(FILE_ID);
+
+        // then
+        assertThat(hash).isNull();
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+        verify(fileRepository, never()).updateHashIfAbsent(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("객체를 읽지 못하면 해시 없이 진행한다")
+    void ensureContentHash_WhenReadFails_ShouldReturnNull() {
+        // given
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file(FileCategory.AUDIO, null)));
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("missing").build());
+
+        // when
+        String hash = fileContentHashService.ensureContentHash(FILE_ID);
+
+        // then
+        assertThat(hash).isNull();
+        verify(fileRepository, never()).updateHashIfAbsent(anyLong(), anyString());
+    }
+
+    private static ResponseInputStream<GetObjectResponse> object(byte[] content) {
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) content.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(content))
+        );
+    }
+
+    private File file(FileCategory category, String hash) {
+        File file = File.builder()
+                .originalName("answer.mp3")
+                .storedName("uuid.mp3")
+                .path("uploads/" + category.name().toLowerCase() + "/uuid.mp3")
+                .extension("mp3")
+                .size((long) CONTENT.length)
+                .mimeType("audio/mpeg")
+                .storageType(StorageType.S3)
+                .category(category)
+                .hash(hash)
+                .uploadStatus(FileUploadStatus.UPLOADED)
+                .build();
+        ReflectionTestUtils.setField(file, "id", FILE_ID);
+        return file;
+    }
+}
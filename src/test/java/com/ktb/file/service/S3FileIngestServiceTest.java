@@ -0,0 +1,304 @@
+package com.ktb.file.service;
+
+import com.ktb.common.config.S3Config;
+import com.ktb.file.config.FileIngestProperties;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.domain.FileUploadStatus;
+import com.ktb.file.dto.response.FileIngestResponse;
+import com.ktb.file.event.AudioUploadConfirmedEvent;
+import com.ktb.file.exception.FileSizeExceededException;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.file.service.impl.S3FileIngestServiceImpl;
+import com.ktb.file.service.impl.S3UploadPolicy;
+import com.ktb.file.util.ContentHashUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("S3FileIngestService 테스트 (로컬 S3 호환 스텁 서버)")
+class S3FileIngestServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int PART_SIZE = 1024 * 1024;
+    private static final String UPLOAD_ID = "upload-1";
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<Integer, byte[]> parts = new ConcurrentSkipListMap<>();
+    private final AtomicInteger aborts = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private S3Client s3Client;
+    private FileRepository fileRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private FileIngestService fileIngestService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext("/", this::handleS3);
+        stubServer.start();
+
+        S3Config s3Config = new S3Config();
+        s3Config.setRegion("ap-northeast-2");
+        s3Config.getS3().setBucketName(BUCKET);
+        s3Config.getS3().setCdnUrlPrefix("https://cdn.test/");
+        s3Config.getS3().setEndpoint("http://127.0.0.1:" + stubServer.getAddress().getPort());
+        s3Config.getS3().setPathStyleAccess(true);
+        s3Config.getCredentials().setAccessKey("test-access-key");
+        s3Config.getCredentials().setSecretKey("test-secret-key");
+        s3Client = s3Config.s3Client();
+
+        fileRepository = mock(FileRepository.class);
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> {
+            File file = invocation.getArgument(0);
+            ReflectionTestUtils.setField(file, "id", 1L);
+            return file;
+        });
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        FileIngestProperties properties = new FileIngestProperties();
+        properties.setPartSizeBytes(PART_SIZE);
+        fileIngestService = new S3FileIngestServiceImpl(
+                s3Client,
+                new S3UploadPolicy(s3Config, "uploads"),
+                fileRepository,
+                properties,
+                new NoOpTransactionManager(),
+                eventPublisher,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.close();
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 큰 본문은 고정 크기 파트로 멀티파트 업로드하고 해시와 함께 한 번에 저장한다")
+    void ingest_LargeBody_ShouldUploadInPartsAndSaveOnce() {
+        // given
+        byte[] content = randomBytes(PART_SIZE * 3 + PART_SIZE / 2);
+
+        // when
+        FileIngestResponse response = fileIngestService.ingest(
+                FileCategory.VIDEO, "answer.mp4", "video/mp4", null, new ByteArrayInputStream(content));
+
+        // then
+        assertThat(parts).hasSize(4);
+        assertThat(parts.get(1)).hasSize(PART_SIZE);
+        assertThat(objects).singleElement().satisfies(entry -> assertThat(entry.getValue()).isEqualTo(content));
+
+        assertThat(response.fileSize()).isEqualTo(content.length);
+        assertThat(response.fileHash()).isEqualTo(sha256(content));
+        assertThat(response.status()).isEqualTo(FileUploadStatus.UPLOADED);
+        assertThat(response.fileUrl()).startsWith("https://cdn.test/uploads/video/").endsWith(".mp4");
+        verify(fileRepository, times(1)).save(any(File.class));
+    }
+
+    @Test
+    @DisplayName("파트 하나보다 작은 음성은 한 번에 올리고 업로드 확인 이벤트를 발행한다")
+    void ingest_SmallAudio_ShouldPutOnceAndPublishEvent() {
+        // given
+        byte[] content = randomBytes(1000);
+
+        // when
+        FileIngestResponse response = fileIngestService.ingest(
+                FileCategory.AUDIO, "answer.wav", "audio/wav", (long) content.length, new ByteArrayInputStream(content));
+
+        // then
+        assertThat(parts).isEmpty();
+        assertThat(objects).singleElement().satisfies(entry -> assertThat(entry.getValue()).isEqualTo(content));
+        assertThat(response.fileHash()).isEqualTo(sha256(content));
+        verify(eventPublisher).publishEvent(new AudioUploadConfirmedEvent(1L, response.fileUrl()));
+    }
+
+    @Test
+    @DisplayName("선언 크기 없이 들어온 본문이 카테고리 한도를 넘으면 업로드를 중단하고 저장하지 않는다")
+    void ingest_ExceedsCategoryLimit_ShouldAbortMultipartUpload() {
+        // given
+        InputStream oversized = new ByteArrayInputStream(randomBytes((int) FileCategory.PROFILE.getMaxSizeBytes() + 1));
+
+        // when & then
+        assertThatThrownBy(() -> fileIngestService.ingest(
+                FileCategory.PROFILE, "profile.png", "image/png", null, oversized))
+                .isInstanceOf(FileSizeExceededException.class);
+        assertThat(aborts.get()).isEqualTo(1);
+        assertThat(objects).isEmpty();
+        verify(fileRepository, never()).save(any(File.class));
+    }
+
+    /**
+     * 경로 방식 S3 API 중 멀티파트 업로드/PutObject/DeleteObject만 흉내 낸다
+     */
+    private void handleS3(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String key = exchange.getRequestURI().getPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        byte[] body = readBody(exchange);
+
+        if ("POST".equals(method) && query.containsKey("uploads")) {
+            respondXml(exchange, "<InitiateMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + key
+                    + "</Key><UploadId>" + UPLOAD_ID + "</UploadId></InitiateMultipartUploadResult>");
+        } else if ("PUT".equals(method) && query.containsKey("partNumber")) {
+            parts.put(Integer.parseInt(query.get("partNumber")), body);
+            respondEmpty(exchange, 200, md5(body));
+        } else if ("PUT".equals(method)) {
+            objects.put(key, body);
+            respondEmpty(exchange, 200, md5(body));
+        } else if ("POST".equals(method) && query.containsKey("uploadId")) {
+            ByteArrayOutputStream assembled = new ByteArrayOutputStream();
+            parts.values().forEach(assembled::writeBytes);
+            objects.put(key, assembled.toByteArray());
+            respondXml(exchange, "<CompleteMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + key
+                    + "</Key><ETag>\"complete\"</ETag></CompleteMultipartUploadResult>");
+        } else if ("DELETE".equals(method) && query.containsKey("uploadId")) {
+            aborts.incrementAndGet();
+            parts.clear();
+            respondEmpty(exchange, 204, null);
+        } else if ("DELETE".equals(method)) {
+            objects.remove(key);
+            respondEmpty(exchange, 204, null);
+        } else {
+            respondEmpty(exchange, 400, null);
+        }
+    }
+
+    /**
+     * SDK는 HTTP 엔드포인트에 서명된 aws-chunked 형식으로 본문을 보낼 수 있다
+     */
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        if (exchange.getRequestHeaders().getFirst("x-amz-decoded-content-length") == null) {
+            return raw;
+        }
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0], 16);
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, lineEnd + 2, size);
+            position = lineEnd + 2 + size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] data, int from) {
+        for (int i = from; i + 1 < data.length; i++) {
+            if (data[i] == '\r' && data[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return data.length;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            query.put(equals < 0 ? pair : pair.substring(0, equals), equals < 0 ? "" : pair.substring(equals + 1));
+        }
+        return query;
+    }
+
+    private static void respondXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void respondEmpty(HttpExchange exchange, int status, String eTag) throws IOException {
+        if (eTag != null) {
+            exchange.getResponseHeaders().add("ETag", "\"" + eTag + "\"");
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256(byte[] content) {
+        MessageDigest digest = ContentHashUtil.newDigest();
+        digest.update(content);
+        return ContentHashUtil.toHex(digest);
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ktb.file.service;
+
+import com.ktb.common.config.S3Config;
+import com.ktb.file.config.FilePresignProperties;
+import com.ktb.file.domain.File;
+import com.ktb.file.domain.FileCategory;
+import com.ktb.file.domain.FileUploadStatus;
+import com.ktb.file.domain.StorageType;
+import com.ktb.file.dto.response.FileUploadConfirmResponse;
+import com.ktb.file.event.AudioUploadConfirmedEvent;
+import com.ktb.file.repository.FileRepository;
+import com.ktb.file.service.impl.S3PresignedUrlServiceImpl;
+import com.ktb.file.service.impl.S3UploadPolicy;
+import com.ktb.file.service.impl.S3UrlSigner;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("S3PresignedUrlService 업로드 확인 테스트")
+class S3PresignedUrlServiceTest {
+
+    private static final Long FILE_ID = 1L;
+
+    private FileRepository fileRepository;
+    private S3Client s3Client;
+    private ApplicationEventPublisher eventPublisher;
+    private S3PresignedUrlService presignedUrlService;
+
+    @BeforeEach
+    void setUp() {
+        S3Config s3Config = new S3Config();
+        s3Config.getS3().setBucketName("test-bucket");
+        s3Config.getS3().setCdnUrlPrefix("https://cdn.test/");
+
+        fileRepository = mock(FileRepository.class);
+        s3Client = mock(S3Client.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        S3UrlSigner urlSigner = mock(S3UrlSigner.class);
+        when(urlSigner.presignGet(anyString())).thenReturn("https://presigned.test/get");
+
+        presignedUrlService = new S3PresignedUrlServiceImpl(
+                fileRepository,
+                s3Client,
+                urlSigner,
+                s3Config,
+                new S3UploadPolicy(s3Config, "uploads"),
+                eventPublisher,
+                new FilePresignProperties()
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(FileCategory.class)
+    @DisplayName("업로드 확인은 존재 여부(HEAD)만 확인하고 객체 내용을 내려받지 않는다")
+    void confirmUpload_ShouldNotReadObject(FileCategory category) {
+        // given
+        File file = pendingFile(category);
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(file));
+
+        // when
+        FileUploadConfirmResponse response = presignedUrlService.confirmUpload(FILE_ID);
+
+        // then
+        assertThat(response.status()).isEqualTo(FileUploadStatus.UPLOADED);
+        assertThat(file.getHash()).isNull();
+        verify(s3Client).headObject(any(HeadObjectRequest.class));
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("음성 파일 확인은 커밋 후 파이프라인이 해시를 계산하도록 이벤트만 발행한다")
+    void confirmUpload_Audio_ShouldPublishEventWithoutHashing() {
+        // given
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(pendingFile(FileCategory.AUDIO)));
+
+        // when
+        presignedUrlService.confirmUpload(FILE_ID);
+
+        // then
+        verify(eventPublisher).publishEvent(any(AudioUploadConfirmedEvent.class));
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("음성이 아닌 파일 확인은 파이프라인 이벤트를 발행하지 않는다")
+    void confirmUpload_NonAudio_ShouldNotPublishEvent() {
+        // given
+        when(fileRepository.findById(FILE_ID)).thenReturn(Optional.of(pendingFile(FileCategory.PROFILE)));
+
+        // when
+        presignedUrlService.confirmUpload(FILE_ID);
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private File pendingFile(FileCategory category) {
+        File file = File.builder()
+                .originalName("file.bin")
+                .storedName("uuid.bin")
+                .path("uploads/" + category.name().toLowerCase() + "/uuid.bin")
+                .extension("bin")
+                .size(1024L)
+                .mimeType("application/octet-stream")
+                .storageType(StorageType.S3)
+                .category(category)
+                .uploadStatus(FileUploadStatus.PENDING)
+                .build();
+        ReflectionTestUtils.setField(file, "id", FILE_ID);
+        return file;
+    }
+}
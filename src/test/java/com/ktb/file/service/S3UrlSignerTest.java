@@ -0,0 +1,62 @@
+package com.ktb.file.service;
+
+import com.ktb.common.config.S3Config;
+import com.ktb.file.config.FilePresignProperties;
+import com.ktb.file.service.impl.S3UrlSigner;
+import com.ktb.file.service.impl.S3UrlSigner.PutTarget;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("S3UrlSigner 테스트")
+class S3UrlSignerTest {
+
+    private S3Config s3Config;
+    private S3Presigner presigner;
+
+    @BeforeEach
+    void setUp() {
+        s3Config = new S3Config();
+        s3Config.setRegion("ap-northeast-2");
+        s3Config.getS3().setBucketName("test-bucket");
+        s3Config.getCredentials().setAccessKey("test-access-key");
+        s3Config.getCredentials().setSecretKey("test-secret-key");
+        presigner = s3Config.s3Presigner();
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+    }
+
+    @Test
+    @DisplayName("가상 스레드로 나눠 서명해도 요청 순서대로 URL을 반환한다")
+    void presignPutAll_Parallel_ShouldKeepRequestOrder() {
+        // given
+        FilePresignProperties properties = new FilePresignProperties();
+        properties.setParallelThreshold(0);
+        properties.setMaxParallelism(4);
+        S3UrlSigner signer = new S3UrlSigner(presigner, s3Config, properties);
+
+        List<PutTarget> targets = IntStream.range(0, 20)
+                .mapToObj(i -> new PutTarget("uploads/audio/file-" + i + ".mp3", "audio/mpeg"))
+                .toList();
+
+        // when
+        List<String> urls = signer.presignPutAll(targets);
+
+        // then
+        assertThat(urls).hasSize(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            assertThat(urls.get(i))
+                    .contains("/uploads/audio/file-" + i + ".mp3?")
+                    .contains("X-Amz-Signature=");
+        }
+    }
+}
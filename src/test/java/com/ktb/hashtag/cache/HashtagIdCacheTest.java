@@ -0,0 +1,76 @@
+package com.ktb.hashtag.cache;
+
+import com.ktb.hashtag.config.HashtagCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HashtagIdCache 테스트")
+class HashtagIdCacheTest {
+
+    private HashtagIdCache hashtagIdCache;
+    private List<Set<String>> loaderCalls;
+    private Function<Set<String>, Map<String, Long>> loader;
+
+    @BeforeEach
+    void setUp() {
+        hashtagIdCache = new HashtagIdCache(new HashtagCacheProperties(), new SimpleMeterRegistry());
+        loaderCalls = new ArrayList<>();
+        loader = names -> {
+            loaderCalls.add(Set.copyOf(names));
+            Map<String, Long> ids = new HashMap<>();
+            for (String name : names) {
+                ids.put(name, (long) name.hashCode());
+            }
+            return ids;
+        };
+    }
+
+    @Test
+    @DisplayName("한 번 해결한 이름은 다시 loader를 호출하지 않는다")
+    void resolve_KnownNames_ShouldNotCallLoaderAgain() {
+        // given
+        hashtagIdCache.resolve(List.of("java", "spring"), loader);
+
+        // when
+        Map<String, Long> ids = hashtagIdCache.resolve(List.of("java", "spring", "jpa"), loader);
+
+        // then
+        assertThat(ids).containsOnlyKeys("java", "spring", "jpa");
+        assertThat(loaderCalls).containsExactly(Set.of("java", "spring"), Set.of("jpa"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 생성된 ID는 커밋 이후에만 캐시된다")
+    void resolve_InTransaction_ShouldCacheAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            hashtagIdCache.resolve(List.of("java"), loader);
+
+            // when - 커밋 전에는 다시 loader로 해결
+            hashtagIdCache.resolve(List.of("java"), loader);
+            assertThat(loaderCalls).hasSize(2);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        hashtagIdCache.resolve(List.of("java"), loader);
+        assertThat(loaderCalls).hasSize(2);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ktb.hashtag.matcher;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("KeywordMatcher 테스트")
+class KeywordMatcherTest {
+
+    @Test
+    @DisplayName("조사가 붙은 한글 키워드도 매칭되고 원문 오프셋을 반환")
+    void findAll_WithKoreanParticles_ShouldMatchWithOffsets() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("트랜잭션", "인덱스"));
+
+        // When
+        List<KeywordMatch> matches = matcher.findAll("트랜잭션을 쓰고 클러스터드인덱스는 정렬됩니다");
+
+        // Then
+        assertThat(matches)
+                .extracting(KeywordMatch::keyword, KeywordMatch::start, KeywordMatch::end)
+                .containsExactly(tuple("트랜잭션", 0, 4), tuple("인덱스", 14, 17));
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고 겹치는 키워드를 모두 찾음")
+    void findAll_WithOverlappingKeywords_ShouldFindAll() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("acid", "http", "https"));
+
+        // When
+        List<KeywordMatch> matches = matcher.findAll("ACID 보장과 HTTPS 통신");
+
+        // Then
+        assertThat(matches)
+                .extracting(KeywordMatch::keywordIndex)
+                .containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("영문 키워드는 다른 영단어 중간에서는 매칭되지 않음")
+    void findAll_WithAsciiKeywordInsideWord_ShouldNotMatch() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("ram"));
+
+        // When & Then
+        assertThat(matcher.findAll("program을 실행하면")).isEmpty();
+        assertThat(matcher.findAll("RAM에 적재")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("키워드가 없거나 텍스트가 비어 있으면 빈 결과")
+    void findAll_WithEmptyInput_ShouldReturnEmpty() {
+        assertThat(KeywordMatcher.compile(List.of()).findAll("아무 답변")).isEmpty();
+        assertThat(KeywordMatcher.compile(List.of("락")).findAll("")).isEmpty();
+    }
+}
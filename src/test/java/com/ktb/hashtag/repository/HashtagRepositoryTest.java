@@ -0,0 +1,97 @@
+package com.ktb.hashtag.repository;
+
+import com.ktb.hashtag.domain.Hashtag;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 해시태그 upsert(JDBC) 테스트 (H2, 테스트마다 실제 커밋)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("HashtagRepository upsert 테스트")
+class HashtagRepositoryTest {
+
+    @Autowired
+    private HashtagRepository hashtagRepository;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        hashtagRepository.deleteAllById(createdIds);
+    }
+
+    @Test
+    @DisplayName("없는 이름은 생성하고 이름별 ID를 반환함")
+    void upsertAllByName_WithNewNames_ShouldInsertRows() {
+        // When
+        Map<String, Long> ids = upsert(List.of("upsert-mvcc", "upsert-lock"));
+
+        // Then
+        assertThat(ids).containsOnlyKeys("upsert-mvcc", "upsert-lock");
+        assertThat(hashtagRepository.findByNameIn(List.of("upsert-mvcc", "upsert-lock")))
+                .extracting(Hashtag::getName, Hashtag::getId)
+                .containsExactlyInAnyOrder(
+                        tuple("upsert-mvcc", ids.get("upsert-mvcc")),
+                        tuple("upsert-lock", ids.get("upsert-lock"))
+                );
+    }
+
+    @Test
+    @DisplayName("이미 있는 이름은 새로 만들지 않고 기존 ID를 그대로 반환함")
+    void upsertAllByName_WithExistingNames_ShouldReuseRows() {
+        // Given
+        Map<String, Long> first = upsert(List.of("upsert-index"));
+
+        // When
+        Map<String, Long> second = upsert(List.of("upsert-index", "upsert-index", "upsert-btree"));
+
+        // Then
+        assertThat(second.get("upsert-index")).isEqualTo(first.get("upsert-index"));
+        assertThat(second.get("upsert-btree")).isNotNull().isNotEqualTo(first.get("upsert-index"));
+        assertThat(hashtagRepository.findByNameIn(List.of("upsert-index", "upsert-btree"))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("엔티티로 저장한 해시태그와 이름이 겹치면 그 행을 사용하고 ID가 충돌하지 않음")
+    void upsertAllByName_MixedWithEntitySave_ShouldNotCollide() {
+        // Given
+        Hashtag saved = hashtagRepository.save(Hashtag.create("upsert-entity"));
+        createdIds.add(saved.getId());
+
+        // When
+        Map<String, Long> ids = upsert(List.of("upsert-entity", "upsert-jdbc"));
+
+        // Then
+        assertThat(ids.get("upsert-entity")).isEqualTo(saved.getId());
+        assertThat(ids.get("upsert-jdbc")).isNotEqualTo(saved.getId());
+        assertThat(hashtagRepository.findById(ids.get("upsert-jdbc")))
+                .get()
+                .extracting(Hashtag::getName)
+                .isEqualTo("upsert-jdbc");
+    }
+
+    @Test
+    @DisplayName("빈 목록은 쿼리 없이 빈 결과를 반환함")
+    void upsertAllByName_WithEmptyNames_ShouldReturnEmpty() {
+        // When & Then
+        assertThat(hashtagRepository.upsertAllByName(List.of())).isEmpty();
+    }
+
+    private Map<String, Long> upsert(List<String> names) {
+        Map<String, Long> ids = hashtagRepository.upsertAllByName(names);
+        ids.values().stream().filter(id -> !createdIds.contains(id)).forEach(createdIds::add);
+        return ids;
+    }
+}
@@ -132,6 +132,22 @@ class AnswerMetricTest {
             assertThatThrownBy(() -> AnswerMetric.create(answer, metric, score))
                     .isInstanceOf(MetricInvalidRangeException.class);
         }
+
+        @Test
+        @DisplayName("코멘트가 컬럼 길이(1000자)를 넘으면 잘라서 저장")
+        void create_WithLongComment_ShouldTruncate() {
+            // Given
+            Answer answer = mock(Answer.class);
+            Metric metric = mock(Metric.class);
+            String comment = "가".repeat(1500);
+
+            // When
+            AnswerMetric answerMetric = AnswerMetric.create(answer, metric, 80, comment);
+
+            // Then
+            assertThat(answerMetric.getComment()).hasSize(1000);
+            assertThat(comment).startsWith(answerMetric.getComment());
+        }
     }
 
     @Nested
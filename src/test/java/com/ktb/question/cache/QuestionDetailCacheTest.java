@@ -0,0 +1,184 @@
+package com.ktb.question.cache;
+
+import com.ktb.fixture.QuestionFixture;
+import com.ktb.hashtag.cache.HashtagIdCache;
+import com.ktb.hashtag.cache.QuestionKeywordMatcherCache;
+import com.ktb.hashtag.repository.HashtagRepository;
+import com.ktb.hashtag.repository.QuestionHashtagRepository;
+import com.ktb.question.config.QuestionCacheProperties;
+import com.ktb.question.domain.Question;
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.dto.QuestionDetailResponse;
+import com.ktb.question.dto.QuestionUpdateRequest;
+import com.ktb.question.repository.QuestionRepository;
+import com.ktb.question.search.QuestionSearchEngine;
+import com.ktb.question.service.QuestionService;
+import com.ktb.question.service.impl.QuestionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionDetailCache 테스트")
+class QuestionDetailCacheTest {
+
+    private static final Long QUESTION_ID = 1L;
+    private static final String CACHE_NAME = "question.detail";
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private QuestionHashtagRepository questionHashtagRepository;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @Mock
+    private QuestionKeywordMatcherCache questionKeywordMatcherCache;
+
+    @Mock
+    private HashtagIdCache hashtagIdCache;
+
+    @Mock
+    private QuestionSearchEngine questionSearchEngine;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QuestionDetailCache questionDetailCache;
+    private QuestionService questionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        questionDetailCache = new QuestionDetailCache(new QuestionCacheProperties(), meterRegistry);
+        questionService = new QuestionServiceImpl(
+                questionRepository,
+                questionHashtagRepository,
+                hashtagRepository,
+                questionDetailCache,
+                questionKeywordMatcherCache,
+                hashtagIdCache,
+                questionSearchEngine
+        );
+    }
+
+    @Test
+    @DisplayName("두 번째 상세 조회는 캐시에서 반환하고 질문을 다시 조회하지 않는다")
+    void getQuestionDetail_Twice_ShouldHitCache() {
+        // given
+        givenQuestion("프로세스와 스레드의 차이를 설명해주세요.");
+
+        // when
+        QuestionDetailResponse first = questionService.getQuestionDetail(QUESTION_ID);
+        QuestionDetailResponse second = questionService.getQuestionDetail(QUESTION_ID);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(questionRepository, times(1)).findById(QUESTION_ID);
+    }
+
+    @Test
+    @DisplayName("질문을 수정하면 캐시가 무효화되어 수정된 내용을 조회한다")
+    void updateQuestion_ShouldEvictCachedDetail() {
+        // given
+        givenQuestion("프로세스와 스레드의 차이를 설명해주세요.");
+        questionService.getQuestionDetail(QUESTION_ID);
+
+        // when
+        questionService.updateQuestion(QUESTION_ID,
+                new QuestionUpdateRequest("트랜잭션 격리 수준을 설명해주세요.", null, null, null, null));
+        QuestionDetailResponse detail = questionService.getQuestionDetail(QUESTION_ID);
+
+        // then
+        assertThat(detail.content()).isEqualTo("트랜잭션 격리 수준을 설명해주세요.");
+    }
+
+    @Test
+    @DisplayName("질문을 삭제하면 캐시가 무효화되어 삭제 상태를 조회한다")
+    void deleteQuestion_ShouldEvictCachedDetail() {
+        // given
+        givenQuestion("프로세스와 스레드의 차이를 설명해주세요.");
+        assertThat(questionService.getQuestionDetail(QUESTION_ID).useYn()).isTrue();
+
+        // when
+        questionService.deleteQuestion(QUESTION_ID);
+        QuestionDetailResponse detail = questionService.getQuestionDetail(QUESTION_ID);
+
+        // then
+        assertThat(detail.useYn()).isFalse();
+        assertThat(detail.deletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 무효화는 커밋 전에 다시 적재된 이전 값도 커밋 후 제거한다")
+    void evict_InTransaction_ShouldEvictAgainAfterCommit() {
+        // given
+        QuestionDetailResponse stale = detail("이전 내용");
+        QuestionDetailResponse fresh = detail("수정된 내용");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when: 무효화 직후, 커밋 전에 다른 요청이 이전 값을 다시 적재
+            questionDetailCache.evict(QUESTION_ID);
+            questionDetailCache.get(QUESTION_ID, id -> stale);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(questionDetailCache.get(QUESTION_ID, id -> fresh)).isSameAs(fresh);
+    }
+
+    @Test
+    @DisplayName("히트/미스 건수와 캐시 크기를 메트릭으로 기록한다")
+    void get_ShouldRecordCacheMetrics() {
+        // given
+        QuestionDetailResponse detail = detail("프로세스와 스레드의 차이를 설명해주세요.");
+
+        // when
+        questionDetailCache.get(QUESTION_ID, id -> detail);
+        questionDetailCache.get(QUESTION_ID, id -> detail);
+        questionDetailCache.get(QUESTION_ID, id -> detail);
+
+        // then
+        assertThat(cacheGets("miss")).isEqualTo(1);
+        assertThat(cacheGets("hit")).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.size").tag("cache", CACHE_NAME).gauge().value()).isEqualTo(1);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private void givenQuestion(String content) {
+        Question question = QuestionFixture.createQuestion(QuestionCategory.OS);
+        question.updateContent(content);
+        ReflectionTestUtils.setField(question, "id", QUESTION_ID);
+        when(questionRepository.findById(QUESTION_ID)).thenReturn(Optional.of(question));
+    }
+
+    private static QuestionDetailResponse detail(String content) {
+        return new QuestionDetailResponse(
+                QUESTION_ID, content, null, QuestionCategory.OS, List.of(), true, null, null, null);
+    }
+}
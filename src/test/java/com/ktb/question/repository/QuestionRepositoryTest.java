@@ -0,0 +1,138 @@
+package com.ktb.question.repository;
+
+import com.ktb.question.domain.Question;
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.domain.QuestionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동적 조건 목록 쿼리가 기존 catch-all 쿼리와 같은 행을 반환하는지 검증 (H2)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("QuestionRepository 목록 쿼리 테스트")
+class QuestionRepositoryTest {
+
+    private static final int PAGE_SIZE = 5;
+
+    /**
+     * 변경 전 findActiveByFilters (@Query)
+     */
+    private static final String CATCH_ALL_JPQL = """
+            SELECT q FROM Question q
+            WHERE q.deletedAt IS NULL
+            AND q.useYn = true
+            AND (:type IS NULL OR q.type = :type)
+            AND (:category IS NULL OR q.category = :category)
+            AND (:cursor IS NULL OR q.id < :cursor)
+            ORDER BY q.id DESC
+            """;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        QuestionType[] types = QuestionType.values();
+        QuestionCategory[] categories = QuestionCategory.values();
+        for (int i = 0; i < 60; i++) {
+            Question question = Question.create(
+                    "목록 쿼리 비교용 질문 " + i,
+                    types[i % types.length],
+                    categories[(i / types.length) % categories.length]
+            );
+            if (i % 7 == 0) {
+                question.delete();
+            } else if (i % 11 == 0) {
+                question.disable();
+            }
+            questionRepository.save(question);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("모든 필터 조합과 커서에서 동적 쿼리가 기존 쿼리와 같은 페이지를 반환함")
+    void findActiveByFilters_ShouldMatchCatchAllQuery() {
+        List<QuestionType> types = withNull(QuestionType.values());
+        List<QuestionCategory> categories = withNull(QuestionCategory.values());
+
+        for (QuestionType type : types) {
+            for (QuestionCategory category : categories) {
+                // 첫 페이지부터 끝까지 커서로 따라가며 페이지마다 비교
+                Long cursor = null;
+                boolean hasNext = true;
+                while (hasNext) {
+                    Slice<Question> actual = questionRepository.findActiveByFilters(
+                            type, category, cursor,
+                            PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+                    List<Long> expected = catchAll(type, category, cursor, PAGE_SIZE + 1);
+
+                    List<Long> actualIds = actual.getContent().stream().map(Question::getId).toList();
+                    assertThat(actualIds)
+                            .as("type=%s, category=%s, cursor=%s", type, category, cursor)
+                            .isEqualTo(expected.subList(0, Math.min(PAGE_SIZE, expected.size())));
+                    assertThat(actual.hasNext()).isEqualTo(expected.size() > PAGE_SIZE);
+
+                    hasNext = actual.hasNext();
+                    cursor = actualIds.isEmpty() ? null : actualIds.getLast();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("삭제되거나 비활성화된 질문은 반환하지 않음")
+    void findActiveByFilters_ShouldExcludeInactiveQuestions() {
+        // When
+        List<Question> result = questionRepository.findActiveByFilters(
+                null, null, null, PageRequest.of(0, 1000, Sort.by(Sort.Direction.DESC, "id"))).getContent();
+
+        // Then
+        assertThat(result).allSatisfy(question -> {
+            assertThat(question.getDeletedAt()).isNull();
+            assertThat(question.isUseYn()).isTrue();
+        });
+        assertThat(result).extracting(Question::getId).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    private List<Long> catchAll(QuestionType type, QuestionCategory category, Long cursor, int limit) {
+        TypedQuery<Question> query = entityManager.createQuery(CATCH_ALL_JPQL, Question.class)
+                .setParameter("type", type)
+                .setParameter("category", category)
+                .setParameter("cursor", cursor)
+                .setMaxResults(limit);
+        return query.getResultList().stream().map(Question::getId).toList();
+    }
+
+    @SafeVarargs
+    private static <T> List<T> withNull(T... values) {
+        // null = 필터 미지정
+        List<T> result = new ArrayList<>();
+        result.add(null);
+        result.addAll(Arrays.asList(values));
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+package com.ktb.question.search;
+
+import com.ktb.fixture.QuestionFixture;
+import com.ktb.hashtag.repository.QuestionHashtagRepository;
+import com.ktb.hashtag.repository.QuestionKeywordRow;
+import com.ktb.question.domain.Question;
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.domain.QuestionType;
+import com.ktb.question.repository.QuestionRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryQuestionSearchEngine 테스트")
+class InMemoryQuestionSearchEngineTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private QuestionHashtagRepository questionHashtagRepository;
+
+    private InMemoryQuestionSearchEngine searchEngine;
+
+    @BeforeEach
+    void setUp() {
+        searchEngine = new InMemoryQuestionSearchEngine(questionRepository, questionHashtagRepository);
+        lenient().when(questionHashtagRepository.findKeywordRowsByQuestionIdIn(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("본문 부분 문자열로 검색하면 ID 내림차순으로 반환")
+    void search_ByContent_ShouldReturnIdsDescending() {
+        // Given
+        index(1L, "프로세스와 스레드의 차이를 설명해주세요.", QuestionCategory.OS);
+        index(2L, "트랜잭션 격리 수준을 설명해주세요.", QuestionCategory.DB);
+        index(3L, "멀티 스레드 환경의 동기화 방법은?", QuestionCategory.OS);
+
+        // When
+        List<Long> result = searchEngine.search("스레드", null, null, null, 10);
+
+        // Then
+        assertThat(result).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("커서와 필터를 적용하여 다음 페이지를 반환")
+    void search_WithCursorAndFilter_ShouldReturnNextPage() {
+        // Given
+        index(1L, "프로세스와 스레드의 차이를 설명해주세요.", QuestionCategory.OS);
+        index(2L, "스레드 풀을 설명해주세요.", QuestionCategory.DB);
+        index(3L, "멀티 스레드 환경의 동기화 방법은?", QuestionCategory.OS);
+
+        // When
+        List<Long> result = searchEngine.search("스레드", null, QuestionCategory.OS, 3L, 10);
+
+        // Then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("해시태그명으로도 검색되고 bigram이 모두 있어도 원문에 없으면 제외")
+    void search_ByHashtagAndVerifyContains() {
+        // Given
+        when(questionHashtagRepository.findKeywordRowsByQuestionIdIn(List.of(1L)))
+                .thenReturn(List.of(row(1L, "mvcc")));
+        index(1L, "동시성 제어 방식을 설명해주세요.", QuestionCategory.DB);
+        index(2L, "동시성과 성 제어를 설명해주세요.", QuestionCategory.DB);
+
+        // When & Then
+        assertThat(searchEngine.search("MVCC", null, null, null, 10)).containsExactly(1L);
+        assertThat(searchEngine.search("동시성 제어", null, null, null, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 질문은 재색인 시 색인에서 제거")
+    void reindex_WithDeletedQuestion_ShouldRemoveFromIndex() {
+        // Given
+        Question question = index(1L, "인덱스의 동작 원리를 설명해주세요.", QuestionCategory.DB);
+        question.delete();
+
+        // When
+        searchEngine.reindex(1L);
+
+        // Then
+        assertThat(searchEngine.search("인덱스", null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("먼저 읽은 스냅샷은 나중에 시작한 재색인 결과를 덮어쓰지 않는다")
+    void reindex_WhenOlderSnapshotFinishesLast_ShouldKeepNewerDocument() throws Exception {
+        // Given
+        Question stale = question(1L, "프로세스와 스레드의 차이를 설명해주세요.");
+        Question fresh = question(1L, "트랜잭션 격리 수준을 설명해주세요.");
+        CountDownLatch staleLoaded = new CountDownLatch(1);
+        CountDownLatch releaseStale = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(questionRepository.findById(1L)).thenAnswer(invocation -> {
+            if (loads.getAndIncrement() == 0) {
+                staleLoaded.countDown();
+                releaseStale.await(5, TimeUnit.SECONDS);
+                return Optional.of(stale);
+            }
+            return Optional.of(fresh);
+        });
+
+        // When
+        CompletableFuture<Void> slowReindex = CompletableFuture.runAsync(() -> searchEngine.reindex(1L));
+        assertThat(staleLoaded.await(5, TimeUnit.SECONDS)).isTrue();
+        searchEngine.reindex(1L);
+        releaseStale.countDown();
+        slowReindex.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(searchEngine.search("트랜잭션", null, null, null, 10)).containsExactly(1L);
+        assertThat(searchEngine.search("스레드", null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 재색인 중 들어온 변경은 락 밖에서 다시 읽어 새 색인에 반영한다")
+    void rebuild_WithReindexDuringScan_ShouldReloadOutsideLock() throws Exception {
+        // Given
+        Question stale = question(1L, "프로세스와 스레드의 차이를 설명해주세요.");
+        Question updated = question(1L, "트랜잭션 격리 수준을 설명해주세요.");
+        Question created = question(2L, "인덱스의 동작 원리를 설명해주세요.");
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch releaseReload = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(questionRepository.findActiveByFilters(any(), any(), any(), any())).thenAnswer(invocation -> {
+            // 전체 조회 도중 다른 요청이 질문 1을 수정
+            searchEngine.reindex(1L);
+            return new SliceImpl<>(List.of(stale), invocation.getArgument(3), false);
+        });
+        when(questionRepository.findById(1L)).thenAnswer(invocation -> {
+            if (loads.getAndIncrement() == 1) {
+                reloading.countDown();
+                releaseReload.await(5, TimeUnit.SECONDS);
+            }
+            return Optional.of(updated);
+        });
+        when(questionRepository.findById(2L)).thenReturn(Optional.of(created));
+
+        // When
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(searchEngine::rebuild);
+        assertThat(reloading.await(5, TimeUnit.SECONDS)).isTrue();
+        // 재조회 중에도 증분 재색인은 락을 기다리지 않는다
+        CompletableFuture.runAsync(() -> searchEngine.reindex(2L)).get(1, TimeUnit.SECONDS);
+        releaseReload.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(searchEngine.search("트랜잭션", null, null, null, 10)).containsExactly(1L);
+        assertThat(searchEngine.search("스레드", null, null, null, 10)).isEmpty();
+        assertThat(searchEngine.search("인덱스", null, null, null, 10)).containsExactly(2L);
+    }
+
+    private Question index(Long id, String content, QuestionCategory category) {
+        Question question = QuestionFixture.createQuestion(category);
+        question.updateContent(content);
+        ReflectionTestUtils.setField(question, "id", id);
+        when(questionRepository.findById(id)).thenReturn(Optional.of(question));
+        searchEngine.reindex(id);
+        return question;
+    }
+
+    private Question question(Long id, String content) {
+        Question question = QuestionFixture.createQuestion(QuestionCategory.OS);
+        question.updateContent(content);
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+
+    private QuestionKeywordRow row(Long questionId, String keyword) {
+        return new QuestionKeywordRow() {
+            @Override
+            public Long getQuestionId() {
+                return questionId;
+            }
+
+            @Override
+            public String getKeyword() {
+                return keyword;
+            }
+        };
+    }
+}
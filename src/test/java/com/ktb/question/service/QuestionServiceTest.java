@@ -0,0 +1,137 @@
+package com.ktb.question.service;
+
+import com.ktb.fixture.QuestionFixture;
+import com.ktb.hashtag.cache.HashtagIdCache;
+import com.ktb.hashtag.cache.QuestionKeywordMatcherCache;
+import com.ktb.hashtag.domain.Hashtag;
+import com.ktb.hashtag.domain.QuestionHashtag;
+import com.ktb.hashtag.repository.HashtagRepository;
+import com.ktb.hashtag.repository.QuestionHashtagRepository;
+import com.ktb.question.cache.QuestionDetailCache;
+import com.ktb.question.config.QuestionCacheProperties;
+import com.ktb.question.domain.Question;
+import com.ktb.question.domain.QuestionCategory;
+import com.ktb.question.dto.KeywordMatchResponse;
+import com.ktb.question.dto.QuestionKeywordCheckResponse;
+import com.ktb.question.exception.KeywordCheckLimitExceededException;
+import com.ktb.question.repository.QuestionRepository;
+import com.ktb.question.search.QuestionSearchEngine;
+import com.ktb.question.service.impl.QuestionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuestionService 키워드 확인 테스트")
+class QuestionServiceTest {
+
+    private static final Long QUESTION_ID = 1L;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private QuestionHashtagRepository questionHashtagRepository;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @Mock
+    private QuestionKeywordMatcherCache questionKeywordMatcherCache;
+
+    @Mock
+    private HashtagIdCache hashtagIdCache;
+
+    @Mock
+    private QuestionSearchEngine questionSearchEngine;
+
+    private QuestionService questionService;
+
+    @BeforeEach
+    void setUp() {
+        questionService = new QuestionServiceImpl(
+                questionRepository,
+                questionHashtagRepository,
+                hashtagRepository,
+                new QuestionDetailCache(new QuestionCacheProperties(), new SimpleMeterRegistry()),
+                questionKeywordMatcherCache,
+                hashtagIdCache,
+                questionSearchEngine
+        );
+    }
+
+    @Test
+    @DisplayName("입력 순서대로 정규화(trim + 소문자)한 키워드의 포함 여부를 반환한다")
+    void checkQuestionKeywords_ShouldMatchNormalizedKeywordsInInputOrder() {
+        // given
+        givenQuestionWithKeywords("mvcc", "트랜잭션");
+
+        // when
+        QuestionKeywordCheckResponse response = questionService.checkQuestionKeywords(
+                QUESTION_ID, List.of("  MVCC ", "인덱스", "트랜잭션"));
+
+        // then
+        assertThat(response.keywords())
+                .extracting(KeywordMatchResponse::keyword, KeywordMatchResponse::included)
+                .containsExactly(
+                        tuple("  MVCC ", true),
+                        tuple("인덱스", false),
+                        tuple("트랜잭션", true)
+                );
+    }
+
+    @Test
+    @DisplayName("질문 키워드는 캐시된 상세에서 읽어 반복 확인 시 쿼리를 다시 실행하지 않는다")
+    void checkQuestionKeywords_Repeated_ShouldQueryOnce() {
+        // given
+        givenQuestionWithKeywords("mvcc");
+
+        // when
+        questionService.checkQuestionKeywords(QUESTION_ID, List.of("mvcc"));
+        questionService.checkQuestionKeywords(QUESTION_ID, List.of("mvcc", "락"));
+
+        // then
+        verify(questionRepository, times(1)).findById(QUESTION_ID);
+        verify(questionHashtagRepository, times(1)).findKeywordNamesByQuestionId(QUESTION_ID);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘는 키워드는 조회 없이 거절한다")
+    void checkQuestionKeywords_OverLimit_ShouldThrow() {
+        // given
+        List<String> keywords = List.of("a", "b", "c", "d", "e", "f");
+
+        // when & then
+        assertThatThrownBy(() -> questionService.checkQuestionKeywords(QUESTION_ID, keywords))
+                .isInstanceOf(KeywordCheckLimitExceededException.class);
+        verify(questionRepository, never()).findById(anyLong());
+    }
+
+    private void givenQuestionWithKeywords(String... keywords) {
+        Question question = QuestionFixture.createQuestion(QuestionCategory.DB);
+        ReflectionTestUtils.setField(question, "id", QUESTION_ID);
+        when(questionRepository.findById(QUESTION_ID)).thenReturn(Optional.of(question));
+
+        List<QuestionHashtag> tags = Arrays.stream(keywords)
+                .map(keyword -> QuestionHashtag.create(question, Hashtag.create(keyword)))
+                .toList();
+        when(questionHashtagRepository.findKeywordNamesByQuestionId(QUESTION_ID)).thenReturn(tags);
+    }
+}